@@ -14,6 +14,34 @@ public class ApplicationConstants {
     public static final String VERSION_PROPERTIES_FILE_NAME = "/version.properties";
     public static final String DEFAULT_FETCH_TIMEOUT = "5000";
     public static final String DEFAULT_CONSUMER_GROUP_ID = "kmt-cg";
+    public static final String DEFAULT_COMMIT_INTERVAL = "1000";
+    public static final String DEFAULT_RECORD_STORE_DISK_BUDGET_MB = "512";
+    public static final String DEFAULT_LISTENER_BENCHMARK_TIME_LIMIT_SEC = "60";
+    public static final String DEFAULT_LISTENER_CONSUMERS_COUNT = "1";
+    public static final String DEFAULT_LISTENER_START_POSITION_VALUE = "0";
+    public static final String DEFAULT_LISTENER_SAMPLING_VALUE = "100";
+    public static final String DEFAULT_LISTENER_SAMPLING_WINDOW_MS = "1000";
+    public static final String DEFAULT_LISTENER_EXPORT_ROLL_SIZE_MB = "100";
+    public static final String DEFAULT_LISTENER_EXPORT_ROLL_INTERVAL_SEC = "0";
+    public static final String DEFAULT_CONSUMER_MAX_POLL_RECORDS = "500";
+    public static final String DEFAULT_CONSUMER_FETCH_MIN_BYTES = "1";
+    public static final String DEFAULT_CONSUMER_FETCH_MAX_WAIT_MS = "500";
+    public static final String DEFAULT_CONSUMER_MAX_PARTITION_FETCH_BYTES = "1048576";
+    public static final String DEFAULT_CONSUMER_RECEIVE_BUFFER_BYTES = "65536";
+    public static final String DEFAULT_MAX_IN_FLIGHT_MESSAGES = "1000";
+    public static final String DEFAULT_SCRIPT_EVALUATION_TIMEOUT_MS = "5000";
+    public static final String DEFAULT_GENERATOR_THREADS_COUNT = "1";
+    public static final String DEFAULT_TARGET_SENDING_RATE = "1000";
+    public static final String DEFAULT_SENDING_RATE_RAMP_UP_SEC = "0";
+    public static final String DEFAULT_SENDING_RATE_BURST = "0";
+    public static final String DEFAULT_IMPORT_CSV_KEY_COLUMN = "key";
+    public static final String DEFAULT_IMPORT_CSV_VALUE_COLUMN = "value";
+    // escaped, so it can be edited in a text field
+    public static final String DEFAULT_IMPORT_DELIMITER = "\\n";
+    public static final String DEFAULT_PRODUCER_BATCH_SIZE = "16384";
+    public static final String DEFAULT_PRODUCER_LINGER_MS = "0";
+    public static final String DEFAULT_PRODUCER_BUFFER_MEMORY = "33554432";
+    public static final String DEFAULT_PRODUCER_MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION = "5";
     public static final String DEFAULT_MESSAGE_KEY = "kmt-msg-key";
     public static final int HOSTNAME_REACHABLE_TIMEOUT_MS = 2000; // warning, less than 2000 seconds causes timeouts
 
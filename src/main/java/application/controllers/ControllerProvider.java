@@ -16,6 +16,8 @@ import javafx.collections.ObservableList;
 import javafx.scene.layout.AnchorPane;
 import javafx.stage.Window;
 
+import java.util.function.Supplier;
+
 public interface ControllerProvider {
     BrokerConfigView getBrokerConfigGuiController(KafkaBrokerConfig config,
                                                   AnchorPane parentPane,
@@ -38,7 +40,8 @@ public interface ControllerProvider {
 
     SenderConfigView getSenderConfigGuiController(KafkaSenderConfig config,
                                                   AnchorPane parentPane,
-                                                  KafkaMessageSender sender,
+                                                  Supplier<KafkaMessageSender> senderFactory,
                                                   Runnable refreshCallback,
-                                                  ObservableList<KafkaTopicConfig> topicConfigs);
+                                                  ObservableList<KafkaTopicConfig> topicConfigs,
+                                                  ObservableList<KafkaSenderConfig> senderConfigs);
 }
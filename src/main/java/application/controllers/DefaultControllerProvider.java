@@ -8,12 +8,16 @@ import application.logging.CyclicStringBuffer;
 import application.logging.FixedNumberRecordsCountLogger;
 import application.persistence.ApplicationSettings;
 import application.root.Restartables;
+import application.scripting.CompiledScriptsCache;
 import application.scripting.GroovyScriptEvaluator;
+import application.scripting.ScriptExecutionPool;
+import application.scripting.ScriptTimeoutWatchdog;
 import application.scripting.MessageTemplateSender;
 import application.customfxwidgets.senderconfig.SenderConfigView;
 import application.customfxwidgets.topicconfig.TopicConfigView;
 import application.displaybehaviour.ModelConfigObjectsGuiInformer;
 import application.kafka.cluster.ClusterStatusChecker;
+import application.kafka.sender.FileImportSender;
 import application.kafka.sender.KafkaMessageSender;
 import application.kafka.listener.Listeners;
 import application.logging.Logger;
@@ -48,19 +52,25 @@ public class DefaultControllerProvider implements ControllerProvider {
     private KafkaClusterProxies kafkaClusterProxies;
     private ApplicationSettings applicationSettings;
     private Restartables restartables;
+    private ScriptExecutionPool scriptExecutionPool;
+    private ScriptTimeoutWatchdog scriptTimeoutWatchdog;
 
     public DefaultControllerProvider(ModelConfigObjectsGuiInformer guiInformer,
                                      ClusterStatusChecker statusChecker,
                                      SyntaxHighlightingCodeAreaConfigurator syntaxHighlightConfigurator,
                                      KafkaClusterProxies kafkaClusterProxies,
                                      ApplicationSettings applicationSettings,
-                                     Restartables restartables) {
+                                     Restartables restartables,
+                                     ScriptExecutionPool scriptExecutionPool,
+                                     ScriptTimeoutWatchdog scriptTimeoutWatchdog) {
         this.guiInformer = guiInformer;
         this.statusChecker = statusChecker;
         this.syntaxHighlightConfigurator = syntaxHighlightConfigurator;
         this.kafkaClusterProxies = kafkaClusterProxies;
         this.applicationSettings = applicationSettings;
         this.restartables = restartables;
+        this.scriptExecutionPool = scriptExecutionPool;
+        this.scriptTimeoutWatchdog = scriptTimeoutWatchdog;
     }
 
 
@@ -140,14 +150,22 @@ public class DefaultControllerProvider implements ControllerProvider {
     @Override
     public SenderConfigView getSenderConfigGuiController(KafkaSenderConfig config,
                                                          AnchorPane parentPane,
-                                                         KafkaMessageSender sender,
+                                                         Supplier<KafkaMessageSender> senderFactory,
                                                          Runnable refreshCallback,
-                                                         ObservableList<KafkaTopicConfig> topicConfigs) {
+                                                         ObservableList<KafkaTopicConfig> topicConfigs,
+                                                         ObservableList<KafkaSenderConfig> senderConfigs) {
 
         return getControllerFor(config, messageControllers, () -> {
             try {
+                // own sender, so views sending at the same time do not share (and recreate) one producer
+                final KafkaMessageSender sender = senderFactory.get();
+                final CompiledScriptsCache compiledScripts = new CompiledScriptsCache();
                 final MessageTemplateSender msgTemplateEvaluator = new MessageTemplateSender(sender,
-                                                                                             new GroovyScriptEvaluator());
+                                                                                             new GroovyScriptEvaluator(scriptExecutionPool,
+                                                                                                                       compiledScripts),
+                                                                                             // generator workers evaluate on their own threads
+                                                                                             () -> new GroovyScriptEvaluator(scriptTimeoutWatchdog,
+                                                                                                                             compiledScripts));
 
                 final CodeArea beforeAllCodeAreaShared = new CodeArea();
                 final VirtualizedScrollPane<StyleClassedTextArea> beforeAllMessagesSharedScriptScrollPane =
@@ -176,7 +194,9 @@ public class DefaultControllerProvider implements ControllerProvider {
                                             guiInformer,
                                             refreshCallback,
                                             topicConfigs,
+                                            senderConfigs,
                                             msgTemplateEvaluator,
+                                            new FileImportSender(sender),
                                             beforeAllMessagesSharedScriptScrollPane,
                                             beforeAllMessagesScriptScrollPane,
                                             beforeEachMessageScriptScrollPane,
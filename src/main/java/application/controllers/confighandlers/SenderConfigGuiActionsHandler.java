@@ -16,6 +16,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.AnchorPane;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public class SenderConfigGuiActionsHandler extends TemplateGuiActionsHandler<KafkaSenderConfig> {
 
@@ -24,7 +25,7 @@ public class SenderConfigGuiActionsHandler extends TemplateGuiActionsHandler<Kaf
     private final ModelDataProxy modelDataProxy;
     private final ControllerProvider controllerProvider;
     private final AnchorPane parentPane;
-    private KafkaMessageSender sender;
+    private Supplier<KafkaMessageSender> senderFactory;
     private ListView<KafkaTopicConfig> topicConfigs;
     private final FromPojoConverter fromPojoConverter;
 
@@ -34,7 +35,7 @@ public class SenderConfigGuiActionsHandler extends TemplateGuiActionsHandler<Kaf
                                          ControllerProvider controllerProvider,
                                          AnchorPane parentPane,
                                          ListView<KafkaTopicConfig> topicConfigs,
-                                         KafkaMessageSender sender) {
+                                         Supplier<KafkaMessageSender> senderFactory) {
         super(tabSelectionInformer, listViewActionsHandler);
 
         this.listViewActionsHandler = listViewActionsHandler;
@@ -42,7 +43,7 @@ public class SenderConfigGuiActionsHandler extends TemplateGuiActionsHandler<Kaf
         this.controllerProvider = controllerProvider;
         this.parentPane = parentPane;
 
-        this.sender = sender;
+        this.senderFactory = senderFactory;
         this.topicConfigs = topicConfigs;
         this.fromPojoConverter = new FromPojoConverter(modelDataProxy);
 
@@ -52,9 +53,10 @@ public class SenderConfigGuiActionsHandler extends TemplateGuiActionsHandler<Kaf
     protected void loadController(KafkaSenderConfig config) {
         final SenderConfigView controller = controllerProvider.getSenderConfigGuiController(config,
                                                                                             parentPane,
-                                                                                            sender,
+                                                                                            senderFactory,
                                                                                             listViewActionsHandler::refresh,
-                                                                                            topicConfigs.getItems());
+                                                                                            topicConfigs.getItems(),
+                                                                                            listViewActionsHandler.getItems());
 
         controller.display();
     }
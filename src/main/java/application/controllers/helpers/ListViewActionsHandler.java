@@ -28,6 +28,10 @@ public class ListViewActionsHandler<AppModelObject extends ModelConfigObject> {
         }
     }
 
+    public ObservableList<AppModelObject> getItems() {
+        return listView.getItems();
+    }
+
     public void refresh() {
         listView.refresh();
     }
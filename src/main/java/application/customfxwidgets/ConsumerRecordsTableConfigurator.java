@@ -0,0 +1,38 @@
+package application.customfxwidgets;
+
+import application.utils.TableUtils;
+import application.utils.TimestampUtils;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextArea;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.function.Function;
+
+/**
+ * Sets up columns of tables showing records found in topics, value of selected record is shown in a text area.
+ */
+public class ConsumerRecordsTableConfigurator {
+
+    public static void configure(TableView<ConsumerRecord<String, String>> tableView, TextArea valueTextArea) {
+        tableView.getColumns().setAll(
+            createColumn("Timestamp", 160, record -> TimestampUtils.timestampFromEpochMili(record.timestamp())),
+            createColumn("Partition", 70, record -> String.valueOf(record.partition())),
+            createColumn("Offset", 90, record -> String.valueOf(record.offset())),
+            createColumn("Key", 150, ConsumerRecord::key),
+            createColumn("Value", 500, ConsumerRecord::value));
+        tableView.getSelectionModel().selectedItemProperty()
+            .addListener((observable, oldValue, newValue) -> valueTextArea.setText(newValue == null ? "" : newValue.value()));
+        TableUtils.installCopyPasteHandlerForSingleCell(tableView);
+    }
+
+    private static TableColumn<ConsumerRecord<String, String>, String> createColumn(String name,
+                                                                                    double prefWidth,
+                                                                                    Function<ConsumerRecord<String, String>, String> valueGetter) {
+        final TableColumn<ConsumerRecord<String, String>, String> column = new TableColumn<>(name);
+        column.setPrefWidth(prefWidth);
+        column.setCellValueFactory(param -> new SimpleStringProperty(valueGetter.apply(param.getValue())));
+        return column;
+    }
+}
@@ -0,0 +1,174 @@
+package application.customfxwidgets.benchmarkresultswindow;
+
+import application.constants.ApplicationConstants;
+import application.customfxwidgets.listenerconfig.ToFileSaver;
+import application.kafka.benchmark.ProducerBenchmarkResult;
+import application.kafka.benchmark.ThroughputTimeline;
+import application.utils.GuiUtils;
+import application.utils.TableUtils;
+import application.utils.UserGuiInteractor;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.Scene;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.SelectionMode;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.AnchorPane;
+import javafx.stage.FileChooser;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import static application.customfxwidgets.CustomFxWidgetsLoader.loadAnchorPane;
+
+/**
+ * Shows results of sender benchmark runs side by side, so runs with different settings can be compared.
+ */
+public final class BenchmarkResultsWindow extends AnchorPane {
+    private static final String FXML_FILE = "BenchmarkResultsView.fxml";
+    private static BenchmarkResultsWindow instance;
+    private final ObservableList<ProducerBenchmarkResult> results = FXCollections.observableArrayList();
+    private final Stage stage = new Stage();
+    private final ToFileSaver toFileSaver = new ToFileSaver(new UserGuiInteractor(stage));
+    @FXML
+    private TableView<ProducerBenchmarkResult> resultsTableView;
+    @FXML
+    private TableColumn<ProducerBenchmarkResult, String> senderNameColumn;
+    @FXML
+    private TableColumn<ProducerBenchmarkResult, String> startTimeColumn;
+    @FXML
+    private TableColumn<ProducerBenchmarkResult, String> durationColumn;
+    @FXML
+    private TableColumn<ProducerBenchmarkResult, String> sentColumn;
+    @FXML
+    private TableColumn<ProducerBenchmarkResult, String> failedColumn;
+    @FXML
+    private TableColumn<ProducerBenchmarkResult, String> messagesPerSecColumn;
+    @FXML
+    private TableColumn<ProducerBenchmarkResult, String> megabytesPerSecColumn;
+    @FXML
+    private TableColumn<ProducerBenchmarkResult, String> latencyP50Column;
+    @FXML
+    private TableColumn<ProducerBenchmarkResult, String> latencyP99Column;
+    @FXML
+    private TableColumn<ProducerBenchmarkResult, String> latencyP999Column;
+    @FXML
+    private TableColumn<ProducerBenchmarkResult, String> latencyMaxColumn;
+    @FXML
+    private TableColumn<ProducerBenchmarkResult, String> latencyMeanColumn;
+    @FXML
+    private LineChart<Number, Number> throughputChart;
+
+    private BenchmarkResultsWindow() throws IOException {
+        loadAnchorPane(this, FXML_FILE);
+        configureTable();
+    }
+
+    public static BenchmarkResultsWindow get() throws IOException {
+        if (instance == null) {
+            instance = new BenchmarkResultsWindow();
+        }
+        return instance;
+    }
+
+    public void add(ProducerBenchmarkResult result) {
+        results.add(result);
+        resultsTableView.getSelectionModel().clearSelection();
+        resultsTableView.getSelectionModel().select(result);
+    }
+
+    public void show() {
+        stage.show();
+        stage.toFront();
+    }
+
+    private void configureTable() {
+        configureColumn(senderNameColumn, ProducerBenchmarkResult::getSenderName);
+        configureColumn(startTimeColumn, ProducerBenchmarkResult::getStartTime);
+        configureColumn(durationColumn, r -> String.valueOf(r.getDurationMs()));
+        configureColumn(sentColumn, r -> String.valueOf(r.getSentCount()));
+        configureColumn(failedColumn, r -> String.valueOf(r.getFailedCount()));
+        configureColumn(messagesPerSecColumn, r -> format("%.1f", r.getMessagesPerSec()));
+        configureColumn(megabytesPerSecColumn, r -> format("%.3f", r.getMegabytesPerSec()));
+        configureColumn(latencyP50Column, r -> format("%.3f", r.getLatencyP50Ms()));
+        configureColumn(latencyP99Column, r -> format("%.3f", r.getLatencyP99Ms()));
+        configureColumn(latencyP999Column, r -> format("%.3f", r.getLatencyP999Ms()));
+        configureColumn(latencyMaxColumn, r -> format("%.3f", r.getLatencyMaxMs()));
+        configureColumn(latencyMeanColumn, r -> format("%.3f", r.getLatencyMeanMs()));
+
+        resultsTableView.setItems(results);
+        resultsTableView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        resultsTableView.getSelectionModel().getSelectedItems()
+            .addListener((ListChangeListener<ProducerBenchmarkResult>) c -> refreshThroughputChart());
+        TableUtils.installCopyPasteHandlerForSingleCell(resultsTableView);
+    }
+
+    private static void configureColumn(TableColumn<ProducerBenchmarkResult, String> column,
+                                        Function<ProducerBenchmarkResult, String> valueGetter) {
+        column.setCellValueFactory(param -> new SimpleStringProperty(valueGetter.apply(param.getValue())));
+    }
+
+    private static String format(String format, double value) {
+        return String.format(Locale.ENGLISH, format, value);
+    }
+
+    private void refreshThroughputChart() {
+        final List<XYChart.Series<Number, Number>> allSeries = new ArrayList<>();
+        for (ProducerBenchmarkResult result : resultsTableView.getSelectionModel().getSelectedItems()) {
+            final XYChart.Series<Number, Number> series = new XYChart.Series<>();
+            series.setName(String.format("%s (%s)", result.getSenderName(), result.getStartTime()));
+            for (ThroughputTimeline.ThroughputSample sample : result.getThroughputTimeline()) {
+                series.getData().add(new XYChart.Data<>(sample.getSecond(), sample.getRecordsCount()));
+            }
+            allSeries.add(series);
+        }
+        throughputChart.getData().setAll(allSeries);
+    }
+
+    @FXML
+    private void initialize() {
+        GuiUtils.addApplicationIcon(stage);
+        final Scene scene = new Scene(this);
+        scene.getStylesheets().add(getClass().getResource(ApplicationConstants.GLOBAL_CSS_FILE_NAME).toExternalForm());
+        stage.setScene(scene);
+        stage.setTitle("Benchmark results");
+        stage.centerOnScreen();
+    }
+
+    @FXML
+    private void exportToCsvOnAction() {
+        final List<ProducerBenchmarkResult> resultsToExport = new ArrayList<>(results);
+        toFileSaver.saveContentToFile(writer -> {
+            writer.write(ProducerBenchmarkResult.CSV_HEADER);
+            writer.write(System.lineSeparator());
+            for (ProducerBenchmarkResult result : resultsToExport) {
+                writer.write(result.toCsvLine());
+                writer.write(System.lineSeparator());
+            }
+        }, new FileChooser.ExtensionFilter("CSV files (*.csv)", "*.csv"));
+    }
+
+    @FXML
+    private void removeSelectedOnAction() {
+        results.removeAll(new ArrayList<>(resultsTableView.getSelectionModel().getSelectedItems()));
+    }
+
+    @FXML
+    private void clearOnAction() {
+        results.clear();
+    }
+
+    @FXML
+    private void closeOnAction() {
+        stage.close();
+    }
+}
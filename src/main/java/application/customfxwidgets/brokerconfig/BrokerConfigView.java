@@ -7,7 +7,10 @@ import application.customfxwidgets.ConfigEntriesViewPreferences;
 import application.customfxwidgets.CustomFxWidgetsLoader;
 import application.customfxwidgets.Displayable;
 import application.customfxwidgets.consumergroupview.ConsumerGroupView;
+import application.customfxwidgets.keyfinderwindow.KeyFinderWindow;
+import application.customfxwidgets.timetravelwindow.TimeTravelWindow;
 import application.customfxwidgets.topicpropertieswindow.TopicPropertiesWindow;
+import application.customfxwidgets.topicscanwindow.TopicScanWindow;
 import application.displaybehaviour.DetachableDisplayBehaviour;
 import application.displaybehaviour.DisplayBehaviour;
 import application.displaybehaviour.ModelConfigObjectsGuiInformer;
@@ -417,14 +420,23 @@ public class BrokerConfigView extends AnchorPane implements Displayable {
         final MenuItem createTopicMenuItem = createMenuItemForCreatingNewTopic();
         final MenuItem alterTopicMenuItem = createMenuItemForAlteringTopic();
         final MenuItem topicPropertiesMenuItem = createMenuItemForShowingTopicProperties();
+        final MenuItem jumpToTimestampMenuItem = createMenuItemForJumpingToTimestamp();
+        final MenuItem findByKeyMenuItem = createMenuItemForFindingByKey();
+        final MenuItem scanTopicMenuItem = createMenuItemForScanningTopic();
 
         final ContextMenu contextMenu = getTopicManagementContextMenu(deleteTopicMenuItem,
                                                                       createTopicMenuItem,
                                                                       alterTopicMenuItem,
-                                                                      topicPropertiesMenuItem);
+                                                                      topicPropertiesMenuItem,
+                                                                      jumpToTimestampMenuItem,
+                                                                      findByKeyMenuItem,
+                                                                      scanTopicMenuItem);
 
         row.contextMenuProperty().bind(new ReadOnlyObjectWrapper<>(contextMenu));
         topicPropertiesMenuItem.disableProperty().bind(row.emptyProperty());
+        jumpToTimestampMenuItem.disableProperty().bind(row.emptyProperty());
+        findByKeyMenuItem.disableProperty().bind(row.emptyProperty());
+        scanTopicMenuItem.disableProperty().bind(row.emptyProperty());
 
         if (proxy.isTopicDeletionEnabled() != TriStateConfigEntryValue.True) {
             deleteTopicMenuItem.setText("Delete topic (disabled by broker)");
@@ -438,16 +450,61 @@ public class BrokerConfigView extends AnchorPane implements Displayable {
     private ContextMenu getTopicManagementContextMenu(MenuItem deleteTopicMenuItem,
                                                       MenuItem createTopicMenuItem,
                                                       MenuItem alterTopicMenuItem,
-                                                      MenuItem topicPropertiesMenuItem) {
+                                                      MenuItem topicPropertiesMenuItem,
+                                                      MenuItem jumpToTimestampMenuItem,
+                                                      MenuItem findByKeyMenuItem,
+                                                      MenuItem scanTopicMenuItem) {
         final ContextMenu contextMenu = new ContextMenu();
         contextMenu.getItems().setAll(createTopicMenuItem,
                                       deleteTopicMenuItem,
                                       alterTopicMenuItem,
                                       new SeparatorMenuItem(),
-                                      topicPropertiesMenuItem);
+                                      topicPropertiesMenuItem,
+                                      jumpToTimestampMenuItem,
+                                      findByKeyMenuItem,
+                                      scanTopicMenuItem);
         return contextMenu;
     }
 
+    private MenuItem createMenuItemForJumpingToTimestamp() {
+        final MenuItem jumpToTimestampMenuItem = new MenuItem("Jump to timestamp");
+        jumpToTimestampMenuItem.setOnAction(event -> {
+            final TopicAggregatedSummary summary = topicsTableView.getSelectionModel().selectedItemProperty().get();
+            try {
+                new TimeTravelWindow(summary.getTopicName(), config.getHostInfo()).show();
+            } catch (IOException e) {
+                Logger.error("Could not show records around timestamp", e);
+            }
+        });
+        return jumpToTimestampMenuItem;
+    }
+
+    private MenuItem createMenuItemForFindingByKey() {
+        final MenuItem findByKeyMenuItem = new MenuItem("Find by key");
+        findByKeyMenuItem.setOnAction(event -> {
+            final TopicAggregatedSummary summary = topicsTableView.getSelectionModel().selectedItemProperty().get();
+            try {
+                new KeyFinderWindow(summary.getTopicName(), config.getHostInfo()).show();
+            } catch (IOException e) {
+                Logger.error("Could not show key finder", e);
+            }
+        });
+        return findByKeyMenuItem;
+    }
+
+    private MenuItem createMenuItemForScanningTopic() {
+        final MenuItem scanTopicMenuItem = new MenuItem("Scan topic");
+        scanTopicMenuItem.setOnAction(event -> {
+            final TopicAggregatedSummary summary = topicsTableView.getSelectionModel().selectedItemProperty().get();
+            try {
+                new TopicScanWindow(summary.getTopicName(), config.getHostInfo()).show();
+            } catch (IOException e) {
+                Logger.error("Could not show topic scan", e);
+            }
+        });
+        return scanTopicMenuItem;
+    }
+
     private MenuItem createMenuItemForShowingTopicProperties() {
         final MenuItem topicPropertiesMenuItem = new MenuItem("Topic properties");
         topicPropertiesMenuItem.setOnAction(event -> {
@@ -0,0 +1,179 @@
+package application.customfxwidgets.keyfinderwindow;
+
+import application.constants.ApplicationConstants;
+import application.customfxwidgets.ConsumerRecordsTableConfigurator;
+import application.kafka.search.KeyFinder;
+import application.kafka.search.KeySearchMode;
+import application.kafka.search.KeySearchResult;
+import application.kafka.search.SearchConsumerFactory;
+import application.logging.Logger;
+import application.utils.GuiUtils;
+import application.utils.HostInfo;
+import application.utils.TimestampUtils;
+import application.utils.TooltipCreator;
+import application.utils.ValidatorUtils;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.fxml.FXML;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextArea;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.AnchorPane;
+import javafx.stage.Stage;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static application.customfxwidgets.CustomFxWidgetsLoader.loadAnchorPane;
+
+/**
+ * Finds records with given key, only the partition owning the key is read.
+ * Matches are added to the table as soon as they are found.
+ */
+public final class KeyFinderWindow extends AnchorPane {
+    private static final String FXML_FILE = "KeyFinderView.fxml";
+    private static final String DEFAULT_MAX_MATCHES = "100";
+    private final Stage stage = new Stage();
+    private final String topicName;
+    private final KeyFinder keyFinder;
+    private volatile boolean cancelRequested;
+    @FXML
+    private TextField keyTextField;
+    @FXML
+    private ComboBox<KeySearchMode> searchModeComboBox;
+    @FXML
+    private TextField maxMatchesTextField;
+    @FXML
+    private TextField fromTimestampTextField;
+    @FXML
+    private TextField toTimestampTextField;
+    @FXML
+    private Button searchButton;
+    @FXML
+    private Button cancelButton;
+    @FXML
+    private TableView<ConsumerRecord<String, String>> recordsTableView;
+    @FXML
+    private TextArea valueTextArea;
+    @FXML
+    private Label statusLabel;
+
+    public KeyFinderWindow(String topicName, HostInfo hostInfo) throws IOException {
+        this.topicName = topicName;
+        this.keyFinder = new KeyFinder(new SearchConsumerFactory(hostInfo));
+        loadAnchorPane(this, FXML_FILE);
+        stage.setTitle(String.format("Find by key (%s, %s)", topicName, hostInfo.toHostPortString()));
+        searchModeComboBox.setItems(FXCollections.observableArrayList(KeySearchMode.values()));
+        searchModeComboBox.setValue(KeySearchMode.FIRST_MATCHES);
+        maxMatchesTextField.setText(DEFAULT_MAX_MATCHES);
+        maxMatchesTextField.setTooltip(TooltipCreator.createFrom("Search stops after this number of matches"));
+        ConsumerRecordsTableConfigurator.configure(recordsTableView, valueTextArea);
+    }
+
+    public void show() {
+        stage.show();
+        stage.toFront();
+    }
+
+    private static Optional<Integer> parseMaxMatches(String value) {
+        try {
+            final int count = Integer.parseInt(value.trim());
+            return count <= 0 ? Optional.empty() : Optional.of(count);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Long> parseOptionalTimestamp(String value) {
+        return StringUtils.isBlank(value) ? Optional.empty() : TimestampUtils.parseEpochMili(value);
+    }
+
+    private void search(String key, Long fromTimestamp, Long toTimestamp, KeySearchMode mode, int maxMatches) {
+        final long start = System.currentTimeMillis();
+        try {
+            final KeySearchResult result = keyFinder.find(topicName,
+                                                          key,
+                                                          fromTimestamp,
+                                                          toTimestamp,
+                                                          mode,
+                                                          maxMatches,
+                                                          record -> Platform.runLater(() -> recordsTableView.getItems().add(record)),
+                                                          () -> cancelRequested);
+            final long duration = System.currentTimeMillis() - start;
+            Platform.runLater(() -> searchFinished(String.format("%s: partition %d of %d scanned, %d record(s) read, %d match(es) in %d ms",
+                                                                 cancelRequested ? "Cancelled" : "Finished",
+                                                                 result.getPartition(),
+                                                                 result.getPartitionsCount(),
+                                                                 result.getScannedRecords(),
+                                                                 result.getMatches(),
+                                                                 duration)));
+        } catch (Exception e) {
+            Logger.error(String.format("Could not find key '%s' in topic '%s'", key, topicName), e);
+            Platform.runLater(() -> searchFinished("Search failed: " + e.getMessage()));
+        }
+    }
+
+    private void searchFinished(String status) {
+        statusLabel.setText(status);
+        searchButton.setDisable(false);
+        cancelButton.setDisable(true);
+    }
+
+    @FXML
+    private void initialize() {
+        GuiUtils.addApplicationIcon(stage);
+        final Scene scene = new Scene(this);
+        scene.getStylesheets().add(getClass().getResource(ApplicationConstants.GLOBAL_CSS_FILE_NAME).toExternalForm());
+        stage.setScene(scene);
+        stage.centerOnScreen();
+    }
+
+    @FXML
+    private void searchOnAction() {
+        final String key = keyTextField.getText();
+        final Optional<Integer> maxMatches = parseMaxMatches(maxMatchesTextField.getText());
+        if (StringUtils.isEmpty(key)) {
+            statusLabel.setText("Key is empty");
+            return;
+        }
+        if (!maxMatches.isPresent()) {
+            statusLabel.setText("Max matches must be a positive number");
+            return;
+        }
+        if (!ValidatorUtils.isValidOptionalTimestamp(fromTimestampTextField.getText())
+            || !ValidatorUtils.isValidOptionalTimestamp(toTimestampTextField.getText())) {
+            statusLabel.setText("Invalid timestamp, use 'yyyy-MM-dd HH:mm:ss[.SSS]' or epoch millis");
+            return;
+        }
+        final Long fromTimestamp = parseOptionalTimestamp(fromTimestampTextField.getText()).orElse(null);
+        final Long toTimestamp = parseOptionalTimestamp(toTimestampTextField.getText()).orElse(null);
+        final KeySearchMode mode = searchModeComboBox.getValue();
+
+        recordsTableView.getItems().clear();
+        cancelRequested = false;
+        searchButton.setDisable(true);
+        cancelButton.setDisable(false);
+        statusLabel.setText("Searching...");
+        final Thread thread = new Thread(() -> search(key, fromTimestamp, toTimestamp, mode, maxMatches.get()),
+                                         "KMT-Thread-KeyFinder-" + topicName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @FXML
+    private void cancelOnAction() {
+        cancelRequested = true;
+    }
+
+    @FXML
+    private void closeOnAction() {
+        cancelRequested = true;
+        stage.close();
+    }
+}
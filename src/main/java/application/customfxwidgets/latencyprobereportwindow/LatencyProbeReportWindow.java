@@ -0,0 +1,166 @@
+package application.customfxwidgets.latencyprobereportwindow;
+
+import application.constants.ApplicationConstants;
+import application.customfxwidgets.listenerconfig.ToFileSaver;
+import application.kafka.benchmark.LatencyProbeReceiver;
+import application.kafka.benchmark.LatencyProbeReport;
+import application.utils.GuiUtils;
+import application.utils.TableUtils;
+import application.utils.UserGuiInteractor;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.Scene;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextArea;
+import javafx.scene.layout.AnchorPane;
+import javafx.stage.FileChooser;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import static application.customfxwidgets.CustomFxWidgetsLoader.loadAnchorPane;
+
+/**
+ * Shows delivery and end-to-end latency of sending runs received by a listener with latency probe enabled,
+ * refreshed every second while the window is open.
+ */
+public final class LatencyProbeReportWindow extends AnchorPane {
+    private static final String FXML_FILE = "LatencyProbeReportView.fxml";
+    private static final Duration REFRESH_INTERVAL = Duration.seconds(1);
+    private final ObservableList<LatencyProbeReport> reports = FXCollections.observableArrayList();
+    private final Stage stage = new Stage();
+    private final ToFileSaver toFileSaver = new ToFileSaver(new UserGuiInteractor(stage));
+    private final Timeline refreshTimeline = new Timeline(new KeyFrame(REFRESH_INTERVAL, event -> refresh()));
+    private final LatencyProbeReceiver receiver;
+    @FXML
+    private TableView<LatencyProbeReport> reportsTableView;
+    @FXML
+    private TableColumn<LatencyProbeReport, String> senderNameColumn;
+    @FXML
+    private TableColumn<LatencyProbeReport, String> startTimeColumn;
+    @FXML
+    private TableColumn<LatencyProbeReport, String> expectedColumn;
+    @FXML
+    private TableColumn<LatencyProbeReport, String> receivedColumn;
+    @FXML
+    private TableColumn<LatencyProbeReport, String> missingColumn;
+    @FXML
+    private TableColumn<LatencyProbeReport, String> duplicatesColumn;
+    @FXML
+    private TableColumn<LatencyProbeReport, String> unexpectedColumn;
+    @FXML
+    private TableColumn<LatencyProbeReport, String> latencyP50Column;
+    @FXML
+    private TableColumn<LatencyProbeReport, String> latencyP99Column;
+    @FXML
+    private TableColumn<LatencyProbeReport, String> latencyP999Column;
+    @FXML
+    private TableColumn<LatencyProbeReport, String> latencyMaxColumn;
+    @FXML
+    private TableColumn<LatencyProbeReport, String> latencyMeanColumn;
+    @FXML
+    private TextArea missingSequenceNumbersTextArea;
+
+    public LatencyProbeReportWindow(String listenerName, LatencyProbeReceiver receiver) throws IOException {
+        this.receiver = receiver;
+        loadAnchorPane(this, FXML_FILE);
+        stage.setTitle(String.format("Latency probe report (%s)", listenerName));
+        configureTable();
+        refreshTimeline.setCycleCount(Animation.INDEFINITE);
+        stage.setOnShown(event -> refreshTimeline.play());
+        stage.setOnHidden(event -> refreshTimeline.stop());
+    }
+
+    public void show() {
+        refresh();
+        stage.show();
+        stage.toFront();
+    }
+
+    private void configureTable() {
+        configureColumn(senderNameColumn, LatencyProbeReport::getSenderName);
+        configureColumn(startTimeColumn, LatencyProbeReport::getStartTime);
+        configureColumn(expectedColumn, r -> String.valueOf(r.getExpectedCount()));
+        configureColumn(receivedColumn, r -> String.valueOf(r.getReceivedCount()));
+        configureColumn(missingColumn, r -> String.valueOf(r.getMissingCount()));
+        configureColumn(duplicatesColumn, r -> String.valueOf(r.getDuplicatesCount()));
+        configureColumn(unexpectedColumn, r -> String.valueOf(r.getUnexpectedCount()));
+        configureColumn(latencyP50Column, r -> format(r.getLatencyP50Ms()));
+        configureColumn(latencyP99Column, r -> format(r.getLatencyP99Ms()));
+        configureColumn(latencyP999Column, r -> format(r.getLatencyP999Ms()));
+        configureColumn(latencyMaxColumn, r -> format(r.getLatencyMaxMs()));
+        configureColumn(latencyMeanColumn, r -> format(r.getLatencyMeanMs()));
+
+        reportsTableView.setItems(reports);
+        reportsTableView.getSelectionModel().selectedItemProperty()
+            .addListener((observable, oldValue, newValue) -> showMissingSequenceNumbers(newValue));
+        TableUtils.installCopyPasteHandlerForSingleCell(reportsTableView);
+    }
+
+    private static void configureColumn(TableColumn<LatencyProbeReport, String> column,
+                                        Function<LatencyProbeReport, String> valueGetter) {
+        column.setCellValueFactory(param -> new SimpleStringProperty(valueGetter.apply(param.getValue())));
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ENGLISH, "%.3f", value);
+    }
+
+    private void showMissingSequenceNumbers(LatencyProbeReport report) {
+        missingSequenceNumbersTextArea.setText(report == null ? "" : report.getMissingSequenceNumbers());
+    }
+
+    private void refresh() {
+        final int selectedIndex = reportsTableView.getSelectionModel().getSelectedIndex();
+        reports.setAll(receiver.getReports());
+        if (selectedIndex >= 0 && selectedIndex < reports.size()) {
+            reportsTableView.getSelectionModel().select(selectedIndex);
+        } else if (!reports.isEmpty()) {
+            reportsTableView.getSelectionModel().selectLast();
+        }
+    }
+
+    @FXML
+    private void initialize() {
+        GuiUtils.addApplicationIcon(stage);
+        final Scene scene = new Scene(this);
+        scene.getStylesheets().add(getClass().getResource(ApplicationConstants.GLOBAL_CSS_FILE_NAME).toExternalForm());
+        stage.setScene(scene);
+        stage.centerOnScreen();
+    }
+
+    @FXML
+    private void exportToCsvOnAction() {
+        final List<LatencyProbeReport> reportsToExport = new ArrayList<>(reports);
+        toFileSaver.saveContentToFile(writer -> {
+            writer.write(LatencyProbeReport.CSV_HEADER);
+            writer.write(System.lineSeparator());
+            for (LatencyProbeReport report : reportsToExport) {
+                writer.write(report.toCsvLine());
+                writer.write(System.lineSeparator());
+            }
+        }, new FileChooser.ExtensionFilter("CSV files (*.csv)", "*.csv"));
+    }
+
+    @FXML
+    private void resetOnAction() {
+        receiver.reset();
+        refresh();
+    }
+
+    @FXML
+    private void closeOnAction() {
+        stage.close();
+    }
+}
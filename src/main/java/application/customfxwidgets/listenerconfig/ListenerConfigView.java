@@ -1,21 +1,42 @@
 package application.customfxwidgets.listenerconfig;
 
+import application.constants.ApplicationConstants;
 import application.customfxwidgets.CustomFxWidgetsLoader;
 import application.customfxwidgets.Displayable;
 import application.customfxwidgets.TopicConfigComboBoxConfigurator;
+import application.customfxwidgets.keyfinderwindow.KeyFinderWindow;
+import application.customfxwidgets.latencyprobereportwindow.LatencyProbeReportWindow;
+import application.customfxwidgets.timetravelwindow.TimeTravelWindow;
+import application.customfxwidgets.topicscanwindow.TopicScanWindow;
 import application.displaybehaviour.DetachableDisplayBehaviour;
 import application.displaybehaviour.DisplayBehaviour;
 import application.displaybehaviour.ModelConfigObjectsGuiInformer;
+import application.kafka.benchmark.ConsumerBenchmarkResult;
 import application.kafka.listener.AssignedPartitionsInfo;
+import application.kafka.listener.ConsumerRecordFormatter;
 import application.kafka.listener.Listener;
+import application.kafka.listener.ListenerMemberInfo;
 import application.kafka.listener.Listeners;
+import application.kafka.listener.MappedRecordStore;
+import application.kafka.listener.ReceivedRecordsChunk;
+import application.kafka.listener.ReceivedRecordsSink;
 import application.logging.FixedNumberRecordsCountLogger;
+import application.logging.Logger;
+import application.model.ConsumerProfilePreset;
+import application.model.ExportFormat;
+import application.model.KafkaOffsetCommitStrategy;
 import application.model.KafkaOffsetResetType;
+import application.model.ListenerSamplingMode;
+import application.model.ListenerStartPosition;
+import application.model.ScanMatchType;
+import application.model.ScanTarget;
+import application.model.modelobjects.KafkaConsumerProfile;
 import application.model.modelobjects.KafkaListenerConfig;
 import application.model.modelobjects.KafkaTopicConfig;
-import application.root.SwingTextAreaWrapper;
+import application.root.VirtualizedTextAreaWrapper;
 import application.utils.ConfigNameGenerator;
 import application.utils.GuiUtils;
+import application.utils.TooltipCreator;
 import application.utils.ValidatorUtils;
 import application.utils.gui.FXNodeBlinker;
 import com.sun.javafx.scene.control.skin.TextFieldSkin;
@@ -23,6 +44,9 @@ import javafx.application.Platform;
 import javafx.beans.binding.BooleanBinding;
 import javafx.beans.binding.StringExpression;
 import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -33,24 +57,45 @@ import javafx.scene.control.CheckBox;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Label;
+import javafx.scene.control.MenuButton;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.SeparatorMenuItem;
+import javafx.scene.control.Tab;
+import javafx.scene.control.TabPane;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
-import javafx.scene.control.TitledPane;
 import javafx.scene.control.ToggleButton;
+import javafx.scene.control.cell.ProgressBarTableCell;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.paint.Color;
+import javafx.stage.DirectoryChooser;
+import org.apache.commons.lang3.StringUtils;
 
-import javax.swing.*;
+import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 public class ListenerConfigView extends AnchorPane implements Displayable {
 
     public static final int ZERO_RECEIVED_MSGS = 0;
-    public static final String TOTAL_RECEIVED_PREFIX = "Total received msgs: %s";
+    public static final String TOTAL_RECEIVED_PREFIX = "Total received msgs: %s (%s bytes)";
+    public static final String STORED_ON_DISK_SUFFIX = ", stored on disk: %s msgs";
+    public static final String FILTERED_OUT_SUFFIX = ", filtered out: %s msgs";
+    public static final String DISPLAYED_SUFFIX = ", displayed: %s msgs";
+    public static final String EXPORTED_SUFFIX = ", exported: %s msgs";
     private static final String FXML_FILE = "ListenerConfigView.fxml";
+    private static final int SAVE_PROGRESS_CHECK_INTERVAL = 10_000;
+    private static final long SAVE_PROGRESS_REPORT_INTERVAL_MS = 2000;
     private final DisplayBehaviour displayBehaviour;
     private final TopicConfigComboBoxConfigurator comboBoxConfigurator;
 
@@ -75,24 +120,138 @@ public class ListenerConfigView extends AnchorPane implements Displayable {
     @FXML
     private ComboBox<KafkaOffsetResetType> offsetResetComboBox;
     @FXML
+    private ComboBox<KafkaOffsetCommitStrategy> offsetCommitStrategyComboBox;
+    @FXML
+    private TextField commitIntervalTextField;
+    @FXML
     private ToggleButton detachPaneButton;
     @FXML
     private TextField receiveMsgLimitTextField;
     @FXML
     private CheckBox receiveMsgLimitCheckBox;
     @FXML
+    private CheckBox recordStoreCheckBox;
+    @FXML
+    private TextField recordStoreDiskBudgetTextField;
+    @FXML
+    private CheckBox latencyProbeCheckBox;
+    @FXML
     private Label assignedPartitionsLabel;
     @FXML
     private Label receivedTotalMsgLabel;
     @FXML
-    private TitledPane outputTitlePane;
+    private TabPane listenerTabPane;
+    @FXML
+    private Tab outputTab;
+    @FXML
+    private Tab benchmarkTab;
+    @FXML
+    private TextField maxPollRecordsTextField;
+    @FXML
+    private TextField maxPartitionFetchBytesTextField;
+    @FXML
+    private TextField fetchMinBytesTextField;
+    @FXML
+    private TextField fetchMaxWaitMsTextField;
+    @FXML
+    private TextField receiveBufferBytesTextField;
+    @FXML
+    private MenuButton loadConsumerProfileMenuButton;
+    @FXML
+    private CheckBox benchmarkModeCheckBox;
+    @FXML
+    private TextField benchmarkTimeLimitTextField;
+    @FXML
+    private TextField consumersCountTextField;
+    @FXML
+    private CheckBox assignModeCheckBox;
+    @FXML
+    private TextField assignPartitionsTextField;
+    @FXML
+    private ComboBox<ListenerStartPosition> startPositionComboBox;
+    @FXML
+    private TextField startPositionValueTextField;
+    @FXML
+    private Label benchmarkSummaryLabel;
+    @FXML
+    private TableView<ConsumerBenchmarkResult.PartitionProgress> benchmarkPartitionsTableView;
+    @FXML
+    private TableColumn<ConsumerBenchmarkResult.PartitionProgress, String> benchmarkPartitionColumn;
+    @FXML
+    private TableColumn<ConsumerBenchmarkResult.PartitionProgress, String> benchmarkStartOffsetColumn;
+    @FXML
+    private TableColumn<ConsumerBenchmarkResult.PartitionProgress, String> benchmarkEndOffsetColumn;
+    @FXML
+    private TableColumn<ConsumerBenchmarkResult.PartitionProgress, String> benchmarkPositionColumn;
+    @FXML
+    private TableColumn<ConsumerBenchmarkResult.PartitionProgress, String> benchmarkConsumedColumn;
+    @FXML
+    private TableColumn<ConsumerBenchmarkResult.PartitionProgress, Double> benchmarkProgressColumn;
+    @FXML
+    private TableView<ListenerMemberInfo> membersTableView;
+    @FXML
+    private TableColumn<ListenerMemberInfo, String> memberNameColumn;
+    @FXML
+    private TableColumn<ListenerMemberInfo, String> memberPartitionsColumn;
+    @FXML
+    private TableColumn<ListenerMemberInfo, String> memberRecordsColumn;
+    @FXML
+    private TableColumn<ListenerMemberInfo, String> memberRecordsPerSecondColumn;
+    @FXML
+    private TableColumn<ListenerMemberInfo, String> memberMegabytesPerSecondColumn;
+    @FXML
+    private CheckBox filterEnabledCheckBox;
+    @FXML
+    private ComboBox<ScanMatchType> filterMatchTypeComboBox;
+    @FXML
+    private ComboBox<ScanTarget> filterTargetComboBox;
+    @FXML
+    private TextField filterPatternTextField;
+    @FXML
+    private TextField filterPartitionsTextField;
+    @FXML
+    private TextField filterMinOffsetTextField;
+    @FXML
+    private TextField filterMaxOffsetTextField;
+    @FXML
+    private TextField filterFromTimestampTextField;
+    @FXML
+    private TextField filterToTimestampTextField;
+    @FXML
+    private TextArea filterGroovyPredicateTextArea;
+    @FXML
+    private ComboBox<ListenerSamplingMode> samplingModeComboBox;
+    @FXML
+    private TextField samplingValueTextField;
+    @FXML
+    private TextField samplingWindowTextField;
+    @FXML
+    private CheckBox exportEnabledCheckBox;
+    @FXML
+    private TextField exportDirectoryTextField;
+    @FXML
+    private Button exportDirectoryButton;
+    @FXML
+    private ComboBox<ExportFormat> exportFormatComboBox;
+    @FXML
+    private CheckBox exportGzipCheckBox;
+    @FXML
+    private TextField exportRollSizeTextField;
+    @FXML
+    private TextField exportRollIntervalTextField;
     private KafkaListenerConfig config;
     private Listeners activeConsumers;
     private Runnable refreshCallback;
     private ObservableList<KafkaTopicConfig> topicConfigs;
     private ToFileSaver toFileSaver;
     private FixedNumberRecordsCountLogger fixedRecordsLogger;
-    private int totalReceivedMsgCounter = ZERO_RECEIVED_MSGS;
+    private volatile long totalReceivedMsgCounter = ZERO_RECEIVED_MSGS;
+    private volatile long totalReceivedBytesCounter = ZERO_RECEIVED_MSGS;
+    private volatile long totalFilteredOutMsgCounter = ZERO_RECEIVED_MSGS;
+    private volatile long totalDisplayedMsgCounter = ZERO_RECEIVED_MSGS;
+    private LatencyProbeReportWindow latencyProbeReportWindow;
+    private final ReceivedRecordsSink recordsSink = this::recordsReceived;
+    private Listener boundListener;
 
 
     public ListenerConfigView(KafkaListenerConfig config,
@@ -126,11 +285,22 @@ public class ListenerConfigView extends AnchorPane implements Displayable {
                                                           guiInformer);
         configureTopicConfigComboBox();
         configureOffsetResetComboBox();
+        configureOffsetCommitControls();
         configureMessageNameTextField();
         configureConsumerGroupField();
         configureFetchTimeoutField();
         configureReceiveMsgLimitControls();
+        configureRecordStoreControls();
+        configureLatencyProbeCheckBox();
+        configureConsumerOptions();
+        configureAssignModeControls();
+        configureFilterControls();
+        configureSamplingControls();
+        configureExportControls();
+        configureBenchmarkTable();
+        configureMembersTable();
         setKafkaListenerBinding();
+        configureDisposeOnConfigRemoval();
 
         configureGuiControlDisableStateBasedOnStartButtonState();
         GuiUtils.configureComboBoxToClearSelectedValueIfItsPreviousValueWasRemoved(topicConfigComboBox);
@@ -183,8 +353,8 @@ public class ListenerConfigView extends AnchorPane implements Displayable {
     }
 
     private void configureFixedRecordLogger() {
-        final SwingTextAreaWrapper logTextArea = new SwingTextAreaWrapper(new JTextArea());
-        outputTitlePane.setContent(logTextArea.asNode());
+        final VirtualizedTextAreaWrapper logTextArea = new VirtualizedTextAreaWrapper();
+        outputTab.setContent(logTextArea.asNode());
         fixedRecordsLogger.setLogTextArea(logTextArea);
         //fixedRecordsLogger.setLogTextArea(new FxTextAreaWrapper(outputTextArea));
         fixedRecordsLogger.start();
@@ -195,8 +365,43 @@ public class ListenerConfigView extends AnchorPane implements Displayable {
     }
 
     private void configureToFileSaver() {
-        toFileSaver.setContentSupplier(() -> fixedRecordsLogger.getText());
-        fixedRecordsLogger.setSaveToFilePopupAction(toFileSaver::saveContentToFile);
+        fixedRecordsLogger.setSaveToFilePopupAction(this::saveReceivedRecordsToFile);
+    }
+
+    private void saveReceivedRecordsToFile() {
+        final Optional<MappedRecordStore> recordStore = getActiveListenersForConfig().flatMap(Listener::getRecordStore);
+        if (!recordStore.isPresent() || recordStore.get().getRecordsCount() == 0) {
+            final String displayedText = fixedRecordsLogger.getText();
+            toFileSaver.saveContentToFile(writer -> writer.write(displayedText));
+            return;
+        }
+        // store can hold millions of records, they are written on a background thread
+        toFileSaver.saveContentToFileInBackground(writer -> writeStoredRecords(recordStore.get(), writer));
+    }
+
+    private static void writeStoredRecords(MappedRecordStore store, Writer writer) throws IOException {
+        final long totalCount = store.getRecordsCount();
+        final AtomicLong writtenCount = new AtomicLong(0);
+        final AtomicLong lastReportTimeMs = new AtomicLong(System.currentTimeMillis());
+        Logger.info(String.format("Saving %d stored records to file", totalCount));
+        try {
+            store.forEach(record -> {
+                try {
+                    writer.write(ConsumerRecordFormatter.format(record));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                final long now = System.currentTimeMillis();
+                if (writtenCount.incrementAndGet() % SAVE_PROGRESS_CHECK_INTERVAL == 0
+                    && now - lastReportTimeMs.get() >= SAVE_PROGRESS_REPORT_INTERVAL_MS) {
+                    lastReportTimeMs.set(now);
+                    Logger.info(String.format("Saved %d/%d stored records", writtenCount.get(), totalCount));
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        Logger.info(String.format("Saved %d stored records", writtenCount.get()));
     }
 
     private void addAdditionalOptionsToTextAreaPopupMenu() {
@@ -225,12 +430,300 @@ public class ListenerConfigView extends AnchorPane implements Displayable {
 
     }
 
+    private void configureRecordStoreControls() {
+        recordStoreCheckBox.setSelected(config.getRecordStoreEnabled());
+        recordStoreCheckBox.selectedProperty().bindBidirectional(config.recordStoreEnabledProperty());
+        recordStoreCheckBox.setTooltip(TooltipCreator.createFrom("Keep all received records in memory mapped files, " +
+                                                                     "so they can be saved to file even after " +
+                                                                     "they were dropped from the output"));
+        recordStoreDiskBudgetTextField.setTooltip(TooltipCreator.createFrom("Disk budget (MB). " +
+                                                                                "Oldest records are removed when exceeded"));
+        recordStoreDiskBudgetTextField.setText(config.getRecordStoreDiskBudgetMb());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(recordStoreDiskBudgetTextField,
+                                                         config::setRecordStoreDiskBudgetMb,
+                                                         ValidatorUtils::isValidGraterThanZeroInteger);
+    }
+
+    private void configureLatencyProbeCheckBox() {
+        latencyProbeCheckBox.setSelected(config.getLatencyProbeEnabled());
+        latencyProbeCheckBox.selectedProperty().bindBidirectional(config.latencyProbeEnabledProperty());
+        latencyProbeCheckBox.setTooltip(TooltipCreator.createFrom("Match messages sent with latency probe enabled " +
+                                                                      "and report their end-to-end latency and lost " +
+                                                                      "or duplicated sequence numbers"));
+    }
+
+    private void configureConsumerOptions() {
+        final KafkaConsumerProfile profile = config.getConsumerProfile();
+        configureConsumerProfileTextField(maxPollRecordsTextField,
+                                          profile.maxPollRecordsProperty(),
+                                          ValidatorUtils::isValidGraterThanZeroInteger);
+        configureConsumerProfileTextField(fetchMinBytesTextField,
+                                          profile.fetchMinBytesProperty(),
+                                          ValidatorUtils::isValidGraterThanZeroInteger);
+        configureConsumerProfileTextField(fetchMaxWaitMsTextField,
+                                          profile.fetchMaxWaitMsProperty(),
+                                          ValidatorUtils::isValidNonNegativeInteger);
+        configureConsumerProfileTextField(maxPartitionFetchBytesTextField,
+                                          profile.maxPartitionFetchBytesProperty(),
+                                          ValidatorUtils::isValidGraterThanZeroInteger);
+        configureConsumerProfileTextField(receiveBufferBytesTextField,
+                                          profile.receiveBufferBytesProperty(),
+                                          ValidatorUtils::isValidGraterThanZeroInteger);
+        fetchMinBytesTextField.setTooltip(TooltipCreator.createFrom("Broker waits for at least this much data " +
+                                                                        "(or for fetch max wait) before answering a fetch"));
+        for (ConsumerProfilePreset preset : ConsumerProfilePreset.values()) {
+            final MenuItem item = new MenuItem(preset.toString());
+            item.setOnAction(event -> preset.applyTo(config.getConsumerProfile()));
+            loadConsumerProfileMenuButton.getItems().add(item);
+        }
+
+        benchmarkModeCheckBox.setSelected(config.getBenchmarkModeEnabled());
+        benchmarkModeCheckBox.selectedProperty().bindBidirectional(config.benchmarkModeEnabledProperty());
+        benchmarkModeCheckBox.setTooltip(TooltipCreator.createFrom("Only count received records, without displaying " +
+                                                                       "them or committing offsets, until end offsets " +
+                                                                       "of assigned partitions or time limit is reached"));
+        benchmarkTimeLimitTextField.setText(config.getBenchmarkTimeLimitSec());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(benchmarkTimeLimitTextField,
+                                                         config::setBenchmarkTimeLimitSec,
+                                                         ValidatorUtils::isValidGraterThanZeroInteger);
+
+        consumersCountTextField.setTooltip(TooltipCreator.createFrom("Number of consumers started in the same " +
+                                                                         "consumer group, each on its own thread. " +
+                                                                         "Their records are shown together"));
+        consumersCountTextField.setText(config.getConsumersCount());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(consumersCountTextField,
+                                                         config::setConsumersCount,
+                                                         ValidatorUtils::isValidGraterThanZeroInteger);
+    }
+
+    private void configureAssignModeControls() {
+        assignModeCheckBox.setSelected(config.getAssignModeEnabled());
+        assignModeCheckBox.selectedProperty().bindBidirectional(config.assignModeEnabledProperty());
+        assignModeCheckBox.setTooltip(TooltipCreator.createFrom("Read selected partitions without joining any " +
+                                                                    "consumer group, offsets are not committed"));
+        assignPartitionsTextField.setTooltip(TooltipCreator.createFrom("Comma separated partitions or ranges, " +
+                                                                           "e.g. 0,3,5-7"));
+        assignPartitionsTextField.setText(config.getAssignPartitions());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(assignPartitionsTextField,
+                                                         config::setAssignPartitions,
+                                                         ValidatorUtils::isValidPartitionsList);
+
+        startPositionComboBox.setItems(FXCollections.observableArrayList(Arrays.asList(ListenerStartPosition.values())));
+        startPositionComboBox.valueProperty().bindBidirectional(config.startPositionProperty());
+        startPositionValueTextField.setTooltip(TooltipCreator.createFrom("OFFSET: offset to start from, " +
+                                                                             "END_MINUS_N: number of last records, " +
+                                                                             "TIMESTAMP: epoch millis or " +
+                                                                             "'yyyy-MM-dd HH:mm:ss[.SSS]'"));
+        startPositionValueTextField.setText(config.getStartPositionValue());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(startPositionValueTextField,
+                                                         config::setStartPositionValue,
+                                                         value -> ValidatorUtils.isValidStartPositionValue(
+                                                             config.getStartPosition(), value));
+        // value valid for previous position could be invalid for the new one
+        config.startPositionProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue != null &&
+                !ValidatorUtils.isValidStartPositionValue(newValue, startPositionValueTextField.getText())) {
+                startPositionValueTextField.setText(ApplicationConstants.DEFAULT_LISTENER_START_POSITION_VALUE);
+            }
+        });
+    }
+
+    private void configureFilterControls() {
+        filterEnabledCheckBox.setSelected(config.getFilterEnabled());
+        filterEnabledCheckBox.selectedProperty().bindBidirectional(config.filterEnabledProperty());
+        filterEnabledCheckBox.setTooltip(TooltipCreator.createFrom("Only records meeting all conditions below are " +
+                                                                       "displayed, other records are only counted"));
+        filterMatchTypeComboBox.setItems(FXCollections.observableArrayList(Arrays.asList(ScanMatchType.values())));
+        filterMatchTypeComboBox.valueProperty().bindBidirectional(config.filterMatchTypeProperty());
+        filterTargetComboBox.setItems(FXCollections.observableArrayList(Arrays.asList(ScanTarget.values())));
+        filterTargetComboBox.valueProperty().bindBidirectional(config.filterTargetProperty());
+        filterPatternTextField.setTooltip(TooltipCreator.createFrom("SUBSTRING: text to find, REGEX: regular expression, " +
+                                                                        "JSON_PATH: e.g. $.order.items[0].sku=123"));
+        filterPatternTextField.setText(config.getFilterPattern());
+        config.filterPatternProperty().bind(filterPatternTextField.textProperty());
+
+        filterPartitionsTextField.setTooltip(TooltipCreator.createFrom("Comma separated partitions or ranges, " +
+                                                                           "e.g. 0,3,5-7"));
+        filterPartitionsTextField.setText(config.getFilterPartitions());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(filterPartitionsTextField,
+                                                         config::setFilterPartitions,
+                                                         ValidatorUtils::isValidPartitionsList);
+        filterMinOffsetTextField.setText(config.getFilterMinOffset());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(filterMinOffsetTextField,
+                                                         config::setFilterMinOffset,
+                                                         ValidatorUtils::isValidOptionalOffset);
+        filterMaxOffsetTextField.setText(config.getFilterMaxOffset());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(filterMaxOffsetTextField,
+                                                         config::setFilterMaxOffset,
+                                                         ValidatorUtils::isValidOptionalOffset);
+        final String timestampTooltip = "Epoch millis or 'yyyy-MM-dd HH:mm:ss[.SSS]', empty = unbounded";
+        filterFromTimestampTextField.setTooltip(TooltipCreator.createFrom(timestampTooltip));
+        filterFromTimestampTextField.setText(config.getFilterFromTimestamp());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(filterFromTimestampTextField,
+                                                         config::setFilterFromTimestamp,
+                                                         ValidatorUtils::isValidOptionalTimestamp);
+        filterToTimestampTextField.setTooltip(TooltipCreator.createFrom(timestampTooltip));
+        filterToTimestampTextField.setText(config.getFilterToTimestamp());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(filterToTimestampTextField,
+                                                         config::setFilterToTimestamp,
+                                                         ValidatorUtils::isValidOptionalTimestamp);
+        filterGroovyPredicateTextArea.setTooltip(TooltipCreator.createFrom("Groovy expression evaluated for every " +
+                                                                               "record, variables: record, key, value, " +
+                                                                               "partition, offset, timestamp"));
+        filterGroovyPredicateTextArea.setText(config.getFilterGroovyPredicate());
+        config.filterGroovyPredicateProperty().bind(filterGroovyPredicateTextArea.textProperty());
+    }
+
+    private void configureSamplingControls() {
+        samplingModeComboBox.setItems(FXCollections.observableArrayList(Arrays.asList(ListenerSamplingMode.values())));
+        samplingModeComboBox.valueProperty().bindBidirectional(config.samplingModeProperty());
+        samplingModeComboBox.setTooltip(TooltipCreator.createFrom("Display only a sample of received records, " +
+                                                                      "all of them are still counted"));
+        samplingValueTextField.setTooltip(TooltipCreator.createFrom("EVERY_NTH: n, PER_SECOND: records per second, " +
+                                                                        "RESERVOIR: records per window"));
+        samplingValueTextField.setText(config.getSamplingValue());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(samplingValueTextField,
+                                                         config::setSamplingValue,
+                                                         ValidatorUtils::isValidGraterThanZeroInteger);
+        samplingWindowTextField.setTooltip(TooltipCreator.createFrom("Reservoir sample is displayed when " +
+                                                                         "its window closes"));
+        samplingWindowTextField.setText(config.getSamplingWindowMs());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(samplingWindowTextField,
+                                                         config::setSamplingWindowMs,
+                                                         ValidatorUtils::isValidGraterThanZeroInteger);
+    }
+
+    private void configureExportControls() {
+        exportEnabledCheckBox.setSelected(config.getExportEnabled());
+        exportEnabledCheckBox.selectedProperty().bindBidirectional(config.exportEnabledProperty());
+        exportEnabledCheckBox.setTooltip(TooltipCreator.createFrom("Every record accepted by the filter (also the ones " +
+                                                                       "not displayed due to sampling) is written " +
+                                                                       "to rolling files"));
+        exportDirectoryTextField.setText(config.getExportDirectory());
+        config.exportDirectoryProperty().bind(exportDirectoryTextField.textProperty());
+        exportFormatComboBox.setItems(FXCollections.observableArrayList(Arrays.asList(ExportFormat.values())));
+        exportFormatComboBox.valueProperty().bindBidirectional(config.exportFormatProperty());
+        exportGzipCheckBox.setSelected(config.getExportGzipEnabled());
+        exportGzipCheckBox.selectedProperty().bindBidirectional(config.exportGzipEnabledProperty());
+        exportRollSizeTextField.setTooltip(TooltipCreator.createFrom("New file is started when current one reaches " +
+                                                                         "this size (compressed size for gzip)"));
+        exportRollSizeTextField.setText(config.getExportRollSizeMb());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(exportRollSizeTextField,
+                                                         config::setExportRollSizeMb,
+                                                         ValidatorUtils::isValidNonNegativeInteger);
+        exportRollIntervalTextField.setText(config.getExportRollIntervalSec());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(exportRollIntervalTextField,
+                                                         config::setExportRollIntervalSec,
+                                                         ValidatorUtils::isValidNonNegativeInteger);
+    }
+
+    private static void configureConsumerProfileTextField(TextField textField,
+                                                          StringProperty property,
+                                                          Function<String, Boolean> validator) {
+        textField.setText(property.get());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(textField, property::set, validator);
+        // profile can be replaced by a preset
+        property.addListener((observable, oldValue, newValue) -> {
+            if (!Objects.equals(newValue, textField.getText().trim())) {
+                textField.setText(StringUtils.defaultString(newValue));
+            }
+        });
+    }
+
+    private void configureBenchmarkTable() {
+        benchmarkPartitionColumn.setCellValueFactory(param -> new SimpleStringProperty(
+            String.valueOf(param.getValue().getPartition())));
+        benchmarkStartOffsetColumn.setCellValueFactory(param -> new SimpleStringProperty(
+            offsetToString(param.getValue().getStartOffset())));
+        benchmarkEndOffsetColumn.setCellValueFactory(param -> new SimpleStringProperty(
+            offsetToString(param.getValue().getEndOffset())));
+        benchmarkPositionColumn.setCellValueFactory(param -> new SimpleStringProperty(
+            offsetToString(param.getValue().getPosition())));
+        benchmarkConsumedColumn.setCellValueFactory(param -> new SimpleStringProperty(
+            String.valueOf(param.getValue().getConsumedCount())));
+        benchmarkProgressColumn.setCellValueFactory(param -> new SimpleObjectProperty<>(
+            param.getValue().getProgressPercent() / 100));
+        benchmarkProgressColumn.setCellFactory(ProgressBarTableCell.forTableColumn());
+    }
+
+    private void configureMembersTable() {
+        memberNameColumn.setCellValueFactory(param -> new SimpleStringProperty(param.getValue().getMemberName()));
+        memberPartitionsColumn.setCellValueFactory(param -> new SimpleStringProperty(
+            param.getValue().getPartitions().toString()));
+        memberRecordsColumn.setCellValueFactory(param -> new SimpleStringProperty(
+            String.valueOf(param.getValue().getRecordsCount())));
+        memberRecordsPerSecondColumn.setCellValueFactory(param -> new SimpleStringProperty(
+            String.format(Locale.ENGLISH, "%.0f", param.getValue().getRecordsPerSecond())));
+        memberMegabytesPerSecondColumn.setCellValueFactory(param -> new SimpleStringProperty(
+            String.format(Locale.ENGLISH, "%.2f", param.getValue().getBytesPerSecond() / (1024 * 1024))));
+    }
+
+    private void showMembers(List<ListenerMemberInfo> members) {
+        membersTableView.setItems(FXCollections.observableArrayList(members));
+    }
+
+    private static String offsetToString(long offset) {
+        return offset < 0 ? "?" : String.valueOf(offset);
+    }
+
+    private void showBenchmarkResult(ConsumerBenchmarkResult result) {
+        if (result == null) {
+            return;
+        }
+        benchmarkSummaryLabel.setText(result.toSummary());
+        benchmarkPartitionsTableView.setItems(FXCollections.observableArrayList(result.getPartitionsProgress()));
+    }
+
     private void configureGuiControlDisableStateBasedOnStartButtonState() {
         final BooleanBinding disabledProperty = stopButton.disableProperty().not();
-        consumerGroupTextField.disableProperty().bind(disabledProperty);
+        consumerGroupTextField.disableProperty().bind(disabledProperty.or(assignModeCheckBox.selectedProperty()));
         fetchTimeoutTextField.disableProperty().bind(disabledProperty);
         topicConfigComboBox.disableProperty().bind(disabledProperty);
         offsetResetComboBox.disableProperty().bind(disabledProperty);
+        offsetCommitStrategyComboBox.disableProperty().bind(disabledProperty.or(assignModeCheckBox.selectedProperty()));
+        commitIntervalTextField.disableProperty().bind(disabledProperty.or(isCommitIntervalNotApplicable())
+                                                           .or(assignModeCheckBox.selectedProperty()));
+        recordStoreCheckBox.disableProperty().bind(disabledProperty);
+        latencyProbeCheckBox.disableProperty().bind(disabledProperty);
+        maxPollRecordsTextField.disableProperty().bind(disabledProperty);
+        maxPartitionFetchBytesTextField.disableProperty().bind(disabledProperty);
+        fetchMinBytesTextField.disableProperty().bind(disabledProperty);
+        fetchMaxWaitMsTextField.disableProperty().bind(disabledProperty);
+        receiveBufferBytesTextField.disableProperty().bind(disabledProperty);
+        loadConsumerProfileMenuButton.disableProperty().bind(disabledProperty);
+        benchmarkModeCheckBox.disableProperty().bind(disabledProperty);
+        benchmarkTimeLimitTextField.disableProperty().bind(disabledProperty);
+        consumersCountTextField.disableProperty().bind(disabledProperty);
+        assignModeCheckBox.disableProperty().bind(disabledProperty);
+        final BooleanBinding assignModeControlsDisabled = disabledProperty.or(assignModeCheckBox.selectedProperty().not());
+        assignPartitionsTextField.disableProperty().bind(assignModeControlsDisabled);
+        startPositionComboBox.disableProperty().bind(assignModeControlsDisabled);
+        startPositionValueTextField.disableProperty().bind(assignModeControlsDisabled);
+        recordStoreDiskBudgetTextField.disableProperty().bind(disabledProperty.or(recordStoreCheckBox.selectedProperty().not()));
+        filterEnabledCheckBox.disableProperty().bind(disabledProperty);
+        final BooleanBinding filterControlsDisabled = disabledProperty.or(filterEnabledCheckBox.selectedProperty().not());
+        filterMatchTypeComboBox.disableProperty().bind(filterControlsDisabled);
+        filterTargetComboBox.disableProperty().bind(filterControlsDisabled);
+        filterPatternTextField.disableProperty().bind(filterControlsDisabled);
+        filterPartitionsTextField.disableProperty().bind(filterControlsDisabled);
+        filterMinOffsetTextField.disableProperty().bind(filterControlsDisabled);
+        filterMaxOffsetTextField.disableProperty().bind(filterControlsDisabled);
+        filterFromTimestampTextField.disableProperty().bind(filterControlsDisabled);
+        filterToTimestampTextField.disableProperty().bind(filterControlsDisabled);
+        filterGroovyPredicateTextArea.disableProperty().bind(filterControlsDisabled);
+        samplingModeComboBox.disableProperty().bind(disabledProperty);
+        samplingValueTextField.disableProperty().bind(disabledProperty.or(
+            samplingModeComboBox.valueProperty().isEqualTo(ListenerSamplingMode.NONE)));
+        samplingWindowTextField.disableProperty().bind(disabledProperty.or(
+            samplingModeComboBox.valueProperty().isNotEqualTo(ListenerSamplingMode.RESERVOIR)));
+        exportEnabledCheckBox.disableProperty().bind(disabledProperty);
+        final BooleanBinding exportControlsDisabled = disabledProperty.or(exportEnabledCheckBox.selectedProperty().not());
+        exportDirectoryTextField.disableProperty().bind(exportControlsDisabled);
+        exportDirectoryButton.disableProperty().bind(exportControlsDisabled);
+        exportFormatComboBox.disableProperty().bind(exportControlsDisabled);
+        exportGzipCheckBox.disableProperty().bind(exportControlsDisabled);
+        exportRollSizeTextField.disableProperty().bind(exportControlsDisabled);
+        exportRollIntervalTextField.disableProperty().bind(exportControlsDisabled);
         listenerNameTextField.disableProperty().bind(disabledProperty);
     }
 
@@ -250,13 +743,41 @@ public class ListenerConfigView extends AnchorPane implements Displayable {
 
     private void setKafkaListenerBinding() {
         getActiveListenersForConfig().ifPresent(listener -> {
-            listener.loggedTextProperty().addListener((observableValue, s, t1) -> appendTextScrolledToBottom(t1));
+            unbindRecordsSink();
+            boundListener = listener;
+            listener.addRecordsSink(recordsSink);
             listener.assignedPartitionsProperty().addListener(this::partitionsAssignmentChanged);
+            listener.benchmarkResultProperty().addListener((observable, oldValue, newValue) -> Platform.runLater(
+                () -> showBenchmarkResult(newValue)));
+            listener.membersProperty().addListener((observable, oldValue, newValue) -> Platform.runLater(
+                () -> showMembers(newValue)));
             startButton.disableProperty().bind(listener.isRunningProperty());
             stopButton.disableProperty().bind(listener.isRunningProperty().not());
         });
     }
 
+    private void configureDisposeOnConfigRemoval() {
+        guiInformer.lastRemovedObjectProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue == config) {
+                dispose();
+            }
+        });
+    }
+
+    /**
+     * Detaches this view from its listener, so the listener does not keep feeding (and referencing) a removed view.
+     */
+    public void dispose() {
+        unbindRecordsSink();
+    }
+
+    private void unbindRecordsSink() {
+        if (boundListener != null) {
+            boundListener.removeRecordsSink(recordsSink);
+            boundListener = null;
+        }
+    }
+
     private void partitionsAssignmentChanged(ObservableValue<? extends AssignedPartitionsInfo> observable,
                                              AssignedPartitionsInfo oldValue,
                                              AssignedPartitionsInfo newValue) {
@@ -265,27 +786,42 @@ public class ListenerConfigView extends AnchorPane implements Displayable {
     }
 
 
-    private void appendTextScrolledToBottom(String textToAppend) {
-        appendLogToTextArea(textToAppend);
-        incrementReceivedMsgCount();
-    }
-
-
-    private void appendLogToTextArea(String textToAppend) {
-        fixedRecordsLogger.appendText(textToAppend);
-    }
-
-    private void incrementReceivedMsgCount() {
-        totalReceivedMsgCounter++;
+    private void recordsReceived(ReceivedRecordsChunk chunk) {
+        fixedRecordsLogger.appendTexts(ConsumerRecordFormatter.format(chunk));
+        totalReceivedMsgCounter += chunk.getConsumedCount();
+        totalReceivedBytesCounter += chunk.getConsumedBytesCount();
+        totalFilteredOutMsgCounter += chunk.getFilteredOutCount();
+        totalDisplayedMsgCounter += chunk.getRecordsCount();
         updateReceivedMsgLabel();
     }
 
     private void updateReceivedMsgLabel() {
+        final String storedOnDisk = getStoredOnDiskText();
+        final String exported = getExportedText();
+        final String filteredOut = totalFilteredOutMsgCounter == ZERO_RECEIVED_MSGS
+                                   ? ""
+                                   : String.format(FILTERED_OUT_SUFFIX, totalFilteredOutMsgCounter);
+        final String displayed = totalDisplayedMsgCounter == totalReceivedMsgCounter - totalFilteredOutMsgCounter
+                                 ? ""
+                                 : String.format(DISPLAYED_SUFFIX, totalDisplayedMsgCounter);
         Platform.runLater(() -> {
-            receivedTotalMsgLabel.setText(String.format(TOTAL_RECEIVED_PREFIX, totalReceivedMsgCounter));
+            receivedTotalMsgLabel.setText(String.format(TOTAL_RECEIVED_PREFIX,
+                                                        totalReceivedMsgCounter,
+                                                        totalReceivedBytesCounter) + filteredOut + displayed
+                                             + storedOnDisk + exported);
         });
     }
 
+    private String getStoredOnDiskText() {
+        if (activeConsumers == null) {
+            return "";
+        }
+        return getActiveListenersForConfig()
+            .flatMap(Listener::getRecordStore)
+            .map(store -> String.format(STORED_ON_DISK_SUFFIX, store.getRecordsCount()))
+            .orElse("");
+    }
+
     private void configureMessageNameTextField() {
         listenerNameTextField.setText(config.getName());
         listenerNameTextField.textProperty().addListener((observableValue, s, newValue) -> {
@@ -309,6 +845,32 @@ public class ListenerConfigView extends AnchorPane implements Displayable {
         offsetResetComboBox.valueProperty().bindBidirectional(config.offsetResetConfigProperty());
     }
 
+    private void configureOffsetCommitControls() {
+        offsetCommitStrategyComboBox.setItems(FXCollections.observableArrayList(Arrays.asList(KafkaOffsetCommitStrategy.values())));
+        offsetCommitStrategyComboBox.valueProperty().bindBidirectional(config.offsetCommitStrategyProperty());
+        commitIntervalTextField.setTooltip(TooltipCreator.createFrom("Commit interval: milliseconds for TIME_INTERVAL, " +
+                                                                         "number of records for COUNT_INTERVAL"));
+        commitIntervalTextField.setText(config.getCommitInterval());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(commitIntervalTextField,
+                                                         config::setCommitInterval,
+                                                         ValidatorUtils::isValidGraterThanZeroInteger);
+    }
+
+    private BooleanBinding isCommitIntervalNotApplicable() {
+        return config.offsetCommitStrategyProperty().isNotEqualTo(KafkaOffsetCommitStrategy.TIME_INTERVAL)
+            .and(config.offsetCommitStrategyProperty().isNotEqualTo(KafkaOffsetCommitStrategy.COUNT_INTERVAL));
+    }
+
+    private String getExportedText() {
+        if (activeConsumers == null) {
+            return "";
+        }
+        return getActiveListenersForConfig()
+            .flatMap(Listener::getRecordsExporter)
+            .map(exporter -> String.format(EXPORTED_SUFFIX, exporter.getExportedRecordsCount()))
+            .orElse("");
+    }
+
     private void configureTopicConfigComboBox() {
         topicConfigComboBox.setItems(topicConfigs);
     }
@@ -317,12 +879,27 @@ public class ListenerConfigView extends AnchorPane implements Displayable {
     private void clearButtonOnAction() {
         getActiveListenersForConfig().ifPresent(listener -> {
             fixedRecordsLogger.clear();
+            listener.getRecordStore().ifPresent(MappedRecordStore::clear);
             if (!startButton.isDisable()) {
                 resetTotalReceivedLabeltext();
             }
         });
     }
 
+    @FXML
+    private void exportDirectoryButtonOnAction() {
+        final DirectoryChooser directoryChooser = new DirectoryChooser();
+        directoryChooser.setTitle("Select directory for exported records");
+        final File currentDirectory = new File(exportDirectoryTextField.getText().trim());
+        if (currentDirectory.isDirectory()) {
+            directoryChooser.setInitialDirectory(currentDirectory);
+        }
+        final File directory = directoryChooser.showDialog(getScene().getWindow());
+        if (directory != null) {
+            exportDirectoryTextField.setText(directory.getAbsolutePath());
+        }
+    }
+
     @FXML
     private void stopButtonOnAction() {
         getActiveListenersForConfig().ifPresent(Listener::stop);
@@ -331,15 +908,79 @@ public class ListenerConfigView extends AnchorPane implements Displayable {
 
     @FXML
     private void startButtonOnAction() {
+        if (config.getBenchmarkModeEnabled()) {
+            benchmarkSummaryLabel.setText("Benchmark started");
+            benchmarkPartitionsTableView.getItems().clear();
+            listenerTabPane.getSelectionModel().select(benchmarkTab);
+        }
         getActiveListenersForConfig().ifPresent(Listener::start);
         resetTotalReceivedLabeltext();
     }
 
     private void resetTotalReceivedLabeltext() {
         totalReceivedMsgCounter = ZERO_RECEIVED_MSGS;
+        totalReceivedBytesCounter = ZERO_RECEIVED_MSGS;
+        totalFilteredOutMsgCounter = ZERO_RECEIVED_MSGS;
+        totalDisplayedMsgCounter = ZERO_RECEIVED_MSGS;
         updateReceivedMsgLabel();
     }
 
+    @FXML
+    private void showLatencyProbeReportButtonOnAction() {
+        try {
+            if (latencyProbeReportWindow == null) {
+                latencyProbeReportWindow = new LatencyProbeReportWindow(config.getName(),
+                                                                        activeConsumers.getListener(config)
+                                                                            .getLatencyProbeReceiver());
+            }
+            latencyProbeReportWindow.show();
+        } catch (IOException e) {
+            Logger.error("Could not show latency probe report", e);
+        }
+    }
+
+    @FXML
+    private void jumpToTimestampButtonOnAction() {
+        final KafkaTopicConfig topicConfig = config.getRelatedConfig();
+        if (topicConfig == null || topicConfig.getRelatedConfig() == null) {
+            Logger.warn("Select topic config to jump to timestamp");
+            return;
+        }
+        try {
+            new TimeTravelWindow(topicConfig.getTopicName(), topicConfig.getRelatedConfig().getHostInfo()).show();
+        } catch (IOException e) {
+            Logger.error("Could not show records around timestamp", e);
+        }
+    }
+
+    @FXML
+    private void findByKeyButtonOnAction() {
+        final KafkaTopicConfig topicConfig = config.getRelatedConfig();
+        if (topicConfig == null || topicConfig.getRelatedConfig() == null) {
+            Logger.warn("Select topic config to find by key");
+            return;
+        }
+        try {
+            new KeyFinderWindow(topicConfig.getTopicName(), topicConfig.getRelatedConfig().getHostInfo()).show();
+        } catch (IOException e) {
+            Logger.error("Could not show key finder", e);
+        }
+    }
+
+    @FXML
+    private void scanTopicButtonOnAction() {
+        final KafkaTopicConfig topicConfig = config.getRelatedConfig();
+        if (topicConfig == null || topicConfig.getRelatedConfig() == null) {
+            Logger.warn("Select topic config to scan topic");
+            return;
+        }
+        try {
+            new TopicScanWindow(topicConfig.getTopicName(), topicConfig.getRelatedConfig().getHostInfo()).show();
+        } catch (IOException e) {
+            Logger.error("Could not show topic scan", e);
+        }
+    }
+
     @FXML
     private void detachButtonOnAction() {
     }
@@ -1,6 +1,7 @@
 package application.customfxwidgets.listenerconfig;
 
 import application.utils.UserInteractor;
+import javafx.application.Platform;
 import javafx.stage.FileChooser;
 
 import java.io.BufferedWriter;
@@ -9,11 +10,13 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 public class ToFileSaver {
 
     public static final String CHARSET_UTF8 = "UTF-8";
+    private static final String SAVING_THREAD_NAME = "KMT-Thread-SaveToFile";
     private Supplier<String> textSupplier;
     private UserInteractor interactor;
 
@@ -27,28 +30,56 @@ public class ToFileSaver {
     }
 
     public void saveContentToFile() {
-        FileChooser fileChooser = new FileChooser();
-
-        //Set extension filter
-        FileChooser.ExtensionFilter extFilter = new FileChooser.ExtensionFilter("TXT files (*.txt)", "*.txt");
-        fileChooser.getExtensionFilters().add(extFilter);
+        saveContentToFile(writer -> writer.write(textSupplier.get()));
+    }
 
-        final File file = fileChooser.showSaveDialog(interactor.getOwnerWindow());
+    public void saveContentToFile(ContentWriter contentWriter) {
+        saveContentToFile(contentWriter, new FileChooser.ExtensionFilter("TXT files (*.txt)", "*.txt"));
+    }
 
+    public void saveContentToFile(ContentWriter contentWriter, FileChooser.ExtensionFilter extFilter) {
+        final File file = chooseFile(extFilter);
         if (file != null) {
-            saveFile(textSupplier.get(), file);
+            saveFile(contentWriter, file, Runnable::run);
+        }
+    }
+
+    /**
+     * Content is written on a separate thread, so saving large content does not block GUI,
+     * result dialog is shown on FX thread when writing is finished.
+     */
+    public void saveContentToFileInBackground(ContentWriter contentWriter) {
+        final File file = chooseFile(new FileChooser.ExtensionFilter("TXT files (*.txt)", "*.txt"));
+        if (file == null) {
+            return;
         }
+        final Thread thread = new Thread(() -> saveFile(contentWriter, file, Platform::runLater), SAVING_THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
     }
 
-    private void saveFile(String content, File file) {
+    private File chooseFile(FileChooser.ExtensionFilter extFilter) {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.getExtensionFilters().add(extFilter);
+        return fileChooser.showSaveDialog(interactor.getOwnerWindow());
+    }
+
+    private void saveFile(ContentWriter contentWriter, File file, Executor guiExecutor) {
         try (Writer fileWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), CHARSET_UTF8))) {
-            fileWriter.write(content);
-            interactor.showInfo("Saving to file...", String.format("File '%s' saved successfully",
-                                                                   file.getName()));
+            contentWriter.writeTo(fileWriter);
+            guiExecutor.execute(() -> interactor.showInfo("Saving to file...",
+                                                          String.format("File '%s' saved successfully",
+                                                                        file.getName())));
         } catch (IOException ex) {
-            interactor.showError("Saving to file...", String.format("Saving file '%s' failed",
-                                                                 file.getName()));
+            guiExecutor.execute(() -> interactor.showError("Saving to file...",
+                                                           String.format("Saving file '%s' failed",
+                                                                         file.getName())));
             ex.printStackTrace();
         }
     }
+
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(Writer writer) throws IOException;
+    }
 }
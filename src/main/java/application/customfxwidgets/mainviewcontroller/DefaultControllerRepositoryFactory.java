@@ -12,6 +12,8 @@ import application.model.modelobjects.KafkaSenderConfig;
 import application.model.modelobjects.KafkaTopicConfig;
 import application.persistence.ApplicationSettings;
 import application.root.Restartables;
+import application.scripting.ScriptExecutionPool;
+import application.scripting.ScriptTimeoutWatchdog;
 import application.scripting.codearea.SyntaxHighlightingCodeAreaConfigurator;
 import javafx.scene.control.ListView;
 import javafx.scene.control.TabPane;
@@ -22,17 +24,23 @@ public class DefaultControllerRepositoryFactory implements ControllerRepositoryF
     private KafkaClusterProxies kafkaClusterProxies;
     private ApplicationSettings applicationSettings;
     private Restartables restartables;
+    private ScriptExecutionPool scriptExecutionPool;
+    private ScriptTimeoutWatchdog scriptTimeoutWatchdog;
 
     public DefaultControllerRepositoryFactory(ClusterStatusChecker statusChecker,
                                               SyntaxHighlightingCodeAreaConfigurator syntaxHighlightingConfigurator,
                                               KafkaClusterProxies kafkaClusterProxies,
                                               ApplicationSettings applicationSettings,
-                                              Restartables restartables) {
+                                              Restartables restartables,
+                                              ScriptExecutionPool scriptExecutionPool,
+                                              ScriptTimeoutWatchdog scriptTimeoutWatchdog) {
         this.statusChecker = statusChecker;
         this.syntaxHighlightingConfigurator = syntaxHighlightingConfigurator;
         this.kafkaClusterProxies = kafkaClusterProxies;
         this.applicationSettings = applicationSettings;
         this.restartables = restartables;
+        this.scriptExecutionPool = scriptExecutionPool;
+        this.scriptTimeoutWatchdog = scriptTimeoutWatchdog;
     }
 
     @Override
@@ -52,7 +60,9 @@ public class DefaultControllerRepositoryFactory implements ControllerRepositoryF
                                              syntaxHighlightingConfigurator,
                                              kafkaClusterProxies,
                                              applicationSettings,
-                                             restartables);
+                                             restartables,
+                                             scriptExecutionPool,
+                                             scriptTimeoutWatchdog);
 
     }
 }
@@ -4,12 +4,22 @@ import application.constants.GuiStrings;
 import application.customfxwidgets.CustomFxWidgetsLoader;
 import application.customfxwidgets.Displayable;
 import application.customfxwidgets.TopicConfigComboBoxConfigurator;
+import application.customfxwidgets.benchmarkresultswindow.BenchmarkResultsWindow;
 import application.displaybehaviour.DetachableDisplayBehaviour;
 import application.displaybehaviour.DisplayBehaviour;
 import application.displaybehaviour.ModelConfigObjectsGuiInformer;
+import application.kafka.benchmark.ProducerBenchmarkResult;
 import application.kafka.cluster.KafkaClusterProxies;
 import application.kafka.cluster.KafkaClusterProxy;
+import application.kafka.sender.FileImportSender;
 import application.logging.Logger;
+import application.model.ImportFormat;
+import application.model.MessageGenerationOrder;
+import application.model.ProducerAcksType;
+import application.model.ProducerCompressionType;
+import application.model.ProducerProfilePreset;
+import application.model.SendingRateUnit;
+import application.model.modelobjects.KafkaProducerProfile;
 import application.model.modelobjects.KafkaBrokerConfig;
 import application.model.modelobjects.KafkaSenderConfig;
 import application.model.modelobjects.KafkaTopicConfig;
@@ -23,17 +33,22 @@ import application.utils.Validations;
 import application.utils.ValidatorUtils;
 import application.utils.kafka.KafkaPartitionUtils;
 import com.sun.javafx.scene.control.skin.TextFieldSkin;
+import javafx.application.Platform;
+import javafx.beans.binding.BooleanBinding;
 import javafx.beans.binding.StringExpression;
 import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.beans.property.StringProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.ContextMenu;
+import javafx.scene.control.Menu;
+import javafx.scene.control.MenuButton;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.SeparatorMenuItem;
 import javafx.scene.control.Spinner;
@@ -42,14 +57,20 @@ import javafx.scene.control.TextField;
 import javafx.scene.control.TitledPane;
 import javafx.scene.control.ToggleButton;
 import javafx.scene.layout.AnchorPane;
+import javafx.stage.FileChooser;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.controlsfx.control.StatusBar;
 import org.fxmisc.flowless.VirtualizedScrollPane;
 import org.fxmisc.richtext.StyleClassedTextArea;
 
+import java.io.File;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
 
 
 public class SenderConfigView extends AnchorPane implements Displayable {
@@ -62,6 +83,7 @@ public class SenderConfigView extends AnchorPane implements Displayable {
     private final TopicConfigComboBoxConfigurator comboBoxConfigurator;
 
     private final MessageTemplateSender msgTemplateSender;
+    private final FileImportSender fileImportSender;
     private final VirtualizedScrollPane<StyleClassedTextArea> beforeAllMessagesSharedScriptScrollPane;
     private final VirtualizedScrollPane<StyleClassedTextArea> beforeAllMessagesScriptScrollPane;
     private final VirtualizedScrollPane<StyleClassedTextArea> beforeEachMessageScriptScrollPane;
@@ -69,6 +91,7 @@ public class SenderConfigView extends AnchorPane implements Displayable {
     private final KafkaSenderConfig config;
     private final Runnable refreshCallback;
     private final ObservableList<KafkaTopicConfig> topicConfigs;
+    private final ObservableList<KafkaSenderConfig> senderConfigs;
     private final MessageSenderTaskExecutor taskExecutor;
     private final StyleClassedTextArea beforeAllmessagesSharedScriptCodeArea;
     private final StyleClassedTextArea beforeAllMessagesScriptCodeArea;
@@ -120,6 +143,60 @@ public class SenderConfigView extends AnchorPane implements Displayable {
 
     @FXML
     private StatusBar notificationBar;
+    @FXML
+    private CheckBox pipelinedSendingCheckBox;
+    @FXML
+    private TextField maxInFlightMessagesTextField;
+    @FXML
+    private TextField scriptEvaluationTimeoutTextField;
+    @FXML
+    private TextField generatorThreadsCountTextField;
+    @FXML
+    private ComboBox<MessageGenerationOrder> messageGenerationOrderComboBox;
+    @FXML
+    private CheckBox sendingRateLimitCheckBox;
+    @FXML
+    private TextField targetSendingRateTextField;
+    @FXML
+    private ComboBox<SendingRateUnit> sendingRateUnitComboBox;
+    @FXML
+    private TextField sendingRateRampUpTextField;
+    @FXML
+    private TextField sendingRateBurstTextField;
+    @FXML
+    private CheckBox benchmarkModeCheckBox;
+    @FXML
+    private CheckBox latencyProbeCheckBox;
+    @FXML
+    private MenuButton loadProducerProfileMenuButton;
+    @FXML
+    private ComboBox<ProducerAcksType> producerAcksComboBox;
+    @FXML
+    private ComboBox<ProducerCompressionType> producerCompressionTypeComboBox;
+    @FXML
+    private TextField producerBatchSizeTextField;
+    @FXML
+    private TextField producerLingerMsTextField;
+    @FXML
+    private TextField producerBufferMemoryTextField;
+    @FXML
+    private TextField producerMaxInFlightRequestsTextField;
+    @FXML
+    private CheckBox producerIdempotenceCheckBox;
+    @FXML
+    private CheckBox importEnabledCheckBox;
+    @FXML
+    private TextField importFilePathTextField;
+    @FXML
+    private Button importFileButton;
+    @FXML
+    private ComboBox<ImportFormat> importFormatComboBox;
+    @FXML
+    private TextField importCsvKeyColumnTextField;
+    @FXML
+    private TextField importCsvValueColumnTextField;
+    @FXML
+    private TextField importDelimiterTextField;
 
     private final MenuItem generateNameMenuItem = new MenuItem("Generate name");
 
@@ -128,7 +205,9 @@ public class SenderConfigView extends AnchorPane implements Displayable {
                             ModelConfigObjectsGuiInformer guiInformer,
                             Runnable refreshCallback,
                             ObservableList<KafkaTopicConfig> topicConfigs,
+                            ObservableList<KafkaSenderConfig> senderConfigs,
                             MessageTemplateSender msgTemplateSender,
+                            FileImportSender fileImportSender,
                             VirtualizedScrollPane<StyleClassedTextArea> beforeAllMessagesSharedScriptScrollPane,
                             VirtualizedScrollPane<StyleClassedTextArea> beforeAllMessagesScriptScrollPane,
                             VirtualizedScrollPane<StyleClassedTextArea> beforeEachMessageScriptScrollPane,
@@ -136,6 +215,7 @@ public class SenderConfigView extends AnchorPane implements Displayable {
                             KafkaClusterProxies kafkaClusterProxies,
                             ApplicationSettings applicationSettings) throws IOException {
         this.msgTemplateSender = msgTemplateSender;
+        this.fileImportSender = fileImportSender;
 
         this.beforeAllMessagesSharedScriptScrollPane = beforeAllMessagesSharedScriptScrollPane;
         this.beforeAllMessagesScriptScrollPane = beforeAllMessagesScriptScrollPane;
@@ -158,6 +238,7 @@ public class SenderConfigView extends AnchorPane implements Displayable {
         this.config = config;
         this.refreshCallback = refreshCallback;
         this.topicConfigs = topicConfigs;
+        this.senderConfigs = senderConfigs;
 
         final StringExpression windowTitle = new ReadOnlyStringWrapper("Message sender configuration");
         displayBehaviour = new DetachableDisplayBehaviour(parentPane,
@@ -175,6 +256,14 @@ public class SenderConfigView extends AnchorPane implements Displayable {
         configureScriptsTextAreas();
         configureMessageKeyTextField();
         configureSimulationSendingCheckBox();
+        configurePipelinedSendingControls();
+        configureScriptEvaluationTimeoutTextField();
+        configureMessageGenerationControls();
+        configureSendingRateControls();
+        configureBenchmarkModeCheckBox();
+        configureLatencyProbeCheckBox();
+        configureProducerProfileControls();
+        configureImportControls();
         createProgressNotifier();
         GuiUtils.configureComboBoxToClearSelectedValueIfItsPreviousValueWasRemoved(topicConfigComboBox);
         comboBoxConfigurator = new TopicConfigComboBoxConfigurator<>(topicConfigComboBox, config);
@@ -197,6 +286,205 @@ public class SenderConfigView extends AnchorPane implements Displayable {
         config.sendingSimulationModeEnabledProperty().bind(sendingSimulationModeCheckBox.selectedProperty());
     }
 
+    private void configurePipelinedSendingControls() {
+        pipelinedSendingCheckBox.setSelected(config.getPipelinedSendingEnabled());
+        pipelinedSendingCheckBox.selectedProperty().bindBidirectional(config.pipelinedSendingEnabledProperty());
+        pipelinedSendingCheckBox.setTooltip(TooltipCreator.createFrom("Do not wait for broker acknowledgement " +
+                                                                          "of each message before sending the next one"));
+        maxInFlightMessagesTextField.setTooltip(TooltipCreator.createFrom("Max number of sent messages " +
+                                                                              "waiting for broker acknowledgement"));
+        maxInFlightMessagesTextField.setText(config.getMaxInFlightMessages());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(maxInFlightMessagesTextField,
+                                                         config::setMaxInFlightMessages,
+                                                         ValidatorUtils::isValidGraterThanZeroInteger);
+        maxInFlightMessagesTextField.disableProperty().bind(pipelinedSendingCheckBox.selectedProperty().not());
+    }
+
+    private void configureScriptEvaluationTimeoutTextField() {
+        scriptEvaluationTimeoutTextField.setTooltip(TooltipCreator.createFrom("Max time of single groovy script " +
+                                                                                  "or message template evaluation"));
+        scriptEvaluationTimeoutTextField.setText(config.getScriptEvaluationTimeoutMs());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(scriptEvaluationTimeoutTextField,
+                                                         config::setScriptEvaluationTimeoutMs,
+                                                         ValidatorUtils::isTimeoutInMsValid);
+    }
+
+    private void configureMessageGenerationControls() {
+        generatorThreadsCountTextField.setTooltip(TooltipCreator.createFrom("Number of threads evaluating messages. " +
+                                                                                "Each thread runs shared and 'before all' " +
+                                                                                "scripts in its own context, use 'msgNum' " +
+                                                                                "variable to get number of evaluated message"));
+        generatorThreadsCountTextField.setText(config.getGeneratorThreadsCount());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(generatorThreadsCountTextField,
+                                                         config::setGeneratorThreadsCount,
+                                                         ValidatorUtils::isValidGraterThanZeroInteger);
+        messageGenerationOrderComboBox.setTooltip(TooltipCreator.createFrom("Send messages in order of their numbers " +
+                                                                                "or as soon as any thread evaluates them"));
+        messageGenerationOrderComboBox.setItems(FXCollections.observableArrayList(Arrays.asList(MessageGenerationOrder.values())));
+        messageGenerationOrderComboBox.valueProperty().bindBidirectional(config.messageGenerationOrderProperty());
+    }
+
+    private void configureSendingRateControls() {
+        sendingRateLimitCheckBox.setSelected(config.getSendingRateLimitEnabled());
+        sendingRateLimitCheckBox.selectedProperty().bindBidirectional(config.sendingRateLimitEnabledProperty());
+        sendingRateLimitCheckBox.setTooltip(TooltipCreator.createFrom("Pace sending to hold a steady target rate"));
+
+        targetSendingRateTextField.setText(config.getTargetSendingRate());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(targetSendingRateTextField,
+                                                         config::setTargetSendingRate,
+                                                         ValidatorUtils::isValidGraterThanZeroInteger);
+        sendingRateUnitComboBox.setItems(FXCollections.observableArrayList(Arrays.asList(SendingRateUnit.values())));
+        sendingRateUnitComboBox.valueProperty().bindBidirectional(config.sendingRateUnitProperty());
+
+        sendingRateRampUpTextField.setTooltip(TooltipCreator.createFrom("Time in which rate grows linearly " +
+                                                                            "up to the target rate"));
+        sendingRateRampUpTextField.setText(config.getSendingRateRampUpSec());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(sendingRateRampUpTextField,
+                                                         config::setSendingRateRampUpSec,
+                                                         ValidatorUtils::isValidNonNegativeInteger);
+
+        sendingRateBurstTextField.setTooltip(TooltipCreator.createFrom("How much unused rate can be accumulated " +
+                                                                           "and sent at once after a pause"));
+        sendingRateBurstTextField.setText(config.getSendingRateBurst());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(sendingRateBurstTextField,
+                                                         config::setSendingRateBurst,
+                                                         ValidatorUtils::isValidNonNegativeInteger);
+
+        final BooleanBinding rateLimitDisabled = sendingRateLimitCheckBox.selectedProperty().not();
+        targetSendingRateTextField.disableProperty().bind(rateLimitDisabled);
+        sendingRateUnitComboBox.disableProperty().bind(rateLimitDisabled);
+        sendingRateRampUpTextField.disableProperty().bind(rateLimitDisabled);
+        sendingRateBurstTextField.disableProperty().bind(rateLimitDisabled);
+    }
+
+    private void configureBenchmarkModeCheckBox() {
+        benchmarkModeCheckBox.setSelected(config.getBenchmarkModeEnabled());
+        benchmarkModeCheckBox.selectedProperty().bindBidirectional(config.benchmarkModeEnabledProperty());
+        benchmarkModeCheckBox.setTooltip(TooltipCreator.createFrom("Do not log sent messages, measure send-to-ack " +
+                                                                       "latency and throughput and show them " +
+                                                                       "in benchmark results when sending ends"));
+    }
+
+    private void configureLatencyProbeCheckBox() {
+        latencyProbeCheckBox.setSelected(config.getLatencyProbeEnabled());
+        latencyProbeCheckBox.selectedProperty().bindBidirectional(config.latencyProbeEnabledProperty());
+        latencyProbeCheckBox.setTooltip(TooltipCreator.createFrom("Stamp messages with sequence number and send time " +
+                                                                      "headers, so a listener with latency probe " +
+                                                                      "enabled on the same topic can report end-to-end " +
+                                                                      "latency and lost or duplicated messages"));
+    }
+
+    private void configureImportControls() {
+        importEnabledCheckBox.setSelected(config.getImportEnabled());
+        importEnabledCheckBox.selectedProperty().bindBidirectional(config.importEnabledProperty());
+        importEnabledCheckBox.setTooltip(TooltipCreator.createFrom("Every record of the file is sent as a message " +
+                                                                       "(pipelined), file is streamed, so it can " +
+                                                                       "be of any size"));
+        importFilePathTextField.setText(config.getImportFilePath());
+        config.importFilePathProperty().bind(importFilePathTextField.textProperty());
+        importFormatComboBox.setItems(FXCollections.observableArrayList(Arrays.asList(ImportFormat.values())));
+        importFormatComboBox.valueProperty().bindBidirectional(config.importFormatProperty());
+        importFormatComboBox.setTooltip(TooltipCreator.createFrom("JSON_LINES - object with 'key' and 'value' " +
+                                                                      "(as exported by listeners) or any text line\n" +
+                                                                      "CSV - header names key and value columns\n" +
+                                                                      "DELIMITED - values separated by delimiter"));
+        importCsvKeyColumnTextField.setText(config.getImportCsvKeyColumn());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(importCsvKeyColumnTextField,
+                                                         config::setImportCsvKeyColumn,
+                                                         ValidatorUtils::isStringIdentifierValid);
+        importCsvValueColumnTextField.setText(config.getImportCsvValueColumn());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(importCsvValueColumnTextField,
+                                                         config::setImportCsvValueColumn,
+                                                         ValidatorUtils::isStringIdentifierValid);
+        importDelimiterTextField.setText(config.getImportDelimiter());
+        importDelimiterTextField.setTooltip(TooltipCreator.createFrom("Use \\n, \\r, \\t for new line, " +
+                                                                          "carriage return and tab"));
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(importDelimiterTextField,
+                                                         config::setImportDelimiter,
+                                                         delimiter -> !delimiter.isEmpty());
+
+        final BooleanBinding importDisabled = importEnabledCheckBox.selectedProperty().not();
+        importFilePathTextField.disableProperty().bind(importDisabled);
+        importFileButton.disableProperty().bind(importDisabled);
+        importFormatComboBox.disableProperty().bind(importDisabled);
+        final BooleanBinding csvDisabled = importDisabled.or(importFormatComboBox.valueProperty()
+                                                                 .isNotEqualTo(ImportFormat.CSV));
+        importCsvKeyColumnTextField.disableProperty().bind(csvDisabled);
+        importCsvValueColumnTextField.disableProperty().bind(csvDisabled);
+        importDelimiterTextField.disableProperty().bind(importDisabled.or(importFormatComboBox.valueProperty()
+                                                                              .isNotEqualTo(ImportFormat.DELIMITED)));
+    }
+
+    private void configureProducerProfileControls() {
+        final KafkaProducerProfile profile = config.getProducerProfile();
+
+        producerAcksComboBox.setItems(FXCollections.observableArrayList(Arrays.asList(ProducerAcksType.values())));
+        producerAcksComboBox.valueProperty().bindBidirectional(profile.acksProperty());
+        producerCompressionTypeComboBox.setItems(FXCollections.observableArrayList(Arrays.asList(ProducerCompressionType.values())));
+        producerCompressionTypeComboBox.valueProperty().bindBidirectional(profile.compressionTypeProperty());
+        producerIdempotenceCheckBox.selectedProperty().bindBidirectional(profile.idempotenceEnabledProperty());
+        producerIdempotenceCheckBox.setTooltip(TooltipCreator.createFrom("Requires acks=all and at most 5 " +
+                                                                             "in-flight requests per connection, " +
+                                                                             "they are enforced when sending"));
+        // acks other than 'all' cannot be combined with idempotence
+        producerIdempotenceCheckBox.selectedProperty().addListener((observable, oldValue, enabled) -> {
+            if (enabled) {
+                profile.setAcks(ProducerAcksType.ALL);
+            }
+        });
+        producerAcksComboBox.disableProperty().bind(producerIdempotenceCheckBox.selectedProperty());
+
+        configureProducerProfileTextField(producerBatchSizeTextField,
+                                          profile.batchSizeProperty(),
+                                          ValidatorUtils::isValidNonNegativeInteger);
+        configureProducerProfileTextField(producerLingerMsTextField,
+                                          profile.lingerMsProperty(),
+                                          ValidatorUtils::isValidNonNegativeInteger);
+        configureProducerProfileTextField(producerBufferMemoryTextField,
+                                          profile.bufferMemoryProperty(),
+                                          ValidatorUtils::isValidGraterThanZeroInteger);
+        configureProducerProfileTextField(producerMaxInFlightRequestsTextField,
+                                          profile.maxInFlightRequestsPerConnectionProperty(),
+                                          ValidatorUtils::isValidGraterThanZeroInteger);
+
+        loadProducerProfileMenuButton.setOnShowing(event -> fillLoadProducerProfileMenu());
+        fillLoadProducerProfileMenu();
+    }
+
+    private static void configureProducerProfileTextField(TextField textField,
+                                                          StringProperty property,
+                                                          Function<String, Boolean> validator) {
+        textField.setText(property.get());
+        GuiUtils.configureTextFieldToAcceptOnlyValidData(textField, property::set, validator);
+        // profile can be replaced by a preset or by a profile of other sender
+        property.addListener((observable, oldValue, newValue) -> {
+            if (!Objects.equals(newValue, textField.getText().trim())) {
+                textField.setText(StringUtils.defaultString(newValue));
+            }
+        });
+    }
+
+    private void fillLoadProducerProfileMenu() {
+        loadProducerProfileMenuButton.getItems().clear();
+        for (ProducerProfilePreset preset : ProducerProfilePreset.values()) {
+            final MenuItem item = new MenuItem(preset.toString());
+            item.setOnAction(event -> preset.applyTo(config.getProducerProfile()));
+            loadProducerProfileMenuButton.getItems().add(item);
+        }
+
+        final Menu fromOtherSenderMenu = new Menu("Copy from sender");
+        for (KafkaSenderConfig otherConfig : senderConfigs) {
+            if (otherConfig == config) {
+                continue;
+            }
+            final MenuItem item = new MenuItem(otherConfig.getName());
+            item.setOnAction(event -> config.getProducerProfile().copyFrom(otherConfig.getProducerProfile()));
+            fromOtherSenderMenu.getItems().add(item);
+        }
+        fromOtherSenderMenu.setDisable(fromOtherSenderMenu.getItems().isEmpty());
+        loadProducerProfileMenuButton.getItems().addAll(new SeparatorMenuItem(), fromOtherSenderMenu);
+    }
+
     @FXML
     private void initialize() {
         bodyTemplateTab.setText(GuiStrings.MESSAGE_BODY_TEMPLATE_NAME);
@@ -377,6 +665,12 @@ public class SenderConfigView extends AnchorPane implements Displayable {
             return;
         }
 
+        if (config.getImportEnabled() && !new File(config.getImportFilePath().trim()).isFile()) {
+            Logger.error(String.format("Could not import messages, file '%s' does not exist",
+                                       config.getImportFilePath()));
+            return;
+        }
+
         statusBarNotifier.clearMsgSentProgress();
         taskExecutor.run(this::sendMessageTask);
 
@@ -384,10 +678,15 @@ public class SenderConfigView extends AnchorPane implements Displayable {
 
     private void sendMessageTask() {
         final Instant now = Instant.now();
-        msgTemplateSender.send(config,
-                statusBarNotifier,
-                               applicationSettings.appSettings().getRunBeforeFirstMessageSharedScriptContent(),
-                               sendingSimulationModeCheckBox.isSelected());
+        if (config.getImportEnabled()) {
+            fileImportSender.send(config, statusBarNotifier, sendingSimulationModeCheckBox.isSelected());
+        } else {
+            msgTemplateSender.send(config,
+                    statusBarNotifier,
+                                   applicationSettings.appSettings().getRunBeforeFirstMessageSharedScriptContent(),
+                                   sendingSimulationModeCheckBox.isSelected(),
+                                   result -> Platform.runLater(() -> showBenchmarkResult(result)));
+        }
         final Instant now1 = Instant.now();
         final Duration between = Duration.between(now, now1);
         Logger.info(String.format("Sending messages duration: %s",
@@ -396,6 +695,39 @@ public class SenderConfigView extends AnchorPane implements Displayable {
     }
 
 
+    private static void showBenchmarkResult(ProducerBenchmarkResult result) {
+        try {
+            final BenchmarkResultsWindow window = BenchmarkResultsWindow.get();
+            window.add(result);
+            window.show();
+        } catch (IOException e) {
+            Logger.error(e);
+        }
+    }
+
+    @FXML
+    private void onImportFileButtonClicked() {
+        final FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Select file with records to send");
+        final File currentFile = new File(importFilePathTextField.getText().trim());
+        if (currentFile.getParentFile() != null && currentFile.getParentFile().isDirectory()) {
+            fileChooser.setInitialDirectory(currentFile.getParentFile());
+        }
+        final File file = fileChooser.showOpenDialog(getScene().getWindow());
+        if (file != null) {
+            importFilePathTextField.setText(file.getAbsolutePath());
+        }
+    }
+
+    @FXML
+    private void onShowBenchmarkResultsButtonClicked() {
+        try {
+            BenchmarkResultsWindow.get().show();
+        } catch (IOException e) {
+            Logger.error(e);
+        }
+    }
+
     @FXML
     private void onStopSendingButtonClicked() {
         taskExecutor.stop();
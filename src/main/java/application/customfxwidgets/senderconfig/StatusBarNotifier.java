@@ -1,20 +1,28 @@
 package application.customfxwidgets.senderconfig;
 
 import application.globals.Timers;
+import application.model.SendingRateUnit;
 import javafx.application.Platform;
 import javafx.beans.property.DoubleProperty;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
+import javafx.scene.control.Label;
 import org.controlsfx.control.StatusBar;
 
 import java.util.Locale;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class StatusBarNotifier {
     public static final double PERCENTAGE_MAX = 100.0;
     private DoubleProperty doubleProperty;
     private StatusBar statusBar;
+    private final AtomicLong pendingProgress = new AtomicLong(0);
+    private final AtomicBoolean progressUpdatePending = new AtomicBoolean(false);
+    private final Label stagesThroughputLabel = new Label();
+    private final Label sendingRateLabel = new Label();
     private Timer timer = createTimer();
 
 
@@ -29,19 +37,68 @@ public class StatusBarNotifier {
 
     // count is 1-based
     public void setMsgSentProgress(int count, int total) {
-        displayProgressOnProgressBar((float) count / (float) total);
-        double percentage = percentage(count, total);
-        displayMessageToStatusBar(String.format(Locale.ENGLISH, "Sent messages: %d/%d (%06.3f)%%", count, total, percentage));
+        pendingProgress.set(((long) count << Integer.SIZE) | (total & 0xFFFFFFFFL));
+        // at most one progress update waits for gui thread, so fast sending does not flood it
+        if (progressUpdatePending.compareAndSet(false, true)) {
+            Platform.runLater(this::displayPendingProgress);
+        }
+    }
+
+    private void displayPendingProgress() {
+        progressUpdatePending.set(false);
+        final long progress = pendingProgress.get();
+        final int count = (int) (progress >>> Integer.SIZE);
+        final int total = (int) progress;
+        doubleProperty.set((float) count / (float) total);
+        statusBar.textProperty().set(String.format(Locale.ENGLISH, "Sent messages: %d/%d (%06.3f)%%",
+                                                   count, total, percentage(count, total)));
+    }
+
+    public void setImportProgress(long sentCount, long readBytes, long totalBytes,
+                                  double sentPerSec, double megabytesPerSec) {
+        final double progress = totalBytes == 0 ? 1.0 : (double) readBytes / totalBytes;
+        final String progressText = String.format(Locale.ENGLISH, "Imported messages: %d, read %d/%d bytes (%06.3f)%%",
+                                                  sentCount, readBytes, totalBytes, progress * PERCENTAGE_MAX);
+        final String throughputText = String.format(Locale.ENGLISH, "Sent: %.0f msg/s, %.2f MB/s",
+                                                    sentPerSec, megabytesPerSec);
+        Platform.runLater(() -> {
+            doubleProperty.set(progress);
+            statusBar.textProperty().set(progressText);
+            stagesThroughputLabel.setText(throughputText);
+        });
     }
 
     public void clearMsgSentProgress() {
         displayProgressOnProgressBar(0.0);
     }
 
+    public void setStagesThroughput(double generatedPerSec, double sentPerSec, int queuedCount) {
+        final String text = String.format(Locale.ENGLISH, "Generated: %.0f msg/s, sent: %.0f msg/s, queued: %d",
+                                          generatedPerSec, sentPerSec, queuedCount);
+        Platform.runLater(() -> stagesThroughputLabel.setText(text));
+    }
+
+    public void clearStagesThroughput() {
+        Platform.runLater(() -> stagesThroughputLabel.setText(""));
+    }
+
+    public void setSendingRate(double achievedRate, double targetRate, SendingRateUnit unit) {
+        final double deviationPercentage = (achievedRate - targetRate) * PERCENTAGE_MAX / targetRate;
+        final String text = String.format(Locale.ENGLISH, "Rate: %.2f %s (target %.2f, deviation %+.1f%%)",
+                                          achievedRate, unit, targetRate, deviationPercentage);
+        Platform.runLater(() -> sendingRateLabel.setText(text));
+    }
+
+    public void clearSendingRate() {
+        Platform.runLater(() -> sendingRateLabel.setText(""));
+    }
+
     private void resetStatusBarOnConstruction() {
         statusBar.getLeftItems().clear();
         final ObservableList<Node> rightItems = statusBar.getRightItems();
         rightItems.clear();
+        rightItems.add(sendingRateLabel);
+        rightItems.add(stagesThroughputLabel);
         doubleProperty = statusBar.progressProperty();
     }
 
@@ -0,0 +1,146 @@
+package application.customfxwidgets.timetravelwindow;
+
+import application.constants.ApplicationConstants;
+import application.customfxwidgets.ConsumerRecordsTableConfigurator;
+import application.kafka.search.PartitionWindow;
+import application.kafka.search.SearchConsumerFactory;
+import application.kafka.search.TimestampWindow;
+import application.kafka.search.TimestampWindowReader;
+import application.logging.Logger;
+import application.utils.GuiUtils;
+import application.utils.HostInfo;
+import application.utils.TimestampUtils;
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextArea;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.AnchorPane;
+import javafx.stage.Stage;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static application.customfxwidgets.CustomFxWidgetsLoader.loadAnchorPane;
+
+/**
+ * Shows records of all partitions of a topic around a given point in time, ordered by timestamp.
+ */
+public final class TimeTravelWindow extends AnchorPane {
+    private static final String FXML_FILE = "TimeTravelView.fxml";
+    private static final String DEFAULT_RECORDS_PER_PARTITION = "50";
+    private final Stage stage = new Stage();
+    private final String topicName;
+    private final TimestampWindowReader reader;
+    @FXML
+    private TextField timestampTextField;
+    @FXML
+    private TextField recordsBeforeTextField;
+    @FXML
+    private TextField recordsAfterTextField;
+    @FXML
+    private Button searchButton;
+    @FXML
+    private TableView<ConsumerRecord<String, String>> recordsTableView;
+    @FXML
+    private TextArea valueTextArea;
+    @FXML
+    private Label statusLabel;
+
+    public TimeTravelWindow(String topicName, HostInfo hostInfo) throws IOException {
+        this.topicName = topicName;
+        this.reader = new TimestampWindowReader(new SearchConsumerFactory(hostInfo));
+        loadAnchorPane(this, FXML_FILE);
+        stage.setTitle(String.format("Jump to timestamp (%s, %s)", topicName, hostInfo.toHostPortString()));
+        timestampTextField.setText(TimestampUtils.nowFullTimestamp());
+        recordsBeforeTextField.setText(DEFAULT_RECORDS_PER_PARTITION);
+        recordsAfterTextField.setText(DEFAULT_RECORDS_PER_PARTITION);
+        ConsumerRecordsTableConfigurator.configure(recordsTableView, valueTextArea);
+    }
+
+    public void show() {
+        stage.show();
+        stage.toFront();
+    }
+
+    private static Optional<Integer> parseRecordsCount(String value) {
+        try {
+            final int count = Integer.parseInt(value.trim());
+            return count < 0 ? Optional.empty() : Optional.of(count);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void search(long timestamp, int recordsBefore, int recordsAfter) {
+        final long start = System.currentTimeMillis();
+        try {
+            final TimestampWindow window = reader.read(topicName, timestamp, recordsBefore, recordsAfter);
+            final long duration = System.currentTimeMillis() - start;
+            Platform.runLater(() -> showWindow(window, duration));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            Logger.error(String.format("Could not read records of topic '%s' around %d", topicName, timestamp), e);
+            Platform.runLater(() -> showStatus("Search failed: " + e.getMessage()));
+        }
+    }
+
+    private void showWindow(TimestampWindow window, long durationMs) {
+        recordsTableView.getItems().setAll(window.getRecords());
+        final String windows = window.getPartitionWindows().stream()
+            .map(PartitionWindow::toString)
+            .collect(Collectors.joining(", "));
+        showStatus(String.format("%d record(s) from %d partition(s) in %d ms%s. Windows: %s",
+                                 window.getRecords().size(),
+                                 window.getPartitionWindows().size(),
+                                 durationMs,
+                                 window.isComplete() ? "" : " (incomplete, read timeout expired)",
+                                 windows));
+    }
+
+    private void showStatus(String status) {
+        statusLabel.setText(status);
+        searchButton.setDisable(false);
+    }
+
+    @FXML
+    private void initialize() {
+        GuiUtils.addApplicationIcon(stage);
+        final Scene scene = new Scene(this);
+        scene.getStylesheets().add(getClass().getResource(ApplicationConstants.GLOBAL_CSS_FILE_NAME).toExternalForm());
+        stage.setScene(scene);
+        stage.centerOnScreen();
+    }
+
+    @FXML
+    private void searchOnAction() {
+        final Optional<Long> timestamp = TimestampUtils.parseEpochMili(timestampTextField.getText());
+        final Optional<Integer> recordsBefore = parseRecordsCount(recordsBeforeTextField.getText());
+        final Optional<Integer> recordsAfter = parseRecordsCount(recordsAfterTextField.getText());
+        if (!timestamp.isPresent()) {
+            statusLabel.setText("Invalid timestamp, use 'yyyy-MM-dd HH:mm:ss[.SSS]' or epoch millis");
+            return;
+        }
+        if (!recordsBefore.isPresent() || !recordsAfter.isPresent()) {
+            statusLabel.setText("Records before/after must be non-negative numbers");
+            return;
+        }
+        searchButton.setDisable(true);
+        statusLabel.setText("Searching...");
+        final Thread thread = new Thread(() -> search(timestamp.get(), recordsBefore.get(), recordsAfter.get()),
+                                         "KMT-Thread-TimeTravel-" + topicName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @FXML
+    private void closeOnAction() {
+        stage.close();
+    }
+}
@@ -0,0 +1,255 @@
+package application.customfxwidgets.topicscanwindow;
+
+import application.constants.ApplicationConstants;
+import application.customfxwidgets.ConsumerRecordsTableConfigurator;
+import application.kafka.search.PartitionScanProgress;
+import application.kafka.search.RecordMatchers;
+import application.kafka.search.SearchConsumerFactory;
+import application.kafka.search.TopicScanJob;
+import application.logging.Logger;
+import application.model.ListenerStartPosition;
+import application.model.ScanMatchType;
+import application.model.ScanTarget;
+import application.utils.GuiUtils;
+import application.utils.HostInfo;
+import application.utils.TableUtils;
+import application.utils.ValidatorUtils;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.fxml.FXML;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextArea;
+import javafx.scene.control.TextField;
+import javafx.scene.control.cell.ProgressBarTableCell;
+import javafx.scene.layout.AnchorPane;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static application.customfxwidgets.CustomFxWidgetsLoader.loadAnchorPane;
+
+/**
+ * Scans whole topic for records matching a substring, regular expression or JSON path.
+ * Hits and per partition progress are refreshed periodically while the scan is running.
+ */
+public final class TopicScanWindow extends AnchorPane {
+    private static final String FXML_FILE = "TopicScanView.fxml";
+    private static final Duration REFRESH_INTERVAL = Duration.millis(500);
+    private final Stage stage = new Stage();
+    private final Timeline refreshTimeline = new Timeline(new KeyFrame(REFRESH_INTERVAL, event -> refresh()));
+    private final Queue<ConsumerRecord<String, String>> pendingHits = new ConcurrentLinkedQueue<>();
+    private final String topicName;
+    private final SearchConsumerFactory consumerFactory;
+    private volatile TopicScanJob job;
+    @FXML
+    private ComboBox<ScanMatchType> matchTypeComboBox;
+    @FXML
+    private TextField patternTextField;
+    @FXML
+    private ComboBox<ScanTarget> scanTargetComboBox;
+    @FXML
+    private TextField scannersCountTextField;
+    @FXML
+    private ComboBox<ListenerStartPosition> startPositionComboBox;
+    @FXML
+    private TextField startPositionValueTextField;
+    @FXML
+    private Button scanButton;
+    @FXML
+    private Button cancelButton;
+    @FXML
+    private TableView<ConsumerRecord<String, String>> recordsTableView;
+    @FXML
+    private TableView<PartitionScanProgress> partitionsTableView;
+    @FXML
+    private TableColumn<PartitionScanProgress, String> partitionColumn;
+    @FXML
+    private TableColumn<PartitionScanProgress, String> startOffsetColumn;
+    @FXML
+    private TableColumn<PartitionScanProgress, String> endOffsetColumn;
+    @FXML
+    private TableColumn<PartitionScanProgress, String> positionColumn;
+    @FXML
+    private TableColumn<PartitionScanProgress, String> hitsColumn;
+    @FXML
+    private TableColumn<PartitionScanProgress, Double> progressColumn;
+    @FXML
+    private TextArea valueTextArea;
+    @FXML
+    private Label statusLabel;
+
+    public TopicScanWindow(String topicName, HostInfo hostInfo) throws IOException {
+        this.topicName = topicName;
+        this.consumerFactory = new SearchConsumerFactory(hostInfo);
+        loadAnchorPane(this, FXML_FILE);
+        stage.setTitle(String.format("Scan topic (%s, %s)", topicName, hostInfo.toHostPortString()));
+        matchTypeComboBox.setItems(FXCollections.observableArrayList(ScanMatchType.values()));
+        matchTypeComboBox.setValue(ScanMatchType.SUBSTRING);
+        scanTargetComboBox.setItems(FXCollections.observableArrayList(ScanTarget.values()));
+        scanTargetComboBox.setValue(ScanTarget.VALUE);
+        startPositionComboBox.setItems(FXCollections.observableArrayList(ListenerStartPosition.BEGINNING,
+                                                                         ListenerStartPosition.OFFSET,
+                                                                         ListenerStartPosition.END_MINUS_N,
+                                                                         ListenerStartPosition.TIMESTAMP));
+        startPositionComboBox.setValue(ListenerStartPosition.BEGINNING);
+        startPositionValueTextField.setText("0");
+        startPositionValueTextField.disableProperty()
+            .bind(startPositionComboBox.valueProperty().isEqualTo(ListenerStartPosition.BEGINNING));
+        scannersCountTextField.setText(String.valueOf(TopicScanJob.DEFAULT_SCANNERS_COUNT));
+        ConsumerRecordsTableConfigurator.configure(recordsTableView, valueTextArea);
+        configurePartitionsTable();
+        refreshTimeline.setCycleCount(Animation.INDEFINITE);
+    }
+
+    public void show() {
+        stage.show();
+        stage.toFront();
+    }
+
+    private void configurePartitionsTable() {
+        configureColumn(partitionColumn, progress -> String.valueOf(progress.getPartition()));
+        configureColumn(startOffsetColumn, progress -> String.valueOf(progress.getStartOffset()));
+        configureColumn(endOffsetColumn, progress -> String.valueOf(progress.getEndOffset()));
+        configureColumn(positionColumn, progress -> String.valueOf(progress.getPosition()));
+        configureColumn(hitsColumn, progress -> String.valueOf(progress.getHits()));
+        progressColumn.setCellValueFactory(param -> new SimpleObjectProperty<>(param.getValue().getProgress()));
+        progressColumn.setCellFactory(ProgressBarTableCell.forTableColumn());
+        TableUtils.installCopyPasteHandlerForSingleCell(partitionsTableView);
+    }
+
+    private static void configureColumn(TableColumn<PartitionScanProgress, String> column,
+                                        Function<PartitionScanProgress, String> valueGetter) {
+        column.setCellValueFactory(param -> new SimpleStringProperty(valueGetter.apply(param.getValue())));
+    }
+
+    private static int parseScannersCount(String value) {
+        try {
+            final int count = Integer.parseInt(value.trim());
+            return count <= 0 ? TopicScanJob.DEFAULT_SCANNERS_COUNT : count;
+        } catch (NumberFormatException e) {
+            return TopicScanJob.DEFAULT_SCANNERS_COUNT;
+        }
+    }
+
+    private void refresh() {
+        final List<ConsumerRecord<String, String>> hits = new ArrayList<>();
+        ConsumerRecord<String, String> hit;
+        while ((hit = pendingHits.poll()) != null) {
+            hits.add(hit);
+        }
+        recordsTableView.getItems().addAll(hits);
+        final TopicScanJob currentJob = job;
+        if (currentJob != null) {
+            partitionsTableView.getItems().setAll(currentJob.getProgress());
+        }
+    }
+
+    private void scan(TopicScanJob scanJob, ListenerStartPosition startPosition, String startPositionValue) {
+        final long start = System.currentTimeMillis();
+        try {
+            scanJob.run(startPosition, startPositionValue);
+            final long duration = System.currentTimeMillis() - start;
+            final long scannedRecords = scanJob.getProgress().stream()
+                .mapToLong(PartitionScanProgress::getScannedRecords)
+                .sum();
+            Platform.runLater(() -> scanFinished(String.format("%d record(s) scanned, %d hit(s) in %d ms%s",
+                                                               scannedRecords,
+                                                               scanJob.getHitsCount(),
+                                                               duration,
+                                                               scanJob.isMaxHitsReached()
+                                                               ? String.format(", stopped after %d hits", TopicScanJob.DEFAULT_MAX_HITS)
+                                                               : "")));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            Logger.error(String.format("Could not scan topic '%s'", topicName), e);
+            Platform.runLater(() -> scanFinished("Scan failed: " + e.getMessage()));
+        }
+    }
+
+    private void scanFinished(String status) {
+        refreshTimeline.stop();
+        refresh();
+        statusLabel.setText(status);
+        scanButton.setDisable(false);
+        cancelButton.setDisable(true);
+    }
+
+    @FXML
+    private void initialize() {
+        GuiUtils.addApplicationIcon(stage);
+        final Scene scene = new Scene(this);
+        scene.getStylesheets().add(getClass().getResource(ApplicationConstants.GLOBAL_CSS_FILE_NAME).toExternalForm());
+        stage.setScene(scene);
+        stage.centerOnScreen();
+        stage.setOnHidden(event -> cancelOnAction());
+    }
+
+    @FXML
+    private void scanOnAction() {
+        final ListenerStartPosition startPosition = startPositionComboBox.getValue();
+        final String startPositionValue = startPositionValueTextField.getText();
+        if (!ValidatorUtils.isValidStartPositionValue(startPosition, startPositionValue)) {
+            statusLabel.setText(String.format("Invalid value '%s' for start position %s", startPositionValue, startPosition));
+            return;
+        }
+        final Predicate<ConsumerRecord<String, String>> matcher;
+        try {
+            matcher = RecordMatchers.create(matchTypeComboBox.getValue(),
+                                            scanTargetComboBox.getValue(),
+                                            patternTextField.getText());
+        } catch (IllegalArgumentException e) {
+            statusLabel.setText(e.getMessage());
+            return;
+        }
+        final TopicScanJob scanJob = new TopicScanJob(consumerFactory,
+                                                      topicName,
+                                                      matcher,
+                                                      parseScannersCount(scannersCountTextField.getText()),
+                                                      TopicScanJob.DEFAULT_MAX_HITS,
+                                                      pendingHits::add);
+        job = scanJob;
+        pendingHits.clear();
+        recordsTableView.getItems().clear();
+        partitionsTableView.getItems().clear();
+        scanButton.setDisable(true);
+        cancelButton.setDisable(false);
+        statusLabel.setText("Scanning...");
+        refreshTimeline.play();
+        final Thread thread = new Thread(() -> scan(scanJob, startPosition, startPositionValue),
+                                         "KMT-Thread-TopicScan-" + topicName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @FXML
+    private void cancelOnAction() {
+        final TopicScanJob currentJob = job;
+        if (currentJob != null) {
+            currentJob.cancel();
+        }
+    }
+
+    @FXML
+    private void closeOnAction() {
+        stage.close();
+    }
+}
@@ -0,0 +1,114 @@
+package application.kafka.benchmark;
+
+import application.kafka.listener.ReceivedRecordsChunk;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how fast a listener drains its topic: records and bytes per second, poll latency
+ * and progress of every partition towards end offsets taken when the partition was assigned.
+ * Can be fed from several consumer threads of one listener, results can be taken from any thread.
+ */
+public class ConsumerBenchmark {
+
+    private final String listenerName;
+    private final long timeLimitNanos;
+    private final long startNanos = System.nanoTime();
+    private final LatencyHistogram pollLatencies = new LatencyHistogram();
+    private final Map<Integer, PartitionState> partitions = new TreeMap<>();
+    private long recordsCount;
+    private long bytesCount;
+
+    public ConsumerBenchmark(String listenerName, long timeLimitMs) {
+        this.listenerName = listenerName;
+        this.timeLimitNanos = TimeUnit.MILLISECONDS.toNanos(timeLimitMs);
+    }
+
+    public synchronized void recordPoll(long pollLatencyNanos, ConsumerRecords<String, String> records) {
+        pollLatencies.recordValue(TimeUnit.NANOSECONDS.toMicros(pollLatencyNanos));
+        for (ConsumerRecord<String, String> record : records) {
+            final PartitionState partition = partitions.computeIfAbsent(record.partition(), p -> new PartitionState());
+            if (partition.firstConsumedOffset < 0) {
+                partition.firstConsumedOffset = record.offset();
+            }
+            partition.consumedCount++;
+            recordsCount++;
+            bytesCount += ReceivedRecordsChunk.sizeOf(record);
+        }
+    }
+
+    public synchronized boolean isTracked(int partition) {
+        final PartitionState state = partitions.get(partition);
+        return state != null && state.endOffset >= 0;
+    }
+
+    /**
+     * Starts tracking progress of newly assigned partition.
+     *
+     * @param position position of the consumer after the poll in which the partition was seen for the first time
+     */
+    public synchronized void trackPartition(int partition, long position, long endOffset) {
+        final PartitionState state = partitions.computeIfAbsent(partition, p -> new PartitionState());
+        state.startOffset = state.firstConsumedOffset >= 0 ? state.firstConsumedOffset : position;
+        state.endOffset = endOffset;
+        state.position = position;
+    }
+
+    public synchronized void updatePosition(int partition, long position) {
+        final PartitionState state = partitions.get(partition);
+        if (state != null) {
+            state.position = position;
+        }
+    }
+
+    /**
+     * @return true if every given partition is tracked and its position reached end offset
+     */
+    public synchronized boolean hasReachedEndOffsets(Collection<Integer> assignedPartitions) {
+        if (assignedPartitions.isEmpty()) {
+            return false;
+        }
+        for (Integer partition : assignedPartitions) {
+            final PartitionState state = partitions.get(partition);
+            if (state == null || state.endOffset < 0 || state.position < state.endOffset) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isTimeLimitExceeded() {
+        return System.nanoTime() - startNanos >= timeLimitNanos;
+    }
+
+    public synchronized ConsumerBenchmarkResult getResult() {
+        final List<ConsumerBenchmarkResult.PartitionProgress> progress = new ArrayList<>(partitions.size());
+        partitions.forEach((partition, state) -> progress.add(new ConsumerBenchmarkResult.PartitionProgress(
+            partition,
+            state.startOffset,
+            state.endOffset,
+            state.position,
+            state.consumedCount)));
+        return new ConsumerBenchmarkResult(listenerName,
+                                           TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                                           recordsCount,
+                                           bytesCount,
+                                           pollLatencies,
+                                           progress);
+    }
+
+    private static final class PartitionState {
+        private long firstConsumedOffset = -1;
+        private long startOffset = -1;
+        private long endOffset = -1;
+        private long position = -1;
+        private long consumedCount;
+    }
+}
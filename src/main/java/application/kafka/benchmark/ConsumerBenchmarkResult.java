@@ -0,0 +1,156 @@
+package application.kafka.benchmark;
+
+import java.util.List;
+import java.util.Locale;
+
+public final class ConsumerBenchmarkResult {
+
+    private static final double MICROS_IN_MILLI = 1000.0;
+    private static final double BYTES_IN_MEGABYTE = 1024.0 * 1024.0;
+    private final String listenerName;
+    private final long durationMs;
+    private final long recordsCount;
+    private final long bytesCount;
+    private final double recordsPerSec;
+    private final double megabytesPerSec;
+    private final long pollsCount;
+    private final double pollLatencyP50Ms;
+    private final double pollLatencyP99Ms;
+    private final double pollLatencyMaxMs;
+    private final List<PartitionProgress> partitionsProgress;
+
+    ConsumerBenchmarkResult(String listenerName,
+                            long durationMs,
+                            long recordsCount,
+                            long bytesCount,
+                            LatencyHistogram pollLatencies,
+                            List<PartitionProgress> partitionsProgress) {
+        final double durationSec = Math.max(1, durationMs) / 1000.0;
+        this.listenerName = listenerName;
+        this.durationMs = durationMs;
+        this.recordsCount = recordsCount;
+        this.bytesCount = bytesCount;
+        this.recordsPerSec = recordsCount / durationSec;
+        this.megabytesPerSec = bytesCount / BYTES_IN_MEGABYTE / durationSec;
+        this.pollsCount = pollLatencies.getTotalCount();
+        this.pollLatencyP50Ms = pollLatencies.getValueAtPercentile(50) / MICROS_IN_MILLI;
+        this.pollLatencyP99Ms = pollLatencies.getValueAtPercentile(99) / MICROS_IN_MILLI;
+        this.pollLatencyMaxMs = pollLatencies.getMaxValue() / MICROS_IN_MILLI;
+        this.partitionsProgress = partitionsProgress;
+    }
+
+    public String getListenerName() {
+        return listenerName;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public long getRecordsCount() {
+        return recordsCount;
+    }
+
+    public long getBytesCount() {
+        return bytesCount;
+    }
+
+    public double getRecordsPerSec() {
+        return recordsPerSec;
+    }
+
+    public double getMegabytesPerSec() {
+        return megabytesPerSec;
+    }
+
+    public long getPollsCount() {
+        return pollsCount;
+    }
+
+    public double getPollLatencyP50Ms() {
+        return pollLatencyP50Ms;
+    }
+
+    public double getPollLatencyP99Ms() {
+        return pollLatencyP99Ms;
+    }
+
+    public double getPollLatencyMaxMs() {
+        return pollLatencyMaxMs;
+    }
+
+    public List<PartitionProgress> getPartitionsProgress() {
+        return partitionsProgress;
+    }
+
+    public String toSummary() {
+        return String.format(Locale.ENGLISH,
+                             "%d records (%.3f MB) in %d ms, %.1f records/s, %.3f MB/s, " +
+                                 "%d polls, poll latency ms p50 %.3f, p99 %.3f, max %.3f",
+                             recordsCount,
+                             bytesCount / BYTES_IN_MEGABYTE,
+                             durationMs,
+                             recordsPerSec,
+                             megabytesPerSec,
+                             pollsCount,
+                             pollLatencyP50Ms,
+                             pollLatencyP99Ms,
+                             pollLatencyMaxMs);
+    }
+
+    public static final class PartitionProgress {
+        private final int partition;
+        private final long startOffset;
+        private final long endOffset;
+        private final long position;
+        private final long consumedCount;
+
+        PartitionProgress(int partition, long startOffset, long endOffset, long position, long consumedCount) {
+            this.partition = partition;
+            this.startOffset = startOffset;
+            this.endOffset = endOffset;
+            this.position = position;
+            this.consumedCount = consumedCount;
+        }
+
+        public int getPartition() {
+            return partition;
+        }
+
+        /**
+         * @return -1 if partition is not tracked yet
+         */
+        public long getStartOffset() {
+            return startOffset;
+        }
+
+        /**
+         * @return -1 if partition is not tracked yet
+         */
+        public long getEndOffset() {
+            return endOffset;
+        }
+
+        public long getPosition() {
+            return position;
+        }
+
+        public long getConsumedCount() {
+            return consumedCount;
+        }
+
+        /**
+         * @return 0..100
+         */
+        public double getProgressPercent() {
+            if (endOffset < 0) {
+                return 0;
+            }
+            final long toConsume = endOffset - startOffset;
+            if (toConsume <= 0) {
+                return 100;
+            }
+            return Math.min(100, 100.0 * (position - startOffset) / toConsume);
+        }
+    }
+}
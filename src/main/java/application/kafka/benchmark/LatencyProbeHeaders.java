@@ -0,0 +1,52 @@
+package application.kafka.benchmark;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Names and encoding of headers stamped by a sender with latency probe enabled
+ * and read back by a listener with latency probe enabled.
+ */
+final class LatencyProbeHeaders {
+
+    static final String RUN_ID = "kmt-probe-run";
+    static final String SENDER_NAME = "kmt-probe-sender";
+    static final String SEQUENCE_NUMBER = "kmt-probe-seq";
+    static final String TOTAL_COUNT = "kmt-probe-total";
+    static final String SENT_EPOCH_MS = "kmt-probe-sent-ms";
+    static final String SENT_NANO_TIME = "kmt-probe-sent-ns";
+    static final String PROCESS_ID = "kmt-probe-process";
+    // System.nanoTime() values can be compared only when sender and listener run in the same process
+    static final String CURRENT_PROCESS_ID = UUID.randomUUID().toString();
+
+    private LatencyProbeHeaders() {
+    }
+
+    static byte[] encode(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] encode(long value) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+    }
+
+    static String getString(Headers headers, String name) {
+        final Header header = headers.lastHeader(name);
+        if (header == null || header.value() == null) {
+            return null;
+        }
+        return new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    static Long getLong(Headers headers, String name) {
+        final Header header = headers.lastHeader(name);
+        if (header == null || header.value() == null || header.value().length != Long.BYTES) {
+            return null;
+        }
+        return ByteBuffer.wrap(header.value()).getLong();
+    }
+}
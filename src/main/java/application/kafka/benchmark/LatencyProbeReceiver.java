@@ -0,0 +1,133 @@
+package application.kafka.benchmark;
+
+import application.kafka.listener.ReceivedRecordsChunk;
+import application.kafka.listener.ReceivedRecordsSink;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matches records stamped by {@link LatencyProbeRun} and collects, per sending run, end-to-end latency distribution
+ * and sequence numbers that were not received or were received more than once.
+ * Records without probe headers are ignored.
+ */
+public class LatencyProbeReceiver implements ReceivedRecordsSink {
+
+    private static final int MAX_DESCRIBED_RANGES = 20;
+    private final Map<String, RunStats> runs = new LinkedHashMap<>();
+
+    @Override
+    public synchronized void onRecordsReceived(ReceivedRecordsChunk chunk) {
+        final long receivedNanoTime = System.nanoTime();
+        for (ConsumerRecord<String, String> record : chunk.getRecords()) {
+            onRecordReceived(record.headers(), chunk.getReceivedTimestampMs(), receivedNanoTime);
+        }
+    }
+
+    public synchronized List<LatencyProbeReport> getReports() {
+        final List<LatencyProbeReport> reports = new ArrayList<>(runs.size());
+        runs.values().forEach(run -> reports.add(run.toReport()));
+        return reports;
+    }
+
+    public synchronized void reset() {
+        runs.clear();
+    }
+
+    private void onRecordReceived(Headers headers, long receivedEpochMs, long receivedNanoTime) {
+        final String runId = LatencyProbeHeaders.getString(headers, LatencyProbeHeaders.RUN_ID);
+        final Long sequenceNumber = LatencyProbeHeaders.getLong(headers, LatencyProbeHeaders.SEQUENCE_NUMBER);
+        final Long totalCount = LatencyProbeHeaders.getLong(headers, LatencyProbeHeaders.TOTAL_COUNT);
+        final Long sentEpochMs = LatencyProbeHeaders.getLong(headers, LatencyProbeHeaders.SENT_EPOCH_MS);
+        if (runId == null || sequenceNumber == null || totalCount == null || sentEpochMs == null) {
+            return;
+        }
+        final RunStats run = runs.computeIfAbsent(runId, id -> new RunStats(
+            LatencyProbeHeaders.getString(headers, LatencyProbeHeaders.SENDER_NAME),
+            totalCount.intValue()));
+        run.recordReceived(sequenceNumber.intValue(),
+                           sentEpochMs,
+                           getLatencyMicros(headers, sentEpochMs, receivedEpochMs, receivedNanoTime));
+    }
+
+    private static long getLatencyMicros(Headers headers, long sentEpochMs, long receivedEpochMs, long receivedNanoTime) {
+        final Long sentNanoTime = LatencyProbeHeaders.getLong(headers, LatencyProbeHeaders.SENT_NANO_TIME);
+        final String processId = LatencyProbeHeaders.getString(headers, LatencyProbeHeaders.PROCESS_ID);
+        if (sentNanoTime != null && LatencyProbeHeaders.CURRENT_PROCESS_ID.equals(processId)) {
+            return Math.max(0, TimeUnit.NANOSECONDS.toMicros(receivedNanoTime - sentNanoTime));
+        }
+        // sent from another process, wall clocks of both hosts may differ
+        return Math.max(0, TimeUnit.MILLISECONDS.toMicros(receivedEpochMs - sentEpochMs));
+    }
+
+    /**
+     * @return ranges of sequence numbers not received yet, e.g. "3-5, 9", at most {@link #MAX_DESCRIBED_RANGES}
+     */
+    private static String describeMissing(BitSet receivedSequenceNumbers, int totalCount) {
+        final StringBuilder description = new StringBuilder();
+        int rangesCount = 0;
+        int rangeStart = receivedSequenceNumbers.nextClearBit(1);
+        while (rangeStart <= totalCount) {
+            if (rangesCount == MAX_DESCRIBED_RANGES) {
+                description.append(", ...");
+                break;
+            }
+            final int nextReceived = receivedSequenceNumbers.nextSetBit(rangeStart);
+            final int rangeEnd = nextReceived < 0 || nextReceived > totalCount ? totalCount : nextReceived - 1;
+            if (rangesCount > 0) {
+                description.append(", ");
+            }
+            description.append(rangeStart == rangeEnd ? String.valueOf(rangeStart) : rangeStart + "-" + rangeEnd);
+            rangesCount++;
+            rangeStart = receivedSequenceNumbers.nextClearBit(rangeEnd + 1);
+        }
+        return description.toString();
+    }
+
+    private static final class RunStats {
+        private final String senderName;
+        private final int totalCount;
+        private final BitSet receivedSequenceNumbers = new BitSet();
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private long firstSentEpochMs = Long.MAX_VALUE;
+        private long receivedCount;
+        private long duplicatesCount;
+        private long unexpectedCount;
+
+        RunStats(String senderName, int totalCount) {
+            this.senderName = senderName;
+            this.totalCount = totalCount;
+        }
+
+        void recordReceived(int sequenceNumber, long sentEpochMs, long latencyMicros) {
+            receivedCount++;
+            firstSentEpochMs = Math.min(firstSentEpochMs, sentEpochMs);
+            latencies.recordValue(latencyMicros);
+            if (sequenceNumber < 1 || sequenceNumber > totalCount) {
+                unexpectedCount++;
+            } else if (receivedSequenceNumbers.get(sequenceNumber)) {
+                duplicatesCount++;
+            } else {
+                receivedSequenceNumbers.set(sequenceNumber);
+            }
+        }
+
+        LatencyProbeReport toReport() {
+            return new LatencyProbeReport(senderName,
+                                          firstSentEpochMs,
+                                          totalCount,
+                                          receivedCount,
+                                          receivedSequenceNumbers.cardinality(),
+                                          duplicatesCount,
+                                          unexpectedCount,
+                                          describeMissing(receivedSequenceNumbers, totalCount),
+                                          latencies);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package application.kafka.benchmark;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Delivery and end-to-end latency of one sending run, as seen by a listener with latency probe enabled.
+ */
+public final class LatencyProbeReport {
+
+    public static final String CSV_HEADER = "sender,start time,expected,received,unique,missing,duplicates,unexpected," +
+        "latency p50 ms,latency p99 ms,latency p99.9 ms,latency max ms,latency mean ms,missing sequence numbers";
+    private static final DateTimeFormatter START_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final double MICROS_IN_MILLI = 1000.0;
+    private final String senderName;
+    private final String startTime;
+    private final long expectedCount;
+    private final long receivedCount;
+    private final long uniqueCount;
+    private final long duplicatesCount;
+    private final long unexpectedCount;
+    private final String missingSequenceNumbers;
+    private final double latencyP50Ms;
+    private final double latencyP99Ms;
+    private final double latencyP999Ms;
+    private final double latencyMaxMs;
+    private final double latencyMeanMs;
+
+    LatencyProbeReport(String senderName,
+                       long firstSentEpochMs,
+                       long expectedCount,
+                       long receivedCount,
+                       long uniqueCount,
+                       long duplicatesCount,
+                       long unexpectedCount,
+                       String missingSequenceNumbers,
+                       LatencyHistogram latencies) {
+        this.senderName = senderName == null ? "" : senderName;
+        this.startTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(firstSentEpochMs), ZoneId.systemDefault())
+            .format(START_TIME_FORMATTER);
+        this.expectedCount = expectedCount;
+        this.receivedCount = receivedCount;
+        this.uniqueCount = uniqueCount;
+        this.duplicatesCount = duplicatesCount;
+        this.unexpectedCount = unexpectedCount;
+        this.missingSequenceNumbers = missingSequenceNumbers;
+        this.latencyP50Ms = latencies.getValueAtPercentile(50) / MICROS_IN_MILLI;
+        this.latencyP99Ms = latencies.getValueAtPercentile(99) / MICROS_IN_MILLI;
+        this.latencyP999Ms = latencies.getValueAtPercentile(99.9) / MICROS_IN_MILLI;
+        this.latencyMaxMs = latencies.getMaxValue() / MICROS_IN_MILLI;
+        this.latencyMeanMs = latencies.getMean() / MICROS_IN_MILLI;
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    public String getStartTime() {
+        return startTime;
+    }
+
+    public long getExpectedCount() {
+        return expectedCount;
+    }
+
+    public long getReceivedCount() {
+        return receivedCount;
+    }
+
+    public long getUniqueCount() {
+        return uniqueCount;
+    }
+
+    /**
+     * @return messages not received (yet), also those sent before the listener joined the topic
+     */
+    public long getMissingCount() {
+        return expectedCount - uniqueCount;
+    }
+
+    public long getDuplicatesCount() {
+        return duplicatesCount;
+    }
+
+    /**
+     * @return messages with sequence number out of range of the run
+     */
+    public long getUnexpectedCount() {
+        return unexpectedCount;
+    }
+
+    public String getMissingSequenceNumbers() {
+        return missingSequenceNumbers;
+    }
+
+    public double getLatencyP50Ms() {
+        return latencyP50Ms;
+    }
+
+    public double getLatencyP99Ms() {
+        return latencyP99Ms;
+    }
+
+    public double getLatencyP999Ms() {
+        return latencyP999Ms;
+    }
+
+    public double getLatencyMaxMs() {
+        return latencyMaxMs;
+    }
+
+    public double getLatencyMeanMs() {
+        return latencyMeanMs;
+    }
+
+    public String toCsvLine() {
+        return String.format(Locale.ENGLISH, "\"%s\",%s,%d,%d,%d,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,\"%s\"",
+                             senderName.replace("\"", "\"\""),
+                             startTime,
+                             expectedCount,
+                             receivedCount,
+                             uniqueCount,
+                             getMissingCount(),
+                             duplicatesCount,
+                             unexpectedCount,
+                             latencyP50Ms,
+                             latencyP99Ms,
+                             latencyP999Ms,
+                             latencyMaxMs,
+                             latencyMeanMs,
+                             missingSequenceNumbers);
+    }
+}
@@ -0,0 +1,42 @@
+package application.kafka.benchmark;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import java.util.UUID;
+
+/**
+ * Stamps messages of one sending run with sequence number and send time headers,
+ * so a listener on the same topic can measure end-to-end latency and detect lost or duplicated messages.
+ */
+public final class LatencyProbeRun {
+
+    private final String senderName;
+    private final byte[] runId = LatencyProbeHeaders.encode(UUID.randomUUID().toString());
+    private final byte[] encodedSenderName;
+    private final byte[] processId = LatencyProbeHeaders.encode(LatencyProbeHeaders.CURRENT_PROCESS_ID);
+
+    public LatencyProbeRun(String senderName) {
+        this.senderName = senderName;
+        this.encodedSenderName = LatencyProbeHeaders.encode(senderName);
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    /**
+     * Should be called right before the message is handed over to the producer, as send time is taken here.
+     */
+    public Headers createHeaders(int sequenceNumber, int totalCount) {
+        final RecordHeaders headers = new RecordHeaders();
+        headers.add(LatencyProbeHeaders.RUN_ID, runId);
+        headers.add(LatencyProbeHeaders.SENDER_NAME, encodedSenderName);
+        headers.add(LatencyProbeHeaders.PROCESS_ID, processId);
+        headers.add(LatencyProbeHeaders.SEQUENCE_NUMBER, LatencyProbeHeaders.encode(sequenceNumber));
+        headers.add(LatencyProbeHeaders.TOTAL_COUNT, LatencyProbeHeaders.encode(totalCount));
+        headers.add(LatencyProbeHeaders.SENT_EPOCH_MS, LatencyProbeHeaders.encode(System.currentTimeMillis()));
+        headers.add(LatencyProbeHeaders.SENT_NANO_TIME, LatencyProbeHeaders.encode(System.nanoTime()));
+        return headers;
+    }
+}
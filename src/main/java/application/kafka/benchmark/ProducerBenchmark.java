@@ -0,0 +1,48 @@
+package application.kafka.benchmark;
+
+import application.kafka.sender.SentMessagesRecorder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects send-to-acknowledgement latencies and throughput of one benchmark run of a sender.
+ */
+public class ProducerBenchmark implements SentMessagesRecorder {
+
+    private final String senderName;
+    private final LocalDateTime startTime = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final ThroughputTimeline timeline = new ThroughputTimeline();
+    private final AtomicLong sentBytes = new AtomicLong(0);
+    private final AtomicLong failedCount = new AtomicLong(0);
+
+    public ProducerBenchmark(String senderName) {
+        this.senderName = senderName;
+    }
+
+    @Override
+    public void recordSent(long latencyNanos, long sizeBytes) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        timeline.record(sizeBytes);
+        sentBytes.addAndGet(sizeBytes);
+    }
+
+    @Override
+    public void recordFailed() {
+        failedCount.incrementAndGet();
+    }
+
+    public ProducerBenchmarkResult finish() {
+        return new ProducerBenchmarkResult(senderName,
+                                           startTime,
+                                           TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                                           latencies.getTotalCount(),
+                                           failedCount.get(),
+                                           sentBytes.get(),
+                                           latencies,
+                                           timeline.getSamples());
+    }
+}
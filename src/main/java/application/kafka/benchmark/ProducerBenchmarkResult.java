@@ -0,0 +1,120 @@
+package application.kafka.benchmark;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+public final class ProducerBenchmarkResult {
+
+    public static final String CSV_HEADER = "sender,start time,duration ms,sent,failed,msgs/s,MB/s," +
+        "latency p50 ms,latency p99 ms,latency p99.9 ms,latency max ms,latency mean ms";
+    private static final DateTimeFormatter START_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final double MICROS_IN_MILLI = 1000.0;
+    private static final double BYTES_IN_MEGABYTE = 1024.0 * 1024.0;
+    private final String senderName;
+    private final String startTime;
+    private final long durationMs;
+    private final long sentCount;
+    private final long failedCount;
+    private final double messagesPerSec;
+    private final double megabytesPerSec;
+    private final double latencyP50Ms;
+    private final double latencyP99Ms;
+    private final double latencyP999Ms;
+    private final double latencyMaxMs;
+    private final double latencyMeanMs;
+    private final List<ThroughputTimeline.ThroughputSample> throughputTimeline;
+
+    ProducerBenchmarkResult(String senderName,
+                            LocalDateTime startTime,
+                            long durationMs,
+                            long sentCount,
+                            long failedCount,
+                            long sentBytes,
+                            LatencyHistogram latencies,
+                            List<ThroughputTimeline.ThroughputSample> throughputTimeline) {
+        final double durationSec = Math.max(1, durationMs) / 1000.0;
+        this.senderName = senderName;
+        this.startTime = startTime.format(START_TIME_FORMATTER);
+        this.durationMs = durationMs;
+        this.sentCount = sentCount;
+        this.failedCount = failedCount;
+        this.messagesPerSec = sentCount / durationSec;
+        this.megabytesPerSec = sentBytes / BYTES_IN_MEGABYTE / durationSec;
+        this.latencyP50Ms = latencies.getValueAtPercentile(50) / MICROS_IN_MILLI;
+        this.latencyP99Ms = latencies.getValueAtPercentile(99) / MICROS_IN_MILLI;
+        this.latencyP999Ms = latencies.getValueAtPercentile(99.9) / MICROS_IN_MILLI;
+        this.latencyMaxMs = latencies.getMaxValue() / MICROS_IN_MILLI;
+        this.latencyMeanMs = latencies.getMean() / MICROS_IN_MILLI;
+        this.throughputTimeline = throughputTimeline;
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    public String getStartTime() {
+        return startTime;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public long getSentCount() {
+        return sentCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public double getMessagesPerSec() {
+        return messagesPerSec;
+    }
+
+    public double getMegabytesPerSec() {
+        return megabytesPerSec;
+    }
+
+    public double getLatencyP50Ms() {
+        return latencyP50Ms;
+    }
+
+    public double getLatencyP99Ms() {
+        return latencyP99Ms;
+    }
+
+    public double getLatencyP999Ms() {
+        return latencyP999Ms;
+    }
+
+    public double getLatencyMaxMs() {
+        return latencyMaxMs;
+    }
+
+    public double getLatencyMeanMs() {
+        return latencyMeanMs;
+    }
+
+    public List<ThroughputTimeline.ThroughputSample> getThroughputTimeline() {
+        return throughputTimeline;
+    }
+
+    public String toCsvLine() {
+        return String.format(Locale.ENGLISH, "\"%s\",%s,%d,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f",
+                             senderName.replace("\"", "\"\""),
+                             startTime,
+                             durationMs,
+                             sentCount,
+                             failedCount,
+                             messagesPerSec,
+                             megabytesPerSec,
+                             latencyP50Ms,
+                             latencyP99Ms,
+                             latencyP999Ms,
+                             latencyMaxMs,
+                             latencyMeanMs);
+    }
+}
@@ -0,0 +1,56 @@
+package application.kafka.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts records and bytes in one second intervals since the timeline was created.
+ */
+public class ThroughputTimeline {
+
+    private final long startNanos = System.nanoTime();
+    private final List<long[]> secondsCounts = new ArrayList<>();
+
+    public synchronized void record(long sizeBytes) {
+        final int second = (int) TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos);
+        while (secondsCounts.size() <= second) {
+            secondsCounts.add(new long[2]);
+        }
+        final long[] counts = secondsCounts.get(second);
+        counts[0]++;
+        counts[1] += sizeBytes;
+    }
+
+    public synchronized List<ThroughputSample> getSamples() {
+        final List<ThroughputSample> samples = new ArrayList<>(secondsCounts.size());
+        for (int i = 0; i < secondsCounts.size(); i++) {
+            samples.add(new ThroughputSample(i, secondsCounts.get(i)[0], secondsCounts.get(i)[1]));
+        }
+        return samples;
+    }
+
+    public static final class ThroughputSample {
+        private final int second;
+        private final long recordsCount;
+        private final long bytesCount;
+
+        ThroughputSample(int second, long recordsCount, long bytesCount) {
+            this.second = second;
+            this.recordsCount = recordsCount;
+            this.bytesCount = bytesCount;
+        }
+
+        public int getSecond() {
+            return second;
+        }
+
+        public long getRecordsCount() {
+            return recordsCount;
+        }
+
+        public long getBytesCount() {
+            return bytesCount;
+        }
+    }
+}
@@ -1,23 +1,32 @@
 package application.kafka.listener;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 
 final public class AssignedPartitionsInfo {
 
     private AssignmentChangeReason changeReason;
     private boolean isValid;
     private List<Integer> partitionsList;
+    private Map<String, List<Integer>> partitionsByMember;
 
     private AssignedPartitionsInfo() {
         this.isValid = false;
         this.partitionsList = null;
+        this.partitionsByMember = Collections.emptyMap();
     }
 
-    private AssignedPartitionsInfo(List<Integer> list, AssignmentChangeReason reason) {
+    private AssignedPartitionsInfo(List<Integer> list,
+                                   Map<String, List<Integer>> partitionsByMember,
+                                   AssignmentChangeReason reason) {
         changeReason = reason;
         isValid = true;
         partitionsList = new ArrayList<>(list);
+        this.partitionsByMember = partitionsByMember;
     }
 
     public static AssignedPartitionsInfo invalid() {
@@ -30,7 +39,21 @@ final public class AssignedPartitionsInfo {
         if (list == null) {
             return AssignedPartitionsInfo.invalid();
         }
-        return new AssignedPartitionsInfo(list, reason);
+        return new AssignedPartitionsInfo(list, Collections.emptyMap(), reason);
+    }
+
+    /**
+     * @param partitionsByMember partitions assigned to each consumer of a listener, partitions list is their union
+     */
+    public static AssignedPartitionsInfo fromMemberPartitions(Map<String, List<Integer>> partitionsByMember,
+                                                              AssignmentChangeReason reason) {
+        final Map<String, List<Integer>> copy = new LinkedHashMap<>();
+        final TreeSet<Integer> allPartitions = new TreeSet<>();
+        partitionsByMember.forEach((member, partitions) -> {
+            copy.put(member, Collections.unmodifiableList(new ArrayList<>(partitions)));
+            allPartitions.addAll(partitions);
+        });
+        return new AssignedPartitionsInfo(new ArrayList<>(allPartitions), Collections.unmodifiableMap(copy), reason);
     }
 
     public boolean isValid() {
@@ -41,6 +64,10 @@ final public class AssignedPartitionsInfo {
         return new ArrayList<>(partitionsList);
     }
 
+    public Map<String, List<Integer>> getPartitionsByMember() {
+        return partitionsByMember;
+    }
+
     public AssignmentChangeReason getChangeReason() {
         return changeReason;
     }
@@ -1,32 +1,98 @@
 package application.kafka.listener;
 
+import application.logging.Logger;
 import javafx.beans.property.ObjectProperty;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.common.TopicPartition;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Tracks partitions of one consumer (member) of a listener. Members of the same listener share
+ * partitionsByMember map, so partitions property always shows assignments of all of them.
+ * <p>
+ * When member's offset committer is bound, pending offsets of revoked partitions are committed
+ * before the partitions are handed over to other members.
+ */
 public class ConsumerPartitionsRebalanceListener implements ConsumerRebalanceListener {
 
     private final String topicName;
+    private final String memberName;
+    private final Map<String, List<Integer>> partitionsByMember;
     private ObjectProperty<AssignedPartitionsInfo> partitionsProperty;
+    private volatile Consumer<?, ?> consumer;
+    private volatile OffsetCommitter offsetCommitter;
 
 
     public ConsumerPartitionsRebalanceListener(String topicName,
+                                               String memberName,
+                                               Map<String, List<Integer>> partitionsByMember,
                                                ObjectProperty<AssignedPartitionsInfo> partitionsProperty) {
         this.topicName = topicName;
+        this.memberName = memberName;
+        this.partitionsByMember = partitionsByMember;
 
         this.partitionsProperty = partitionsProperty;
     }
 
+    /**
+     * Must be called before consumer subscribes, revoke callbacks are then run on consumer's thread during poll.
+     */
+    public void bindOffsetCommitter(Consumer<?, ?> consumer, OffsetCommitter offsetCommitter) {
+        this.consumer = consumer;
+        this.offsetCommitter = offsetCommitter;
+    }
+
     public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
-        updatePartitionList(partitions, AssignmentChangeReason.REVOKE);
+        commitRevokedPartitions(partitions);
+        synchronized (partitionsByMember) {
+            final List<Integer> memberPartitions = new ArrayList<>(partitionsByMember.getOrDefault(memberName,
+                                                                                                   new ArrayList<>()));
+            memberPartitions.removeAll(getPartitionsForTopic(partitions));
+            partitionsByMember.put(memberName, memberPartitions);
+            publish(AssignmentChangeReason.REVOKE);
+        }
+    }
+
+    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+        synchronized (partitionsByMember) {
+            partitionsByMember.put(memberName, getPartitionsForTopic(partitions));
+            publish(AssignmentChangeReason.ASSIGN);
+        }
+    }
+
+    /**
+     * Called when member's consumer is closed, partitions property becomes invalid after last member is closed.
+     */
+    public void onConsumerClosed() {
+        synchronized (partitionsByMember) {
+            partitionsByMember.remove(memberName);
+            if (partitionsByMember.isEmpty()) {
+                partitionsProperty.set(AssignedPartitionsInfo.invalid());
+                return;
+            }
+            publish(AssignmentChangeReason.REVOKE);
+        }
+    }
+
+    private void commitRevokedPartitions(Collection<TopicPartition> partitions) {
+        final OffsetCommitter committer = offsetCommitter;
+        if (committer == null) {
+            return;
+        }
+        try {
+            committer.commitPendingOffsets(consumer, partitions);
+        } catch (Exception e) {
+            Logger.warn(String.format("Consumer '%s' could not commit offsets of revoked partitions %s: %s",
+                                      memberName, partitions, e.getLocalizedMessage()));
+        }
     }
 
-    private void updatePartitionList(Collection<TopicPartition> partitions,
-                                     AssignmentChangeReason reason) {
+    private List<Integer> getPartitionsForTopic(Collection<TopicPartition> partitions) {
         List<Integer> partitionForTopic = new ArrayList<>();
         for (TopicPartition partition : partitions) {
 
@@ -34,10 +100,10 @@ public class ConsumerPartitionsRebalanceListener implements ConsumerRebalanceLis
                 partitionForTopic.add(partition.partition());
             }
         }
-        partitionsProperty.set(AssignedPartitionsInfo.fromPartitionList(partitionForTopic, reason));
+        return partitionForTopic;
     }
 
-    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
-        updatePartitionList(partitions, AssignmentChangeReason.ASSIGN);
+    private void publish(AssignmentChangeReason reason) {
+        partitionsProperty.set(AssignedPartitionsInfo.fromMemberPartitions(partitionsByMember, reason));
     }
 }
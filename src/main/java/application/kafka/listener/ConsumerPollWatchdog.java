@@ -0,0 +1,84 @@
+package application.kafka.listener;
+
+import application.logging.Logger;
+import application.root.Restartable;
+import application.utils.AppUtils;
+import org.apache.kafka.clients.consumer.Consumer;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ConsumerPollWatchdog implements Restartable {
+
+    public static final int ADDITIONAL_WAIT_DURATION_BEFORE_WAKEUP_MS = 2000;
+    private static final String THREAD_NAME = "KMT-Thread-Consumer-Poll-Watchdog";
+    private final AtomicLong firedWakeupsCount = new AtomicLong(0);
+    private final long additionalWaitBeforeWakeupMs;
+    private ScheduledThreadPoolExecutor executor;
+
+    public ConsumerPollWatchdog() {
+        this(ADDITIONAL_WAIT_DURATION_BEFORE_WAKEUP_MS);
+    }
+
+    public ConsumerPollWatchdog(long additionalWaitBeforeWakeupMs) {
+        this.additionalWaitBeforeWakeupMs = additionalWaitBeforeWakeupMs;
+        executor = createExecutor();
+    }
+
+    public ScheduledFuture<?> watch(Consumer<?, ?> consumer, long pollTimeoutMs) {
+        final long wakeUpDurationMs = pollTimeoutMs + additionalWaitBeforeWakeupMs;
+        return executor.schedule(() -> wakeUp(consumer, pollTimeoutMs, wakeUpDurationMs),
+                                 wakeUpDurationMs,
+                                 TimeUnit.MILLISECONDS);
+    }
+
+    public void unwatch(ScheduledFuture<?> pollDeadline) {
+        if (pollDeadline != null) {
+            pollDeadline.cancel(false);
+        }
+    }
+
+    public long getFiredWakeupsCount() {
+        return firedWakeupsCount.get();
+    }
+
+    public int getWatchedPollsCount() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor.isShutdown()) {
+            executor = createExecutor();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        executor.shutdownNow();
+    }
+
+    private void wakeUp(Consumer<?, ?> consumer, long pollTimeoutMs, long wakeUpDurationMs) {
+        AppUtils.runAndSwallowExceptions(consumer::wakeup);
+        final long totalFired = firedWakeupsCount.incrementAndGet();
+        Logger.warn(String.format("Waking up consumer (after %d ms), " +
+                                      "because consumer::poll() did not respond win its %d ms timeout. " +
+                                      "(+%d additional ms timeout, wakeups fired so far: %d)",
+                                  wakeUpDurationMs, pollTimeoutMs,
+                                  additionalWaitBeforeWakeupMs,
+                                  totalFired));
+    }
+
+    private static ScheduledThreadPoolExecutor createExecutor() {
+        final ScheduledThreadPoolExecutor e = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        // cancelled deadlines are the common case, don't let them pile up in the queue until they expire
+        e.setRemoveOnCancelPolicy(true);
+        return e;
+    }
+}
@@ -0,0 +1,39 @@
+package application.kafka.listener;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static application.utils.TimestampUtils.timeTimestampFromEpochMili;
+import static application.utils.TimestampUtils.timestampFromEpochMili;
+
+public class ConsumerRecordFormatter {
+
+    public static String format(ConsumerRecord<String, String> record, long receivedTimestampMs) {
+        return String.format("[%s] ConsumerRecord: (%s, key=%s, partition=%d, offset=%d)%nvalue '%s'%n",
+                             timeTimestampFromEpochMili(receivedTimestampMs),
+                             timestampFromEpochMili(record.timestamp()),
+                             record.key(),
+                             record.partition(),
+                             record.offset(),
+                             record.value());
+    }
+
+    public static String format(StoredRecord record) {
+        return String.format("ConsumerRecord: (%s, key=%s, partition=%d, offset=%d)%nvalue '%s'%n",
+                             timestampFromEpochMili(record.getTimestamp()),
+                             record.getKeyAsString(),
+                             record.getPartition(),
+                             record.getOffset(),
+                             record.getValueAsString());
+    }
+
+    public static List<String> format(ReceivedRecordsChunk chunk) {
+        final List<String> lines = new ArrayList<>(chunk.getRecordsCount());
+        for (ConsumerRecord<String, String> record : chunk.getRecords()) {
+            lines.add(format(record, chunk.getReceivedTimestampMs()));
+        }
+        return lines;
+    }
+}
@@ -1,50 +1,95 @@
 package application.kafka.listener;
 
+import application.kafka.benchmark.ConsumerBenchmark;
+import application.kafka.benchmark.ConsumerBenchmarkResult;
+import application.kafka.benchmark.LatencyProbeReceiver;
 import application.logging.Logger;
+import application.model.KafkaOffsetCommitStrategy;
 import application.model.modelobjects.KafkaBrokerConfig;
 import application.model.modelobjects.KafkaListenerConfig;
 import application.model.modelobjects.KafkaTopicConfig;
+import application.scripting.CompiledScriptsCache;
+import application.scripting.ScriptTimeoutWatchdog;
 import application.utils.AppUtils;
 import application.utils.HostInfo;
-import application.utils.TimestampUtils;
 import application.utils.kafka.KafkaBrokerHostInfo;
-import com.google.common.collect.Lists;
+import application.utils.kafka.KafkaPartitionUtils;
 import javafx.beans.property.*;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.consumer.*;
+import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 import org.apache.kafka.common.serialization.StringDeserializer;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
-import java.util.concurrent.FutureTask;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static application.utils.PropertiesUtils.prettyProperties;
-import static application.utils.TimestampUtils.timestampFromEpochMili;
-import static java.lang.Thread.sleep;
 
+/**
+ * Listener running one or more consumers (members) in the same consumer group, each on its own thread.
+ * Records received by all members are published to sinks as one stream. Records rejected by listener's
+ * {@link RecordFilter} or not selected by its {@link RecordSampler} are consumed and counted, but they are
+ * not published. Records exporter and record store, when enabled, receive all accepted records before sampling.
+ * <p>
+ * In assign mode members do not join any consumer group: selected partitions are split between members
+ * and read from configured start position, offsets are never committed.
+ */
 public class DefaultKafkaListener implements Listener {
 
     public static final int REPEAT_RATE_MS = 500;
-    private static final int ADDITIONAL_WAIT_DURATION_BEFORE_WAKEUP_MS = 2000;
-    private final StringProperty loggedText = new SimpleStringProperty();
+    private static final long BENCHMARK_RESULT_PUBLISH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MEMBERS_PUBLISH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final String DEFAULT_EXPORT_DIRECTORY_NAME = "kmt-export";
+    private final List<ReceivedRecordsSink> recordsSinks = new CopyOnWriteArrayList<>();
     private final KafkaListenerConfig listenerConfig;
+    private final ConsumerPollWatchdog pollWatchdog;
+    private final ScriptTimeoutWatchdog scriptTimeoutWatchdog;
     private final BooleanProperty isRunning = new SimpleBooleanProperty(false);
     private final ObjectProperty<AssignedPartitionsInfo> assignedPartitions = new SimpleObjectProperty<>();
+    private final LatencyProbeReceiver latencyProbeReceiver = new LatencyProbeReceiver();
+    private final ObjectProperty<ConsumerBenchmarkResult> benchmarkResult = new SimpleObjectProperty<>();
+    private final ObjectProperty<List<ListenerMemberInfo>> members = new SimpleObjectProperty<>(Collections.emptyList());
+    private final Object publishLock = new Object();
+    // only predicate of the latest start is needed, each predicate has its own class loader,
+    // so class of an evicted one is unloaded once members that run it stop
+    private final CompiledScriptsCache filterScripts = new CompiledScriptsCache(1);
 
     private final AtomicBoolean shouldBeRunning = new AtomicBoolean(false);
+    private final AtomicInteger receivedMessagesCount = new AtomicInteger(0);
+    private volatile List<ListenerMember> activeMembers = Collections.emptyList();
+    private volatile MappedRecordStore recordStore;
+    private volatile RollingFileExporter recordsExporter;
+    private volatile ConsumerBenchmark benchmark;
+    private volatile RecordSampler recordSampler;
+    private volatile String benchmarkStopReason;
     private KafkaBrokerHostInfo brokerHost;
-    private Consumer<String, String> consumer;
-    private FutureTask<Void> wakeUpTask;
-    private Thread fetchThread;
-    private int receivedMessagesCount = 0;
     private int receivedMessageLimit = 0;
+    private boolean isLatencyProbeEnabled = false;
+    private long lastBenchmarkResultPublishNanos;
+    private long lastMembersPublishNanos;
 
-    public DefaultKafkaListener(KafkaListenerConfig listenerConfig) {
+    public DefaultKafkaListener(KafkaListenerConfig listenerConfig,
+                                ConsumerPollWatchdog pollWatchdog,
+                                ScriptTimeoutWatchdog scriptTimeoutWatchdog) {
         this.listenerConfig = listenerConfig;
+        this.pollWatchdog = pollWatchdog;
+        this.scriptTimeoutWatchdog = scriptTimeoutWatchdog;
     }
 
     @Override
@@ -53,8 +98,28 @@ public class DefaultKafkaListener implements Listener {
     }
 
     @Override
-    public StringProperty loggedTextProperty() {
-        return loggedText;
+    public void addRecordsSink(ReceivedRecordsSink sink) {
+        recordsSinks.add(sink);
+    }
+
+    @Override
+    public void removeRecordsSink(ReceivedRecordsSink sink) {
+        recordsSinks.remove(sink);
+    }
+
+    @Override
+    public Optional<MappedRecordStore> getRecordStore() {
+        return Optional.ofNullable(recordStore);
+    }
+
+    @Override
+    public LatencyProbeReceiver getLatencyProbeReceiver() {
+        return latencyProbeReceiver;
+    }
+
+    @Override
+    public Optional<RollingFileExporter> getRecordsExporter() {
+        return Optional.ofNullable(recordsExporter);
     }
 
     @Override
@@ -67,6 +132,16 @@ public class DefaultKafkaListener implements Listener {
         return assignedPartitions;
     }
 
+    @Override
+    public ObjectProperty<ConsumerBenchmarkResult> benchmarkResultProperty() {
+        return benchmarkResult;
+    }
+
+    @Override
+    public ObjectProperty<List<ListenerMemberInfo>> membersProperty() {
+        return members;
+    }
+
     @Override
     public void start() {
         try {
@@ -85,199 +160,245 @@ public class DefaultKafkaListener implements Listener {
         }
     }
 
-    private void appendLog(String text) {
-        loggedText.set(text);
-    }
-
-    private Consumer<String, String> setUpConsumer() {
-        Logger.trace("Preparing consumer");
-        final String topicName = listenerConfig.getRelatedConfig().getTopicName();
-        final Consumer<String, String> consumer = createConsumer(brokerHost);
-        final List<String> topics = Collections.singletonList(topicName);
-        Logger.trace(String.format("Subscribing for topics '%s'", topics));
-        consumer.subscribe(topics, new ConsumerPartitionsRebalanceListener(topicName, assignedPartitions));
-        return consumer;
+    private void publishRecords(ReceivedRecordsChunk chunk) {
+        // chunk without records is still published when it reports consumed records that were not published
+        if (chunk.isEmpty() && chunk.getConsumedCount() == 0) {
+            return;
+        }
+        // members publish one chunk at a time, so sinks see a single stream of records
+        synchronized (publishLock) {
+            recordsSinks.forEach(sink -> sink.onRecordsReceived(chunk));
+        }
     }
 
-    private void fetch() {
+    private void tryStart() {
+        stop();
         if (!canUseTopicConfigForListener()) {
             Logger.error("Could not start consumer. Topic config is invalid.");
             return;
         }
 
-        final KafkaTopicConfig topicConfig = listenerConfig.getRelatedConfig();
         try {
-            receivedMessagesCount = 0;
-            receivedMessageLimit = Integer.parseInt(listenerConfig.getReceivedMsgLimitCount());
-            tryFetch(topicConfig);
-
-        } catch (WakeupException ignored) {
-            Logger.trace("Closing consumer due to wakeup()");
-            closeConsumer();
-
-        } catch (Throwable t) {
-            Logger.error("Exception for fetch()", t);
-        } finally {
-            if (isRunning.get()) {
-                Logger.info(String.format("Consumer stopped (topic:%s, consumer group:%s)", topicConfig.getTopicName(),
-                        listenerConfig.getConsumerGroup()));
-            }
-            shouldBeRunning.set(false);
-            isRunning.set(false);
+            // fails fast for invalid filter, members create their own filters when they start
+            RecordFilter.from(listenerConfig, filterScripts, scriptTimeoutWatchdog);
+        } catch (IllegalArgumentException e) {
+            Logger.error("Could not start consumer. Records filter is invalid: " + e.getMessage());
+            return;
         }
-    }
 
-    private void tryFetch(KafkaTopicConfig topicConfig) {
+        final KafkaTopicConfig topicConfig = listenerConfig.getRelatedConfig();
         final KafkaBrokerConfig brokerConfig = topicConfig.getRelatedConfig();
+        final int consumersCount = Integer.parseInt(listenerConfig.getConsumersCount());
+
+        if (listenerConfig.getAssignModeEnabled()) {
+            Logger.info(String.format("Starting consumer '%s' in assign mode, partitions '%s', start position %s %s, " +
+                                          "consumers count %d",
+                    listenerConfig.getName(),
+                    listenerConfig.getAssignPartitions(),
+                    listenerConfig.getStartPosition(),
+                    listenerConfig.getStartPositionValue(),
+                    consumersCount));
+        } else {
+            Logger.info(String.format("Starting consumer '%s',  consumer group '%s', consumers count %d",
+                    listenerConfig.getName(),
+                    listenerConfig.getConsumerGroup(),
+                    consumersCount));
+        }
 
-        Logger.info(String.format("Starting consumer '%s',  consumer group '%s'",
-                listenerConfig.getName(),
-                listenerConfig.getConsumerGroup()));
-
-        this.brokerHost = brokerConfig.getHostInfo();
-        consumer = setUpConsumer();
+        brokerHost = brokerConfig.getHostInfo();
+        receivedMessagesCount.set(0);
+        receivedMessageLimit = Integer.parseInt(listenerConfig.getReceivedMsgLimitCount());
+        isLatencyProbeEnabled = listenerConfig.getLatencyProbeEnabled();
+        prepareRecordStore();
+        prepareRecordsExporter();
+        prepareBenchmark();
+        recordSampler = new RecordSampler(listenerConfig.getSamplingMode(),
+                                          Long.parseLong(listenerConfig.getSamplingValue()),
+                                          Long.parseLong(listenerConfig.getSamplingWindowMs()));
+
+        final Map<String, List<Integer>> partitionsByMember = new LinkedHashMap<>();
+        final AtomicInteger runningMembersCount = new AtomicInteger(consumersCount);
+        final List<ListenerMember> newMembers = new ArrayList<>();
+        for (int i = 0; i < consumersCount; i++) {
+            newMembers.add(new ListenerMember(consumersCount == 1 ? listenerConfig.getName()
+                                                                  : listenerConfig.getName() + "-" + (i + 1),
+                                              i,
+                                              consumersCount,
+                                              partitionsByMember,
+                                              runningMembersCount));
+        }
+        activeMembers = Collections.unmodifiableList(newMembers);
+        lastMembersPublishNanos = System.nanoTime();
 
         shouldBeRunning.set(true);
         isRunning.set(true);
-
-        Logger.info(String.format("Consumer started (topic:%s, consumer group:%s)", topicConfig.getTopicName(),
-                listenerConfig.getConsumerGroup()));
-        final long pollTimeout = Long.parseLong(listenerConfig.getPollTimeout());
-
-        while (shouldBeRunning.get()) {
-            consume(consumer, pollTimeout);
-        }
-
-        closeConsumer();
-    }
-
-    private void closeConsumer() {
-        AppUtils.runAndSwallowExceptions(() -> {
-            if (consumer != null) {
-                consumer.unsubscribe();
-                consumer.close();
-                assignedPartitions.set(AssignedPartitionsInfo.invalid());
-            }
-        });
+        newMembers.forEach(ListenerMember::start);
     }
 
-    private boolean canUseTopicConfigForListener() {
-        final KafkaTopicConfig topicConfig = listenerConfig.getRelatedConfig();
-        return topicConfig != null && topicConfig.getRelatedConfig() != null;
-    }
-
-    private Consumer<String, String> createConsumer(HostInfo hostname) {
-        final Properties config = createConsumerProperties(hostname);
-        return new KafkaConsumer<>(config);
+    private void prepareBenchmark() {
+        if (!listenerConfig.getBenchmarkModeEnabled()) {
+            benchmark = null;
+            return;
+        }
+        benchmark = new ConsumerBenchmark(listenerConfig.getName(),
+                                          TimeUnit.SECONDS.toMillis(Long.parseLong(
+                                              listenerConfig.getBenchmarkTimeLimitSec())));
+        benchmarkStopReason = "stopped by user";
+        lastBenchmarkResultPublishNanos = System.nanoTime();
+        Logger.info(String.format("Benchmark of listener '%s' started, records will not be displayed",
+                                  listenerConfig.getName()));
     }
 
-    private void consume(Consumer<String, String> consumer, long pollTimeout) {
-        startWakeUpTask(pollTimeout);
-        final ConsumerRecords<String, String> records = consumer.poll(pollTimeout);
-        cancelWakeupTask();
-
-
-        final ArrayList<ConsumerRecord<String, String>> consumerRecords = Lists.newArrayList(records);
-        final String topicName = listenerConfig.getRelatedConfig().getTopicName();
-
-        for (ConsumerRecord<String, String> record : consumerRecords) {
-            if (wasReceivedMsgLimitReached(receivedMessagesCount)) {
-                shouldBeRunning.set(false);
-                return;
-            }
-
-            receivedMessagesCount++;
-            logConsumerRecord(record);
-            final TopicPartition topicPartition = new TopicPartition(topicName,
-                    record.partition());
-            final OffsetAndMetadata offsetAndMetadata = new OffsetAndMetadata(record.offset() + 1);
-            consumer.commitSync(Collections.singletonMap(topicPartition, offsetAndMetadata));
+    private void memberStopped(ListenerMember member) {
+        if (member.runningMembersCount.decrementAndGet() > 0 || !activeMembers.contains(member)) {
+            return;
+        }
+        // last member of currently active members stopped
+        final ConsumerBenchmark finishedBenchmark = benchmark;
+        if (finishedBenchmark != null) {
+            final ConsumerBenchmarkResult result = finishedBenchmark.getResult();
+            benchmarkResult.set(result);
+            Logger.info(String.format("Benchmark of listener '%s' finished (%s): %s",
+                                      listenerConfig.getName(), benchmarkStopReason, result.toSummary()));
+        }
+        publishMembersIfNeeded(true);
+        publishLastSampledRecords();
+        final RollingFileExporter exporter = recordsExporter;
+        if (exporter != null) {
+            exporter.close();
+            Logger.info(String.format("Listener '%s' exported %d records to '%s'",
+                                      listenerConfig.getName(),
+                                      exporter.getExportedRecordsCount(),
+                                      exporter.getDirectory()));
         }
+        if (isRunning.get()) {
+            Logger.info(String.format("Consumer stopped (topic:%s, consumer group:%s)",
+                    listenerConfig.getRelatedConfig().getTopicName(),
+                    listenerConfig.getConsumerGroup()));
+        }
+        shouldBeRunning.set(false);
+        isRunning.set(false);
     }
 
-    private boolean wasReceivedMsgLimitReached(int receivedMessagesCount) {
-        if (listenerConfig.getReceivedMsgLimitEnabled() &&
-                receivedMessagesCount >= receivedMessageLimit) {
-            return true;
+    private void publishLastSampledRecords() {
+        final RecordSampler sampler = recordSampler;
+        if (sampler == null) {
+            return;
+        }
+        // records were counted as consumed when they were received, so the chunk reports no consumed ones
+        final List<ConsumerRecord<String, String>> sampled = sampler.flush();
+        if (!sampled.isEmpty()) {
+            publishRecords(ReceivedRecordsChunk.from(sampled, 0, 0, 0, System.currentTimeMillis()));
         }
-        return false;
     }
 
-    private void logConsumerRecord(ConsumerRecord<String, String> record) {
-        appendLog(prepareConsumerRecordToBeLogged(record));
+    private void stopAllMembers(ListenerMember requestingMember) {
+        shouldBeRunning.set(false);
+        // other members could wait for records until poll timeout expires
+        activeMembers.stream()
+            .filter(member -> member != requestingMember)
+            .forEach(ListenerMember::wakeUp);
     }
 
-
-    private void startWakeUpTask(long pollTimeout) {
-        wakeUpTask = scheduleWakeupTask(pollTimeout);
+    private synchronized void publishBenchmarkResultIfNeeded(ConsumerBenchmark benchmark) {
+        final long now = System.nanoTime();
+        if (now - lastBenchmarkResultPublishNanos >= BENCHMARK_RESULT_PUBLISH_INTERVAL_NANOS) {
+            lastBenchmarkResultPublishNanos = now;
+            benchmarkResult.set(benchmark.getResult());
+        }
     }
 
-    private void cancelWakeupTask() {
-        if (wakeUpTask == null) {
+    private synchronized void publishMembersIfNeeded(boolean force) {
+        final long now = System.nanoTime();
+        if (!force && now - lastMembersPublishNanos < MEMBERS_PUBLISH_INTERVAL_NANOS) {
             return;
         }
-        wakeUpTask.cancel(true);
-        wakeUpTask = null;
+        lastMembersPublishNanos = now;
+        members.set(activeMembers.stream()
+                        .map(member -> member.throughput.snapshot(member.getAssignedPartitions(), now))
+                        .collect(Collectors.toList()));
     }
 
-    private FutureTask<Void> scheduleWakeupTask(long pollTimeoutMs) {
-        FutureTask<Void> task = new FutureTask<>(() -> {
-            final long wakeUpDurationMs = pollTimeoutMs + ADDITIONAL_WAIT_DURATION_BEFORE_WAKEUP_MS;
-            sleep(wakeUpDurationMs);
-            Logger.warn(String.format("Waking up consumer (after %d ms), " +
-                            "because consumer::poll() did not respond win its %d ms timeout. " +
-                            "(+%d additional ms timeout)"
-                    , wakeUpDurationMs, pollTimeoutMs,
-                    ADDITIONAL_WAIT_DURATION_BEFORE_WAKEUP_MS));
-            wakeUpConsumer();
-            return null;
-        });
-        // todo: consider thread pool
-        new Thread(task, "KMT-Thread-Consumer-Poll-WakeUp").start();
-        return task;
+    private void prepareRecordStore() {
+        if (!listenerConfig.getRecordStoreEnabled()) {
+            closeRecordStore();
+            return;
+        }
+        final long diskBudgetBytes = Long.parseLong(listenerConfig.getRecordStoreDiskBudgetMb()) * 1024 * 1024;
+        if (recordStore != null && recordStore.getDiskBudgetBytes() == diskBudgetBytes) {
+            return;
+        }
+        closeRecordStore();
+        try {
+            recordStore = MappedRecordStore.createInTempDirectory(listenerConfig.getName(), diskBudgetBytes);
+        } catch (IOException e) {
+            Logger.error("Could not create record store for listener " + listenerConfig.getName(), e);
+        }
     }
 
-    private void wakeUpConsumer() {
-        AppUtils.runAndSwallowExceptions(() -> {
-            if (consumer != null) {
-                consumer.wakeup();
-            }
-        });
+    private void closeRecordStore() {
+        if (recordStore != null) {
+            recordStore.close();
+            recordStore = null;
+        }
     }
 
-    private String prepareConsumerRecordToBeLogged(ConsumerRecord<String, String> record) {
-        return String.format("[%s] ConsumerRecord: (%s, key=%s, partition=%d, offset=%d)%nvalue '%s'%n",
-                TimestampUtils.nowTimeTimestamp(),
-                timestampFromEpochMili(record.timestamp()),
-                record.key(),
-                record.partition(),
-                record.offset(),
-                record.value());
+    private void prepareRecordsExporter() {
+        // exporter of previous start could still be open when its members did not stop yet
+        if (recordsExporter != null) {
+            recordsExporter.close();
+            recordsExporter = null;
+        }
+        if (!listenerConfig.getExportEnabled() || listenerConfig.getBenchmarkModeEnabled()) {
+            return;
+        }
+        final Path directory = StringUtils.isBlank(listenerConfig.getExportDirectory())
+                               ? Paths.get(System.getProperty("user.home"), DEFAULT_EXPORT_DIRECTORY_NAME)
+                               : Paths.get(listenerConfig.getExportDirectory());
+        final RollingFileExporter exporter = new RollingFileExporter(
+            directory,
+            listenerConfig.getName(),
+            listenerConfig.getExportFormat(),
+            listenerConfig.getExportGzipEnabled(),
+            Long.parseLong(listenerConfig.getExportRollSizeMb()) * 1024 * 1024,
+            TimeUnit.SECONDS.toMillis(Long.parseLong(listenerConfig.getExportRollIntervalSec())));
+        try {
+            exporter.start();
+            recordsExporter = exporter;
+            Logger.info(String.format("Listener '%s' exports records to '%s'", listenerConfig.getName(), directory));
+        } catch (IOException e) {
+            Logger.error("Could not create export directory " + directory, e);
+        }
     }
 
-    private void tryStart() {
-        stop();
-        fetchThread = new Thread(this::fetch, buildThreadNameForDebugging());
-        fetchThread.start();
+    private boolean canUseTopicConfigForListener() {
+        final KafkaTopicConfig topicConfig = listenerConfig.getRelatedConfig();
+        return topicConfig != null && topicConfig.getRelatedConfig() != null;
     }
 
-    private String buildThreadNameForDebugging() {
-        return "KMT-Thread-KafkaListener:" + listenerConfig.getName();
+    private boolean wasReceivedMsgLimitReached() {
+        if (listenerConfig.getReceivedMsgLimitEnabled() &&
+                receivedMessagesCount.getAndIncrement() >= receivedMessageLimit) {
+            return true;
+        }
+        return false;
     }
 
     private void tryStop() {
 
         shouldBeRunning.set(false);
-        cancelWakeupTask();
-        wakeUpConsumer();
+        activeMembers.forEach(ListenerMember::wakeUp);
     }
 
-    private Properties createConsumerProperties(HostInfo hostInfo) {
-        final Properties config = new Properties();
+    private Properties createConsumerProperties(HostInfo hostInfo, String clientId) {
+        final Properties config = listenerConfig.getConsumerProfile().toConsumerProperties();
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, hostInfo.toHostPortString());
-        config.put(ConsumerConfig.GROUP_ID_CONFIG, listenerConfig.getConsumerGroup());
-        config.put(ConsumerConfig.CLIENT_ID_CONFIG, listenerConfig.getName());
-        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "true");
+        if (!listenerConfig.getAssignModeEnabled()) {
+            config.put(ConsumerConfig.GROUP_ID_CONFIG, listenerConfig.getConsumerGroup());
+        }
+        config.put(ConsumerConfig.CLIENT_ID_CONFIG, clientId);
+        // offsets are committed by OffsetCommitter according to listener's commit strategy
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
         config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
         config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, listenerConfig.getOffsetResetConfig().value());
@@ -286,4 +407,298 @@ public class DefaultKafkaListener implements Listener {
         return config;
     }
 
+    private static long sizeOf(ConsumerRecords<String, String> records) {
+        long bytesCount = 0;
+        for (ConsumerRecord<String, String> record : records) {
+            bytesCount += ReceivedRecordsChunk.sizeOf(record);
+        }
+        return bytesCount;
+    }
+
+    /**
+     * One consumer of the listener, polling on its own thread.
+     */
+    private class ListenerMember {
+
+        private final String name;
+        private final int memberIndex;
+        private final int membersCount;
+        private final Map<String, List<Integer>> partitionsByMember;
+        private final AtomicInteger runningMembersCount;
+        private final ListenerMemberThroughput throughput;
+        private final ConsumerPartitionsRebalanceListener rebalanceListener;
+        private volatile Consumer<String, String> consumer;
+        private volatile ScheduledFuture<?> pollDeadline;
+        private OffsetCommitter offsetCommitter;
+        private RecordFilter recordFilter = RecordFilter.acceptingAll();
+
+        ListenerMember(String name,
+                       int memberIndex,
+                       int membersCount,
+                       Map<String, List<Integer>> partitionsByMember,
+                       AtomicInteger runningMembersCount) {
+            this.name = name;
+            this.memberIndex = memberIndex;
+            this.membersCount = membersCount;
+            this.partitionsByMember = partitionsByMember;
+            this.runningMembersCount = runningMembersCount;
+            throughput = new ListenerMemberThroughput(name, System.nanoTime());
+            rebalanceListener = new ConsumerPartitionsRebalanceListener(listenerConfig.getRelatedConfig().getTopicName(),
+                                                                        name,
+                                                                        partitionsByMember,
+                                                                        assignedPartitions);
+        }
+
+        void start() {
+            final Thread fetchThread = new Thread(this::fetch, buildThreadNameForDebugging());
+            fetchThread.start();
+        }
+
+        List<Integer> getAssignedPartitions() {
+            synchronized (partitionsByMember) {
+                return new ArrayList<>(partitionsByMember.getOrDefault(name, Collections.emptyList()));
+            }
+        }
+
+        private List<Integer> getPartitionsOfAllMembers() {
+            synchronized (partitionsByMember) {
+                return partitionsByMember.values().stream().flatMap(List::stream).collect(Collectors.toList());
+            }
+        }
+
+        private String buildThreadNameForDebugging() {
+            return "KMT-Thread-KafkaListener:" + name;
+        }
+
+        private void fetch() {
+            final KafkaTopicConfig topicConfig = listenerConfig.getRelatedConfig();
+            try {
+                tryFetch(topicConfig);
+
+            } catch (WakeupException ignored) {
+                Logger.trace("Closing consumer due to wakeup()");
+                closeConsumer();
+
+            } catch (Throwable t) {
+                Logger.error("Exception for fetch()", t);
+            } finally {
+                recordFilter.close();
+                memberStopped(this);
+            }
+        }
+
+        private void tryFetch(KafkaTopicConfig topicConfig) {
+            // there is no group to commit offsets to in assign mode
+            offsetCommitter = new OffsetCommitter(listenerConfig.getAssignModeEnabled()
+                                                  ? KafkaOffsetCommitStrategy.NONE
+                                                  : listenerConfig.getOffsetCommitStrategy(),
+                                                  Long.parseLong(listenerConfig.getCommitInterval()));
+            recordFilter = RecordFilter.from(listenerConfig, filterScripts, scriptTimeoutWatchdog);
+            consumer = setUpConsumer();
+            if (!shouldBeRunning.get()) {
+                // listener was stopped while consumer was created, so wakeUp() could not reach it
+                closeConsumer();
+                return;
+            }
+            if (consumer.assignment().isEmpty() && listenerConfig.getAssignModeEnabled()) {
+                Logger.info(String.format("Consumer '%s' has no partitions to read", name));
+                closeConsumer();
+                return;
+            }
+
+            Logger.info(String.format("Consumer '%s' started (topic:%s, consumer group:%s)", name,
+                    topicConfig.getTopicName(),
+                    listenerConfig.getAssignModeEnabled() ? "<none>" : listenerConfig.getConsumerGroup()));
+            final long pollTimeout = Long.parseLong(listenerConfig.getPollTimeout());
+
+            final ConsumerBenchmark currentBenchmark = benchmark;
+            if (currentBenchmark != null) {
+                runBenchmark(pollTimeout, currentBenchmark);
+            } else {
+                while (shouldBeRunning.get()) {
+                    consume(pollTimeout);
+                }
+            }
+
+            closeConsumer();
+        }
+
+        private Consumer<String, String> setUpConsumer() {
+            Logger.trace("Preparing consumer " + name);
+            final String topicName = listenerConfig.getRelatedConfig().getTopicName();
+            final Consumer<String, String> consumer = new KafkaConsumer<>(createConsumerProperties(brokerHost, name));
+            rebalanceListener.bindOffsetCommitter(consumer, offsetCommitter);
+            if (listenerConfig.getAssignModeEnabled()) {
+                assignPartitions(consumer, topicName);
+                return consumer;
+            }
+            final List<String> topics = Collections.singletonList(topicName);
+            Logger.trace(String.format("Subscribing for topics '%s'", topics));
+            consumer.subscribe(topics, rebalanceListener);
+            return consumer;
+        }
+
+        private void assignPartitions(Consumer<String, String> consumer, String topicName) {
+            final List<PartitionInfo> partitionInfos = consumer.partitionsFor(topicName);
+            final List<Integer> existingPartitions = partitionInfos == null
+                                                     ? Collections.emptyList()
+                                                     : partitionInfos.stream()
+                                                         .map(PartitionInfo::partition)
+                                                         .sorted()
+                                                         .collect(Collectors.toList());
+            final List<Integer> requestedPartitions = KafkaPartitionUtils.parsePartitions(listenerConfig.getAssignPartitions());
+            final List<Integer> partitionsToRead = requestedPartitions.isEmpty() ? existingPartitions
+                                                                                 : requestedPartitions;
+            if (!existingPartitions.containsAll(partitionsToRead)) {
+                Logger.warn(String.format("Some of partitions %s do not exist in topic '%s', existing partitions: %s",
+                                          partitionsToRead, topicName, existingPartitions));
+                partitionsToRead.retainAll(existingPartitions);
+            }
+
+            // members of the listener take every n-th partition
+            final List<TopicPartition> memberPartitions = new ArrayList<>();
+            for (int i = memberIndex; i < partitionsToRead.size(); i += membersCount) {
+                memberPartitions.add(new TopicPartition(topicName, partitionsToRead.get(i)));
+            }
+            consumer.assign(memberPartitions);
+            final Map<TopicPartition, Long> startOffsets = StartOffsetsResolver.resolve(consumer,
+                                                                                        memberPartitions,
+                                                                                        listenerConfig.getStartPosition(),
+                                                                                        listenerConfig.getStartPositionValue());
+            startOffsets.forEach(consumer::seek);
+            rebalanceListener.onPartitionsAssigned(memberPartitions);
+            Logger.info(String.format("Consumer '%s' assigned to partitions of topic '%s', start offsets: %s",
+                                      name, topicName, startOffsets));
+        }
+
+        private void consume(long pollTimeout) {
+            startWakeUpTask(pollTimeout);
+            final ConsumerRecords<String, String> records = consumer.poll(pollTimeout);
+            cancelWakeupTask();
+
+
+            final List<ConsumerRecord<String, String>> acceptedRecords = new ArrayList<>(records.count());
+            int consumedCount = 0;
+            long consumedBytes = 0;
+            int filteredOutCount = 0;
+
+            for (ConsumerRecord<String, String> record : records) {
+                // filtered out records are consumed (and committed) without counting towards receive limit
+                if (!recordFilter.accepts(record)) {
+                    filteredOutCount++;
+                } else if (wasReceivedMsgLimitReached()) {
+                    stopAllMembers(this);
+                    break;
+                } else {
+                    acceptedRecords.add(record);
+                }
+                consumedCount++;
+                consumedBytes += ReceivedRecordsChunk.sizeOf(record);
+                offsetCommitter.recordConsumed(record);
+            }
+            final long receivedTimestampMs = System.currentTimeMillis();
+            // probe needs all accepted records to detect lost sequence numbers, export and record store
+            // have to be complete, so all of them get records before sampling
+            final RollingFileExporter exporter = recordsExporter;
+            final MappedRecordStore store = recordStore;
+            if (isLatencyProbeEnabled || exporter != null || store != null) {
+                final ReceivedRecordsChunk acceptedChunk = ReceivedRecordsChunk.from(acceptedRecords, receivedTimestampMs);
+                if (isLatencyProbeEnabled) {
+                    latencyProbeReceiver.onRecordsReceived(acceptedChunk);
+                }
+                if (exporter != null) {
+                    exporter.onRecordsReceived(acceptedChunk);
+                }
+                if (store != null) {
+                    store.onRecordsReceived(acceptedChunk);
+                }
+            }
+            final ReceivedRecordsChunk chunk = ReceivedRecordsChunk.from(recordSampler.sample(acceptedRecords),
+                                                                         consumedCount,
+                                                                         consumedBytes,
+                                                                         filteredOutCount,
+                                                                         receivedTimestampMs);
+            throughput.recordsReceived(consumedCount, consumedBytes);
+            publishRecords(chunk);
+            offsetCommitter.commitIfNeeded(consumer);
+            publishMembersIfNeeded(false);
+        }
+
+        private void runBenchmark(long pollTimeout, ConsumerBenchmark benchmark) {
+            while (shouldBeRunning.get()) {
+                consumeForBenchmark(pollTimeout, benchmark);
+                if (benchmark.isTimeLimitExceeded()) {
+                    benchmarkStopReason = "time limit reached";
+                    stopAllMembers(this);
+                    break;
+                }
+                if (benchmark.hasReachedEndOffsets(getPartitionsOfAllMembers())) {
+                    benchmarkStopReason = "end offsets reached";
+                    stopAllMembers(this);
+                    break;
+                }
+                publishBenchmarkResultIfNeeded(benchmark);
+                publishMembersIfNeeded(false);
+            }
+        }
+
+        private void consumeForBenchmark(long pollTimeout, ConsumerBenchmark benchmark) {
+            startWakeUpTask(pollTimeout);
+            final long pollStartNanos = System.nanoTime();
+            final ConsumerRecords<String, String> records = consumer.poll(pollTimeout);
+            // records are only counted, they are neither formatted nor published to sinks
+            benchmark.recordPoll(System.nanoTime() - pollStartNanos, records);
+            cancelWakeupTask();
+            throughput.recordsReceived(records.count(), sizeOf(records));
+
+            final List<TopicPartition> untrackedPartitions = consumer.assignment().stream()
+                .filter(topicPartition -> !benchmark.isTracked(topicPartition.partition()))
+                .collect(Collectors.toList());
+            if (!untrackedPartitions.isEmpty()) {
+                final Map<TopicPartition, Long> endOffsets = consumer.endOffsets(untrackedPartitions);
+                endOffsets.forEach((topicPartition, endOffset) -> benchmark.trackPartition(topicPartition.partition(),
+                                                                                           consumer.position(topicPartition),
+                                                                                           endOffset));
+            }
+            consumer.assignment().forEach(topicPartition -> benchmark.updatePosition(topicPartition.partition(),
+                                                                                     consumer.position(topicPartition)));
+        }
+
+        private void closeConsumer() {
+            AppUtils.runAndSwallowExceptions(() -> {
+                if (consumer != null) {
+                    commitPendingOffsets();
+                    consumer.unsubscribe();
+                    consumer.close();
+                    rebalanceListener.onConsumerClosed();
+                }
+            });
+        }
+
+        private void commitPendingOffsets() {
+            AppUtils.runAndSwallowExceptions(() -> {
+                if (offsetCommitter != null) {
+                    offsetCommitter.commitPendingOffsets(consumer);
+                }
+            });
+        }
+
+        private void startWakeUpTask(long pollTimeout) {
+            pollDeadline = pollWatchdog.watch(consumer, pollTimeout);
+        }
+
+        private void cancelWakeupTask() {
+            pollWatchdog.unwatch(pollDeadline);
+            pollDeadline = null;
+        }
+
+        private void wakeUp() {
+            AppUtils.runAndSwallowExceptions(() -> {
+                cancelWakeupTask();
+                if (consumer != null) {
+                    consumer.wakeup();
+                }
+            });
+        }
+    }
 }
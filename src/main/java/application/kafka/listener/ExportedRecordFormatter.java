@@ -0,0 +1,109 @@
+package application.kafka.listener;
+
+import application.model.ExportFormat;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+/**
+ * Formats consumed records as lines of exported files. Null key/value is exported as JSON null,
+ * empty CSV field or empty line.
+ */
+public final class ExportedRecordFormatter {
+
+    private static final String CSV_HEADER = "timestamp,topic,partition,offset,key,value\n";
+
+    private ExportedRecordFormatter() {
+    }
+
+    public static String fileExtension(ExportFormat format) {
+        switch (format) {
+            case CSV:
+                return ".csv";
+            case RAW_VALUE:
+                return ".txt";
+            default:
+                return ".jsonl";
+        }
+    }
+
+    /**
+     * @return line written at the beginning of every file, empty if format has no header
+     */
+    public static String header(ExportFormat format) {
+        return format == ExportFormat.CSV ? CSV_HEADER : "";
+    }
+
+    public static void format(ExportFormat format, ConsumerRecord<String, String> record, StringBuilder out) {
+        switch (format) {
+            case CSV:
+                out.append(record.timestamp()).append(',');
+                appendCsvField(record.topic(), out);
+                out.append(',').append(record.partition()).append(',').append(record.offset()).append(',');
+                appendCsvField(record.key(), out);
+                out.append(',');
+                appendCsvField(record.value(), out);
+                break;
+            case RAW_VALUE:
+                if (record.value() != null) {
+                    out.append(record.value());
+                }
+                break;
+            default:
+                out.append("{\"timestamp\":").append(record.timestamp()).append(",\"topic\":");
+                appendJsonString(record.topic(), out);
+                out.append(",\"partition\":").append(record.partition())
+                    .append(",\"offset\":").append(record.offset())
+                    .append(",\"key\":");
+                appendJsonString(record.key(), out);
+                out.append(",\"value\":");
+                appendJsonString(record.value(), out);
+                out.append('}');
+        }
+        out.append('\n');
+    }
+
+    private static void appendCsvField(String value, StringBuilder out) {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            out.append(value);
+            return;
+        }
+        out.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static void appendJsonString(String value, StringBuilder out) {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+}
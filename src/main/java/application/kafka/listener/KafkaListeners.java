@@ -2,6 +2,7 @@
 package application.kafka.listener;
 
 import application.model.modelobjects.KafkaListenerConfig;
+import application.scripting.ScriptTimeoutWatchdog;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -9,6 +10,13 @@ import java.util.Set;
 public class KafkaListeners implements Listeners {
 
     private final Set<Listener> listeners = new HashSet<>();
+    private final ConsumerPollWatchdog pollWatchdog;
+    private final ScriptTimeoutWatchdog scriptTimeoutWatchdog;
+
+    public KafkaListeners(ConsumerPollWatchdog pollWatchdog, ScriptTimeoutWatchdog scriptTimeoutWatchdog) {
+        this.pollWatchdog = pollWatchdog;
+        this.scriptTimeoutWatchdog = scriptTimeoutWatchdog;
+    }
 
 
     private Listener getByListenerConfigUuid(String uuid) {
@@ -25,7 +33,7 @@ public class KafkaListeners implements Listeners {
     public Listener getListener(KafkaListenerConfig listenerConfig) {
         Listener listener = getByListenerConfigUuid(listenerConfig.getUuid());
         if (null == listener) {
-            listener = new DefaultKafkaListener(listenerConfig);
+            listener = new DefaultKafkaListener(listenerConfig, pollWatchdog, scriptTimeoutWatchdog);
             listeners.add(listener);
         }
         return listener;
@@ -1,19 +1,38 @@
 package application.kafka.listener;
 
+import application.kafka.benchmark.ConsumerBenchmarkResult;
+import application.kafka.benchmark.LatencyProbeReceiver;
 import application.model.modelobjects.KafkaListenerConfig;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.StringProperty;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface Listener {
     KafkaListenerConfig getListenerConfig();
 
-    StringProperty loggedTextProperty();
+    void addRecordsSink(ReceivedRecordsSink sink);
+
+    void removeRecordsSink(ReceivedRecordsSink sink);
+
+    Optional<MappedRecordStore> getRecordStore();
+
+    LatencyProbeReceiver getLatencyProbeReceiver();
+
+    // exporter of the latest start, it stays available (closed) after listener stops
+    Optional<RollingFileExporter> getRecordsExporter();
 
     BooleanProperty isRunningProperty();
 
     ObjectProperty<AssignedPartitionsInfo> assignedPartitionsProperty();
 
+    // updated from consumer thread about once per second while listener runs in benchmark mode
+    ObjectProperty<ConsumerBenchmarkResult> benchmarkResultProperty();
+
+    // consumers of the listener with their partitions and throughput, updated from consumer threads about once per second
+    ObjectProperty<List<ListenerMemberInfo>> membersProperty();
+
     void start();
 
     void stop();
@@ -0,0 +1,56 @@
+package application.kafka.listener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Snapshot of one consumer of a listener: its assigned partitions and throughput since previous snapshot.
+ */
+public final class ListenerMemberInfo {
+
+    private final String memberName;
+    private final List<Integer> partitions;
+    private final long recordsCount;
+    private final long bytesCount;
+    private final double recordsPerSecond;
+    private final double bytesPerSecond;
+
+    public ListenerMemberInfo(String memberName,
+                              List<Integer> partitions,
+                              long recordsCount,
+                              long bytesCount,
+                              double recordsPerSecond,
+                              double bytesPerSecond) {
+        this.memberName = memberName;
+        this.partitions = Collections.unmodifiableList(new ArrayList<>(partitions));
+        this.recordsCount = recordsCount;
+        this.bytesCount = bytesCount;
+        this.recordsPerSecond = recordsPerSecond;
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    public String getMemberName() {
+        return memberName;
+    }
+
+    public List<Integer> getPartitions() {
+        return partitions;
+    }
+
+    public long getRecordsCount() {
+        return recordsCount;
+    }
+
+    public long getBytesCount() {
+        return bytesCount;
+    }
+
+    public double getRecordsPerSecond() {
+        return recordsPerSecond;
+    }
+
+    public double getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+}
@@ -0,0 +1,41 @@
+package application.kafka.listener;
+
+import java.util.List;
+
+/**
+ * Counts records received by one consumer of a listener. Rates of a snapshot are calculated
+ * for the period since previous snapshot.
+ */
+public class ListenerMemberThroughput {
+
+    private final String memberName;
+    private long recordsCount = 0;
+    private long bytesCount = 0;
+    private long lastSnapshotRecordsCount = 0;
+    private long lastSnapshotBytesCount = 0;
+    private long lastSnapshotNanos;
+
+    public ListenerMemberThroughput(String memberName, long startNanos) {
+        this.memberName = memberName;
+        this.lastSnapshotNanos = startNanos;
+    }
+
+    public String getMemberName() {
+        return memberName;
+    }
+
+    public synchronized void recordsReceived(int count, long bytes) {
+        recordsCount += count;
+        bytesCount += bytes;
+    }
+
+    public synchronized ListenerMemberInfo snapshot(List<Integer> partitions, long nowNanos) {
+        final double seconds = (nowNanos - lastSnapshotNanos) / 1e9;
+        final double recordsPerSecond = seconds > 0 ? (recordsCount - lastSnapshotRecordsCount) / seconds : 0;
+        final double bytesPerSecond = seconds > 0 ? (bytesCount - lastSnapshotBytesCount) / seconds : 0;
+        lastSnapshotRecordsCount = recordsCount;
+        lastSnapshotBytesCount = bytesCount;
+        lastSnapshotNanos = nowNanos;
+        return new ListenerMemberInfo(memberName, partitions, recordsCount, bytesCount, recordsPerSecond, bytesPerSecond);
+    }
+}
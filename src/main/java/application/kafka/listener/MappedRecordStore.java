@@ -0,0 +1,289 @@
+package application.kafka.listener;
+
+import application.logging.Logger;
+import application.utils.MappedBufferUtils;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Append only store of received records, kept in memory mapped segment files outside of java heap.
+ * Record layout inside segment:
+ * [record length:int][partition:int][offset:long][timestamp:long][key length:int][key][value length:int][value]
+ * (length -1 stands for null key/value). When disk budget is exceeded, the oldest segments are removed.
+ * Segments are unmapped before their files are deleted, files which could not be deleted still count
+ * to the stored bytes and their deletion is retried on next eviction.
+ */
+public class MappedRecordStore implements ReceivedRecordsSink {
+
+    public static final int DEFAULT_SEGMENT_SIZE_BYTES = 16 * 1024 * 1024;
+    private static final int RECORD_HEADER_SIZE = 4 + 4 + 8 + 8 + 4 + 4;
+    private static final String SEGMENT_FILE_SUFFIX = ".segment";
+    private final Path directory;
+    private final long diskBudgetBytes;
+    private final int segmentSizeBytes;
+    private final List<Segment> segments = new ArrayList<>();
+    private final List<Segment> undeletedSegments = new ArrayList<>();
+    private long nextSequenceNumber;
+    private long storedBytesCount;
+
+    public MappedRecordStore(Path directory, long diskBudgetBytes, int segmentSizeBytes) {
+        this.directory = directory;
+        this.diskBudgetBytes = diskBudgetBytes;
+        this.segmentSizeBytes = segmentSizeBytes;
+    }
+
+    public static MappedRecordStore createInTempDirectory(String namePrefix, long diskBudgetBytes) throws IOException {
+        final Path directory = Files.createTempDirectory("kmt-" + namePrefix.replaceAll("[^a-zA-Z0-9_-]", "_") + "-");
+        directory.toFile().deleteOnExit();
+        final int segmentSize = (int) Math.max(1, Math.min(DEFAULT_SEGMENT_SIZE_BYTES, diskBudgetBytes / 2));
+        return new MappedRecordStore(directory, diskBudgetBytes, segmentSize);
+    }
+
+    @Override
+    public void onRecordsReceived(ReceivedRecordsChunk chunk) {
+        try {
+            for (ConsumerRecord<String, String> record : chunk.getRecords()) {
+                append(record);
+            }
+        } catch (IOException e) {
+            Logger.error("Could not store received records in " + directory, e);
+        }
+    }
+
+    public void append(ConsumerRecord<String, String> record) throws IOException {
+        append(record.partition(), record.offset(), record.timestamp(), toBytes(record.key()), toBytes(record.value()));
+    }
+
+    public synchronized void append(int partition, long offset, long timestamp, byte[] key, byte[] value) throws IOException {
+        final int recordSize = RECORD_HEADER_SIZE + lengthOf(key) + lengthOf(value);
+        Segment segment = currentSegment();
+        if (segment == null || !segment.canFit(recordSize)) {
+            segment = createSegment(Math.max(segmentSizeBytes, recordSize));
+            segments.add(segment);
+            storedBytesCount += segment.capacity();
+            evictOldestSegmentsAboveBudget();
+        }
+        segment.append(recordSize, partition, offset, timestamp, key, value);
+        nextSequenceNumber++;
+    }
+
+    public long getDiskBudgetBytes() {
+        return diskBudgetBytes;
+    }
+
+    public synchronized long getFirstSequenceNumber() {
+        return segments.isEmpty() ? nextSequenceNumber : segments.get(0).firstSequenceNumber;
+    }
+
+    public synchronized long getNextSequenceNumber() {
+        return nextSequenceNumber;
+    }
+
+    public synchronized long getRecordsCount() {
+        return nextSequenceNumber - getFirstSequenceNumber();
+    }
+
+    public synchronized long getStoredBytesCount() {
+        return storedBytesCount;
+    }
+
+    /**
+     * @return record with given sequence number or null if it was already evicted or not yet stored
+     */
+    public synchronized StoredRecord read(long sequenceNumber) {
+        final Segment segment = findSegment(sequenceNumber);
+        if (segment == null) {
+            return null;
+        }
+        return segment.read(sequenceNumber);
+    }
+
+    public void forEach(Consumer<StoredRecord> action) {
+        forEach(getFirstSequenceNumber(), getNextSequenceNumber(), action);
+    }
+
+    public void forEach(long fromSequenceNumber, long toSequenceNumber, Consumer<StoredRecord> action) {
+        for (long i = fromSequenceNumber; i < toSequenceNumber; i++) {
+            final StoredRecord record = read(i);
+            if (record == null) {
+                if (i < getFirstSequenceNumber()) {
+                    i = getFirstSequenceNumber() - 1;
+                    continue;
+                }
+                return;
+            }
+            action.accept(record);
+        }
+    }
+
+    public synchronized void clear() {
+        segments.forEach(this::deleteSegment);
+        segments.clear();
+        retryUndeletedSegments();
+    }
+
+    public synchronized void close() {
+        clear();
+        directory.toFile().delete();
+    }
+
+    private Segment currentSegment() {
+        return segments.isEmpty() ? null : segments.get(segments.size() - 1);
+    }
+
+    private Segment findSegment(long sequenceNumber) {
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final Segment segment = segments.get(middle);
+            if (sequenceNumber < segment.firstSequenceNumber) {
+                high = middle - 1;
+            } else if (sequenceNumber >= segment.firstSequenceNumber + segment.recordsCount) {
+                low = middle + 1;
+            } else {
+                return segment;
+            }
+        }
+        return null;
+    }
+
+    private void evictOldestSegmentsAboveBudget() {
+        retryUndeletedSegments();
+        while (segments.size() > 1 && storedBytesCount > diskBudgetBytes) {
+            deleteSegment(segments.remove(0));
+        }
+    }
+
+    private void deleteSegment(Segment segment) {
+        if (segment.delete()) {
+            storedBytesCount -= segment.capacity();
+        } else {
+            undeletedSegments.add(segment);
+        }
+    }
+
+    private void retryUndeletedSegments() {
+        if (undeletedSegments.isEmpty()) {
+            return;
+        }
+        final List<Segment> retried = new ArrayList<>(undeletedSegments);
+        undeletedSegments.clear();
+        retried.forEach(this::deleteSegment);
+    }
+
+    private Segment createSegment(int capacity) throws IOException {
+        final File file = directory.resolve(String.format("%020d%s", nextSequenceNumber, SEGMENT_FILE_SUFFIX)).toFile();
+        file.deleteOnExit();
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+             FileChannel channel = randomAccessFile.getChannel()) {
+            // mapping stays valid after the channel is closed
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            return new Segment(file, buffer, nextSequenceNumber);
+        }
+    }
+
+    private static int lengthOf(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static byte[] toBytes(String text) {
+        return text == null ? null : text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class Segment {
+        private final File file;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final long firstSequenceNumber;
+        private int[] recordPositions = new int[1024];
+        private int recordsCount;
+        private boolean unmapped;
+
+        Segment(File file, MappedByteBuffer buffer, long firstSequenceNumber) {
+            this.file = file;
+            this.buffer = buffer;
+            this.capacity = buffer.capacity();
+            this.firstSequenceNumber = firstSequenceNumber;
+        }
+
+        int capacity() {
+            return capacity;
+        }
+
+        boolean canFit(int recordSize) {
+            return buffer.remaining() >= recordSize;
+        }
+
+        void append(int recordSize, int partition, long offset, long timestamp, byte[] key, byte[] value) {
+            if (recordsCount == recordPositions.length) {
+                recordPositions = Arrays.copyOf(recordPositions, recordPositions.length * 2);
+            }
+            recordPositions[recordsCount++] = buffer.position();
+            buffer.putInt(recordSize);
+            buffer.putInt(partition);
+            buffer.putLong(offset);
+            buffer.putLong(timestamp);
+            putBytes(key);
+            putBytes(value);
+        }
+
+        StoredRecord read(long sequenceNumber) {
+            final ByteBuffer view = buffer.duplicate();
+            view.position(recordPositions[(int) (sequenceNumber - firstSequenceNumber)]);
+            view.getInt();
+            final int partition = view.getInt();
+            final long offset = view.getLong();
+            final long timestamp = view.getLong();
+            final byte[] key = getBytes(view);
+            final byte[] value = getBytes(view);
+            return new StoredRecord(sequenceNumber, partition, offset, timestamp, key, value);
+        }
+
+        /**
+         * @return false if segment file still exists, segment must not be read any more either way
+         */
+        boolean delete() {
+            if (!unmapped) {
+                unmapped = MappedBufferUtils.unmap(buffer);
+            }
+            if (file.delete() || !file.exists()) {
+                return true;
+            }
+            Logger.warn("Could not delete record store segment " + file + ", deletion will be retried");
+            return false;
+        }
+
+        private void putBytes(byte[] bytes) {
+            if (bytes == null) {
+                buffer.putInt(-1);
+                return;
+            }
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+
+        private static byte[] getBytes(ByteBuffer view) {
+            final int length = view.getInt();
+            if (length < 0) {
+                return null;
+            }
+            final byte[] bytes = new byte[length];
+            view.get(bytes);
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package application.kafka.listener;
+
+import application.logging.Logger;
+import application.model.KafkaOffsetCommitStrategy;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+public class OffsetCommitter {
+
+    private final KafkaOffsetCommitStrategy strategy;
+    private final long interval;
+    private final LongSupplier currentTimeMs;
+    private final Map<TopicPartition, OffsetAndMetadata> pendingOffsets = new HashMap<>();
+    private long recordsSinceLastCommit = 0;
+    private long lastCommitTimeMs;
+
+    public OffsetCommitter(KafkaOffsetCommitStrategy strategy, long interval) {
+        this(strategy, interval, System::currentTimeMillis);
+    }
+
+    public OffsetCommitter(KafkaOffsetCommitStrategy strategy, long interval, LongSupplier currentTimeMs) {
+        this.strategy = strategy;
+        this.interval = interval;
+        this.currentTimeMs = currentTimeMs;
+        this.lastCommitTimeMs = currentTimeMs.getAsLong();
+    }
+
+    public void recordConsumed(ConsumerRecord<?, ?> record) {
+        if (strategy == KafkaOffsetCommitStrategy.NONE) {
+            return;
+        }
+        // records of one partition come in offset order, so the last one is always the highest
+        pendingOffsets.put(new TopicPartition(record.topic(), record.partition()),
+                           new OffsetAndMetadata(record.offset() + 1));
+        recordsSinceLastCommit++;
+    }
+
+    public void commitIfNeeded(Consumer<?, ?> consumer) {
+        if (pendingOffsets.isEmpty() || !isCommitDue()) {
+            return;
+        }
+        final Map<TopicPartition, OffsetAndMetadata> offsets = takePendingOffsets();
+        consumer.commitAsync(offsets, (committedOffsets, exception) -> {
+            if (exception != null) {
+                Logger.warn(String.format("Async commit of offsets %s failed: %s", committedOffsets,
+                                          exception.getLocalizedMessage()));
+            }
+        });
+    }
+
+    public void commitPendingOffsets(Consumer<?, ?> consumer) {
+        if (pendingOffsets.isEmpty()) {
+            return;
+        }
+        consumer.commitSync(takePendingOffsets());
+    }
+
+    /**
+     * Commits pending offsets of given partitions only and forgets them, so nothing is committed later
+     * for partitions the consumer no longer owns (after they are revoked by rebalance).
+     */
+    public void commitPendingOffsets(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        final Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            final OffsetAndMetadata offset = pendingOffsets.remove(partition);
+            if (offset != null) {
+                offsets.put(partition, offset);
+            }
+        }
+        if (!offsets.isEmpty()) {
+            consumer.commitSync(offsets);
+        }
+    }
+
+    public Map<TopicPartition, OffsetAndMetadata> getPendingOffsets() {
+        return new HashMap<>(pendingOffsets);
+    }
+
+    private boolean isCommitDue() {
+        switch (strategy) {
+            case ASYNC_PER_POLL:
+                return true;
+            case TIME_INTERVAL:
+                return currentTimeMs.getAsLong() - lastCommitTimeMs >= interval;
+            case COUNT_INTERVAL:
+                return recordsSinceLastCommit >= interval;
+            default:
+                return false;
+        }
+    }
+
+    private Map<TopicPartition, OffsetAndMetadata> takePendingOffsets() {
+        final Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>(pendingOffsets);
+        pendingOffsets.clear();
+        recordsSinceLastCommit = 0;
+        lastCommitTimeMs = currentTimeMs.getAsLong();
+        return offsets;
+    }
+}
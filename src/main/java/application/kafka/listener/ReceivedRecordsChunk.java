@@ -0,0 +1,114 @@
+package application.kafka.listener;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+public final class ReceivedRecordsChunk {
+
+    private final List<ConsumerRecord<String, String>> records;
+    private final Set<Integer> partitions;
+    private final long bytesCount;
+    private final int consumedCount;
+    private final long consumedBytesCount;
+    private final int filteredOutCount;
+    private final long receivedTimestampMs;
+
+    private ReceivedRecordsChunk(List<ConsumerRecord<String, String>> records,
+                                 Set<Integer> partitions,
+                                 long bytesCount,
+                                 int consumedCount,
+                                 long consumedBytesCount,
+                                 int filteredOutCount,
+                                 long receivedTimestampMs) {
+        this.records = records;
+        this.partitions = partitions;
+        this.bytesCount = bytesCount;
+        this.consumedCount = consumedCount;
+        this.consumedBytesCount = consumedBytesCount;
+        this.filteredOutCount = filteredOutCount;
+        this.receivedTimestampMs = receivedTimestampMs;
+    }
+
+    public static ReceivedRecordsChunk from(List<ConsumerRecord<String, String>> records, long receivedTimestampMs) {
+        final long bytesCount = sizeOf(records);
+        return from(records, records.size(), bytesCount, 0, receivedTimestampMs);
+    }
+
+    /**
+     * @param records          records to be published, only part of consumed ones when listener filters or samples
+     * @param consumedCount    number of all records consumed in the poll
+     * @param consumedBytes    size of all records consumed in the poll
+     * @param filteredOutCount number of consumed records rejected by listener's filter
+     */
+    public static ReceivedRecordsChunk from(List<ConsumerRecord<String, String>> records,
+                                            int consumedCount,
+                                            long consumedBytes,
+                                            int filteredOutCount,
+                                            long receivedTimestampMs) {
+        final Set<Integer> partitions = new TreeSet<>();
+        for (ConsumerRecord<String, String> record : records) {
+            partitions.add(record.partition());
+        }
+        return new ReceivedRecordsChunk(Collections.unmodifiableList(new ArrayList<>(records)),
+                                        Collections.unmodifiableSet(partitions),
+                                        sizeOf(records),
+                                        consumedCount,
+                                        consumedBytes,
+                                        filteredOutCount,
+                                        receivedTimestampMs);
+    }
+
+    private static long sizeOf(List<ConsumerRecord<String, String>> records) {
+        long bytesCount = 0;
+        for (ConsumerRecord<String, String> record : records) {
+            bytesCount += sizeOf(record);
+        }
+        return bytesCount;
+    }
+
+    public static long sizeOf(ConsumerRecord<?, ?> record) {
+        // serialized sizes are -1 for null keys/values
+        return Math.max(record.serializedKeySize(), 0) + Math.max(record.serializedValueSize(), 0);
+    }
+
+    public List<ConsumerRecord<String, String>> getRecords() {
+        return records;
+    }
+
+    public int getRecordsCount() {
+        return records.size();
+    }
+
+    public long getBytesCount() {
+        return bytesCount;
+    }
+
+    public int getConsumedCount() {
+        return consumedCount;
+    }
+
+    public long getConsumedBytesCount() {
+        return consumedBytesCount;
+    }
+
+    public int getFilteredOutCount() {
+        return filteredOutCount;
+    }
+
+    public Set<Integer> getPartitions() {
+        return partitions;
+    }
+
+    public long getReceivedTimestampMs() {
+        return receivedTimestampMs;
+    }
+
+    public boolean isEmpty() {
+        return records.isEmpty();
+    }
+}
@@ -0,0 +1,7 @@
+package application.kafka.listener;
+
+@FunctionalInterface
+public interface ReceivedRecordsSink {
+    // called from listener's consumer thread, once per poll() that returned any records
+    void onRecordsReceived(ReceivedRecordsChunk chunk);
+}
@@ -0,0 +1,216 @@
+package application.kafka.listener;
+
+import application.constants.ApplicationConstants;
+import application.kafka.search.RecordMatchers;
+import application.logging.Logger;
+import application.model.modelobjects.KafkaListenerConfig;
+import application.scripting.CompiledScriptsCache;
+import application.scripting.ScriptTimeoutWatchdog;
+import application.utils.TimestampUtils;
+import application.utils.kafka.KafkaPartitionUtils;
+import groovy.lang.Binding;
+import groovy.lang.Script;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.runtime.typehandling.DefaultTypeTransformation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Decides which received records are published to sinks, before any of them is formatted.
+ * Conditions configured in listener config (text pattern, partitions, offset and timestamp ranges, groovy predicate)
+ * are compiled once when the filter is created and a record must meet all of them.
+ * <p>
+ * Groovy predicate is run by a single script instance, so every listener member needs its own filter.
+ * It is evaluated on the consumer thread, timeout watchdog interrupts the thread only if the predicate overruns.
+ * Variables bound for the predicate: record, key, value, partition, offset, timestamp. Result is evaluated
+ * according to groovy truth, predicate throwing an exception or not finishing within the timeout rejects the record.
+ * Filter must be closed when it is not used anymore, so the thread that used it is not watched.
+ */
+public final class RecordFilter {
+
+    public static final long DEFAULT_PREDICATE_TIMEOUT_MS = Long.parseLong(ApplicationConstants.DEFAULT_SCRIPT_EVALUATION_TIMEOUT_MS);
+    private static final RecordFilter ACCEPTING_ALL = new RecordFilter(Collections.emptyList());
+    private final List<Predicate<ConsumerRecord<String, String>>> conditions;
+    private final GroovyPredicate groovyPredicate;
+
+    private RecordFilter(List<Predicate<ConsumerRecord<String, String>>> conditions) {
+        this(conditions, null);
+    }
+
+    private RecordFilter(List<Predicate<ConsumerRecord<String, String>>> conditions, GroovyPredicate groovyPredicate) {
+        this.conditions = conditions;
+        this.groovyPredicate = groovyPredicate;
+    }
+
+    public static RecordFilter acceptingAll() {
+        return ACCEPTING_ALL;
+    }
+
+    /**
+     * @throws IllegalArgumentException if any of configured conditions is not valid
+     */
+    public static RecordFilter from(KafkaListenerConfig config,
+                                    CompiledScriptsCache scriptsCache,
+                                    ScriptTimeoutWatchdog timeoutWatchdog) {
+        return from(config, scriptsCache, timeoutWatchdog, DEFAULT_PREDICATE_TIMEOUT_MS);
+    }
+
+    /**
+     * @throws IllegalArgumentException if any of configured conditions is not valid
+     */
+    public static RecordFilter from(KafkaListenerConfig config,
+                                    CompiledScriptsCache scriptsCache,
+                                    ScriptTimeoutWatchdog timeoutWatchdog,
+                                    long predicateTimeoutMs) {
+        if (!config.getFilterEnabled()) {
+            return ACCEPTING_ALL;
+        }
+        final List<Predicate<ConsumerRecord<String, String>>> conditions = new ArrayList<>();
+        if (StringUtils.isNotEmpty(config.getFilterPattern())) {
+            conditions.add(RecordMatchers.create(config.getFilterMatchType(),
+                                                 config.getFilterTarget(),
+                                                 config.getFilterPattern()));
+        }
+        final Set<Integer> partitions = new HashSet<>(KafkaPartitionUtils.parsePartitions(config.getFilterPartitions()));
+        if (!partitions.isEmpty()) {
+            conditions.add(record -> partitions.contains(record.partition()));
+        }
+        final long minOffset = parseOffset(config.getFilterMinOffset(), 0);
+        final long maxOffset = parseOffset(config.getFilterMaxOffset(), Long.MAX_VALUE);
+        if (minOffset > 0 || maxOffset < Long.MAX_VALUE) {
+            conditions.add(record -> record.offset() >= minOffset && record.offset() <= maxOffset);
+        }
+        final long fromTimestamp = parseTimestamp(config.getFilterFromTimestamp(), Long.MIN_VALUE);
+        final long toTimestamp = parseTimestamp(config.getFilterToTimestamp(), Long.MAX_VALUE);
+        if (fromTimestamp > Long.MIN_VALUE || toTimestamp < Long.MAX_VALUE) {
+            conditions.add(record -> record.timestamp() >= fromTimestamp && record.timestamp() <= toTimestamp);
+        }
+        GroovyPredicate groovyPredicate = null;
+        if (StringUtils.isNotBlank(config.getFilterGroovyPredicate())) {
+            groovyPredicate = new GroovyPredicate(compile(scriptsCache, config.getFilterGroovyPredicate()),
+                                                  timeoutWatchdog,
+                                                  predicateTimeoutMs);
+            conditions.add(groovyPredicate);
+        }
+        return new RecordFilter(Collections.unmodifiableList(conditions), groovyPredicate);
+    }
+
+    public boolean isAcceptingAll() {
+        return conditions.isEmpty();
+    }
+
+    public boolean accepts(ConsumerRecord<String, String> record) {
+        for (Predicate<ConsumerRecord<String, String>> condition : conditions) {
+            if (!condition.test(record)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops watching evaluation time of groovy predicate.
+     */
+    public void close() {
+        if (groovyPredicate != null) {
+            groovyPredicate.close();
+        }
+    }
+
+    private static CompiledScriptsCache.CompiledScript compile(CompiledScriptsCache scriptsCache, String predicate) {
+        try {
+            return scriptsCache.get(predicate);
+        } catch (CompilationFailedException e) {
+            throw new IllegalArgumentException("Invalid groovy predicate: " + e.getMessage(), e);
+        }
+    }
+
+    private static long parseOffset(String value, long defaultValue) {
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseUnsignedLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid offset: " + value, e);
+        }
+    }
+
+    private static long parseTimestamp(String value, long defaultValue) {
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        return TimestampUtils.parseEpochMili(value)
+            .orElseThrow(() -> new IllegalArgumentException("Invalid timestamp: " + value));
+    }
+
+    private static final class GroovyPredicate implements Predicate<ConsumerRecord<String, String>> {
+        private final Binding binding = new Binding();
+        private final Script script;
+        private final ScriptTimeoutWatchdog timeoutWatchdog;
+        private final long timeoutMs;
+        private ScriptTimeoutWatchdog.Watch watch;
+        private boolean failureLogged;
+
+        private GroovyPredicate(CompiledScriptsCache.CompiledScript compiledScript,
+                                ScriptTimeoutWatchdog timeoutWatchdog,
+                                long timeoutMs) {
+            script = compiledScript.createScript(binding);
+            this.timeoutWatchdog = timeoutWatchdog;
+            this.timeoutMs = timeoutMs;
+        }
+
+        @Override
+        public boolean test(ConsumerRecord<String, String> record) {
+            binding.setVariable("record", record);
+            binding.setVariable("key", record.key());
+            binding.setVariable("value", record.value());
+            binding.setVariable("partition", record.partition());
+            binding.setVariable("offset", record.offset());
+            binding.setVariable("timestamp", record.timestamp());
+            if (watch == null) {
+                // filter is created and used by the consumer thread, so the watch is bound to it
+                watch = timeoutWatchdog.watchCurrentThread();
+            }
+            Object result = null;
+            Exception failure = null;
+            watch.evaluationStarted(timeoutMs);
+            try {
+                result = script.run();
+            } catch (Exception e) {
+                failure = e;
+            }
+            if (watch.evaluationFinished()) {
+                Logger.error(String.format("Groovy predicate did not finish within %d ms for record " +
+                                               "(partition=%d, offset=%d), record is filtered out",
+                                           timeoutMs, record.partition(), record.offset()));
+                return false;
+            }
+            if (failure != null) {
+                // logged once, the same predicate would usually fail for most of the records
+                if (!failureLogged) {
+                    failureLogged = true;
+                    Logger.warn(String.format("Groovy predicate failed for record (partition=%d, offset=%d), " +
+                                                  "records it fails for are filtered out",
+                                              record.partition(), record.offset()), failure);
+                }
+                return false;
+            }
+            return DefaultTypeTransformation.castToBoolean(result);
+        }
+
+        void close() {
+            if (watch != null) {
+                watch.close();
+                watch = null;
+            }
+        }
+    }
+}
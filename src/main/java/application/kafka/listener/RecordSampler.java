@@ -0,0 +1,157 @@
+package application.kafka.listener;
+
+import application.model.ListenerSamplingMode;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+/**
+ * Selects records to be published (formatted and displayed) out of all records accepted by the listener.
+ * One sampler is shared by all members of the listener, so the sample is taken from the whole stream.
+ * <ul>
+ * <li>EVERY_NTH - every n-th record, starting with the first one</li>
+ * <li>PER_SECOND - first n records of every second</li>
+ * <li>RESERVOIR - n records chosen uniformly from every time window, published when the window closes
+ * or when the listener stops</li>
+ * </ul>
+ */
+public class RecordSampler {
+
+    private static final long SECOND_MS = 1000;
+    private static final Comparator<ConsumerRecord<String, String>> RECORD_ORDER =
+        Comparator.<ConsumerRecord<String, String>>comparingLong(ConsumerRecord::timestamp)
+            .thenComparingInt(ConsumerRecord::partition)
+            .thenComparingLong(ConsumerRecord::offset);
+    private final ListenerSamplingMode mode;
+    private final long sampleSize;
+    private final long windowMs;
+    private final LongSupplier currentTimeMs;
+    private final Random random;
+    private final List<ConsumerRecord<String, String>> reservoir = new ArrayList<>();
+    private long seenCount = 0;
+    private long sampledInWindowCount = 0;
+    private long windowStartMs;
+
+    /**
+     * @param sampleSize n of EVERY_NTH, number of records per second for PER_SECOND, reservoir size for RESERVOIR
+     * @param windowMs   length of reservoir window, used only by RESERVOIR
+     */
+    public RecordSampler(ListenerSamplingMode mode, long sampleSize, long windowMs) {
+        this(mode, sampleSize, windowMs, System::currentTimeMillis, new Random());
+    }
+
+    public RecordSampler(ListenerSamplingMode mode,
+                         long sampleSize,
+                         long windowMs,
+                         LongSupplier currentTimeMs,
+                         Random random) {
+        this.mode = mode;
+        this.sampleSize = sampleSize;
+        this.windowMs = windowMs;
+        this.currentTimeMs = currentTimeMs;
+        this.random = random;
+        this.windowStartMs = currentTimeMs.getAsLong();
+    }
+
+    public boolean isSampling() {
+        return mode != ListenerSamplingMode.NONE;
+    }
+
+    /**
+     * Should be called after every poll, also when no records were received, so reservoir of a closed window
+     * is published without waiting for the next record.
+     *
+     * @return records to publish, for RESERVOIR mode these are records received in previous window
+     */
+    public synchronized List<ConsumerRecord<String, String>> sample(List<ConsumerRecord<String, String>> records) {
+        switch (mode) {
+            case EVERY_NTH:
+                return sampleEveryNth(records);
+            case PER_SECOND:
+                return samplePerSecond(records);
+            case RESERVOIR:
+                return sampleReservoir(records);
+            default:
+                return records;
+        }
+    }
+
+    /**
+     * Should be called when listener stops, so records sampled in the last, not yet closed window are not lost.
+     *
+     * @return records sampled in current RESERVOIR window, empty list for other modes
+     */
+    public synchronized List<ConsumerRecord<String, String>> flush() {
+        if (mode != ListenerSamplingMode.RESERVOIR) {
+            return Collections.emptyList();
+        }
+        windowStartMs = currentTimeMs.getAsLong();
+        return takeReservoir();
+    }
+
+    private List<ConsumerRecord<String, String>> sampleEveryNth(List<ConsumerRecord<String, String>> records) {
+        final List<ConsumerRecord<String, String>> sampled = new ArrayList<>();
+        for (ConsumerRecord<String, String> record : records) {
+            if (seenCount++ % sampleSize == 0) {
+                sampled.add(record);
+            }
+        }
+        return sampled;
+    }
+
+    private List<ConsumerRecord<String, String>> samplePerSecond(List<ConsumerRecord<String, String>> records) {
+        startNewWindowIfNeeded(SECOND_MS);
+        final List<ConsumerRecord<String, String>> sampled = new ArrayList<>();
+        for (ConsumerRecord<String, String> record : records) {
+            if (sampledInWindowCount >= sampleSize) {
+                break;
+            }
+            sampled.add(record);
+            sampledInWindowCount++;
+        }
+        return sampled;
+    }
+
+    private List<ConsumerRecord<String, String>> sampleReservoir(List<ConsumerRecord<String, String>> records) {
+        List<ConsumerRecord<String, String>> sampled = Collections.emptyList();
+        if (startNewWindowIfNeeded(windowMs)) {
+            sampled = takeReservoir();
+        }
+        for (ConsumerRecord<String, String> record : records) {
+            seenCount++;
+            if (reservoir.size() < sampleSize) {
+                reservoir.add(record);
+                continue;
+            }
+            // record replaces one of the sampled ones with probability sampleSize/seenCount
+            final long index = (long) (random.nextDouble() * seenCount);
+            if (index < sampleSize) {
+                reservoir.set((int) index, record);
+            }
+        }
+        return sampled;
+    }
+
+    private List<ConsumerRecord<String, String>> takeReservoir() {
+        final List<ConsumerRecord<String, String>> sampled = new ArrayList<>(reservoir);
+        sampled.sort(RECORD_ORDER);
+        reservoir.clear();
+        seenCount = 0;
+        return sampled;
+    }
+
+    private boolean startNewWindowIfNeeded(long windowLengthMs) {
+        final long now = currentTimeMs.getAsLong();
+        if (now - windowStartMs < windowLengthMs) {
+            return false;
+        }
+        windowStartMs = now;
+        sampledInWindowCount = 0;
+        return true;
+    }
+}
@@ -0,0 +1,239 @@
+package application.kafka.listener;
+
+import application.logging.Logger;
+import application.model.ExportFormat;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Sink writing every received record to rolling files, so captures of any length go to disk with constant memory.
+ * <p>
+ * Chunks are handed over to a dedicated writer thread through a bounded queue, consumer thread blocks only
+ * when the disk cannot keep up with the topic. Records are formatted chunk by chunk into one reused buffer
+ * and written through a buffered (optionally gzipped) stream on top of a file channel.
+ * <p>
+ * New file is started when current one reaches roll size (compressed size for gzip) or roll interval,
+ * roll policy is checked before every chunk, so a file can exceed roll size by one chunk.
+ * Zero roll size or interval disables given roll condition.
+ */
+public class RollingFileExporter implements ReceivedRecordsSink {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final long IDLE_FLUSH_INTERVAL_MS = 1000;
+    private static final long CLOSE_TIMEOUT_MS = 10_000;
+    private static final String GZIP_EXTENSION = ".gz";
+    private static final DateTimeFormatter FILE_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final ReceivedRecordsChunk END_OF_EXPORT = ReceivedRecordsChunk.from(Collections.emptyList(), 0);
+
+    private final Path directory;
+    private final String fileNamePrefix;
+    private final ExportFormat format;
+    private final boolean gzipEnabled;
+    private final long rollSizeBytes;
+    private final long rollIntervalMs;
+    private final LongSupplier currentTimeMs;
+    private final BlockingQueue<ReceivedRecordsChunk> queue;
+    private final Thread writerThread;
+    private final AtomicLong exportedRecordsCount = new AtomicLong(0);
+    private final List<Path> files = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+    private volatile boolean failed;
+
+    // used only by writer thread
+    private final StringBuilder formattedChunk = new StringBuilder();
+    private FileChannel channel;
+    private OutputStream output;
+    private long fileStartMs;
+    private long fileWrittenBytes;
+
+    public RollingFileExporter(Path directory,
+                               String name,
+                               ExportFormat format,
+                               boolean gzipEnabled,
+                               long rollSizeBytes,
+                               long rollIntervalMs) {
+        this(directory, name, format, gzipEnabled, rollSizeBytes, rollIntervalMs,
+             DEFAULT_QUEUE_CAPACITY, System::currentTimeMillis);
+    }
+
+    public RollingFileExporter(Path directory,
+                               String name,
+                               ExportFormat format,
+                               boolean gzipEnabled,
+                               long rollSizeBytes,
+                               long rollIntervalMs,
+                               int queueCapacity,
+                               LongSupplier currentTimeMs) {
+        this.directory = directory;
+        this.fileNamePrefix = name.replaceAll("[^a-zA-Z0-9_-]", "_");
+        this.format = format;
+        this.gzipEnabled = gzipEnabled;
+        this.rollSizeBytes = rollSizeBytes;
+        this.rollIntervalMs = rollIntervalMs;
+        this.currentTimeMs = currentTimeMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        writerThread = new Thread(this::writeQueuedChunks, "KMT-Thread-RecordsExport-" + name);
+        writerThread.setDaemon(true);
+    }
+
+    /**
+     * @throws IOException if export directory could not be created
+     */
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        writerThread.start();
+    }
+
+    @Override
+    public void onRecordsReceived(ReceivedRecordsChunk chunk) {
+        if (chunk.isEmpty() || closed || failed) {
+            return;
+        }
+        try {
+            queue.put(chunk);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops accepting records and waits until already queued ones are written and the last file is closed.
+     */
+    public void close() {
+        closed = true;
+        // wakes up writer waiting for records, if queue is full writer notices closing after draining it
+        queue.offer(END_OF_EXPORT);
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public long getExportedRecordsCount() {
+        return exportedRecordsCount.get();
+    }
+
+    public List<Path> getFiles() {
+        return Collections.unmodifiableList(files);
+    }
+
+    private void writeQueuedChunks() {
+        try {
+            while (!closed || !queue.isEmpty()) {
+                final ReceivedRecordsChunk chunk = queue.poll(IDLE_FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (chunk == null) {
+                    flush();
+                } else if (chunk != END_OF_EXPORT) {
+                    write(chunk);
+                }
+            }
+        } catch (IOException e) {
+            failed = true;
+            // releases consumer thread possibly blocked on full queue
+            queue.clear();
+            Logger.error(String.format("Exporting records to '%s' failed, export stopped", directory), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeFile();
+        }
+    }
+
+    private void write(ReceivedRecordsChunk chunk) throws IOException {
+        rollIfNeeded();
+        formattedChunk.setLength(0);
+        final List<ConsumerRecord<String, String>> records = chunk.getRecords();
+        for (ConsumerRecord<String, String> record : records) {
+            ExportedRecordFormatter.format(format, record, formattedChunk);
+        }
+        writeText(formattedChunk);
+        exportedRecordsCount.addAndGet(records.size());
+    }
+
+    private void writeText(CharSequence text) throws IOException {
+        final byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        output.write(bytes);
+        fileWrittenBytes += bytes.length;
+    }
+
+    private void rollIfNeeded() throws IOException {
+        if (output == null) {
+            openNewFile();
+            return;
+        }
+        final long fileSize = gzipEnabled ? channel.position() : fileWrittenBytes;
+        final boolean sizeExceeded = rollSizeBytes > 0 && fileSize >= rollSizeBytes;
+        final boolean intervalExceeded = rollIntervalMs > 0 && currentTimeMs.getAsLong() - fileStartMs >= rollIntervalMs;
+        if (sizeExceeded || intervalExceeded) {
+            closeFile();
+            openNewFile();
+        }
+    }
+
+    private void openNewFile() throws IOException {
+        final String fileName = String.format("%s-%s-%d%s%s",
+                                              fileNamePrefix,
+                                              LocalDateTime.now().format(FILE_TIMESTAMP_FORMAT),
+                                              files.size() + 1,
+                                              ExportedRecordFormatter.fileExtension(format),
+                                              gzipEnabled ? GZIP_EXTENSION : "");
+        final Path file = directory.resolve(fileName);
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        final OutputStream channelOutput = Channels.newOutputStream(channel);
+        // gzip stream is sync flushed, so idle flush makes already exported records readable
+        output = new BufferedOutputStream(gzipEnabled ? new GZIPOutputStream(channelOutput, BUFFER_SIZE, true)
+                                                      : channelOutput,
+                                          BUFFER_SIZE);
+        fileStartMs = currentTimeMs.getAsLong();
+        fileWrittenBytes = 0;
+        files.add(file);
+        Logger.trace("Exporting records to " + file);
+        writeText(ExportedRecordFormatter.header(format));
+    }
+
+    private void flush() throws IOException {
+        if (output != null) {
+            output.flush();
+        }
+    }
+
+    private void closeFile() {
+        if (output == null) {
+            return;
+        }
+        try {
+            output.close();
+        } catch (IOException e) {
+            Logger.error("Could not close export file " + files.get(files.size() - 1), e);
+        } finally {
+            output = null;
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package application.kafka.listener;
+
+import application.model.ListenerStartPosition;
+import application.utils.TimestampUtils;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves offsets from which a listener in assign mode starts reading its partitions.
+ * Resolved offsets always stay between beginning and end offset of a partition.
+ */
+public class StartOffsetsResolver {
+
+    public static Map<TopicPartition, Long> resolve(Consumer<?, ?> consumer,
+                                                    Collection<TopicPartition> partitions,
+                                                    ListenerStartPosition position,
+                                                    String value) {
+        final Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(partitions);
+        final Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+        final Map<TopicPartition, Long> timestampOffsets = position == ListenerStartPosition.TIMESTAMP
+                                                           ? offsetsForTimestamp(consumer, partitions, value)
+                                                           : new HashMap<>();
+        final Map<TopicPartition, Long> startOffsets = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            final long beginning = beginningOffsets.get(partition);
+            final long end = endOffsets.get(partition);
+            final long offset;
+            switch (position) {
+                case END:
+                    offset = end;
+                    break;
+                case OFFSET:
+                    offset = Long.parseLong(value.trim());
+                    break;
+                case END_MINUS_N:
+                    offset = end - Long.parseLong(value.trim());
+                    break;
+                case TIMESTAMP:
+                    // no record with timestamp greater or equal to requested one, nothing to read yet
+                    offset = timestampOffsets.getOrDefault(partition, end);
+                    break;
+                default:
+                    offset = beginning;
+            }
+            startOffsets.put(partition, Math.min(Math.max(offset, beginning), end));
+        }
+        return startOffsets;
+    }
+
+    private static Map<TopicPartition, Long> offsetsForTimestamp(Consumer<?, ?> consumer,
+                                                                 Collection<TopicPartition> partitions,
+                                                                 String value) {
+        final long timestamp = TimestampUtils.parseEpochMili(value)
+            .orElseThrow(() -> new IllegalArgumentException("Invalid timestamp: " + value));
+        return offsetsForTimestamp(consumer, partitions, timestamp);
+    }
+
+    /**
+     * Looks up all partitions with a single offsetsForTimes request.
+     *
+     * @return earliest offsets whose timestamp is greater or equal to requested one,
+     * partitions without such record are not present in returned map
+     */
+    public static Map<TopicPartition, Long> offsetsForTimestamp(Consumer<?, ?> consumer,
+                                                                Collection<TopicPartition> partitions,
+                                                                long timestamp) {
+        final Map<TopicPartition, Long> timestamps = new HashMap<>();
+        partitions.forEach(partition -> timestamps.put(partition, timestamp));
+
+        final Map<TopicPartition, Long> offsets = new HashMap<>();
+        final Map<TopicPartition, OffsetAndTimestamp> found = consumer.offsetsForTimes(timestamps);
+        found.forEach((partition, offsetAndTimestamp) -> {
+            if (offsetAndTimestamp != null) {
+                offsets.put(partition, offsetAndTimestamp.offset());
+            }
+        });
+        return offsets;
+    }
+}
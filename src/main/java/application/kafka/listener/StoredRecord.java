@@ -0,0 +1,57 @@
+package application.kafka.listener;
+
+import java.nio.charset.StandardCharsets;
+
+public final class StoredRecord {
+    private final long sequenceNumber;
+    private final int partition;
+    private final long offset;
+    private final long timestamp;
+    private final byte[] key;
+    private final byte[] value;
+
+    public StoredRecord(long sequenceNumber, int partition, long offset, long timestamp, byte[] key, byte[] value) {
+        this.sequenceNumber = sequenceNumber;
+        this.partition = partition;
+        this.offset = offset;
+        this.timestamp = timestamp;
+        this.key = key;
+        this.value = value;
+    }
+
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    public int getPartition() {
+        return partition;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public byte[] getKey() {
+        return key;
+    }
+
+    public byte[] getValue() {
+        return value;
+    }
+
+    public String getKeyAsString() {
+        return asString(key);
+    }
+
+    public String getValueAsString() {
+        return asString(value);
+    }
+
+    private static String asString(byte[] bytes) {
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,103 @@
+package application.kafka.search;
+
+import groovy.json.JsonException;
+import groovy.json.JsonSlurper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Matches JSON documents containing element selected by a simple path of fields and array indexes,
+ * e.g. "$.order.items[0].sku". With "=value" suffix the selected element must also be equal to the value.
+ * Text that is not valid JSON never matches.
+ */
+public final class JsonPathMatcher implements Predicate<String> {
+
+    private final List<Object> segments;
+    private final String expectedValue;
+
+    private JsonPathMatcher(List<Object> segments, String expectedValue) {
+        this.segments = segments;
+        this.expectedValue = expectedValue;
+    }
+
+    /**
+     * @throws IllegalArgumentException if path can not be parsed
+     */
+    public static JsonPathMatcher compile(String expression) {
+        final int valueSeparatorIndex = expression.indexOf('=');
+        final String path = (valueSeparatorIndex < 0 ? expression : expression.substring(0, valueSeparatorIndex)).trim();
+        final String expectedValue = valueSeparatorIndex < 0 ? null : expression.substring(valueSeparatorIndex + 1).trim();
+        return new JsonPathMatcher(parsePath(path), expectedValue);
+    }
+
+    @Override
+    public boolean test(String text) {
+        if (text == null) {
+            return false;
+        }
+        Object element;
+        try {
+            element = new JsonSlurper().parseText(text);
+        } catch (JsonException | IllegalArgumentException e) {
+            return false;
+        }
+        for (Object segment : segments) {
+            element = select(element, segment);
+            if (element == null) {
+                return false;
+            }
+        }
+        return expectedValue == null || expectedValue.equals(element.toString());
+    }
+
+    private static Object select(Object element, Object segment) {
+        if (segment instanceof String && element instanceof Map) {
+            return ((Map<?, ?>) element).get(segment);
+        }
+        if (segment instanceof Integer && element instanceof List) {
+            final List<?> list = (List<?>) element;
+            final int index = (Integer) segment;
+            return index < list.size() ? list.get(index) : null;
+        }
+        return null;
+    }
+
+    private static List<Object> parsePath(String path) {
+        if (!path.startsWith("$")) {
+            throw new IllegalArgumentException("JSON path must start with '$': " + path);
+        }
+        final List<Object> segments = new ArrayList<>();
+        int i = 1;
+        while (i < path.length()) {
+            final char c = path.charAt(i);
+            if (c == '.') {
+                int end = i + 1;
+                while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+                if (end == i + 1) {
+                    throw new IllegalArgumentException("Empty field name in JSON path: " + path);
+                }
+                segments.add(path.substring(i + 1, end));
+                i = end;
+            } else if (c == '[') {
+                final int end = path.indexOf(']', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Missing ']' in JSON path: " + path);
+                }
+                try {
+                    segments.add(Integer.parseUnsignedInt(path.substring(i + 1, end).trim()));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid array index in JSON path: " + path, e);
+                }
+                i = end + 1;
+            } else {
+                throw new IllegalArgumentException(String.format("Unexpected '%c' in JSON path: %s", c, path));
+            }
+        }
+        return segments;
+    }
+}
@@ -0,0 +1,162 @@
+package application.kafka.search;
+
+import application.kafka.listener.StartOffsetsResolver;
+import application.utils.kafka.KafkaPartitionUtils;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Finds records with given key scanning only the partition the default partitioner assigns the key to,
+ * optionally limited to a time range. Scanning stops as soon as requested number of matches is found:
+ * first matches are searched from the start of the range forward, last matches from its end backward in chunks.
+ */
+public class KeyFinder {
+
+    public static final int DEFAULT_BACKWARD_CHUNK_SIZE = 1000;
+    private static final long POLL_TIMEOUT_MS = 100;
+    private final Supplier<Consumer<String, String>> consumerFactory;
+    private final int backwardChunkSize;
+
+    public KeyFinder(Supplier<Consumer<String, String>> consumerFactory) {
+        this(consumerFactory, DEFAULT_BACKWARD_CHUNK_SIZE);
+    }
+
+    public KeyFinder(Supplier<Consumer<String, String>> consumerFactory, int backwardChunkSize) {
+        this.consumerFactory = consumerFactory;
+        this.backwardChunkSize = backwardChunkSize;
+    }
+
+    /**
+     * @param fromTimestamp null to search from the beginning of partition
+     * @param toTimestamp   null to search up to the current end of partition, inclusive otherwise
+     * @param hitSink       gets matches in offset order for {@link KeySearchMode#FIRST_MATCHES},
+     *                      in reversed offset order for {@link KeySearchMode#LAST_MATCHES}
+     * @throws IllegalArgumentException if topic does not exist
+     */
+    public KeySearchResult find(String topicName,
+                                String key,
+                                Long fromTimestamp,
+                                Long toTimestamp,
+                                KeySearchMode mode,
+                                int maxMatches,
+                                SearchHitSink hitSink,
+                                BooleanSupplier isCancelled) {
+        try (Consumer<String, String> consumer = consumerFactory.get()) {
+            final List<PartitionInfo> partitionInfos = consumer.partitionsFor(topicName);
+            if (partitionInfos == null || partitionInfos.isEmpty()) {
+                throw new IllegalArgumentException(String.format("Topic '%s' does not exist", topicName));
+            }
+            final int partitionsCount = partitionInfos.size();
+            final TopicPartition partition = new TopicPartition(topicName,
+                                                                KafkaPartitionUtils.partition(key, partitionsCount));
+            final List<TopicPartition> partitions = Collections.singletonList(partition);
+            final long beginningOffset = consumer.beginningOffsets(partitions).get(partition);
+            final long endOffset = consumer.endOffsets(partitions).get(partition);
+            final long startOffset = fromTimestamp == null
+                                     ? beginningOffset
+                                     : offsetForTimestamp(consumer, partition, fromTimestamp, endOffset);
+            final long stopOffset = toTimestamp == null
+                                    ? endOffset
+                                    : offsetForTimestamp(consumer, partition, toTimestamp + 1, endOffset);
+
+            final Predicate<ConsumerRecord<String, String>> matches = record ->
+                Objects.equals(key, record.key())
+                    && (fromTimestamp == null || record.timestamp() >= fromTimestamp)
+                    && (toTimestamp == null || record.timestamp() <= toTimestamp);
+            final Scan scan = new Scan(consumer, partition, matches, maxMatches, hitSink, isCancelled);
+            consumer.assign(partitions);
+            if (mode == KeySearchMode.LAST_MATCHES) {
+                scan.backward(startOffset, stopOffset);
+            } else {
+                scan.forward(startOffset, stopOffset);
+            }
+            return new KeySearchResult(partition.partition(), partitionsCount, scan.scannedRecords, scan.matchesCount);
+        }
+    }
+
+    private static long offsetForTimestamp(Consumer<String, String> consumer,
+                                           TopicPartition partition,
+                                           long timestamp,
+                                           long endOffset) {
+        return StartOffsetsResolver.offsetsForTimestamp(consumer, Collections.singletonList(partition), timestamp)
+            .getOrDefault(partition, endOffset);
+    }
+
+    private final class Scan {
+        private final Consumer<String, String> consumer;
+        private final TopicPartition partition;
+        private final Predicate<ConsumerRecord<String, String>> matches;
+        private final int maxMatches;
+        private final SearchHitSink hitSink;
+        private final BooleanSupplier isCancelled;
+        private long scannedRecords = 0;
+        private int matchesCount = 0;
+
+        private Scan(Consumer<String, String> consumer,
+                     TopicPartition partition,
+                     Predicate<ConsumerRecord<String, String>> matches,
+                     int maxMatches,
+                     SearchHitSink hitSink,
+                     BooleanSupplier isCancelled) {
+            this.consumer = consumer;
+            this.partition = partition;
+            this.matches = matches;
+            this.maxMatches = maxMatches;
+            this.hitSink = hitSink;
+            this.isCancelled = isCancelled;
+        }
+
+        private void forward(long startOffset, long stopOffset) {
+            read(startOffset, stopOffset, record -> {
+                hitSink.onHit(record);
+                matchesCount++;
+            });
+        }
+
+        private void backward(long startOffset, long stopOffset) {
+            long chunkEnd = stopOffset;
+            while (chunkEnd > startOffset && !isDone()) {
+                final long chunkStart = Math.max(startOffset, chunkEnd - backwardChunkSize);
+                final List<ConsumerRecord<String, String>> chunkMatches = new ArrayList<>();
+                read(chunkStart, chunkEnd, chunkMatches::add);
+                for (int i = chunkMatches.size() - 1; i >= 0 && matchesCount < maxMatches; i--) {
+                    hitSink.onHit(chunkMatches.get(i));
+                    matchesCount++;
+                }
+                chunkEnd = chunkStart;
+            }
+        }
+
+        private void read(long fromOffset, long toOffset, SearchHitSink onMatch) {
+            consumer.seek(partition, fromOffset);
+            while (consumer.position(partition) < toOffset && !isCancelled.getAsBoolean()) {
+                for (ConsumerRecord<String, String> record : consumer.poll(POLL_TIMEOUT_MS).records(partition)) {
+                    if (record.offset() >= toOffset) {
+                        return;
+                    }
+                    scannedRecords++;
+                    if (matches.test(record)) {
+                        onMatch.onHit(record);
+                        if (matchesCount >= maxMatches) {
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+
+        private boolean isDone() {
+            return matchesCount >= maxMatches || isCancelled.getAsBoolean();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package application.kafka.search;
+
+public enum KeySearchMode {
+    FIRST_MATCHES,
+    LAST_MATCHES
+}
@@ -0,0 +1,31 @@
+package application.kafka.search;
+
+public final class KeySearchResult {
+    private final int partition;
+    private final int partitionsCount;
+    private final long scannedRecords;
+    private final int matches;
+
+    public KeySearchResult(int partition, int partitionsCount, long scannedRecords, int matches) {
+        this.partition = partition;
+        this.partitionsCount = partitionsCount;
+        this.scannedRecords = scannedRecords;
+        this.matches = matches;
+    }
+
+    public int getPartition() {
+        return partition;
+    }
+
+    public int getPartitionsCount() {
+        return partitionsCount;
+    }
+
+    public long getScannedRecords() {
+        return scannedRecords;
+    }
+
+    public int getMatches() {
+        return matches;
+    }
+}
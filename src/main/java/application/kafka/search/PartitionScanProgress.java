@@ -0,0 +1,53 @@
+package application.kafka.search;
+
+public final class PartitionScanProgress {
+    private final int partition;
+    private final long startOffset;
+    private final long endOffset;
+    private final long position;
+    private final long hits;
+
+    public PartitionScanProgress(int partition, long startOffset, long endOffset, long position, long hits) {
+        this.partition = partition;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+        this.position = position;
+        this.hits = hits;
+    }
+
+    public int getPartition() {
+        return partition;
+    }
+
+    public long getStartOffset() {
+        return startOffset;
+    }
+
+    public long getEndOffset() {
+        return endOffset;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getScannedRecords() {
+        return Math.min(position, endOffset) - startOffset;
+    }
+
+    public boolean isFinished() {
+        return position >= endOffset;
+    }
+
+    /**
+     * @return 0.0 - 1.0
+     */
+    public double getProgress() {
+        final long total = endOffset - startOffset;
+        return total <= 0 ? 1.0 : (double) getScannedRecords() / total;
+    }
+}
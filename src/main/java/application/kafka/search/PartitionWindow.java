@@ -0,0 +1,71 @@
+package application.kafka.search;
+
+/**
+ * Range of offsets [startOffset, endOffset) of single partition read around the offset resolved for a timestamp.
+ */
+public final class PartitionWindow {
+    private final int partition;
+    private final long resolvedOffset;
+    private final boolean timestampFound;
+    private final long startOffset;
+    private final long endOffset;
+
+    private PartitionWindow(int partition,
+                            long resolvedOffset,
+                            boolean timestampFound,
+                            long startOffset,
+                            long endOffset) {
+        this.partition = partition;
+        this.resolvedOffset = resolvedOffset;
+        this.timestampFound = timestampFound;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+    }
+
+    /**
+     * @param foundOffset offset found for a timestamp, null if partition has no record that late,
+     *                    the window is then placed around the end of partition
+     */
+    public static PartitionWindow around(int partition,
+                                         long beginningOffset,
+                                         long endOffset,
+                                         Long foundOffset,
+                                         int recordsBefore,
+                                         int recordsAfter) {
+        final long resolvedOffset = foundOffset == null ? endOffset : foundOffset;
+        return new PartitionWindow(partition,
+                                   resolvedOffset,
+                                   foundOffset != null,
+                                   Math.max(beginningOffset, resolvedOffset - recordsBefore),
+                                   Math.min(endOffset, resolvedOffset + recordsAfter));
+    }
+
+    public int getPartition() {
+        return partition;
+    }
+
+    public long getResolvedOffset() {
+        return resolvedOffset;
+    }
+
+    public boolean isTimestampFound() {
+        return timestampFound;
+    }
+
+    public long getStartOffset() {
+        return startOffset;
+    }
+
+    public long getEndOffset() {
+        return endOffset;
+    }
+
+    public boolean isEmpty() {
+        return startOffset >= endOffset;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d:[%d-%d)%s", partition, startOffset, endOffset, timestampFound ? "" : " (end)");
+    }
+}
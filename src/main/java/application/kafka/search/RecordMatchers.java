@@ -0,0 +1,49 @@
+package application.kafka.search;
+
+import application.model.ScanMatchType;
+import application.model.ScanTarget;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Creates record predicates with patterns compiled once, so matching a record does not parse the pattern again.
+ */
+public class RecordMatchers {
+
+    /**
+     * @throws IllegalArgumentException if pattern is not valid for given match type
+     */
+    public static Predicate<ConsumerRecord<String, String>> create(ScanMatchType matchType,
+                                                                   ScanTarget target,
+                                                                   String pattern) {
+        final Predicate<String> textMatcher = createTextMatcher(matchType, pattern);
+        switch (target) {
+            case KEY:
+                return record -> record.key() != null && textMatcher.test(record.key());
+            case VALUE:
+                return record -> record.value() != null && textMatcher.test(record.value());
+            default:
+                return record -> (record.key() != null && textMatcher.test(record.key()))
+                    || (record.value() != null && textMatcher.test(record.value()));
+        }
+    }
+
+    private static Predicate<String> createTextMatcher(ScanMatchType matchType, String pattern) {
+        switch (matchType) {
+            case REGEX:
+                try {
+                    final Pattern compiled = Pattern.compile(pattern);
+                    return text -> compiled.matcher(text).find();
+                } catch (PatternSyntaxException e) {
+                    throw new IllegalArgumentException("Invalid regular expression: " + e.getMessage(), e);
+                }
+            case JSON_PATH:
+                return JsonPathMatcher.compile(pattern);
+            default:
+                return text -> text.contains(pattern);
+        }
+    }
+}
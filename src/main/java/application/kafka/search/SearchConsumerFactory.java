@@ -0,0 +1,37 @@
+package application.kafka.search;
+
+import application.utils.HostInfo;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Creates group-less consumers used for searching topics. They never commit offsets,
+ * partitions are always assigned explicitly.
+ */
+public class SearchConsumerFactory implements Supplier<Consumer<String, String>> {
+
+    private static final String CLIENT_ID_PREFIX = "kmt-search-";
+    private static final AtomicInteger CONSUMERS_COUNT = new AtomicInteger(0);
+    private final HostInfo hostInfo;
+
+    public SearchConsumerFactory(HostInfo hostInfo) {
+        this.hostInfo = hostInfo;
+    }
+
+    @Override
+    public Consumer<String, String> get() {
+        final Properties config = new Properties();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, hostInfo.toHostPortString());
+        config.put(ConsumerConfig.CLIENT_ID_CONFIG, CLIENT_ID_PREFIX + CONSUMERS_COUNT.incrementAndGet());
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        return new KafkaConsumer<>(config);
+    }
+}
@@ -0,0 +1,9 @@
+package application.kafka.search;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+@FunctionalInterface
+public interface SearchHitSink {
+    // called from searching thread for every matching record
+    void onHit(ConsumerRecord<String, String> record);
+}
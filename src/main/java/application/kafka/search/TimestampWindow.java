@@ -0,0 +1,45 @@
+package application.kafka.search;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class TimestampWindow {
+    private final long timestamp;
+    private final List<PartitionWindow> partitionWindows;
+    private final List<ConsumerRecord<String, String>> records;
+    private final boolean complete;
+
+    public TimestampWindow(long timestamp,
+                           List<PartitionWindow> partitionWindows,
+                           List<ConsumerRecord<String, String>> records,
+                           boolean complete) {
+        this.timestamp = timestamp;
+        this.partitionWindows = Collections.unmodifiableList(partitionWindows);
+        this.records = Collections.unmodifiableList(records);
+        this.complete = complete;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public List<PartitionWindow> getPartitionWindows() {
+        return partitionWindows;
+    }
+
+    /**
+     * @return records of all partition windows ordered by timestamp
+     */
+    public List<ConsumerRecord<String, String>> getRecords() {
+        return records;
+    }
+
+    /**
+     * @return false if some windows could not be read completely before read timeout
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+}
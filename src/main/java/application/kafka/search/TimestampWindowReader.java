@@ -0,0 +1,168 @@
+package application.kafka.search;
+
+import application.kafka.listener.StartOffsetsResolver;
+import application.logging.Logger;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Reads records around a point in time from all partitions of a topic.
+ * The timestamp is resolved to offsets of all partitions with a single offsetsForTimes request,
+ * then bounded windows around resolved offsets are read in parallel by assigned consumers
+ * and records are merged by timestamp.
+ */
+public class TimestampWindowReader {
+
+    public static final int DEFAULT_READERS_COUNT = 4;
+    public static final long DEFAULT_READ_TIMEOUT_MS = 30_000;
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final String THREAD_NAME_PREFIX = "KMT-Thread-TimestampWindowReader-";
+    private static final Comparator<ConsumerRecord<String, String>> BY_TIMESTAMP =
+        Comparator.<ConsumerRecord<String, String>>comparingLong(ConsumerRecord::timestamp)
+            .thenComparingInt(ConsumerRecord::partition)
+            .thenComparingLong(ConsumerRecord::offset);
+    private final AtomicInteger threadsCount = new AtomicInteger(0);
+    private final Supplier<Consumer<String, String>> consumerFactory;
+    private final int readersCount;
+    private final long readTimeoutMs;
+
+    public TimestampWindowReader(Supplier<Consumer<String, String>> consumerFactory) {
+        this(consumerFactory, DEFAULT_READERS_COUNT, DEFAULT_READ_TIMEOUT_MS);
+    }
+
+    public TimestampWindowReader(Supplier<Consumer<String, String>> consumerFactory,
+                                 int readersCount,
+                                 long readTimeoutMs) {
+        this.consumerFactory = consumerFactory;
+        this.readersCount = readersCount;
+        this.readTimeoutMs = readTimeoutMs;
+    }
+
+    /**
+     * @param recordsBefore max number of records read from each partition before offset resolved for timestamp
+     * @param recordsAfter  max number of records read from each partition starting at offset resolved for timestamp
+     */
+    public TimestampWindow read(String topicName,
+                                long timestamp,
+                                int recordsBefore,
+                                int recordsAfter) throws InterruptedException, ExecutionException {
+        final List<PartitionWindow> windows = resolveWindows(topicName, timestamp, recordsBefore, recordsAfter);
+        final List<PartitionWindow> windowsToRead = windows.stream()
+            .filter(window -> !window.isEmpty())
+            .collect(Collectors.toList());
+
+        final List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        boolean complete = true;
+        if (!windowsToRead.isEmpty()) {
+            final int threads = Math.min(readersCount, windowsToRead.size());
+            final ExecutorService executor = Executors.newFixedThreadPool(threads, this::newThread);
+            try {
+                final List<Future<ReadWindows>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    final List<PartitionWindow> readerWindows = everyNth(windowsToRead, i, threads);
+                    results.add(executor.submit(() -> readWindows(topicName, readerWindows)));
+                }
+                for (Future<ReadWindows> result : results) {
+                    records.addAll(result.get().records);
+                    complete &= result.get().complete;
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        records.sort(BY_TIMESTAMP);
+        return new TimestampWindow(timestamp, windows, records, complete);
+    }
+
+    private List<PartitionWindow> resolveWindows(String topicName, long timestamp, int recordsBefore, int recordsAfter) {
+        try (Consumer<String, String> consumer = consumerFactory.get()) {
+            final List<PartitionInfo> partitionInfos = consumer.partitionsFor(topicName);
+            if (partitionInfos == null) {
+                return Collections.emptyList();
+            }
+            final List<TopicPartition> partitions = partitionInfos.stream()
+                .map(info -> new TopicPartition(topicName, info.partition()))
+                .sorted(Comparator.comparingInt(TopicPartition::partition))
+                .collect(Collectors.toList());
+            final Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(partitions);
+            final Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            final Map<TopicPartition, Long> foundOffsets = StartOffsetsResolver.offsetsForTimestamp(consumer,
+                                                                                                    partitions,
+                                                                                                    timestamp);
+            return partitions.stream()
+                .map(partition -> PartitionWindow.around(partition.partition(),
+                                                         beginningOffsets.get(partition),
+                                                         endOffsets.get(partition),
+                                                         foundOffsets.get(partition),
+                                                         recordsBefore,
+                                                         recordsAfter))
+                .collect(Collectors.toList());
+        }
+    }
+
+    private ReadWindows readWindows(String topicName, List<PartitionWindow> windows) {
+        final ReadWindows result = new ReadWindows();
+        try (Consumer<String, String> consumer = consumerFactory.get()) {
+            final Map<TopicPartition, PartitionWindow> pending = new HashMap<>();
+            windows.forEach(window -> pending.put(new TopicPartition(topicName, window.getPartition()), window));
+            consumer.assign(pending.keySet());
+            pending.forEach((partition, window) -> consumer.seek(partition, window.getStartOffset()));
+
+            final long deadline = System.currentTimeMillis() + readTimeoutMs;
+            while (!pending.isEmpty() && System.currentTimeMillis() < deadline) {
+                for (ConsumerRecord<String, String> record : consumer.poll(POLL_TIMEOUT_MS)) {
+                    final PartitionWindow window = pending.get(new TopicPartition(record.topic(), record.partition()));
+                    if (window != null && record.offset() < window.getEndOffset()) {
+                        result.records.add(record);
+                    }
+                }
+                final List<TopicPartition> finished = pending.keySet().stream()
+                    .filter(partition -> consumer.position(partition) >= pending.get(partition).getEndOffset())
+                    .collect(Collectors.toList());
+                finished.forEach(pending::remove);
+                consumer.pause(finished);
+            }
+            if (!pending.isEmpty()) {
+                Logger.warn(String.format("Windows %s of topic '%s' not read completely within %d ms",
+                                          pending.values(), topicName, readTimeoutMs));
+                result.complete = false;
+            }
+        }
+        return result;
+    }
+
+    private static List<PartitionWindow> everyNth(List<PartitionWindow> windows, int first, int step) {
+        final List<PartitionWindow> result = new ArrayList<>();
+        for (int i = first; i < windows.size(); i += step) {
+            result.add(windows.get(i));
+        }
+        return result;
+    }
+
+    private Thread newThread(Runnable runnable) {
+        final Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadsCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static final class ReadWindows {
+        private final List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        private boolean complete = true;
+    }
+}
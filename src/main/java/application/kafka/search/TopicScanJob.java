@@ -0,0 +1,222 @@
+package application.kafka.search;
+
+import application.kafka.listener.StartOffsetsResolver;
+import application.logging.Logger;
+import application.model.ListenerStartPosition;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Scans whole topic for records matching a predicate. Partitions are split between several scanner threads,
+ * each with its own assigned consumer (no consumer group is joined), reading from the start position
+ * up to end offsets taken when the scan starts.
+ * <p>
+ * Hits are passed to the sink from scanner threads as soon as they are found. The scan stops when all
+ * partitions are read, when it is cancelled or when max number of hits is reached.
+ */
+public class TopicScanJob {
+
+    public static final int DEFAULT_SCANNERS_COUNT = 4;
+    public static final long DEFAULT_MAX_HITS = 10_000;
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final String THREAD_NAME_PREFIX = "KMT-Thread-TopicScanner-";
+    private final AtomicInteger threadsCount = new AtomicInteger(0);
+    private final AtomicLong hitsCount = new AtomicLong(0);
+    private final Map<Integer, PartitionScanState> states = new TreeMap<>();
+    private final Supplier<Consumer<String, String>> consumerFactory;
+    private final String topicName;
+    private final Predicate<ConsumerRecord<String, String>> matcher;
+    private final int scannersCount;
+    private final long maxHits;
+    private final SearchHitSink hitSink;
+    private volatile boolean cancelRequested;
+
+    public TopicScanJob(Supplier<Consumer<String, String>> consumerFactory,
+                        String topicName,
+                        Predicate<ConsumerRecord<String, String>> matcher,
+                        int scannersCount,
+                        long maxHits,
+                        SearchHitSink hitSink) {
+        this.consumerFactory = consumerFactory;
+        this.topicName = topicName;
+        this.matcher = matcher;
+        this.scannersCount = scannersCount;
+        this.maxHits = maxHits;
+        this.hitSink = hitSink;
+    }
+
+    /**
+     * Blocks until the scan is finished.
+     *
+     * @param startPosition {@link ListenerStartPosition#BEGINNING}, {@link ListenerStartPosition#OFFSET}
+     *                      or {@link ListenerStartPosition#TIMESTAMP} are the usual ones
+     * @throws IllegalArgumentException if topic does not exist
+     */
+    public void run(ListenerStartPosition startPosition,
+                    String startPositionValue) throws InterruptedException, ExecutionException {
+        final List<TopicPartition> partitions = resolvePartitionsToScan(startPosition, startPositionValue);
+        if (partitions.isEmpty()) {
+            return;
+        }
+        final int threads = Math.min(scannersCount, partitions.size());
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, this::newThread);
+        try {
+            final List<Future<?>> scanners = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                final List<TopicPartition> scannerPartitions = new ArrayList<>();
+                for (int p = i; p < partitions.size(); p += threads) {
+                    scannerPartitions.add(partitions.get(p));
+                }
+                scanners.add(executor.submit(() -> scan(scannerPartitions)));
+            }
+            for (Future<?> scanner : scanners) {
+                scanner.get();
+            }
+            Logger.info(String.format("Scan of topic '%s' %s, %d hit(s)",
+                                      topicName, cancelRequested ? "cancelled" : "finished", hitsCount.get()));
+        } finally {
+            cancelRequested = true;
+            executor.shutdownNow();
+        }
+    }
+
+    public void cancel() {
+        cancelRequested = true;
+    }
+
+    public long getHitsCount() {
+        return hitsCount.get();
+    }
+
+    public boolean isMaxHitsReached() {
+        return hitsCount.get() >= maxHits;
+    }
+
+    /**
+     * @return progress of every scanned partition, empty until start offsets are resolved
+     */
+    public List<PartitionScanProgress> getProgress() {
+        synchronized (states) {
+            return states.values().stream().map(PartitionScanState::toProgress).collect(Collectors.toList());
+        }
+    }
+
+    private List<TopicPartition> resolvePartitionsToScan(ListenerStartPosition startPosition, String startPositionValue) {
+        try (Consumer<String, String> consumer = consumerFactory.get()) {
+            final List<PartitionInfo> partitionInfos = consumer.partitionsFor(topicName);
+            if (partitionInfos == null || partitionInfos.isEmpty()) {
+                throw new IllegalArgumentException(String.format("Topic '%s' does not exist", topicName));
+            }
+            final List<TopicPartition> partitions = partitionInfos.stream()
+                .map(info -> new TopicPartition(topicName, info.partition()))
+                .sorted(Comparator.comparingInt(TopicPartition::partition))
+                .collect(Collectors.toList());
+            final Map<TopicPartition, Long> startOffsets = StartOffsetsResolver.resolve(consumer,
+                                                                                       partitions,
+                                                                                       startPosition,
+                                                                                       startPositionValue);
+            final Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            synchronized (states) {
+                partitions.forEach(partition -> states.put(partition.partition(),
+                                                           new PartitionScanState(partition.partition(),
+                                                                                  startOffsets.get(partition),
+                                                                                  endOffsets.get(partition))));
+            }
+            return partitions.stream()
+                .filter(partition -> !states.get(partition.partition()).isFinished())
+                .collect(Collectors.toList());
+        }
+    }
+
+    private void scan(List<TopicPartition> partitions) {
+        try (Consumer<String, String> consumer = consumerFactory.get()) {
+            final List<TopicPartition> pending = new ArrayList<>(partitions);
+            consumer.assign(pending);
+            pending.forEach(partition -> consumer.seek(partition, states.get(partition.partition()).startOffset));
+
+            while (!pending.isEmpty() && !isStopRequested()) {
+                final ConsumerRecords<String, String> records = consumer.poll(POLL_TIMEOUT_MS);
+                for (TopicPartition partition : records.partitions()) {
+                    scanRecords(states.get(partition.partition()), records.records(partition));
+                }
+                final List<TopicPartition> finished = new ArrayList<>();
+                for (TopicPartition partition : pending) {
+                    final PartitionScanState state = states.get(partition.partition());
+                    state.position = Math.max(state.position, consumer.position(partition));
+                    if (state.isFinished()) {
+                        finished.add(partition);
+                    }
+                }
+                pending.removeAll(finished);
+                consumer.pause(finished);
+            }
+        }
+    }
+
+    private void scanRecords(PartitionScanState state, List<ConsumerRecord<String, String>> records) {
+        for (ConsumerRecord<String, String> record : records) {
+            if (record.offset() >= state.endOffset || isStopRequested()) {
+                return;
+            }
+            if (matcher.test(record)) {
+                state.hits++;
+                if (hitsCount.incrementAndGet() <= maxHits) {
+                    hitSink.onHit(record);
+                }
+            }
+            state.position = record.offset() + 1;
+        }
+    }
+
+    private boolean isStopRequested() {
+        return cancelRequested || Thread.currentThread().isInterrupted() || isMaxHitsReached();
+    }
+
+    private Thread newThread(Runnable runnable) {
+        final Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadsCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    // written only by the scanner thread owning the partition
+    private static final class PartitionScanState {
+        private final int partition;
+        private final long startOffset;
+        private final long endOffset;
+        private volatile long position;
+        private volatile long hits;
+
+        private PartitionScanState(int partition, long startOffset, long endOffset) {
+            this.partition = partition;
+            this.startOffset = startOffset;
+            this.endOffset = endOffset;
+            this.position = startOffset;
+        }
+
+        private boolean isFinished() {
+            return position >= endOffset;
+        }
+
+        private PartitionScanProgress toProgress() {
+            return new PartitionScanProgress(partition, startOffset, endOffset, position, hits);
+        }
+    }
+}
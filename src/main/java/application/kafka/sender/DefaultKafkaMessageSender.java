@@ -1,7 +1,9 @@
 package application.kafka.sender;
 
+import application.kafka.benchmark.LatencyProbeRun;
 import application.logging.Logger;
 import application.model.MessageOnTopicDto;
+import application.model.modelobjects.KafkaProducerProfile;
 import application.utils.HostInfo;
 import application.utils.kafka.KafkaProducers;
 import org.apache.kafka.clients.producer.KafkaProducer;
@@ -26,11 +28,16 @@ public final class DefaultKafkaMessageSender implements KafkaMessageSender {
 
     @Override
     public void initiateFreshConnection(HostInfo info,
+                                        KafkaProducerProfile profile,
                                         boolean isSimulationModeEnabled) {
         if (isSimulationModeEnabled) {
             return;
         }
-        producer = getProducer(info);
+        // producer is owned by this sender, nobody else sends through it
+        if (producer != null) {
+            KafkaProducers.close(producer);
+        }
+        producer = getProducer(info, profile);
     }
 
 
@@ -40,14 +47,75 @@ public final class DefaultKafkaMessageSender implements KafkaMessageSender {
     }
 
 
+    @Override
+    public void sendMessagesAsync(MessageOnTopicDto msgToBeSent,
+                                  InFlightMessagesWindow window) throws InterruptedException {
+        refreshProducerIfNeeded(msgToBeSent.getBrokerHostInfo(),
+                                msgToBeSent.shouldSimulateSending());
+        logMessageBeingSent(msgToBeSent, "pipelined");
+        if (msgToBeSent.shouldSimulateSending()) {
+            return;
+        }
+
+        window.acquire();
+        // latency probe takes send time when the record is created, waiting for free slot must not be counted
+        final ProducerRecord<String, String> record = createRecord(msgToBeSent);
+        final long sendStartNanos = System.nanoTime();
+        final boolean isDetailedLoggingEnabled = msgToBeSent.isDetailedLoggingEnabled();
+        try {
+            producer.send(record, (recordMetadata, exception) -> onAsyncSendCompleted(window,
+                                                                                      recordMetadata,
+                                                                                      exception,
+                                                                                      sendStartNanos,
+                                                                                      isDetailedLoggingEnabled));
+        } catch (RuntimeException e) {
+            onAsyncSendCompleted(window, null, e, sendStartNanos, isDetailedLoggingEnabled);
+            throw e;
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (producer != null) {
+            producer.flush();
+        }
+    }
+
+    private void onAsyncSendCompleted(InFlightMessagesWindow window,
+                                      RecordMetadata recordMetadata,
+                                      Exception exception,
+                                      long sendStartNanos,
+                                      boolean isDetailedLoggingEnabled) {
+        final boolean isFirstFailure = window.complete(exception,
+                                                       System.nanoTime() - sendStartNanos,
+                                                       getSerializedSize(recordMetadata));
+        if (exception == null) {
+            if (isDetailedLoggingEnabled) {
+                logSentOffset(recordMetadata);
+            }
+        } else if (isFirstFailure) {
+            // report only first failure, next ones are most likely caused by the same problem
+            printMostAppropriateDebugBasedOnExcepionType(new ExecutionException(exception));
+        }
+    }
+
+    private static long getSerializedSize(RecordMetadata recordMetadata) {
+        if (recordMetadata == null) {
+            return 0;
+        }
+        return Math.max(0, recordMetadata.serializedKeySize()) + Math.max(0, recordMetadata.serializedValueSize());
+    }
+
     private void trySendMessages(MessageOnTopicDto msgToBeSent) {
 
         try {
             refreshProducerIfNeeded(msgToBeSent.getBrokerHostInfo(),
                     msgToBeSent.shouldSimulateSending());
             sendMessagesToTopic(msgToBeSent);
-            Logger.info(String.format("Message [%d/%d] sent.", msgToBeSent.getMsgNum(),
-                    msgToBeSent.getTotalMsgCount()));
+            if (msgToBeSent.isDetailedLoggingEnabled()) {
+                Logger.info(String.format("Message [%d/%d] sent.", msgToBeSent.getMsgNum(),
+                        msgToBeSent.getTotalMsgCount()));
+            }
         } catch (Exception e) {
             printMostAppropriateDebugBasedOnExcepionType(e);
             throw new RuntimeException(e);
@@ -75,28 +143,30 @@ public final class DefaultKafkaMessageSender implements KafkaMessageSender {
             TimeoutException {
 
 
-        final String message = messageOnTopic.getMessage();
-        final int msgCount = messageOnTopic.getMsgNum();
-        final int totalMsgCount = messageOnTopic.getTotalMsgCount();
-        final String topicName = messageOnTopic.getTopicName();
-        final String key = messageOnTopic.getMessageKey();
-
-
-        final ProducerRecord<String, String> record = createRecord(topicName, key, message);
-        Logger.info(String.format("%sSending message %d/%d (timeout ms: %d)%nmessage content= '%s'",
-                messageOnTopic.shouldSimulateSending() ? "(simulation) " : "",
-                msgCount,
-                totalMsgCount,
-                KAFKA_SENDER_SEND_TIMEOUT_MS,
-                message));
+        final ProducerRecord<String, String> record = createRecord(messageOnTopic);
+        logMessageBeingSent(messageOnTopic, "timeout ms: " + KAFKA_SENDER_SEND_TIMEOUT_MS);
 
         if (!messageOnTopic.shouldSimulateSending()) {
             final Future<RecordMetadata> futureResult = producer.send(record);
             final RecordMetadata recordMetadata = futureResult.get(KAFKA_SENDER_SEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
-            logSentOffset(recordMetadata);
+            if (messageOnTopic.isDetailedLoggingEnabled()) {
+                logSentOffset(recordMetadata);
+            }
         }
     }
 
+    private void logMessageBeingSent(MessageOnTopicDto messageOnTopic, String sendingModeInfo) {
+        if (!messageOnTopic.isDetailedLoggingEnabled()) {
+            return;
+        }
+        Logger.info(String.format("%sSending message %d/%d (%s)%nmessage content= '%s'",
+                messageOnTopic.shouldSimulateSending() ? "(simulation) " : "",
+                messageOnTopic.getMsgNum(),
+                messageOnTopic.getTotalMsgCount(),
+                sendingModeInfo,
+                messageOnTopic.getMessage()));
+    }
+
     private void logSentOffset(RecordMetadata recordMetadata) {
         String offset = "absent in record metadata";
         if (recordMetadata.hasOffset()) {
@@ -111,32 +181,38 @@ public final class DefaultKafkaMessageSender implements KafkaMessageSender {
     private void refreshProducerIfNeeded(HostInfo brokerHostInfo,
                                          boolean isSimulationModeEnabled) {
         if (producer == null) {
-            initiateFreshConnection(brokerHostInfo, isSimulationModeEnabled);
+            initiateFreshConnection(brokerHostInfo, new KafkaProducerProfile(), isSimulationModeEnabled);
         }
     }
 
-    private ProducerRecord<String, String> createRecord(String topicName,
-                                                        String key,
-                                                        String content) {
-        return new ProducerRecord<>(topicName,
-                key,
-                content);
+    private ProducerRecord<String, String> createRecord(MessageOnTopicDto messageOnTopic) {
+        final LatencyProbeRun latencyProbeRun = messageOnTopic.getLatencyProbeRun();
+        if (latencyProbeRun == null) {
+            return new ProducerRecord<>(messageOnTopic.getTopicName(),
+                    messageOnTopic.getMessageKey(),
+                    messageOnTopic.getMessage());
+        }
+        return new ProducerRecord<>(messageOnTopic.getTopicName(),
+                null,
+                null,
+                messageOnTopic.getMessageKey(),
+                messageOnTopic.getMessage(),
+                latencyProbeRun.createHeaders(messageOnTopic.getMsgNum(), messageOnTopic.getTotalMsgCount()));
     }
 
-    private Properties getKafkaProducerConfig(HostInfo hostInfo) {
-        final Properties properties = new Properties();
+    private Properties getKafkaProducerConfig(HostInfo hostInfo, KafkaProducerProfile profile) {
+        final Properties properties = profile.toProducerProperties();
 
         properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, hostInfo.toHostPortString());
         properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, KAFKA_STRING_SERIALIZER_CLASS_NAME);
         properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, KAFKA_STRING_SERIALIZER_CLASS_NAME);
-        properties.put(ProducerConfig.ACKS_CONFIG, "all");
         properties.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, String.valueOf(KAFKA_PRODUCER_MAX_BLOCK_MS));
         return properties;
     }
 
-    private KafkaProducer<String, String> getProducer(HostInfo hostInfo) {
-        final Properties props = getKafkaProducerConfig(hostInfo);
-        return KafkaProducers.getProducerForProperties(props);
+    private KafkaProducer<String, String> getProducer(HostInfo hostInfo, KafkaProducerProfile profile) {
+        final Properties props = getKafkaProducerConfig(hostInfo, profile);
+        return KafkaProducers.createProducer(props);
     }
 
 }
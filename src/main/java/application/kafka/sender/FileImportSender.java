@@ -0,0 +1,213 @@
+package application.kafka.sender;
+
+import application.customfxwidgets.senderconfig.StatusBarNotifier;
+import application.exceptions.ExecutionStopRequested;
+import application.exceptions.KafkaToolError;
+import application.logging.Logger;
+import application.model.MessageOnTopicDto;
+import application.model.modelobjects.KafkaSenderConfig;
+import application.utils.ThrowableUtils;
+import org.apache.kafka.common.errors.InterruptException;
+
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+/**
+ * Sends every record of a local file as a message, records are read and sent one by one, so files of any size
+ * can be imported with constant memory. Messages are always pipelined, number of messages waiting
+ * for acknowledgement is limited by max in-flight messages of the sender config.
+ */
+public class FileImportSender {
+
+    private static final long PROGRESS_REFRESH_INTERVAL_MS = 500;
+    private static final double BYTES_IN_MEGABYTE = 1024 * 1024;
+    private final KafkaMessageSender kafkaSender;
+
+    public FileImportSender(KafkaMessageSender kafkaSender) {
+        this.kafkaSender = kafkaSender;
+    }
+
+    public void send(KafkaSenderConfig config,
+                     StatusBarNotifier notifier,
+                     boolean isSimulationModeEnabled) {
+        try {
+            trySend(config, notifier, isSimulationModeEnabled);
+        } catch (ExecutionStopRequested e) {
+            Logger.warn("Import stopped by user.");
+        } catch (Exception e) {
+            Logger.trace(ThrowableUtils.getFullStackTrace(e));
+            Logger.error(ThrowableUtils.getMessageWithRootCause(e));
+        } finally {
+            notifier.clearMsgSentProgress();
+        }
+    }
+
+    private void trySend(KafkaSenderConfig config,
+                         StatusBarNotifier notifier,
+                         boolean isSimulationModeEnabled) throws Exception {
+        final Path file = Paths.get(config.getImportFilePath());
+        Logger.info(String.format("Importing messages [topic '%s'] from file '%s' (%s)",
+                                  config.getRelatedConfig().getTopicName(),
+                                  file,
+                                  config.getImportFormat().name().toLowerCase()));
+        kafkaSender.initiateFreshConnection(config.getRelatedConfig().getRelatedConfig().getHostInfo(),
+                                            config.getProducerProfile(),
+                                            isSimulationModeEnabled);
+        final InFlightMessagesWindow window = new InFlightMessagesWindow(Integer.parseInt(config.getMaxInFlightMessages()));
+        final ImportedRecordParser parser = new ImportedRecordParser(config.getImportFormat(),
+                                                                     config.getImportCsvKeyColumn(),
+                                                                     config.getImportCsvValueColumn(),
+                                                                     config.isMessageKeyEnabled() ? config.getMessageKey() : null);
+        final ImportProgress progress = new ImportProgress(notifier);
+        try (ImportFileReader reader = new ImportFileReader(file, delimiterOf(config), isQuoteAware(config))) {
+            String text;
+            while ((text = reader.next()) != null) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw stopRequested(window, new InterruptedException());
+                }
+                final ImportedRecordParser.ImportedRecord record = parser.parse(text);
+                if (record == null) {
+                    continue;
+                }
+                final MessageOnTopicDto message = MessageOnTopicDto.fromImportedRecord(config,
+                                                                                        record.getKey(),
+                                                                                        record.getValue(),
+                                                                                        isSimulationModeEnabled,
+                                                                                        progress.nextMessageNumber());
+                sendAsync(message, window);
+                progress.messageSent(message.getSizeInBytes(), reader);
+            }
+            flush(window);
+            progress.report(reader);
+        } catch (ClosedByInterruptException e) {
+            throw stopRequested(window, e);
+        }
+        throwIfAnyMessageFailed(window);
+        Logger.info(String.format(Locale.ENGLISH, "Imported %d messages from file '%s', %.1f msgs/s",
+                                  progress.sentCount, file, progress.getAverageMessagesPerSec()));
+    }
+
+    private static String delimiterOf(KafkaSenderConfig config) {
+        switch (config.getImportFormat()) {
+            case DELIMITED:
+                return unescapeDelimiter(config.getImportDelimiter());
+            default:
+                return "\n";
+        }
+    }
+
+    // delimiter is edited in a text field, so new line and tab are entered escaped
+    private static String unescapeDelimiter(String delimiter) {
+        final StringBuilder unescaped = new StringBuilder();
+        for (int i = 0; i < delimiter.length(); i++) {
+            final char c = delimiter.charAt(i);
+            if (c != '\\' || i + 1 == delimiter.length()) {
+                unescaped.append(c);
+                continue;
+            }
+            final char escaped = delimiter.charAt(++i);
+            switch (escaped) {
+                case 'n':
+                    unescaped.append('\n');
+                    break;
+                case 'r':
+                    unescaped.append('\r');
+                    break;
+                case 't':
+                    unescaped.append('\t');
+                    break;
+                default:
+                    unescaped.append(escaped);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    private static boolean isQuoteAware(KafkaSenderConfig config) {
+        switch (config.getImportFormat()) {
+            case CSV:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void sendAsync(MessageOnTopicDto message, InFlightMessagesWindow window) throws Exception {
+        throwIfAnyMessageFailed(window);
+        try {
+            kafkaSender.sendMessagesAsync(message, window);
+        } catch (InterruptedException | InterruptException e) {
+            throw stopRequested(window, e);
+        }
+    }
+
+    private void flush(InFlightMessagesWindow window) throws ExecutionStopRequested {
+        try {
+            kafkaSender.flush();
+        } catch (InterruptException e) {
+            throw stopRequested(window, e);
+        }
+    }
+
+    private static void throwIfAnyMessageFailed(InFlightMessagesWindow window) throws KafkaToolError {
+        if (window.hasFailures()) {
+            throw new KafkaToolError(String.format("Import failed for %d message(s), %d acknowledged",
+                                                   window.getFailedCount(),
+                                                   window.getAcknowledgedCount()),
+                                     window.getFirstFailure());
+        }
+    }
+
+    private static ExecutionStopRequested stopRequested(InFlightMessagesWindow window, Exception cause) {
+        if (window.getInFlightCount() > 0) {
+            Logger.warn(String.format("%d message(s) already handed to producer may still be delivered",
+                                      window.getInFlightCount()));
+        }
+        return new ExecutionStopRequested(cause);
+    }
+
+    private static final class ImportProgress {
+        private final StatusBarNotifier notifier;
+        private final long startTimeMs = System.currentTimeMillis();
+        private long lastReportTimeMs = startTimeMs;
+        private long sentCount = 0;
+        private long sentBytes = 0;
+        private long lastSentCount = 0;
+        private long lastSentBytes = 0;
+
+        ImportProgress(StatusBarNotifier notifier) {
+            this.notifier = notifier;
+        }
+
+        int nextMessageNumber() {
+            return (int) Math.min(Integer.MAX_VALUE, sentCount + 1);
+        }
+
+        void messageSent(long sizeInBytes, ImportFileReader reader) {
+            sentCount++;
+            sentBytes += sizeInBytes;
+            if (System.currentTimeMillis() - lastReportTimeMs >= PROGRESS_REFRESH_INTERVAL_MS) {
+                report(reader);
+            }
+        }
+
+        void report(ImportFileReader reader) {
+            final long now = System.currentTimeMillis();
+            final double elapsedSec = Math.max(1, now - lastReportTimeMs) / 1000.0;
+            notifier.setImportProgress(sentCount,
+                                       reader.getReadBytes(),
+                                       reader.getFileSize(),
+                                       (sentCount - lastSentCount) / elapsedSec,
+                                       (sentBytes - lastSentBytes) / BYTES_IN_MEGABYTE / elapsedSec);
+            lastReportTimeMs = now;
+            lastSentCount = sentCount;
+            lastSentBytes = sentBytes;
+        }
+
+        double getAverageMessagesPerSec() {
+            return sentCount * 1000.0 / Math.max(1, System.currentTimeMillis() - startTimeMs);
+        }
+    }
+}
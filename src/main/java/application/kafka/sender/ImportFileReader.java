@@ -0,0 +1,162 @@
+package application.kafka.sender;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Splits a file into records separated by a delimiter, reading it sequentially through a file channel
+ * with a fixed size buffer, so files of any size can be read with constant memory.
+ * <p>
+ * When quote aware, delimiter inside double quotes does not end a record (CSV values with new lines).
+ * Empty records are skipped, '\r' preceding '\n' delimiter is not part of the record.
+ * Record longer than max record size fails reading, so a file with unbalanced quote or wrong delimiter
+ * is not buffered in memory as a single record.
+ */
+public class ImportFileReader implements Closeable {
+
+    public static final int DEFAULT_MAX_RECORD_SIZE = 64 * 1024 * 1024;
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
+    private static final int INITIAL_RECORD_BUFFER_SIZE = 4096;
+    private static final byte QUOTE = '"';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte NEW_LINE = '\n';
+    private final FileChannel channel;
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    private final byte[] delimiter;
+    private final boolean quoteAware;
+    private final long fileSize;
+    private final int maxRecordSize;
+    private byte[] record = new byte[INITIAL_RECORD_BUFFER_SIZE];
+    private int recordLength;
+    private long readBytes;
+    private long lineNumber = 1;
+    private long recordStartLineNumber = 1;
+    private boolean endOfFile;
+
+    public ImportFileReader(Path file, String delimiter, boolean quoteAware) throws IOException {
+        this(file, delimiter, quoteAware, DEFAULT_MAX_RECORD_SIZE);
+    }
+
+    public ImportFileReader(Path file, String delimiter, boolean quoteAware, int maxRecordSize) throws IOException {
+        if (delimiter.isEmpty()) {
+            throw new IllegalArgumentException("Records delimiter must not be empty");
+        }
+        this.delimiter = delimiter.getBytes(StandardCharsets.UTF_8);
+        this.quoteAware = quoteAware;
+        this.maxRecordSize = maxRecordSize;
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        fileSize = channel.size();
+        readBuffer.flip();
+    }
+
+    /**
+     * @return next record or null if end of file was reached
+     * @throws IOException if record is longer than max record size
+     */
+    public String next() throws IOException {
+        while (true) {
+            final boolean delimiterFound = readUntilDelimiter();
+            if (!delimiterFound && recordLength == 0) {
+                return null;
+            }
+            final String value = takeRecord(delimiterFound);
+            if (!value.isEmpty()) {
+                return value;
+            }
+        }
+    }
+
+    public long getReadBytes() {
+        return readBytes;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean readUntilDelimiter() throws IOException {
+        boolean insideQuotes = false;
+        while (fillBufferIfNeeded()) {
+            while (readBuffer.hasRemaining()) {
+                final byte b = readBuffer.get();
+                readBytes++;
+                append(b, insideQuotes);
+                if (b == NEW_LINE) {
+                    lineNumber++;
+                }
+                // bytes of multi-byte UTF-8 characters are never equal to ASCII quote
+                if (quoteAware && b == QUOTE) {
+                    insideQuotes = !insideQuotes;
+                } else if (!insideQuotes && endsWithDelimiter()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean fillBufferIfNeeded() throws IOException {
+        if (readBuffer.hasRemaining()) {
+            return true;
+        }
+        if (endOfFile) {
+            return false;
+        }
+        readBuffer.clear();
+        final int read = channel.read(readBuffer);
+        readBuffer.flip();
+        if (read < 0) {
+            endOfFile = true;
+            return false;
+        }
+        return true;
+    }
+
+    private void append(byte b, boolean insideQuotes) throws IOException {
+        if (recordLength == maxRecordSize) {
+            throw new IOException(String.format("Record starting at line %d exceeds max record size of %d bytes%s",
+                                                recordStartLineNumber,
+                                                maxRecordSize,
+                                                insideQuotes ? ", it may contain unbalanced quote" : ""));
+        }
+        if (recordLength == record.length) {
+            record = Arrays.copyOf(record, (int) Math.min(maxRecordSize, record.length * 2L));
+        }
+        record[recordLength++] = b;
+    }
+
+    private boolean endsWithDelimiter() {
+        if (recordLength < delimiter.length) {
+            return false;
+        }
+        final int start = recordLength - delimiter.length;
+        for (int i = 0; i < delimiter.length; i++) {
+            if (record[start + i] != delimiter[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String takeRecord(boolean endsWithDelimiter) {
+        int length = endsWithDelimiter ? recordLength - delimiter.length : recordLength;
+        if (endsWithDelimiter && delimiter[0] == '\n' && length > 0 && record[length - 1] == CARRIAGE_RETURN) {
+            length--;
+        }
+        final String value = new String(record, 0, length, StandardCharsets.UTF_8);
+        recordLength = 0;
+        recordStartLineNumber = lineNumber;
+        return value;
+    }
+}
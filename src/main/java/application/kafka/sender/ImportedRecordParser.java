@@ -0,0 +1,157 @@
+package application.kafka.sender;
+
+import application.model.ImportFormat;
+import groovy.json.JsonException;
+import groovy.json.JsonOutput;
+import groovy.json.JsonSlurper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts records read from imported file to keys and values of sent messages.
+ * <ul>
+ * <li>JSON_LINES - object with "value" (and optional "key") field, as exported by listeners,
+ * any other line is sent as value as it is</li>
+ * <li>CSV - first record is a header naming key and value columns, key column is optional</li>
+ * <li>DELIMITED - whole record is the value</li>
+ * </ul>
+ * Messages without key in the file get the default key. Empty key field (JSON null, empty CSV field) means no key.
+ * JSON null value means no value, so exported tombstones are imported as tombstones.
+ * Parser of CSV keeps the header, so every imported file needs its own parser.
+ */
+public final class ImportedRecordParser {
+
+    private static final String JSON_KEY_FIELD = "key";
+    private static final String JSON_VALUE_FIELD = "value";
+    private static final int NO_COLUMN = -1;
+    private final ImportFormat format;
+    private final String csvKeyColumn;
+    private final String csvValueColumn;
+    private final String defaultKey;
+    private final JsonSlurper jsonSlurper = new JsonSlurper();
+    private boolean csvHeaderParsed;
+    private int csvKeyIndex = NO_COLUMN;
+    private int csvValueIndex = NO_COLUMN;
+
+    public ImportedRecordParser(ImportFormat format, String csvKeyColumn, String csvValueColumn, String defaultKey) {
+        this.format = format;
+        this.csvKeyColumn = csvKeyColumn;
+        this.csvValueColumn = csvValueColumn;
+        this.defaultKey = defaultKey;
+    }
+
+    /**
+     * @return null if record is not a message (CSV header)
+     * @throws IllegalArgumentException if CSV header does not contain value column
+     */
+    public ImportedRecord parse(String text) {
+        switch (format) {
+            case JSON_LINES:
+                return parseJson(text);
+            case CSV:
+                return parseCsv(text);
+            default:
+                return new ImportedRecord(defaultKey, text);
+        }
+    }
+
+    private ImportedRecord parseJson(String text) {
+        final Object parsed;
+        try {
+            parsed = jsonSlurper.parseText(text);
+        } catch (JsonException | IllegalArgumentException e) {
+            return new ImportedRecord(defaultKey, text);
+        }
+        if (!(parsed instanceof Map) || !((Map<?, ?>) parsed).containsKey(JSON_VALUE_FIELD)) {
+            return new ImportedRecord(defaultKey, text);
+        }
+        final Map<?, ?> object = (Map<?, ?>) parsed;
+        final String key = object.containsKey(JSON_KEY_FIELD) ? toText(object.get(JSON_KEY_FIELD)) : defaultKey;
+        return new ImportedRecord(key, toText(object.get(JSON_VALUE_FIELD)));
+    }
+
+    private static String toText(Object jsonElement) {
+        if (jsonElement == null || jsonElement instanceof String) {
+            return (String) jsonElement;
+        }
+        return JsonOutput.toJson(jsonElement);
+    }
+
+    private ImportedRecord parseCsv(String text) {
+        final List<String> fields = splitCsvFields(text);
+        if (!csvHeaderParsed) {
+            csvKeyIndex = fields.indexOf(csvKeyColumn);
+            csvValueIndex = fields.indexOf(csvValueColumn);
+            if (csvValueIndex == NO_COLUMN) {
+                throw new IllegalArgumentException(String.format("CSV header '%s' does not contain value column '%s'",
+                                                                 text, csvValueColumn));
+            }
+            csvHeaderParsed = true;
+            return null;
+        }
+        final String key = csvKeyIndex == NO_COLUMN ? defaultKey : emptyToNull(fieldOrEmpty(fields, csvKeyIndex));
+        return new ImportedRecord(key, fieldOrEmpty(fields, csvValueIndex));
+    }
+
+    private static String fieldOrEmpty(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index) : "";
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> splitCsvFields(String text) {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean insideQuotes = false;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (insideQuotes) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append(c);
+                    i++;
+                } else {
+                    insideQuotes = false;
+                }
+            } else if (c == '"') {
+                insideQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    public static final class ImportedRecord {
+        private final String key;
+        private final String value;
+
+        ImportedRecord(String key, String value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        /**
+         * @return null if message should be sent without key
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * @return null if message is a tombstone
+         */
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package application.kafka.sender;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Limits number of messages sent asynchronously and not yet acknowledged by the broker.
+ * Failures reported by send callbacks are collected, so the sending thread can react to them.
+ * Latencies of acknowledged messages can be passed on to a {@link SentMessagesRecorder} (benchmark mode).
+ */
+public class InFlightMessagesWindow {
+
+    private final int maxInFlightMessages;
+    private final Semaphore permits;
+    private final AtomicLong acknowledgedCount = new AtomicLong(0);
+    private final AtomicLong failedCount = new AtomicLong(0);
+    private final AtomicReference<Exception> firstFailure = new AtomicReference<>();
+    private final SentMessagesRecorder recorder;
+
+    public InFlightMessagesWindow(int maxInFlightMessages) {
+        this(maxInFlightMessages, null);
+    }
+
+    public InFlightMessagesWindow(int maxInFlightMessages, SentMessagesRecorder recorder) {
+        if (maxInFlightMessages <= 0) {
+            throw new IllegalArgumentException("Max in-flight messages must be grater than zero but is " + maxInFlightMessages);
+        }
+        this.maxInFlightMessages = maxInFlightMessages;
+        this.permits = new Semaphore(maxInFlightMessages);
+        this.recorder = recorder;
+    }
+
+    public void acquire() throws InterruptedException {
+        permits.acquire();
+    }
+
+    /**
+     * @return true if this was the first failure reported to this window
+     */
+    public boolean complete(Exception exception) {
+        return complete(exception, 0, 0);
+    }
+
+    /**
+     * @return true if this was the first failure reported to this window
+     */
+    public boolean complete(Exception exception, long latencyNanos, long sizeBytes) {
+        try {
+            if (exception == null) {
+                acknowledgedCount.incrementAndGet();
+                if (recorder != null) {
+                    recorder.recordSent(latencyNanos, sizeBytes);
+                }
+                return false;
+            }
+            failedCount.incrementAndGet();
+            if (recorder != null) {
+                recorder.recordFailed();
+            }
+            return firstFailure.compareAndSet(null, exception);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int getInFlightCount() {
+        return maxInFlightMessages - permits.availablePermits();
+    }
+
+    public long getAcknowledgedCount() {
+        return acknowledgedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public boolean hasFailures() {
+        return firstFailure.get() != null;
+    }
+
+    public Exception getFirstFailure() {
+        return firstFailure.get();
+    }
+}
@@ -2,10 +2,15 @@
 package application.kafka.sender;
 
 import application.model.MessageOnTopicDto;
+import application.model.modelobjects.KafkaProducerProfile;
 import application.utils.HostInfo;
 
 public interface KafkaMessageSender {
-    void initiateFreshConnection(HostInfo info, boolean isSimulationModeEnabled);
+    void initiateFreshConnection(HostInfo info, KafkaProducerProfile profile, boolean isSimulationModeEnabled);
 
     void sendMessages(MessageOnTopicDto msgToTopic);
+
+    void sendMessagesAsync(MessageOnTopicDto msgToTopic, InFlightMessagesWindow window) throws InterruptedException;
+
+    void flush();
 }
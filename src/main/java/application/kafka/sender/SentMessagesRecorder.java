@@ -0,0 +1,7 @@
+package application.kafka.sender;
+
+public interface SentMessagesRecorder {
+    void recordSent(long latencyNanos, long sizeBytes);
+
+    void recordFailed();
+}
@@ -0,0 +1,91 @@
+package application.kafka.sender;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Paces sending to a target rate of permits (messages or bytes) per second.
+ * Unused permits are accumulated up to burst size. A permit taken when the bucket is empty is borrowed
+ * from the future and the caller is parked until the debt is paid, so no busy waiting is involved.
+ * During ramp-up the rate grows linearly from a small fraction of the target rate.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final double MIN_RAMP_UP_RATE_FRACTION = 0.01;
+    private static final double NANOS_IN_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private final double targetRatePerSec;
+    private final double burstSize;
+    private final long rampUpNanos;
+    private final LongSupplier nanoTime;
+    private final Parker parker;
+    private long startNanos;
+    private long lastRefillNanos;
+    private double availablePermits = 0;
+
+    public TokenBucketRateLimiter(double targetRatePerSec, double burstSize, long rampUpMs) {
+        this(targetRatePerSec, burstSize, rampUpMs, System::nanoTime, TokenBucketRateLimiter::parkUntil);
+    }
+
+    public TokenBucketRateLimiter(double targetRatePerSec,
+                                  double burstSize,
+                                  long rampUpMs,
+                                  LongSupplier nanoTime,
+                                  Parker parker) {
+        if (targetRatePerSec <= 0) {
+            throw new IllegalArgumentException("Target rate must be grater than zero but is " + targetRatePerSec);
+        }
+        this.targetRatePerSec = targetRatePerSec;
+        this.burstSize = Math.max(0, burstSize);
+        this.rampUpNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, rampUpMs));
+        this.nanoTime = nanoTime;
+        this.parker = parker;
+        startNanos = nanoTime.getAsLong();
+        lastRefillNanos = startNanos;
+    }
+
+    public void acquire(long permits) throws InterruptedException {
+        final long now = nanoTime.getAsLong();
+        final double rate = getCurrentRate(now);
+        availablePermits = Math.min(burstSize, availablePermits + (now - lastRefillNanos) * rate / NANOS_IN_SECOND);
+        lastRefillNanos = now;
+        availablePermits -= permits;
+        if (availablePermits < 0) {
+            parker.parkUntil(now + (long) (-availablePermits / rate * NANOS_IN_SECOND));
+        }
+    }
+
+    /**
+     * @return rate (permits per second) the limiter is currently pacing to, lower than target during ramp-up
+     */
+    public double getCurrentRate() {
+        return getCurrentRate(nanoTime.getAsLong());
+    }
+
+    private double getCurrentRate(long now) {
+        final long elapsedNanos = now - startNanos;
+        if (elapsedNanos >= rampUpNanos) {
+            return targetRatePerSec;
+        }
+        return targetRatePerSec * Math.max(MIN_RAMP_UP_RATE_FRACTION, (double) elapsedNanos / rampUpNanos);
+    }
+
+    /**
+     * Blocks calling thread until limiter's nano time clock reaches the deadline.
+     */
+    @FunctionalInterface
+    public interface Parker {
+        void parkUntil(long deadlineNanos) throws InterruptedException;
+    }
+
+    private static void parkUntil(long deadlineNanos) throws InterruptedException {
+        long remainingNanos;
+        while ((remainingNanos = deadlineNanos - System.nanoTime()) > 0) {
+            // park may return spuriously, so it is repeated until deadline
+            LockSupport.parkNanos(remainingNanos);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
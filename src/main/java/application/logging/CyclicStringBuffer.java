@@ -19,8 +19,13 @@ public class CyclicStringBuffer {
         buffer = new CircularFifoQueue<>(size);
     }
 
-    public void appendText(String text) {
+    /**
+     * @return the oldest entry that was dropped to make room for the new one, or null if nothing was dropped
+     */
+    public String appendText(String text) {
+        final String dropped = buffer.size() == buffer.maxSize() ? buffer.peek() : null;
         buffer.add(text);
+        return dropped;
     }
 
     public String getContent() {
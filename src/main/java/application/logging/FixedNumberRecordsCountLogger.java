@@ -6,16 +6,19 @@ import application.root.TextAreaWrapper;
 import application.utils.RepeatableTimer;
 import javafx.application.Platform;
 
+import java.util.Collection;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 
 public class FixedNumberRecordsCountLogger implements Restartable {
 
     public static final int REPEAT_RATE_MS = 500;
     private final ConcurrentLinkedQueue<String> stringBufferQueue = new ConcurrentLinkedQueue<>();
     private final RepeatableTimer appendTextTimer = new RepeatableTimer();
+    private final Executor guiExecutor;
     private TextAreaWrapper logTextArea;
-    private String localBuffer = "";
     private CyclicStringBuffer cyclicBuffer;
+    private long textAreaLength = 0;
 
     public FixedNumberRecordsCountLogger(CyclicStringBuffer buffer) {
         this(null, buffer);
@@ -23,8 +26,15 @@ public class FixedNumberRecordsCountLogger implements Restartable {
 
     public FixedNumberRecordsCountLogger(TextAreaWrapper logTextArea,
                                          CyclicStringBuffer buffer) {
+        this(logTextArea, buffer, Platform::runLater);
+    }
+
+    public FixedNumberRecordsCountLogger(TextAreaWrapper logTextArea,
+                                         CyclicStringBuffer buffer,
+                                         Executor guiExecutor) {
         this.logTextArea = logTextArea;
         this.cyclicBuffer = buffer;
+        this.guiExecutor = guiExecutor;
     }
 
     public void setLogTextArea(TextAreaWrapper logTextArea) {
@@ -35,22 +45,26 @@ public class FixedNumberRecordsCountLogger implements Restartable {
         stringBufferQueue.add(text);
     }
 
-    public String getText() {
-        return localBuffer;
+    public void appendTexts(Collection<String> texts) {
+        stringBufferQueue.addAll(texts);
+    }
+
+    public synchronized String getText() {
+        return cyclicBuffer.getContent();
     }
 
     public void start() {
         appendTextTimer.cancel();
-        appendTextTimer.startExecutingRepeatedly(this::periodicallyAppendTextToTextEdit, REPEAT_RATE_MS);
+        appendTextTimer.startExecutingRepeatedly(this::flushPendingTexts, REPEAT_RATE_MS);
     }
 
     public void stop() {
         appendTextTimer.cancel();
     }
 
-    public void clear() {
-        Platform.runLater(logTextArea::clear);
-        localBuffer = "";
+    public synchronized void clear() {
+        guiExecutor.execute(logTextArea::clear);
+        textAreaLength = 0;
         cyclicBuffer.clear();
     }
 
@@ -58,20 +72,40 @@ public class FixedNumberRecordsCountLogger implements Restartable {
         logTextArea.setPopupSaveToAction(saveContentToFile);
     }
 
-    private void periodicallyAppendTextToTextEdit() {
-        final int size = stringBufferQueue.size();
-        for (int i = 0; i < size; i++) {
-            cyclicBuffer.appendText(stringBufferQueue.remove());
+    public synchronized void flushPendingTexts() {
+        final StringBuilder appendedText = new StringBuilder();
+        long droppedLength = 0;
+        String text;
+        while ((text = stringBufferQueue.poll()) != null) {
+            appendedText.append(text);
+            final String dropped = cyclicBuffer.appendText(text);
+            if (dropped != null) {
+                droppedLength += dropped.length();
+            }
+        }
+        if (appendedText.length() == 0) {
+            return;
         }
+        updateTextArea(appendedText, droppedLength);
+    }
 
-        final String currentBufferContent = cyclicBuffer.getContent();
-        if (!currentBufferContent.equals(localBuffer)) {
-            localBuffer = currentBufferContent;
-            Platform.runLater(() -> {
-                logTextArea.setText(localBuffer);
-                //logTextArea.appendText("");
-            });
+    private void updateTextArea(StringBuilder appendedText, long droppedLength) {
+        final long lengthBeforeUpdate = textAreaLength;
+        textAreaLength = lengthBeforeUpdate + appendedText.length() - droppedLength;
 
+        if (droppedLength >= lengthBeforeUpdate) {
+            // everything currently displayed is dropped, so replace it with what is left from the new text
+            final String remainingText = appendedText.substring((int) (droppedLength - lengthBeforeUpdate));
+            guiExecutor.execute(() -> logTextArea.setText(remainingText));
+            return;
         }
+        final String textToAppend = appendedText.toString();
+        final int lengthToRemove = (int) droppedLength;
+        guiExecutor.execute(() -> {
+            logTextArea.appendText(textToAppend);
+            if (lengthToRemove > 0) {
+                logTextArea.removeTextFromBeginning(lengthToRemove);
+            }
+        });
     }
 }
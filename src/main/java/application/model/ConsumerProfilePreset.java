@@ -0,0 +1,65 @@
+package application.model;
+
+import application.constants.ApplicationConstants;
+import application.model.modelobjects.KafkaConsumerProfile;
+
+public enum ConsumerProfilePreset {
+    DEFAULT("Default",
+            ApplicationConstants.DEFAULT_CONSUMER_MAX_POLL_RECORDS,
+            ApplicationConstants.DEFAULT_CONSUMER_FETCH_MIN_BYTES,
+            ApplicationConstants.DEFAULT_CONSUMER_FETCH_MAX_WAIT_MS,
+            ApplicationConstants.DEFAULT_CONSUMER_MAX_PARTITION_FETCH_BYTES,
+            ApplicationConstants.DEFAULT_CONSUMER_RECEIVE_BUFFER_BYTES),
+    LOW_LATENCY("Low latency",
+                "100",
+                "1",
+                "10",
+                ApplicationConstants.DEFAULT_CONSUMER_MAX_PARTITION_FETCH_BYTES,
+                ApplicationConstants.DEFAULT_CONSUMER_RECEIVE_BUFFER_BYTES),
+    MAX_THROUGHPUT("Max throughput",
+                   "5000",
+                   "1048576",
+                   "500",
+                   "10485760",
+                   "1048576"),
+    LARGE_MESSAGES("Large messages",
+                   "100",
+                   "1048576",
+                   "500",
+                   "52428800",
+                   "4194304");
+
+    private final String displayName;
+    private final String maxPollRecords;
+    private final String fetchMinBytes;
+    private final String fetchMaxWaitMs;
+    private final String maxPartitionFetchBytes;
+    private final String receiveBufferBytes;
+
+    ConsumerProfilePreset(String displayName,
+                          String maxPollRecords,
+                          String fetchMinBytes,
+                          String fetchMaxWaitMs,
+                          String maxPartitionFetchBytes,
+                          String receiveBufferBytes) {
+        this.displayName = displayName;
+        this.maxPollRecords = maxPollRecords;
+        this.fetchMinBytes = fetchMinBytes;
+        this.fetchMaxWaitMs = fetchMaxWaitMs;
+        this.maxPartitionFetchBytes = maxPartitionFetchBytes;
+        this.receiveBufferBytes = receiveBufferBytes;
+    }
+
+    public void applyTo(KafkaConsumerProfile profile) {
+        profile.setMaxPollRecords(maxPollRecords);
+        profile.setFetchMinBytes(fetchMinBytes);
+        profile.setFetchMaxWaitMs(fetchMaxWaitMs);
+        profile.setMaxPartitionFetchBytes(maxPartitionFetchBytes);
+        profile.setReceiveBufferBytes(receiveBufferBytes);
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
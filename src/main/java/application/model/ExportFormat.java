@@ -0,0 +1,7 @@
+package application.model;
+
+public enum ExportFormat {
+    JSON_LINES,
+    CSV,
+    RAW_VALUE
+}
@@ -3,12 +3,17 @@ package application.model;
 import application.constants.ApplicationConstants;
 import application.model.modelobjects.KafkaBrokerConfig;
 import application.model.modelobjects.KafkaListenerConfig;
+import application.model.modelobjects.KafkaConsumerProfile;
+import application.model.modelobjects.KafkaProducerProfile;
 import application.model.modelobjects.KafkaSenderConfig;
 import application.model.modelobjects.KafkaTopicConfig;
 import application.model.pojos.BrokerConfigPojo;
 import application.model.pojos.ListenerConfigPojo;
+import application.model.pojos.ConsumerProfilePojo;
+import application.model.pojos.ProducerProfilePojo;
 import application.model.pojos.SenderConfigPojo;
 import application.model.pojos.TopicConfigPojo;
+import application.utils.ValidatorUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.UUID;
@@ -17,6 +22,9 @@ public class FromPojoConverter {
 
     public static final String DEFAULT_POLL_TIMEOUT = "2000";
     public static final KafkaOffsetResetType DEFAULT_OFFSET_RESET_TYPE = KafkaOffsetResetType.EARLIEST;
+    public static final KafkaOffsetCommitStrategy DEFAULT_OFFSET_COMMIT_STRATEGY = KafkaOffsetCommitStrategy.ASYNC_PER_POLL;
+    public static final ProducerCompressionType DEFAULT_PRODUCER_COMPRESSION_TYPE = ProducerCompressionType.NONE;
+    public static final ProducerAcksType DEFAULT_PRODUCER_ACKS = ProducerAcksType.ALL;
     private static final int DEFAULT_REPEAT_COUNT = 1;
     private static final String EMPTY_STRING = "";
     private ModelDataProxy modelProxy;
@@ -81,7 +89,61 @@ public class FromPojoConverter {
             c.setRunBeforeEachMessageScript(pojo.getRunBeforeEachMessageScript());
         }
         c.setSendingSimulationModeEnabled(pojo.getSendingSimulationModeEnabled());
-
+        c.setPipelinedSendingEnabled(pojo.getPipelinedSendingEnabled());
+        if (StringUtils.isNotBlank(pojo.getMaxInFlightMessages())) {
+            c.setMaxInFlightMessages(getUnsignedIntegerValueAsStringOrDefault(pojo.getMaxInFlightMessages(),
+                                                                              ApplicationConstants.DEFAULT_MAX_IN_FLIGHT_MESSAGES));
+        }
+        if (StringUtils.isNotBlank(pojo.getScriptEvaluationTimeoutMs())) {
+            c.setScriptEvaluationTimeoutMs(getTimeoutInMsValueOrDefault(pojo.getScriptEvaluationTimeoutMs(),
+                                                                        ApplicationConstants.DEFAULT_SCRIPT_EVALUATION_TIMEOUT_MS));
+        }
+        if (StringUtils.isNotBlank(pojo.getGeneratorThreadsCount())) {
+            c.setGeneratorThreadsCount(getUnsignedIntegerValueAsStringOrDefault(pojo.getGeneratorThreadsCount(),
+                                                                                ApplicationConstants.DEFAULT_GENERATOR_THREADS_COUNT));
+        }
+        if (StringUtils.isNotBlank(pojo.getMessageGenerationOrder())) {
+            c.setMessageGenerationOrder(getEnumValueOrDefault(MessageGenerationOrder.class,
+                                                              pojo.getMessageGenerationOrder(),
+                                                              MessageGenerationOrder.ORDERED));
+        }
+        c.setSendingRateLimitEnabled(pojo.getSendingRateLimitEnabled());
+        c.setBenchmarkModeEnabled(pojo.getBenchmarkModeEnabled());
+        c.setLatencyProbeEnabled(pojo.getLatencyProbeEnabled());
+        if (StringUtils.isNotBlank(pojo.getTargetSendingRate())) {
+            c.setTargetSendingRate(getGraterThanZeroIntegerValueAsStringOrDefault(pojo.getTargetSendingRate(),
+                                                                                  ApplicationConstants.DEFAULT_TARGET_SENDING_RATE));
+        }
+        if (StringUtils.isNotBlank(pojo.getSendingRateUnit())) {
+            c.setSendingRateUnit(getEnumValueOrDefault(SendingRateUnit.class,
+                                                       pojo.getSendingRateUnit(),
+                                                       SendingRateUnit.MESSAGES_PER_SECOND));
+        }
+        if (StringUtils.isNotBlank(pojo.getSendingRateRampUpSec())) {
+            c.setSendingRateRampUpSec(getUnsignedIntegerValueAsStringOrDefault(pojo.getSendingRateRampUpSec(),
+                                                                               ApplicationConstants.DEFAULT_SENDING_RATE_RAMP_UP_SEC));
+        }
+        if (StringUtils.isNotBlank(pojo.getSendingRateBurst())) {
+            c.setSendingRateBurst(getUnsignedIntegerValueAsStringOrDefault(pojo.getSendingRateBurst(),
+                                                                           ApplicationConstants.DEFAULT_SENDING_RATE_BURST));
+        }
+        c.setImportEnabled(pojo.getImportEnabled());
+        c.setImportFilePath(StringUtils.defaultString(pojo.getImportFilePath()).trim());
+        if (StringUtils.isNotBlank(pojo.getImportFormat())) {
+            c.setImportFormat(getEnumValueOrDefault(ImportFormat.class, pojo.getImportFormat(), ImportFormat.JSON_LINES));
+        }
+        if (StringUtils.isNotBlank(pojo.getImportCsvKeyColumn())) {
+            c.setImportCsvKeyColumn(pojo.getImportCsvKeyColumn().trim());
+        }
+        if (StringUtils.isNotBlank(pojo.getImportCsvValueColumn())) {
+            c.setImportCsvValueColumn(pojo.getImportCsvValueColumn().trim());
+        }
+        if (StringUtils.isNotEmpty(pojo.getImportDelimiter())) {
+            c.setImportDelimiter(pojo.getImportDelimiter());
+        }
+        if (pojo.getProducerProfile() != null) {
+            fillProducerProfile(c.getProducerProfile(), pojo.getProducerProfile());
+        }
 
         return c;
     }
@@ -118,6 +180,98 @@ public class FromPojoConverter {
 
         c.setReceivedMsgLimitEnabled(pojo.getReceivedMsgLimitEnabled());
 
+        if (StringUtils.isNotBlank(pojo.getOffsetCommitStrategy())) {
+            c.setOffsetCommitStrategy(getCommitStrategyOrDefaultIfInvalidValue(pojo));
+        }
+        if (StringUtils.isNotBlank(pojo.getCommitInterval())) {
+            c.setCommitInterval(getGraterThanZeroIntegerValueAsStringOrDefault(pojo.getCommitInterval(),
+                                                                               ApplicationConstants.DEFAULT_COMMIT_INTERVAL));
+        }
+
+        c.setRecordStoreEnabled(pojo.getRecordStoreEnabled());
+        c.setLatencyProbeEnabled(pojo.getLatencyProbeEnabled());
+        c.setBenchmarkModeEnabled(pojo.getBenchmarkModeEnabled());
+
+        if (StringUtils.isNotBlank(pojo.getRecordStoreDiskBudgetMb())) {
+            c.setRecordStoreDiskBudgetMb(getUnsignedIntegerValueAsStringOrDefault(pojo.getRecordStoreDiskBudgetMb(),
+                                                                                  ApplicationConstants.DEFAULT_RECORD_STORE_DISK_BUDGET_MB));
+        }
+        if (StringUtils.isNotBlank(pojo.getBenchmarkTimeLimitSec())) {
+            c.setBenchmarkTimeLimitSec(getGraterThanZeroIntegerValueAsStringOrDefault(pojo.getBenchmarkTimeLimitSec(),
+                                                                                      ApplicationConstants.DEFAULT_LISTENER_BENCHMARK_TIME_LIMIT_SEC));
+        }
+        if (StringUtils.isNotBlank(pojo.getConsumersCount())) {
+            c.setConsumersCount(getGraterThanZeroIntegerValueAsStringOrDefault(pojo.getConsumersCount(),
+                                                                               ApplicationConstants.DEFAULT_LISTENER_CONSUMERS_COUNT));
+        }
+        c.setAssignModeEnabled(pojo.getAssignModeEnabled());
+        if (ValidatorUtils.isValidPartitionsList(pojo.getAssignPartitions())) {
+            c.setAssignPartitions(StringUtils.defaultString(pojo.getAssignPartitions()).trim());
+        }
+        if (StringUtils.isNotBlank(pojo.getStartPosition())) {
+            c.setStartPosition(getEnumValueOrDefault(ListenerStartPosition.class,
+                                                     pojo.getStartPosition(),
+                                                     ListenerStartPosition.BEGINNING));
+        }
+        if (StringUtils.isNotBlank(pojo.getStartPositionValue()) &&
+            ValidatorUtils.isValidStartPositionValue(c.getStartPosition(), pojo.getStartPositionValue())) {
+            c.setStartPositionValue(pojo.getStartPositionValue().trim());
+        }
+        c.setFilterEnabled(pojo.getFilterEnabled());
+        if (StringUtils.isNotBlank(pojo.getFilterMatchType())) {
+            c.setFilterMatchType(getEnumValueOrDefault(ScanMatchType.class,
+                                                       pojo.getFilterMatchType(),
+                                                       ScanMatchType.SUBSTRING));
+        }
+        if (StringUtils.isNotBlank(pojo.getFilterTarget())) {
+            c.setFilterTarget(getEnumValueOrDefault(ScanTarget.class, pojo.getFilterTarget(), ScanTarget.VALUE));
+        }
+        c.setFilterPattern(StringUtils.defaultString(pojo.getFilterPattern()));
+        if (ValidatorUtils.isValidPartitionsList(pojo.getFilterPartitions())) {
+            c.setFilterPartitions(StringUtils.defaultString(pojo.getFilterPartitions()).trim());
+        }
+        if (ValidatorUtils.isValidOptionalOffset(pojo.getFilterMinOffset())) {
+            c.setFilterMinOffset(StringUtils.defaultString(pojo.getFilterMinOffset()).trim());
+        }
+        if (ValidatorUtils.isValidOptionalOffset(pojo.getFilterMaxOffset())) {
+            c.setFilterMaxOffset(StringUtils.defaultString(pojo.getFilterMaxOffset()).trim());
+        }
+        if (ValidatorUtils.isValidOptionalTimestamp(pojo.getFilterFromTimestamp())) {
+            c.setFilterFromTimestamp(StringUtils.defaultString(pojo.getFilterFromTimestamp()).trim());
+        }
+        if (ValidatorUtils.isValidOptionalTimestamp(pojo.getFilterToTimestamp())) {
+            c.setFilterToTimestamp(StringUtils.defaultString(pojo.getFilterToTimestamp()).trim());
+        }
+        c.setFilterGroovyPredicate(StringUtils.defaultString(pojo.getFilterGroovyPredicate()));
+        if (StringUtils.isNotBlank(pojo.getSamplingMode())) {
+            c.setSamplingMode(getEnumValueOrDefault(ListenerSamplingMode.class,
+                                                    pojo.getSamplingMode(),
+                                                    ListenerSamplingMode.NONE));
+        }
+        if (StringUtils.isNotBlank(pojo.getSamplingValue())) {
+            c.setSamplingValue(getGraterThanZeroIntegerValueAsStringOrDefault(pojo.getSamplingValue(),
+                                                                              ApplicationConstants.DEFAULT_LISTENER_SAMPLING_VALUE));
+        }
+        if (StringUtils.isNotBlank(pojo.getSamplingWindowMs())) {
+            c.setSamplingWindowMs(getGraterThanZeroIntegerValueAsStringOrDefault(pojo.getSamplingWindowMs(),
+                                                                                 ApplicationConstants.DEFAULT_LISTENER_SAMPLING_WINDOW_MS));
+        }
+        c.setExportEnabled(pojo.getExportEnabled());
+        c.setExportDirectory(StringUtils.defaultString(pojo.getExportDirectory()).trim());
+        if (StringUtils.isNotBlank(pojo.getExportFormat())) {
+            c.setExportFormat(getEnumValueOrDefault(ExportFormat.class, pojo.getExportFormat(), ExportFormat.JSON_LINES));
+        }
+        c.setExportGzipEnabled(pojo.getExportGzipEnabled());
+        if (ValidatorUtils.isValidNonNegativeInteger(pojo.getExportRollSizeMb())) {
+            c.setExportRollSizeMb(pojo.getExportRollSizeMb().trim());
+        }
+        if (ValidatorUtils.isValidNonNegativeInteger(pojo.getExportRollIntervalSec())) {
+            c.setExportRollIntervalSec(pojo.getExportRollIntervalSec().trim());
+        }
+        if (pojo.getConsumerProfile() != null) {
+            fillConsumerProfile(c.getConsumerProfile(), pojo.getConsumerProfile());
+        }
+
         return c;
     }
 
@@ -144,6 +298,68 @@ public class FromPojoConverter {
         return c;
     }
 
+    private void fillProducerProfile(KafkaProducerProfile profile, ProducerProfilePojo pojo) {
+        if (StringUtils.isNotBlank(pojo.getBatchSize())) {
+            profile.setBatchSize(getUnsignedIntegerValueAsStringOrDefault(pojo.getBatchSize(),
+                                                                          ApplicationConstants.DEFAULT_PRODUCER_BATCH_SIZE));
+        }
+        if (StringUtils.isNotBlank(pojo.getLingerMs())) {
+            profile.setLingerMs(getUnsignedIntegerValueAsStringOrDefault(pojo.getLingerMs(),
+                                                                         ApplicationConstants.DEFAULT_PRODUCER_LINGER_MS));
+        }
+        if (StringUtils.isNotBlank(pojo.getCompressionType())) {
+            profile.setCompressionType(getEnumValueOrDefault(ProducerCompressionType.class,
+                                                             pojo.getCompressionType(),
+                                                             DEFAULT_PRODUCER_COMPRESSION_TYPE));
+        }
+        if (StringUtils.isNotBlank(pojo.getAcks())) {
+            profile.setAcks(getEnumValueOrDefault(ProducerAcksType.class, pojo.getAcks(), DEFAULT_PRODUCER_ACKS));
+        }
+        if (StringUtils.isNotBlank(pojo.getBufferMemory())) {
+            profile.setBufferMemory(getUnsignedIntegerValueAsStringOrDefault(pojo.getBufferMemory(),
+                                                                             ApplicationConstants.DEFAULT_PRODUCER_BUFFER_MEMORY));
+        }
+        if (StringUtils.isNotBlank(pojo.getMaxInFlightRequestsPerConnection())) {
+            profile.setMaxInFlightRequestsPerConnection(getUnsignedIntegerValueAsStringOrDefault(
+                pojo.getMaxInFlightRequestsPerConnection(),
+                ApplicationConstants.DEFAULT_PRODUCER_MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION));
+        }
+        profile.setIdempotenceEnabled(pojo.getIdempotenceEnabled());
+    }
+
+    private void fillConsumerProfile(KafkaConsumerProfile profile, ConsumerProfilePojo pojo) {
+        if (StringUtils.isNotBlank(pojo.getMaxPollRecords())) {
+            profile.setMaxPollRecords(getGraterThanZeroIntegerValueAsStringOrDefault(pojo.getMaxPollRecords(),
+                                                                                     ApplicationConstants.DEFAULT_CONSUMER_MAX_POLL_RECORDS));
+        }
+        if (StringUtils.isNotBlank(pojo.getFetchMinBytes())) {
+            profile.setFetchMinBytes(getGraterThanZeroIntegerValueAsStringOrDefault(pojo.getFetchMinBytes(),
+                                                                                    ApplicationConstants.DEFAULT_CONSUMER_FETCH_MIN_BYTES));
+        }
+        if (StringUtils.isNotBlank(pojo.getFetchMaxWaitMs())) {
+            profile.setFetchMaxWaitMs(getUnsignedIntegerValueAsStringOrDefault(pojo.getFetchMaxWaitMs(),
+                                                                               ApplicationConstants.DEFAULT_CONSUMER_FETCH_MAX_WAIT_MS));
+        }
+        if (StringUtils.isNotBlank(pojo.getMaxPartitionFetchBytes())) {
+            profile.setMaxPartitionFetchBytes(getGraterThanZeroIntegerValueAsStringOrDefault(
+                pojo.getMaxPartitionFetchBytes(),
+                ApplicationConstants.DEFAULT_CONSUMER_MAX_PARTITION_FETCH_BYTES));
+        }
+        if (StringUtils.isNotBlank(pojo.getReceiveBufferBytes())) {
+            profile.setReceiveBufferBytes(getGraterThanZeroIntegerValueAsStringOrDefault(
+                pojo.getReceiveBufferBytes(),
+                ApplicationConstants.DEFAULT_CONSUMER_RECEIVE_BUFFER_BYTES));
+        }
+    }
+
+    private static <T extends Enum<T>> T getEnumValueOrDefault(Class<T> enumType, String value, T defaultValue) {
+        try {
+            return Enum.valueOf(enumType, value.toUpperCase());
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
     private KafkaOffsetResetType getResetTypeOfDefaultIfInvalidValue(ListenerConfigPojo pojo) {
         try {
             return KafkaOffsetResetType.valueOf(pojo.getOffsetResetConfig().toUpperCase());
@@ -153,6 +369,14 @@ public class FromPojoConverter {
 
     }
 
+    private KafkaOffsetCommitStrategy getCommitStrategyOrDefaultIfInvalidValue(ListenerConfigPojo pojo) {
+        try {
+            return KafkaOffsetCommitStrategy.valueOf(pojo.getOffsetCommitStrategy().toUpperCase());
+        } catch (Exception e) {
+            return DEFAULT_OFFSET_COMMIT_STRATEGY;
+        }
+    }
+
     private String getUnsignedIntegerValueAsStringOrDefault(String value, String defaultValue) {
         try {
             return String.valueOf(Integer.parseUnsignedInt(value));
@@ -161,6 +385,14 @@ public class FromPojoConverter {
         }
     }
 
+    private String getGraterThanZeroIntegerValueAsStringOrDefault(String value, String defaultValue) {
+        return ValidatorUtils.isValidGraterThanZeroInteger(value) ? value : defaultValue;
+    }
+
+    private String getTimeoutInMsValueOrDefault(String value, String defaultValue) {
+        return ValidatorUtils.isTimeoutInMsValid(value) ? value : defaultValue;
+    }
+
     private Integer getUnsignedIntegerAsStringOrDefault(String value, int defaultValue) {
         try {
             return Integer.parseUnsignedInt(value);
@@ -183,6 +415,38 @@ public class FromPojoConverter {
         c.setUuid(UUID.randomUUID().toString());
         c.setReceivedMsgLimitEnabled(false);
         c.setReceivedMsgLimitCount("1");
+        c.setOffsetCommitStrategy(DEFAULT_OFFSET_COMMIT_STRATEGY);
+        c.setCommitInterval(ApplicationConstants.DEFAULT_COMMIT_INTERVAL);
+        c.setRecordStoreEnabled(false);
+        c.setRecordStoreDiskBudgetMb(ApplicationConstants.DEFAULT_RECORD_STORE_DISK_BUDGET_MB);
+        c.setLatencyProbeEnabled(false);
+        c.setBenchmarkModeEnabled(false);
+        c.setBenchmarkTimeLimitSec(ApplicationConstants.DEFAULT_LISTENER_BENCHMARK_TIME_LIMIT_SEC);
+        c.setConsumersCount(ApplicationConstants.DEFAULT_LISTENER_CONSUMERS_COUNT);
+        c.setAssignModeEnabled(false);
+        c.setAssignPartitions(EMPTY_STRING);
+        c.setStartPosition(ListenerStartPosition.BEGINNING);
+        c.setStartPositionValue(ApplicationConstants.DEFAULT_LISTENER_START_POSITION_VALUE);
+        c.setFilterEnabled(false);
+        c.setFilterMatchType(ScanMatchType.SUBSTRING);
+        c.setFilterTarget(ScanTarget.VALUE);
+        c.setFilterPattern(EMPTY_STRING);
+        c.setFilterPartitions(EMPTY_STRING);
+        c.setFilterMinOffset(EMPTY_STRING);
+        c.setFilterMaxOffset(EMPTY_STRING);
+        c.setFilterFromTimestamp(EMPTY_STRING);
+        c.setFilterToTimestamp(EMPTY_STRING);
+        c.setFilterGroovyPredicate(EMPTY_STRING);
+        c.setSamplingMode(ListenerSamplingMode.NONE);
+        c.setSamplingValue(ApplicationConstants.DEFAULT_LISTENER_SAMPLING_VALUE);
+        c.setSamplingWindowMs(ApplicationConstants.DEFAULT_LISTENER_SAMPLING_WINDOW_MS);
+        c.setExportEnabled(false);
+        c.setExportDirectory(EMPTY_STRING);
+        c.setExportFormat(ExportFormat.JSON_LINES);
+        c.setExportGzipEnabled(false);
+        c.setExportRollSizeMb(ApplicationConstants.DEFAULT_LISTENER_EXPORT_ROLL_SIZE_MB);
+        c.setExportRollIntervalSec(ApplicationConstants.DEFAULT_LISTENER_EXPORT_ROLL_INTERVAL_SEC);
+        ConsumerProfilePreset.DEFAULT.applyTo(c.getConsumerProfile());
     }
 
     private void setSenderConfigDefaults(KafkaSenderConfig c) {
@@ -195,6 +459,25 @@ public class FromPojoConverter {
         c.setRunBeforeAllMessagesScript(EMPTY_STRING);
         c.setRunBeforeEachMessageScript(EMPTY_STRING);
         c.setSendingSimulationModeEnabled(false);
+        c.setPipelinedSendingEnabled(false);
+        c.setMaxInFlightMessages(ApplicationConstants.DEFAULT_MAX_IN_FLIGHT_MESSAGES);
+        c.setScriptEvaluationTimeoutMs(ApplicationConstants.DEFAULT_SCRIPT_EVALUATION_TIMEOUT_MS);
+        c.setGeneratorThreadsCount(ApplicationConstants.DEFAULT_GENERATOR_THREADS_COUNT);
+        c.setMessageGenerationOrder(MessageGenerationOrder.ORDERED);
+        c.setSendingRateLimitEnabled(false);
+        c.setTargetSendingRate(ApplicationConstants.DEFAULT_TARGET_SENDING_RATE);
+        c.setSendingRateUnit(SendingRateUnit.MESSAGES_PER_SECOND);
+        c.setSendingRateRampUpSec(ApplicationConstants.DEFAULT_SENDING_RATE_RAMP_UP_SEC);
+        c.setSendingRateBurst(ApplicationConstants.DEFAULT_SENDING_RATE_BURST);
+        c.setBenchmarkModeEnabled(false);
+        c.setLatencyProbeEnabled(false);
+        c.setImportEnabled(false);
+        c.setImportFilePath(EMPTY_STRING);
+        c.setImportFormat(ImportFormat.JSON_LINES);
+        c.setImportCsvKeyColumn(ApplicationConstants.DEFAULT_IMPORT_CSV_KEY_COLUMN);
+        c.setImportCsvValueColumn(ApplicationConstants.DEFAULT_IMPORT_CSV_VALUE_COLUMN);
+        c.setImportDelimiter(ApplicationConstants.DEFAULT_IMPORT_DELIMITER);
+        ProducerProfilePreset.DEFAULT.applyTo(c.getProducerProfile());
     }
 
     private void setBrokerConfigDefaults(KafkaBrokerConfig c) {
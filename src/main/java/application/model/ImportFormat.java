@@ -0,0 +1,7 @@
+package application.model;
+
+public enum ImportFormat {
+    JSON_LINES,
+    CSV,
+    DELIMITED
+}
@@ -0,0 +1,8 @@
+package application.model;
+
+public enum KafkaOffsetCommitStrategy {
+    ASYNC_PER_POLL,
+    TIME_INTERVAL,
+    COUNT_INTERVAL,
+    NONE
+}
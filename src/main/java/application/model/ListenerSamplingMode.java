@@ -0,0 +1,8 @@
+package application.model;
+
+public enum ListenerSamplingMode {
+    NONE,
+    EVERY_NTH,
+    PER_SECOND,
+    RESERVOIR
+}
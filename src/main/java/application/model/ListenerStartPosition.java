@@ -0,0 +1,9 @@
+package application.model;
+
+public enum ListenerStartPosition {
+    BEGINNING,
+    END,
+    OFFSET,
+    END_MINUS_N,
+    TIMESTAMP
+}
@@ -0,0 +1,16 @@
+package application.model;
+
+public enum MessageGenerationOrder {
+    ORDERED("ordered"),
+    UNORDERED("unordered");
+
+    private final String value;
+
+    MessageGenerationOrder(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+}
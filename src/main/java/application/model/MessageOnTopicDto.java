@@ -1,17 +1,22 @@
 package application.model;
 
+import application.kafka.benchmark.LatencyProbeRun;
 import application.model.modelobjects.KafkaBrokerConfig;
 import application.model.modelobjects.KafkaSenderConfig;
 import application.model.modelobjects.KafkaTopicConfig;
 import application.utils.HostInfo;
 
+import java.nio.charset.StandardCharsets;
+
 public final class MessageOnTopicDto {
     private final HostInfo brokerHostInfo;
     private final String msgKey;
     private final String topicName;
     private final String message;
     private final boolean shouldSimulateSending;
+    private final boolean detailedLoggingEnabled;
     private final int msgNum;
+    private final LatencyProbeRun latencyProbeRun;
 
     public int getMsgNum() {
         return msgNum;
@@ -29,27 +34,54 @@ public final class MessageOnTopicDto {
                               String topicName,
                               String message,
                               boolean shouldSimulateSending,
+                              boolean detailedLoggingEnabled,
                               int msgNum,
-                              int totalMsgCount) {
+                              int totalMsgCount,
+                              LatencyProbeRun latencyProbeRun) {
 
         this.brokerHostInfo = brokerHostInfo;
         this.msgKey = msgKey;
         this.topicName = topicName;
         this.message = message;
         this.shouldSimulateSending = shouldSimulateSending;
+        this.detailedLoggingEnabled = detailedLoggingEnabled;
         this.msgNum = msgNum;
         this.totalMsgCount = totalMsgCount;
+        this.latencyProbeRun = latencyProbeRun;
     }
 
     public boolean shouldSimulateSending() {
         return shouldSimulateSending;
     }
 
+    /**
+     * @return false in benchmark mode, when sent messages must not be logged one by one
+     */
+    public boolean isDetailedLoggingEnabled() {
+        return detailedLoggingEnabled;
+    }
+
+    /**
+     * @return null if message should not be stamped with latency probe headers
+     */
+    public LatencyProbeRun getLatencyProbeRun() {
+        return latencyProbeRun;
+    }
+
     public static MessageOnTopicDto from(KafkaSenderConfig config,
                                          String message,
                                          boolean shouldSimulateSending,
                                          int msgNum,
                                          int totalMsgCount) {
+        return from(config, message, shouldSimulateSending, msgNum, totalMsgCount, null);
+    }
+
+    public static MessageOnTopicDto from(KafkaSenderConfig config,
+                                         String message,
+                                         boolean shouldSimulateSending,
+                                         int msgNum,
+                                         int totalMsgCount,
+                                         LatencyProbeRun latencyProbeRun) {
 
         final KafkaTopicConfig topicConfig = config.getRelatedConfig();
         final KafkaBrokerConfig brokerConfig = topicConfig.getRelatedConfig();
@@ -60,8 +92,32 @@ public final class MessageOnTopicDto {
                                      topicConfig.getTopicName(),
                                      message,
                                      shouldSimulateSending,
+                                     !config.getBenchmarkModeEnabled(),
+                                     msgNum,
+                                     totalMsgCount,
+                                     latencyProbeRun);
+    }
+
+    /**
+     * @param key     null if message should be sent without key
+     * @param message null if message is a tombstone
+     */
+    public static MessageOnTopicDto fromImportedRecord(KafkaSenderConfig config,
+                                                       String key,
+                                                       String message,
+                                                       boolean shouldSimulateSending,
+                                                       int msgNum) {
+        final KafkaTopicConfig topicConfig = config.getRelatedConfig();
+        // imported files can have millions of records, they are never logged one by one
+        return new MessageOnTopicDto(topicConfig.getRelatedConfig().getHostInfo(),
+                                     key,
+                                     topicConfig.getTopicName(),
+                                     message,
+                                     shouldSimulateSending,
+                                     false,
                                      msgNum,
-                                     totalMsgCount);
+                                     0,
+                                     null);
     }
 
     public HostInfo getBrokerHostInfo() {
@@ -79,4 +135,9 @@ public final class MessageOnTopicDto {
     public String getMessage() {
         return message;
     }
+
+    public long getSizeInBytes() {
+        return (message == null ? 0 : message.getBytes(StandardCharsets.UTF_8).length)
+            + (msgKey == null ? 0 : msgKey.getBytes(StandardCharsets.UTF_8).length);
+    }
 }
@@ -0,0 +1,22 @@
+package application.model;
+
+public enum ProducerAcksType {
+    NONE("0"),
+    LEADER("1"),
+    ALL("all");
+
+    private final String value;
+
+    ProducerAcksType(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
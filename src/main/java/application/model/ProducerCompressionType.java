@@ -0,0 +1,18 @@
+package application.model;
+
+public enum ProducerCompressionType {
+    NONE("none"),
+    GZIP("gzip"),
+    SNAPPY("snappy"),
+    LZ4("lz4");
+
+    private final String value;
+
+    ProducerCompressionType(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+}
@@ -0,0 +1,81 @@
+package application.model;
+
+import application.constants.ApplicationConstants;
+import application.model.modelobjects.KafkaProducerProfile;
+
+public enum ProducerProfilePreset {
+    DEFAULT("Default (acks=all)",
+            ApplicationConstants.DEFAULT_PRODUCER_BATCH_SIZE,
+            ApplicationConstants.DEFAULT_PRODUCER_LINGER_MS,
+            ProducerCompressionType.NONE,
+            ProducerAcksType.ALL,
+            ApplicationConstants.DEFAULT_PRODUCER_BUFFER_MEMORY,
+            ApplicationConstants.DEFAULT_PRODUCER_MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION,
+            false),
+    LOW_LATENCY("Low latency",
+                ApplicationConstants.DEFAULT_PRODUCER_BATCH_SIZE,
+                "0",
+                ProducerCompressionType.NONE,
+                ProducerAcksType.LEADER,
+                ApplicationConstants.DEFAULT_PRODUCER_BUFFER_MEMORY,
+                ApplicationConstants.DEFAULT_PRODUCER_MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION,
+                false),
+    MAX_THROUGHPUT("Max throughput",
+                   "524288",
+                   "50",
+                   ProducerCompressionType.LZ4,
+                   ProducerAcksType.LEADER,
+                   "134217728",
+                   ApplicationConstants.DEFAULT_PRODUCER_MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION,
+                   false),
+    IDEMPOTENT("Idempotent (no duplicates)",
+               ApplicationConstants.DEFAULT_PRODUCER_BATCH_SIZE,
+               "5",
+               ProducerCompressionType.NONE,
+               ProducerAcksType.ALL,
+               ApplicationConstants.DEFAULT_PRODUCER_BUFFER_MEMORY,
+               ApplicationConstants.DEFAULT_PRODUCER_MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION,
+               true);
+
+    private final String displayName;
+    private final String batchSize;
+    private final String lingerMs;
+    private final ProducerCompressionType compressionType;
+    private final ProducerAcksType acks;
+    private final String bufferMemory;
+    private final String maxInFlightRequestsPerConnection;
+    private final boolean idempotenceEnabled;
+
+    ProducerProfilePreset(String displayName,
+                          String batchSize,
+                          String lingerMs,
+                          ProducerCompressionType compressionType,
+                          ProducerAcksType acks,
+                          String bufferMemory,
+                          String maxInFlightRequestsPerConnection,
+                          boolean idempotenceEnabled) {
+        this.displayName = displayName;
+        this.batchSize = batchSize;
+        this.lingerMs = lingerMs;
+        this.compressionType = compressionType;
+        this.acks = acks;
+        this.bufferMemory = bufferMemory;
+        this.maxInFlightRequestsPerConnection = maxInFlightRequestsPerConnection;
+        this.idempotenceEnabled = idempotenceEnabled;
+    }
+
+    public void applyTo(KafkaProducerProfile profile) {
+        profile.setBatchSize(batchSize);
+        profile.setLingerMs(lingerMs);
+        profile.setCompressionType(compressionType);
+        profile.setAcks(acks);
+        profile.setBufferMemory(bufferMemory);
+        profile.setMaxInFlightRequestsPerConnection(maxInFlightRequestsPerConnection);
+        profile.setIdempotenceEnabled(idempotenceEnabled);
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
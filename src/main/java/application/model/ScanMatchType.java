@@ -0,0 +1,7 @@
+package application.model;
+
+public enum ScanMatchType {
+    SUBSTRING,
+    REGEX,
+    JSON_PATH
+}
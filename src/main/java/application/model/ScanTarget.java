@@ -0,0 +1,7 @@
+package application.model;
+
+public enum ScanTarget {
+    KEY,
+    VALUE,
+    KEY_OR_VALUE
+}
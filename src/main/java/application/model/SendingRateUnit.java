@@ -0,0 +1,30 @@
+package application.model;
+
+public enum SendingRateUnit {
+    MESSAGES_PER_SECOND("msg/s", 1),
+    MEGABYTES_PER_SECOND("MB/s", 1024 * 1024);
+
+    private final String value;
+    private final long permitsPerUnit;
+
+    SendingRateUnit(String value, long permitsPerUnit) {
+        this.value = value;
+        this.permitsPerUnit = permitsPerUnit;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    /**
+     * @return number of rate limiter permits (messages or bytes) in one unit
+     */
+    public long permitsPerUnit() {
+        return permitsPerUnit;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
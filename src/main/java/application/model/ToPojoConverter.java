@@ -2,10 +2,14 @@ package application.model;
 
 import application.model.modelobjects.KafkaBrokerConfig;
 import application.model.modelobjects.KafkaListenerConfig;
+import application.model.modelobjects.KafkaConsumerProfile;
+import application.model.modelobjects.KafkaProducerProfile;
 import application.model.modelobjects.KafkaSenderConfig;
 import application.model.modelobjects.KafkaTopicConfig;
 import application.model.pojos.BrokerConfigPojo;
 import application.model.pojos.ListenerConfigPojo;
+import application.model.pojos.ConsumerProfilePojo;
+import application.model.pojos.ProducerProfilePojo;
 import application.model.pojos.SenderConfigPojo;
 import application.model.pojos.TopicConfigPojo;
 
@@ -31,6 +35,47 @@ public class ToPojoConverter {
         pojo.setRunBeforeAllMessagesScript(config.getRunBeforeAllMessagesScript());
         pojo.setUuid(config.getUuid());
         pojo.setSendingSimulationModeEnabled(config.getSendingSimulationModeEnabled());
+        pojo.setPipelinedSendingEnabled(config.getPipelinedSendingEnabled());
+        pojo.setMaxInFlightMessages(config.getMaxInFlightMessages());
+        pojo.setScriptEvaluationTimeoutMs(config.getScriptEvaluationTimeoutMs());
+        pojo.setGeneratorThreadsCount(config.getGeneratorThreadsCount());
+        pojo.setMessageGenerationOrder(config.getMessageGenerationOrder().name().toLowerCase());
+        pojo.setSendingRateLimitEnabled(config.getSendingRateLimitEnabled());
+        pojo.setTargetSendingRate(config.getTargetSendingRate());
+        pojo.setSendingRateUnit(config.getSendingRateUnit().name().toLowerCase());
+        pojo.setSendingRateRampUpSec(config.getSendingRateRampUpSec());
+        pojo.setSendingRateBurst(config.getSendingRateBurst());
+        pojo.setBenchmarkModeEnabled(config.getBenchmarkModeEnabled());
+        pojo.setLatencyProbeEnabled(config.getLatencyProbeEnabled());
+        pojo.setImportEnabled(config.getImportEnabled());
+        pojo.setImportFilePath(config.getImportFilePath());
+        pojo.setImportFormat(config.getImportFormat().name().toLowerCase());
+        pojo.setImportCsvKeyColumn(config.getImportCsvKeyColumn());
+        pojo.setImportCsvValueColumn(config.getImportCsvValueColumn());
+        pojo.setImportDelimiter(config.getImportDelimiter());
+        pojo.setProducerProfile(toPojoFrom(config.getProducerProfile()));
+        return pojo;
+    }
+
+    public static ProducerProfilePojo toPojoFrom(KafkaProducerProfile profile) {
+        final ProducerProfilePojo pojo = new ProducerProfilePojo();
+        pojo.setBatchSize(profile.getBatchSize());
+        pojo.setLingerMs(profile.getLingerMs());
+        pojo.setCompressionType(profile.getCompressionType().name().toLowerCase());
+        pojo.setAcks(profile.getAcks().name().toLowerCase());
+        pojo.setBufferMemory(profile.getBufferMemory());
+        pojo.setMaxInFlightRequestsPerConnection(profile.getMaxInFlightRequestsPerConnection());
+        pojo.setIdempotenceEnabled(profile.getIdempotenceEnabled());
+        return pojo;
+    }
+
+    public static ConsumerProfilePojo toPojoFrom(KafkaConsumerProfile profile) {
+        final ConsumerProfilePojo pojo = new ConsumerProfilePojo();
+        pojo.setMaxPollRecords(profile.getMaxPollRecords());
+        pojo.setFetchMinBytes(profile.getFetchMinBytes());
+        pojo.setFetchMaxWaitMs(profile.getFetchMaxWaitMs());
+        pojo.setMaxPartitionFetchBytes(profile.getMaxPartitionFetchBytes());
+        pojo.setReceiveBufferBytes(profile.getReceiveBufferBytes());
         return pojo;
     }
 
@@ -53,6 +98,38 @@ public class ToPojoConverter {
         pojo.setUuid(config.getUuid());
         pojo.setReceivedMsgLimitEnabled(config.getReceivedMsgLimitEnabled());
         pojo.setReceivedMsgLimitCount(config.getReceivedMsgLimitCount());
+        pojo.setOffsetCommitStrategy(config.getOffsetCommitStrategy().name().toLowerCase());
+        pojo.setCommitInterval(config.getCommitInterval());
+        pojo.setRecordStoreEnabled(config.getRecordStoreEnabled());
+        pojo.setRecordStoreDiskBudgetMb(config.getRecordStoreDiskBudgetMb());
+        pojo.setLatencyProbeEnabled(config.getLatencyProbeEnabled());
+        pojo.setBenchmarkModeEnabled(config.getBenchmarkModeEnabled());
+        pojo.setBenchmarkTimeLimitSec(config.getBenchmarkTimeLimitSec());
+        pojo.setConsumersCount(config.getConsumersCount());
+        pojo.setAssignModeEnabled(config.getAssignModeEnabled());
+        pojo.setAssignPartitions(config.getAssignPartitions());
+        pojo.setStartPosition(config.getStartPosition().name().toLowerCase());
+        pojo.setStartPositionValue(config.getStartPositionValue());
+        pojo.setFilterEnabled(config.getFilterEnabled());
+        pojo.setFilterMatchType(config.getFilterMatchType().name().toLowerCase());
+        pojo.setFilterTarget(config.getFilterTarget().name().toLowerCase());
+        pojo.setFilterPattern(config.getFilterPattern());
+        pojo.setFilterPartitions(config.getFilterPartitions());
+        pojo.setFilterMinOffset(config.getFilterMinOffset());
+        pojo.setFilterMaxOffset(config.getFilterMaxOffset());
+        pojo.setFilterFromTimestamp(config.getFilterFromTimestamp());
+        pojo.setFilterToTimestamp(config.getFilterToTimestamp());
+        pojo.setFilterGroovyPredicate(config.getFilterGroovyPredicate());
+        pojo.setSamplingMode(config.getSamplingMode().name().toLowerCase());
+        pojo.setSamplingValue(config.getSamplingValue());
+        pojo.setSamplingWindowMs(config.getSamplingWindowMs());
+        pojo.setExportEnabled(config.getExportEnabled());
+        pojo.setExportDirectory(config.getExportDirectory());
+        pojo.setExportFormat(config.getExportFormat().name().toLowerCase());
+        pojo.setExportGzipEnabled(config.getExportGzipEnabled());
+        pojo.setExportRollSizeMb(config.getExportRollSizeMb());
+        pojo.setExportRollIntervalSec(config.getExportRollIntervalSec());
+        pojo.setConsumerProfile(toPojoFrom(config.getConsumerProfile()));
         return pojo;
     }
 }
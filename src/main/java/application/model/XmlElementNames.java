@@ -36,6 +36,32 @@ public class XmlElementNames {
     public static final String RUN_BEFORE_ALL_MSGS_SCRIPT = "RunBeforeAllMessagesScript";
     public static final String RUN_BEFORE_EACH_MSG_SCRIPT = "RunBeforeEachMessageScript";
     public static final String SENDING_SIMULATION_MODE_ENABLED = "SendingSimulationModeEnabled";
+    public static final String PIPELINED_SENDING_ENABLED = "PipelinedSendingEnabled";
+    public static final String MAX_IN_FLIGHT_MESSAGES = "MaxInFlightMessages";
+    public static final String SCRIPT_EVALUATION_TIMEOUT_MS = "ScriptEvaluationTimeoutMs";
+    public static final String GENERATOR_THREADS_COUNT = "GeneratorThreadsCount";
+    public static final String MESSAGE_GENERATION_ORDER = "MessageGenerationOrder";
+    public static final String SENDING_RATE_LIMIT_ENABLED = "SendingRateLimitEnabled";
+    public static final String TARGET_SENDING_RATE = "TargetSendingRate";
+    public static final String SENDING_RATE_UNIT = "SendingRateUnit";
+    public static final String SENDING_RATE_RAMP_UP_SEC = "SendingRateRampUpSec";
+    public static final String SENDING_RATE_BURST = "SendingRateBurst";
+    public static final String BENCHMARK_MODE_ENABLED = "BenchmarkModeEnabled";
+    public static final String LATENCY_PROBE_ENABLED = "LatencyProbeEnabled";
+    public static final String IMPORT_ENABLED = "ImportEnabled";
+    public static final String IMPORT_FILE_PATH = "ImportFilePath";
+    public static final String IMPORT_FORMAT = "ImportFormat";
+    public static final String IMPORT_CSV_KEY_COLUMN = "ImportCsvKeyColumn";
+    public static final String IMPORT_CSV_VALUE_COLUMN = "ImportCsvValueColumn";
+    public static final String IMPORT_DELIMITER = "ImportDelimiter";
+    public static final String PRODUCER_PROFILE = "ProducerProfile";
+    public static final String BATCH_SIZE = "BatchSize";
+    public static final String LINGER_MS = "LingerMs";
+    public static final String COMPRESSION_TYPE = "CompressionType";
+    public static final String ACKS = "Acks";
+    public static final String BUFFER_MEMORY = "BufferMemory";
+    public static final String MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION = "MaxInFlightRequestsPerConnection";
+    public static final String IDEMPOTENCE_ENABLED = "IdempotenceEnabled";
 
     public static final String GUI_SETTINGS = "GuiSettings";
     public static final String MAIN_WINDOW_WIDTH = "MainWindowWidth";
@@ -48,4 +74,39 @@ public class XmlElementNames {
 
     public static final String RECEIVED_MSG_LIMIT_ENABLED = "ReceivedMsgLimitEnabled";
     public static final String RECEIVED_MSG_LIMIT_COUNT = "ReceivedMsgLimitCount";
+    public static final String OFFSET_COMMIT_STRATEGY = "OffsetCommitStrategy";
+    public static final String COMMIT_INTERVAL = "CommitInterval";
+    public static final String RECORD_STORE_ENABLED = "RecordStoreEnabled";
+    public static final String RECORD_STORE_DISK_BUDGET_MB = "RecordStoreDiskBudgetMb";
+    public static final String BENCHMARK_TIME_LIMIT_SEC = "BenchmarkTimeLimitSec";
+    public static final String CONSUMERS_COUNT = "ConsumersCount";
+    public static final String ASSIGN_MODE_ENABLED = "AssignModeEnabled";
+    public static final String ASSIGN_PARTITIONS = "AssignPartitions";
+    public static final String START_POSITION = "StartPosition";
+    public static final String START_POSITION_VALUE = "StartPositionValue";
+    public static final String FILTER_ENABLED = "FilterEnabled";
+    public static final String FILTER_MATCH_TYPE = "FilterMatchType";
+    public static final String FILTER_TARGET = "FilterTarget";
+    public static final String FILTER_PATTERN = "FilterPattern";
+    public static final String FILTER_PARTITIONS = "FilterPartitions";
+    public static final String FILTER_MIN_OFFSET = "FilterMinOffset";
+    public static final String FILTER_MAX_OFFSET = "FilterMaxOffset";
+    public static final String FILTER_FROM_TIMESTAMP = "FilterFromTimestamp";
+    public static final String FILTER_TO_TIMESTAMP = "FilterToTimestamp";
+    public static final String FILTER_GROOVY_PREDICATE = "FilterGroovyPredicate";
+    public static final String SAMPLING_MODE = "SamplingMode";
+    public static final String SAMPLING_VALUE = "SamplingValue";
+    public static final String SAMPLING_WINDOW_MS = "SamplingWindowMs";
+    public static final String EXPORT_ENABLED = "ExportEnabled";
+    public static final String EXPORT_DIRECTORY = "ExportDirectory";
+    public static final String EXPORT_FORMAT = "ExportFormat";
+    public static final String EXPORT_GZIP_ENABLED = "ExportGzipEnabled";
+    public static final String EXPORT_ROLL_SIZE_MB = "ExportRollSizeMb";
+    public static final String EXPORT_ROLL_INTERVAL_SEC = "ExportRollIntervalSec";
+    public static final String CONSUMER_PROFILE = "ConsumerProfile";
+    public static final String MAX_POLL_RECORDS = "MaxPollRecords";
+    public static final String FETCH_MIN_BYTES = "FetchMinBytes";
+    public static final String FETCH_MAX_WAIT_MS = "FetchMaxWaitMs";
+    public static final String MAX_PARTITION_FETCH_BYTES = "MaxPartitionFetchBytes";
+    public static final String RECEIVE_BUFFER_BYTES = "ReceiveBufferBytes";
 }
@@ -0,0 +1,97 @@
+package application.model.modelobjects;
+
+import application.constants.ApplicationConstants;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+
+import java.util.Properties;
+
+public class KafkaConsumerProfile {
+
+    private final StringProperty maxPollRecords = new SimpleStringProperty(ApplicationConstants.DEFAULT_CONSUMER_MAX_POLL_RECORDS);
+    private final StringProperty fetchMinBytes = new SimpleStringProperty(ApplicationConstants.DEFAULT_CONSUMER_FETCH_MIN_BYTES);
+    private final StringProperty fetchMaxWaitMs = new SimpleStringProperty(ApplicationConstants.DEFAULT_CONSUMER_FETCH_MAX_WAIT_MS);
+    private final StringProperty maxPartitionFetchBytes =
+        new SimpleStringProperty(ApplicationConstants.DEFAULT_CONSUMER_MAX_PARTITION_FETCH_BYTES);
+    private final StringProperty receiveBufferBytes =
+        new SimpleStringProperty(ApplicationConstants.DEFAULT_CONSUMER_RECEIVE_BUFFER_BYTES);
+
+    public void copyFrom(KafkaConsumerProfile other) {
+        setMaxPollRecords(other.getMaxPollRecords());
+        setFetchMinBytes(other.getFetchMinBytes());
+        setFetchMaxWaitMs(other.getFetchMaxWaitMs());
+        setMaxPartitionFetchBytes(other.getMaxPartitionFetchBytes());
+        setReceiveBufferBytes(other.getReceiveBufferBytes());
+    }
+
+    public Properties toConsumerProperties() {
+        final Properties properties = new Properties();
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, getMaxPollRecords());
+        properties.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, getFetchMinBytes());
+        properties.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, getFetchMaxWaitMs());
+        properties.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, getMaxPartitionFetchBytes());
+        properties.put(ConsumerConfig.RECEIVE_BUFFER_CONFIG, getReceiveBufferBytes());
+        return properties;
+    }
+
+    public String getMaxPollRecords() {
+        return maxPollRecords.get();
+    }
+
+    public void setMaxPollRecords(String value) {
+        maxPollRecords.set(value);
+    }
+
+    public StringProperty maxPollRecordsProperty() {
+        return maxPollRecords;
+    }
+
+    public String getFetchMinBytes() {
+        return fetchMinBytes.get();
+    }
+
+    public void setFetchMinBytes(String value) {
+        fetchMinBytes.set(value);
+    }
+
+    public StringProperty fetchMinBytesProperty() {
+        return fetchMinBytes;
+    }
+
+    public String getFetchMaxWaitMs() {
+        return fetchMaxWaitMs.get();
+    }
+
+    public void setFetchMaxWaitMs(String value) {
+        fetchMaxWaitMs.set(value);
+    }
+
+    public StringProperty fetchMaxWaitMsProperty() {
+        return fetchMaxWaitMs;
+    }
+
+    public String getMaxPartitionFetchBytes() {
+        return maxPartitionFetchBytes.get();
+    }
+
+    public void setMaxPartitionFetchBytes(String value) {
+        maxPartitionFetchBytes.set(value);
+    }
+
+    public StringProperty maxPartitionFetchBytesProperty() {
+        return maxPartitionFetchBytes;
+    }
+
+    public String getReceiveBufferBytes() {
+        return receiveBufferBytes.get();
+    }
+
+    public void setReceiveBufferBytes(String value) {
+        receiveBufferBytes.set(value);
+    }
+
+    public StringProperty receiveBufferBytesProperty() {
+        return receiveBufferBytes;
+    }
+}
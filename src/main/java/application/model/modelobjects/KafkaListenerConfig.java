@@ -1,8 +1,14 @@
 package application.model.modelobjects;
 
+import application.model.KafkaOffsetCommitStrategy;
 import application.model.KafkaOffsetResetType;
+import application.model.ExportFormat;
+import application.model.ListenerSamplingMode;
+import application.model.ListenerStartPosition;
 import application.model.ModelConfigObject;
 import application.model.RelatedConfigHolder;
+import application.model.ScanMatchType;
+import application.model.ScanTarget;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -12,8 +18,17 @@ import javafx.beans.property.StringProperty;
 
 import java.util.UUID;
 
+import static application.constants.ApplicationConstants.DEFAULT_COMMIT_INTERVAL;
 import static application.constants.ApplicationConstants.DEFAULT_CONSUMER_GROUP_ID;
 import static application.constants.ApplicationConstants.DEFAULT_FETCH_TIMEOUT;
+import static application.constants.ApplicationConstants.DEFAULT_LISTENER_BENCHMARK_TIME_LIMIT_SEC;
+import static application.constants.ApplicationConstants.DEFAULT_LISTENER_CONSUMERS_COUNT;
+import static application.constants.ApplicationConstants.DEFAULT_LISTENER_EXPORT_ROLL_INTERVAL_SEC;
+import static application.constants.ApplicationConstants.DEFAULT_LISTENER_EXPORT_ROLL_SIZE_MB;
+import static application.constants.ApplicationConstants.DEFAULT_LISTENER_SAMPLING_VALUE;
+import static application.constants.ApplicationConstants.DEFAULT_LISTENER_SAMPLING_WINDOW_MS;
+import static application.constants.ApplicationConstants.DEFAULT_LISTENER_START_POSITION_VALUE;
+import static application.constants.ApplicationConstants.DEFAULT_RECORD_STORE_DISK_BUDGET_MB;
 
 
 public class KafkaListenerConfig implements ModelConfigObject, RelatedConfigHolder<KafkaTopicConfig> {
@@ -25,6 +40,38 @@ public class KafkaListenerConfig implements ModelConfigObject, RelatedConfigHold
     private final ObjectProperty<KafkaOffsetResetType> offsetResetConfig = new SimpleObjectProperty<>(KafkaOffsetResetType.EARLIEST);
     private final BooleanProperty receivedMsgLimitEnabled = new SimpleBooleanProperty(false);
     private final StringProperty receivedMsgLimitCount = new SimpleStringProperty("1");
+    private final ObjectProperty<KafkaOffsetCommitStrategy> offsetCommitStrategy = new SimpleObjectProperty<>(KafkaOffsetCommitStrategy.ASYNC_PER_POLL);
+    private final StringProperty commitInterval = new SimpleStringProperty(DEFAULT_COMMIT_INTERVAL);
+    private final BooleanProperty recordStoreEnabled = new SimpleBooleanProperty(false);
+    private final StringProperty recordStoreDiskBudgetMb = new SimpleStringProperty(DEFAULT_RECORD_STORE_DISK_BUDGET_MB);
+    private final BooleanProperty latencyProbeEnabled = new SimpleBooleanProperty(false);
+    private final BooleanProperty benchmarkModeEnabled = new SimpleBooleanProperty(false);
+    private final StringProperty benchmarkTimeLimitSec = new SimpleStringProperty(DEFAULT_LISTENER_BENCHMARK_TIME_LIMIT_SEC);
+    private final StringProperty consumersCount = new SimpleStringProperty(DEFAULT_LISTENER_CONSUMERS_COUNT);
+    private final BooleanProperty assignModeEnabled = new SimpleBooleanProperty(false);
+    private final StringProperty assignPartitions = new SimpleStringProperty("");
+    private final ObjectProperty<ListenerStartPosition> startPosition = new SimpleObjectProperty<>(ListenerStartPosition.BEGINNING);
+    private final StringProperty startPositionValue = new SimpleStringProperty(DEFAULT_LISTENER_START_POSITION_VALUE);
+    private final BooleanProperty filterEnabled = new SimpleBooleanProperty(false);
+    private final ObjectProperty<ScanMatchType> filterMatchType = new SimpleObjectProperty<>(ScanMatchType.SUBSTRING);
+    private final ObjectProperty<ScanTarget> filterTarget = new SimpleObjectProperty<>(ScanTarget.VALUE);
+    private final StringProperty filterPattern = new SimpleStringProperty("");
+    private final StringProperty filterPartitions = new SimpleStringProperty("");
+    private final StringProperty filterMinOffset = new SimpleStringProperty("");
+    private final StringProperty filterMaxOffset = new SimpleStringProperty("");
+    private final StringProperty filterFromTimestamp = new SimpleStringProperty("");
+    private final StringProperty filterToTimestamp = new SimpleStringProperty("");
+    private final StringProperty filterGroovyPredicate = new SimpleStringProperty("");
+    private final ObjectProperty<ListenerSamplingMode> samplingMode = new SimpleObjectProperty<>(ListenerSamplingMode.NONE);
+    private final StringProperty samplingValue = new SimpleStringProperty(DEFAULT_LISTENER_SAMPLING_VALUE);
+    private final StringProperty samplingWindowMs = new SimpleStringProperty(DEFAULT_LISTENER_SAMPLING_WINDOW_MS);
+    private final BooleanProperty exportEnabled = new SimpleBooleanProperty(false);
+    private final StringProperty exportDirectory = new SimpleStringProperty("");
+    private final ObjectProperty<ExportFormat> exportFormat = new SimpleObjectProperty<>(ExportFormat.JSON_LINES);
+    private final BooleanProperty exportGzipEnabled = new SimpleBooleanProperty(false);
+    private final StringProperty exportRollSizeMb = new SimpleStringProperty(DEFAULT_LISTENER_EXPORT_ROLL_SIZE_MB);
+    private final StringProperty exportRollIntervalSec = new SimpleStringProperty(DEFAULT_LISTENER_EXPORT_ROLL_INTERVAL_SEC);
+    private final KafkaConsumerProfile consumerProfile = new KafkaConsumerProfile();
 
     public KafkaListenerConfig(String s) {
         name.setValue(s);
@@ -146,4 +193,380 @@ public class KafkaListenerConfig implements ModelConfigObject, RelatedConfigHold
     public StringProperty receivedMsgLimitCountProperty() {
         return receivedMsgLimitCount;
     }
+
+    public KafkaOffsetCommitStrategy getOffsetCommitStrategy() {
+        return offsetCommitStrategy.get();
+    }
+
+    public void setOffsetCommitStrategy(KafkaOffsetCommitStrategy value) {
+        offsetCommitStrategy.set(value);
+    }
+
+    public ObjectProperty<KafkaOffsetCommitStrategy> offsetCommitStrategyProperty() {
+        return offsetCommitStrategy;
+    }
+
+    public String getCommitInterval() {
+        return commitInterval.get();
+    }
+
+    public void setCommitInterval(String value) {
+        commitInterval.set(value);
+    }
+
+    public StringProperty commitIntervalProperty() {
+        return commitInterval;
+    }
+
+    public boolean getRecordStoreEnabled() {
+        return recordStoreEnabled.get();
+    }
+
+    public void setRecordStoreEnabled(boolean value) {
+        recordStoreEnabled.set(value);
+    }
+
+    public BooleanProperty recordStoreEnabledProperty() {
+        return recordStoreEnabled;
+    }
+
+    public String getRecordStoreDiskBudgetMb() {
+        return recordStoreDiskBudgetMb.get();
+    }
+
+    public void setRecordStoreDiskBudgetMb(String value) {
+        recordStoreDiskBudgetMb.set(value);
+    }
+
+    public StringProperty recordStoreDiskBudgetMbProperty() {
+        return recordStoreDiskBudgetMb;
+    }
+
+    public boolean getLatencyProbeEnabled() {
+        return latencyProbeEnabled.get();
+    }
+
+    public void setLatencyProbeEnabled(boolean value) {
+        latencyProbeEnabled.set(value);
+    }
+
+    public BooleanProperty latencyProbeEnabledProperty() {
+        return latencyProbeEnabled;
+    }
+
+    public boolean getBenchmarkModeEnabled() {
+        return benchmarkModeEnabled.get();
+    }
+
+    public void setBenchmarkModeEnabled(boolean value) {
+        benchmarkModeEnabled.set(value);
+    }
+
+    public BooleanProperty benchmarkModeEnabledProperty() {
+        return benchmarkModeEnabled;
+    }
+
+    public String getBenchmarkTimeLimitSec() {
+        return benchmarkTimeLimitSec.get();
+    }
+
+    public void setBenchmarkTimeLimitSec(String value) {
+        benchmarkTimeLimitSec.set(value);
+    }
+
+    public StringProperty benchmarkTimeLimitSecProperty() {
+        return benchmarkTimeLimitSec;
+    }
+
+    public String getConsumersCount() {
+        return consumersCount.get();
+    }
+
+    public void setConsumersCount(String value) {
+        consumersCount.set(value);
+    }
+
+    public StringProperty consumersCountProperty() {
+        return consumersCount;
+    }
+
+    public boolean getAssignModeEnabled() {
+        return assignModeEnabled.get();
+    }
+
+    public void setAssignModeEnabled(boolean value) {
+        assignModeEnabled.set(value);
+    }
+
+    public BooleanProperty assignModeEnabledProperty() {
+        return assignModeEnabled;
+    }
+
+    public String getAssignPartitions() {
+        return assignPartitions.get();
+    }
+
+    public void setAssignPartitions(String value) {
+        assignPartitions.set(value);
+    }
+
+    public StringProperty assignPartitionsProperty() {
+        return assignPartitions;
+    }
+
+    public ListenerStartPosition getStartPosition() {
+        return startPosition.get();
+    }
+
+    public void setStartPosition(ListenerStartPosition value) {
+        startPosition.set(value);
+    }
+
+    public ObjectProperty<ListenerStartPosition> startPositionProperty() {
+        return startPosition;
+    }
+
+    public String getStartPositionValue() {
+        return startPositionValue.get();
+    }
+
+    public void setStartPositionValue(String value) {
+        startPositionValue.set(value);
+    }
+
+    public StringProperty startPositionValueProperty() {
+        return startPositionValue;
+    }
+
+    public boolean getFilterEnabled() {
+        return filterEnabled.get();
+    }
+
+    public void setFilterEnabled(boolean value) {
+        filterEnabled.set(value);
+    }
+
+    public BooleanProperty filterEnabledProperty() {
+        return filterEnabled;
+    }
+
+    public ScanMatchType getFilterMatchType() {
+        return filterMatchType.get();
+    }
+
+    public void setFilterMatchType(ScanMatchType value) {
+        filterMatchType.set(value);
+    }
+
+    public ObjectProperty<ScanMatchType> filterMatchTypeProperty() {
+        return filterMatchType;
+    }
+
+    public ScanTarget getFilterTarget() {
+        return filterTarget.get();
+    }
+
+    public void setFilterTarget(ScanTarget value) {
+        filterTarget.set(value);
+    }
+
+    public ObjectProperty<ScanTarget> filterTargetProperty() {
+        return filterTarget;
+    }
+
+    public String getFilterPattern() {
+        return filterPattern.get();
+    }
+
+    public void setFilterPattern(String value) {
+        filterPattern.set(value);
+    }
+
+    public StringProperty filterPatternProperty() {
+        return filterPattern;
+    }
+
+    public String getFilterPartitions() {
+        return filterPartitions.get();
+    }
+
+    public void setFilterPartitions(String value) {
+        filterPartitions.set(value);
+    }
+
+    public StringProperty filterPartitionsProperty() {
+        return filterPartitions;
+    }
+
+    public String getFilterMinOffset() {
+        return filterMinOffset.get();
+    }
+
+    public void setFilterMinOffset(String value) {
+        filterMinOffset.set(value);
+    }
+
+    public StringProperty filterMinOffsetProperty() {
+        return filterMinOffset;
+    }
+
+    public String getFilterMaxOffset() {
+        return filterMaxOffset.get();
+    }
+
+    public void setFilterMaxOffset(String value) {
+        filterMaxOffset.set(value);
+    }
+
+    public StringProperty filterMaxOffsetProperty() {
+        return filterMaxOffset;
+    }
+
+    public String getFilterFromTimestamp() {
+        return filterFromTimestamp.get();
+    }
+
+    public void setFilterFromTimestamp(String value) {
+        filterFromTimestamp.set(value);
+    }
+
+    public StringProperty filterFromTimestampProperty() {
+        return filterFromTimestamp;
+    }
+
+    public String getFilterToTimestamp() {
+        return filterToTimestamp.get();
+    }
+
+    public void setFilterToTimestamp(String value) {
+        filterToTimestamp.set(value);
+    }
+
+    public StringProperty filterToTimestampProperty() {
+        return filterToTimestamp;
+    }
+
+    public String getFilterGroovyPredicate() {
+        return filterGroovyPredicate.get();
+    }
+
+    public void setFilterGroovyPredicate(String value) {
+        filterGroovyPredicate.set(value);
+    }
+
+    public StringProperty filterGroovyPredicateProperty() {
+        return filterGroovyPredicate;
+    }
+
+    public ListenerSamplingMode getSamplingMode() {
+        return samplingMode.get();
+    }
+
+    public void setSamplingMode(ListenerSamplingMode value) {
+        samplingMode.set(value);
+    }
+
+    public ObjectProperty<ListenerSamplingMode> samplingModeProperty() {
+        return samplingMode;
+    }
+
+    public String getSamplingValue() {
+        return samplingValue.get();
+    }
+
+    public void setSamplingValue(String value) {
+        samplingValue.set(value);
+    }
+
+    public StringProperty samplingValueProperty() {
+        return samplingValue;
+    }
+
+    public String getSamplingWindowMs() {
+        return samplingWindowMs.get();
+    }
+
+    public void setSamplingWindowMs(String value) {
+        samplingWindowMs.set(value);
+    }
+
+    public StringProperty samplingWindowMsProperty() {
+        return samplingWindowMs;
+    }
+
+    public boolean getExportEnabled() {
+        return exportEnabled.get();
+    }
+
+    public void setExportEnabled(boolean value) {
+        exportEnabled.set(value);
+    }
+
+    public BooleanProperty exportEnabledProperty() {
+        return exportEnabled;
+    }
+
+    public String getExportDirectory() {
+        return exportDirectory.get();
+    }
+
+    public void setExportDirectory(String value) {
+        exportDirectory.set(value);
+    }
+
+    public StringProperty exportDirectoryProperty() {
+        return exportDirectory;
+    }
+
+    public ExportFormat getExportFormat() {
+        return exportFormat.get();
+    }
+
+    public void setExportFormat(ExportFormat value) {
+        exportFormat.set(value);
+    }
+
+    public ObjectProperty<ExportFormat> exportFormatProperty() {
+        return exportFormat;
+    }
+
+    public boolean getExportGzipEnabled() {
+        return exportGzipEnabled.get();
+    }
+
+    public void setExportGzipEnabled(boolean value) {
+        exportGzipEnabled.set(value);
+    }
+
+    public BooleanProperty exportGzipEnabledProperty() {
+        return exportGzipEnabled;
+    }
+
+    public String getExportRollSizeMb() {
+        return exportRollSizeMb.get();
+    }
+
+    public void setExportRollSizeMb(String value) {
+        exportRollSizeMb.set(value);
+    }
+
+    public StringProperty exportRollSizeMbProperty() {
+        return exportRollSizeMb;
+    }
+
+    public String getExportRollIntervalSec() {
+        return exportRollIntervalSec.get();
+    }
+
+    public void setExportRollIntervalSec(String value) {
+        exportRollIntervalSec.set(value);
+    }
+
+    public StringProperty exportRollIntervalSecProperty() {
+        return exportRollIntervalSec;
+    }
+
+    public KafkaConsumerProfile getConsumerProfile() {
+        return consumerProfile;
+    }
 }
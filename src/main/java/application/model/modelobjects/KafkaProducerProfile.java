@@ -0,0 +1,146 @@
+package application.model.modelobjects;
+
+import application.constants.ApplicationConstants;
+import application.model.ProducerAcksType;
+import application.model.ProducerCompressionType;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.Properties;
+
+public class KafkaProducerProfile {
+
+    private static final int IDEMPOTENT_MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION = 5;
+    private final StringProperty batchSize = new SimpleStringProperty(ApplicationConstants.DEFAULT_PRODUCER_BATCH_SIZE);
+    private final StringProperty lingerMs = new SimpleStringProperty(ApplicationConstants.DEFAULT_PRODUCER_LINGER_MS);
+    private final ObjectProperty<ProducerCompressionType> compressionType = new SimpleObjectProperty<>(ProducerCompressionType.NONE);
+    private final ObjectProperty<ProducerAcksType> acks = new SimpleObjectProperty<>(ProducerAcksType.ALL);
+    private final StringProperty bufferMemory = new SimpleStringProperty(ApplicationConstants.DEFAULT_PRODUCER_BUFFER_MEMORY);
+    private final StringProperty maxInFlightRequestsPerConnection =
+        new SimpleStringProperty(ApplicationConstants.DEFAULT_PRODUCER_MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION);
+    private final BooleanProperty idempotenceEnabled = new SimpleBooleanProperty(false);
+
+    public void copyFrom(KafkaProducerProfile other) {
+        setBatchSize(other.getBatchSize());
+        setLingerMs(other.getLingerMs());
+        setCompressionType(other.getCompressionType());
+        setAcks(other.getAcks());
+        setBufferMemory(other.getBufferMemory());
+        setMaxInFlightRequestsPerConnection(other.getMaxInFlightRequestsPerConnection());
+        setIdempotenceEnabled(other.getIdempotenceEnabled());
+    }
+
+    /**
+     * Idempotent producer requires acks=all and at most 5 in-flight requests per connection, so these are
+     * enforced when idempotence is enabled, otherwise producer creation would fail with ConfigException.
+     */
+    public Properties toProducerProperties() {
+        final Properties properties = new Properties();
+        properties.put(ProducerConfig.BATCH_SIZE_CONFIG, getBatchSize());
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, getLingerMs());
+        properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, getCompressionType().value());
+        properties.put(ProducerConfig.ACKS_CONFIG, getAcks().value());
+        properties.put(ProducerConfig.BUFFER_MEMORY_CONFIG, getBufferMemory());
+        properties.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, getMaxInFlightRequestsPerConnection());
+        properties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, String.valueOf(getIdempotenceEnabled()));
+        if (getIdempotenceEnabled()) {
+            properties.put(ProducerConfig.ACKS_CONFIG, ProducerAcksType.ALL.value());
+            if (NumberUtils.toInt(getMaxInFlightRequestsPerConnection(), Integer.MAX_VALUE)
+                > IDEMPOTENT_MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION) {
+                properties.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION,
+                               String.valueOf(IDEMPOTENT_MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION));
+            }
+        }
+        return properties;
+    }
+
+    public String getBatchSize() {
+        return batchSize.get();
+    }
+
+    public void setBatchSize(String value) {
+        batchSize.set(value);
+    }
+
+    public StringProperty batchSizeProperty() {
+        return batchSize;
+    }
+
+    public String getLingerMs() {
+        return lingerMs.get();
+    }
+
+    public void setLingerMs(String value) {
+        lingerMs.set(value);
+    }
+
+    public StringProperty lingerMsProperty() {
+        return lingerMs;
+    }
+
+    public ProducerCompressionType getCompressionType() {
+        return compressionType.get();
+    }
+
+    public void setCompressionType(ProducerCompressionType value) {
+        compressionType.set(value);
+    }
+
+    public ObjectProperty<ProducerCompressionType> compressionTypeProperty() {
+        return compressionType;
+    }
+
+    public ProducerAcksType getAcks() {
+        return acks.get();
+    }
+
+    public void setAcks(ProducerAcksType value) {
+        acks.set(value);
+    }
+
+    public ObjectProperty<ProducerAcksType> acksProperty() {
+        return acks;
+    }
+
+    public String getBufferMemory() {
+        return bufferMemory.get();
+    }
+
+    public void setBufferMemory(String value) {
+        bufferMemory.set(value);
+    }
+
+    public StringProperty bufferMemoryProperty() {
+        return bufferMemory;
+    }
+
+    public String getMaxInFlightRequestsPerConnection() {
+        return maxInFlightRequestsPerConnection.get();
+    }
+
+    public void setMaxInFlightRequestsPerConnection(String value) {
+        maxInFlightRequestsPerConnection.set(value);
+    }
+
+    public StringProperty maxInFlightRequestsPerConnectionProperty() {
+        return maxInFlightRequestsPerConnection;
+    }
+
+    public boolean getIdempotenceEnabled() {
+        return idempotenceEnabled.get();
+    }
+
+    public void setIdempotenceEnabled(boolean value) {
+        idempotenceEnabled.set(value);
+    }
+
+    public BooleanProperty idempotenceEnabledProperty() {
+        return idempotenceEnabled;
+    }
+}
@@ -1,6 +1,9 @@
 package application.model.modelobjects;
 
 import application.constants.ApplicationConstants;
+import application.model.ImportFormat;
+import application.model.MessageGenerationOrder;
+import application.model.SendingRateUnit;
 import application.model.ModelConfigObject;
 import application.model.RelatedConfigHolder;
 import javafx.beans.property.BooleanProperty;
@@ -27,6 +30,25 @@ public class KafkaSenderConfig implements ModelConfigObject, RelatedConfigHolder
     private final IntegerProperty repeatCount = new SimpleIntegerProperty(1);
     private final StringProperty messageKey = new SimpleStringProperty(ApplicationConstants.DEFAULT_MESSAGE_KEY);
     private final BooleanProperty sendingSimulationModeEnabledProperty = new SimpleBooleanProperty(false);
+    private final BooleanProperty pipelinedSendingEnabled = new SimpleBooleanProperty(false);
+    private final StringProperty maxInFlightMessages = new SimpleStringProperty(ApplicationConstants.DEFAULT_MAX_IN_FLIGHT_MESSAGES);
+    private final StringProperty scriptEvaluationTimeoutMs = new SimpleStringProperty(ApplicationConstants.DEFAULT_SCRIPT_EVALUATION_TIMEOUT_MS);
+    private final StringProperty generatorThreadsCount = new SimpleStringProperty(ApplicationConstants.DEFAULT_GENERATOR_THREADS_COUNT);
+    private final ObjectProperty<MessageGenerationOrder> messageGenerationOrder = new SimpleObjectProperty<>(MessageGenerationOrder.ORDERED);
+    private final BooleanProperty sendingRateLimitEnabled = new SimpleBooleanProperty(false);
+    private final StringProperty targetSendingRate = new SimpleStringProperty(ApplicationConstants.DEFAULT_TARGET_SENDING_RATE);
+    private final ObjectProperty<SendingRateUnit> sendingRateUnit = new SimpleObjectProperty<>(SendingRateUnit.MESSAGES_PER_SECOND);
+    private final StringProperty sendingRateRampUpSec = new SimpleStringProperty(ApplicationConstants.DEFAULT_SENDING_RATE_RAMP_UP_SEC);
+    private final StringProperty sendingRateBurst = new SimpleStringProperty(ApplicationConstants.DEFAULT_SENDING_RATE_BURST);
+    private final BooleanProperty benchmarkModeEnabled = new SimpleBooleanProperty(false);
+    private final BooleanProperty latencyProbeEnabled = new SimpleBooleanProperty(false);
+    private final BooleanProperty importEnabled = new SimpleBooleanProperty(false);
+    private final StringProperty importFilePath = new SimpleStringProperty("");
+    private final ObjectProperty<ImportFormat> importFormat = new SimpleObjectProperty<>(ImportFormat.JSON_LINES);
+    private final StringProperty importCsvKeyColumn = new SimpleStringProperty(ApplicationConstants.DEFAULT_IMPORT_CSV_KEY_COLUMN);
+    private final StringProperty importCsvValueColumn = new SimpleStringProperty(ApplicationConstants.DEFAULT_IMPORT_CSV_VALUE_COLUMN);
+    private final StringProperty importDelimiter = new SimpleStringProperty(ApplicationConstants.DEFAULT_IMPORT_DELIMITER);
+    private final KafkaProducerProfile producerProfile = new KafkaProducerProfile();
 
 
     public KafkaSenderConfig(String name) {
@@ -178,5 +200,224 @@ public class KafkaSenderConfig implements ModelConfigObject, RelatedConfigHolder
     public void setRunBeforeEachMessageScript(String script) {
         this.runBeforeEachMessageScript.set(script);
     }
-}
 
+    public boolean getPipelinedSendingEnabled() {
+        return pipelinedSendingEnabled.get();
+    }
+
+    public void setPipelinedSendingEnabled(boolean value) {
+        pipelinedSendingEnabled.set(value);
+    }
+
+    public BooleanProperty pipelinedSendingEnabledProperty() {
+        return pipelinedSendingEnabled;
+    }
+
+    public String getMaxInFlightMessages() {
+        return maxInFlightMessages.get();
+    }
+
+    public void setMaxInFlightMessages(String value) {
+        maxInFlightMessages.set(value);
+    }
+
+    public StringProperty maxInFlightMessagesProperty() {
+        return maxInFlightMessages;
+    }
+
+    public String getScriptEvaluationTimeoutMs() {
+        return scriptEvaluationTimeoutMs.get();
+    }
+
+    public void setScriptEvaluationTimeoutMs(String value) {
+        scriptEvaluationTimeoutMs.set(value);
+    }
+
+    public StringProperty scriptEvaluationTimeoutMsProperty() {
+        return scriptEvaluationTimeoutMs;
+    }
+
+    public String getGeneratorThreadsCount() {
+        return generatorThreadsCount.get();
+    }
+
+    public void setGeneratorThreadsCount(String value) {
+        generatorThreadsCount.set(value);
+    }
+
+    public StringProperty generatorThreadsCountProperty() {
+        return generatorThreadsCount;
+    }
+
+    public MessageGenerationOrder getMessageGenerationOrder() {
+        return messageGenerationOrder.get();
+    }
+
+    public void setMessageGenerationOrder(MessageGenerationOrder value) {
+        messageGenerationOrder.set(value);
+    }
+
+    public ObjectProperty<MessageGenerationOrder> messageGenerationOrderProperty() {
+        return messageGenerationOrder;
+    }
+
+    public boolean getSendingRateLimitEnabled() {
+        return sendingRateLimitEnabled.get();
+    }
+
+    public void setSendingRateLimitEnabled(boolean value) {
+        sendingRateLimitEnabled.set(value);
+    }
+
+    public BooleanProperty sendingRateLimitEnabledProperty() {
+        return sendingRateLimitEnabled;
+    }
+
+    public String getTargetSendingRate() {
+        return targetSendingRate.get();
+    }
+
+    public void setTargetSendingRate(String value) {
+        targetSendingRate.set(value);
+    }
+
+    public StringProperty targetSendingRateProperty() {
+        return targetSendingRate;
+    }
+
+    public SendingRateUnit getSendingRateUnit() {
+        return sendingRateUnit.get();
+    }
+
+    public void setSendingRateUnit(SendingRateUnit value) {
+        sendingRateUnit.set(value);
+    }
+
+    public ObjectProperty<SendingRateUnit> sendingRateUnitProperty() {
+        return sendingRateUnit;
+    }
+
+    public String getSendingRateRampUpSec() {
+        return sendingRateRampUpSec.get();
+    }
+
+    public void setSendingRateRampUpSec(String value) {
+        sendingRateRampUpSec.set(value);
+    }
+
+    public StringProperty sendingRateRampUpSecProperty() {
+        return sendingRateRampUpSec;
+    }
+
+    public String getSendingRateBurst() {
+        return sendingRateBurst.get();
+    }
+
+    public void setSendingRateBurst(String value) {
+        sendingRateBurst.set(value);
+    }
+
+    public StringProperty sendingRateBurstProperty() {
+        return sendingRateBurst;
+    }
+
+    public boolean getBenchmarkModeEnabled() {
+        return benchmarkModeEnabled.get();
+    }
+
+    public void setBenchmarkModeEnabled(boolean value) {
+        benchmarkModeEnabled.set(value);
+    }
+
+    public BooleanProperty benchmarkModeEnabledProperty() {
+        return benchmarkModeEnabled;
+    }
+
+    public boolean getLatencyProbeEnabled() {
+        return latencyProbeEnabled.get();
+    }
+
+    public void setLatencyProbeEnabled(boolean value) {
+        latencyProbeEnabled.set(value);
+    }
+
+    public BooleanProperty latencyProbeEnabledProperty() {
+        return latencyProbeEnabled;
+    }
+
+    public boolean getImportEnabled() {
+        return importEnabled.get();
+    }
+
+    public void setImportEnabled(boolean value) {
+        importEnabled.set(value);
+    }
+
+    public BooleanProperty importEnabledProperty() {
+        return importEnabled;
+    }
+
+    public String getImportFilePath() {
+        return importFilePath.get();
+    }
+
+    public void setImportFilePath(String value) {
+        importFilePath.set(value);
+    }
+
+    public StringProperty importFilePathProperty() {
+        return importFilePath;
+    }
+
+    public ImportFormat getImportFormat() {
+        return importFormat.get();
+    }
+
+    public void setImportFormat(ImportFormat value) {
+        importFormat.set(value);
+    }
+
+    public ObjectProperty<ImportFormat> importFormatProperty() {
+        return importFormat;
+    }
+
+    public String getImportCsvKeyColumn() {
+        return importCsvKeyColumn.get();
+    }
+
+    public void setImportCsvKeyColumn(String value) {
+        importCsvKeyColumn.set(value);
+    }
+
+    public StringProperty importCsvKeyColumnProperty() {
+        return importCsvKeyColumn;
+    }
+
+    public String getImportCsvValueColumn() {
+        return importCsvValueColumn.get();
+    }
+
+    public void setImportCsvValueColumn(String value) {
+        importCsvValueColumn.set(value);
+    }
+
+    public StringProperty importCsvValueColumnProperty() {
+        return importCsvValueColumn;
+    }
+
+    public String getImportDelimiter() {
+        return importDelimiter.get();
+    }
+
+    public void setImportDelimiter(String value) {
+        importDelimiter.set(value);
+    }
+
+    public StringProperty importDelimiterProperty() {
+        return importDelimiter;
+    }
+
+    public KafkaProducerProfile getProducerProfile() {
+        return producerProfile;
+    }
+}
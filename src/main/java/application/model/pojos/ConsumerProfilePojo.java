@@ -0,0 +1,75 @@
+package application.model.pojos;
+
+import application.model.XmlElementNames;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+@EqualsAndHashCode
+@ToString
+@XmlRootElement(name = XmlElementNames.CONSUMER_PROFILE)
+public class ConsumerProfilePojo implements Copyable<ConsumerProfilePojo> {
+    private String maxPollRecords;
+    private String fetchMinBytes;
+    private String fetchMaxWaitMs;
+    private String maxPartitionFetchBytes;
+    private String receiveBufferBytes;
+
+    @XmlElement(name = XmlElementNames.MAX_POLL_RECORDS)
+    public String getMaxPollRecords() {
+        return maxPollRecords;
+    }
+
+    public void setMaxPollRecords(String maxPollRecords) {
+        this.maxPollRecords = maxPollRecords;
+    }
+
+    @XmlElement(name = XmlElementNames.FETCH_MIN_BYTES)
+    public String getFetchMinBytes() {
+        return fetchMinBytes;
+    }
+
+    public void setFetchMinBytes(String fetchMinBytes) {
+        this.fetchMinBytes = fetchMinBytes;
+    }
+
+    @XmlElement(name = XmlElementNames.FETCH_MAX_WAIT_MS)
+    public String getFetchMaxWaitMs() {
+        return fetchMaxWaitMs;
+    }
+
+    public void setFetchMaxWaitMs(String fetchMaxWaitMs) {
+        this.fetchMaxWaitMs = fetchMaxWaitMs;
+    }
+
+    @XmlElement(name = XmlElementNames.MAX_PARTITION_FETCH_BYTES)
+    public String getMaxPartitionFetchBytes() {
+        return maxPartitionFetchBytes;
+    }
+
+    public void setMaxPartitionFetchBytes(String maxPartitionFetchBytes) {
+        this.maxPartitionFetchBytes = maxPartitionFetchBytes;
+    }
+
+    @XmlElement(name = XmlElementNames.RECEIVE_BUFFER_BYTES)
+    public String getReceiveBufferBytes() {
+        return receiveBufferBytes;
+    }
+
+    public void setReceiveBufferBytes(String receiveBufferBytes) {
+        this.receiveBufferBytes = receiveBufferBytes;
+    }
+
+    @Override
+    public ConsumerProfilePojo copyOfMine() {
+        final ConsumerProfilePojo p = new ConsumerProfilePojo();
+        p.setMaxPollRecords(getMaxPollRecords());
+        p.setFetchMinBytes(getFetchMinBytes());
+        p.setFetchMaxWaitMs(getFetchMaxWaitMs());
+        p.setMaxPartitionFetchBytes(getMaxPartitionFetchBytes());
+        p.setReceiveBufferBytes(getReceiveBufferBytes());
+        return p;
+    }
+}
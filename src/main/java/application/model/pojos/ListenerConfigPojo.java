@@ -17,6 +17,38 @@ public class ListenerConfigPojo implements Copyable<ListenerConfigPojo>{
     private String offsetResetConfig;
     private String receivedMsgLimitCount;
     private boolean receivedMsgLimitEnabled;
+    private String offsetCommitStrategy;
+    private String commitInterval;
+    private boolean recordStoreEnabled;
+    private String recordStoreDiskBudgetMb;
+    private boolean latencyProbeEnabled;
+    private boolean benchmarkModeEnabled;
+    private String benchmarkTimeLimitSec;
+    private String consumersCount;
+    private boolean assignModeEnabled;
+    private String assignPartitions;
+    private String startPosition;
+    private String startPositionValue;
+    private boolean filterEnabled;
+    private String filterMatchType;
+    private String filterTarget;
+    private String filterPattern;
+    private String filterPartitions;
+    private String filterMinOffset;
+    private String filterMaxOffset;
+    private String filterFromTimestamp;
+    private String filterToTimestamp;
+    private String filterGroovyPredicate;
+    private String samplingMode;
+    private String samplingValue;
+    private String samplingWindowMs;
+    private boolean exportEnabled;
+    private String exportDirectory;
+    private String exportFormat;
+    private boolean exportGzipEnabled;
+    private String exportRollSizeMb;
+    private String exportRollIntervalSec;
+    private ConsumerProfilePojo consumerProfile;
 
     @XmlElement(name = XmlElementNames.CONFIG_NAME)
     public String getConfigName() {
@@ -86,6 +118,38 @@ public class ListenerConfigPojo implements Copyable<ListenerConfigPojo>{
         p.setOffsetResetConfig(getOffsetResetConfig());
         p.setReceivedMsgLimitCount(getReceivedMsgLimitCount());
         p.setReceivedMsgLimitEnabled(getReceivedMsgLimitEnabled());
+        p.setOffsetCommitStrategy(getOffsetCommitStrategy());
+        p.setCommitInterval(getCommitInterval());
+        p.setRecordStoreEnabled(getRecordStoreEnabled());
+        p.setRecordStoreDiskBudgetMb(getRecordStoreDiskBudgetMb());
+        p.setLatencyProbeEnabled(getLatencyProbeEnabled());
+        p.setBenchmarkModeEnabled(getBenchmarkModeEnabled());
+        p.setBenchmarkTimeLimitSec(getBenchmarkTimeLimitSec());
+        p.setConsumersCount(getConsumersCount());
+        p.setAssignModeEnabled(getAssignModeEnabled());
+        p.setAssignPartitions(getAssignPartitions());
+        p.setStartPosition(getStartPosition());
+        p.setStartPositionValue(getStartPositionValue());
+        p.setFilterEnabled(getFilterEnabled());
+        p.setFilterMatchType(getFilterMatchType());
+        p.setFilterTarget(getFilterTarget());
+        p.setFilterPattern(getFilterPattern());
+        p.setFilterPartitions(getFilterPartitions());
+        p.setFilterMinOffset(getFilterMinOffset());
+        p.setFilterMaxOffset(getFilterMaxOffset());
+        p.setFilterFromTimestamp(getFilterFromTimestamp());
+        p.setFilterToTimestamp(getFilterToTimestamp());
+        p.setFilterGroovyPredicate(getFilterGroovyPredicate());
+        p.setSamplingMode(getSamplingMode());
+        p.setSamplingValue(getSamplingValue());
+        p.setSamplingWindowMs(getSamplingWindowMs());
+        p.setExportEnabled(getExportEnabled());
+        p.setExportDirectory(getExportDirectory());
+        p.setExportFormat(getExportFormat());
+        p.setExportGzipEnabled(getExportGzipEnabled());
+        p.setExportRollSizeMb(getExportRollSizeMb());
+        p.setExportRollIntervalSec(getExportRollIntervalSec());
+        p.setConsumerProfile(getConsumerProfile() == null ? null : getConsumerProfile().copyOfMine());
         return p;
     }
 
@@ -107,4 +171,292 @@ public class ListenerConfigPojo implements Copyable<ListenerConfigPojo>{
     public String getReceivedMsgLimitCount() {
         return receivedMsgLimitCount;
     }
+
+    @XmlElement(name = XmlElementNames.OFFSET_COMMIT_STRATEGY)
+    public String getOffsetCommitStrategy() {
+        return offsetCommitStrategy;
+    }
+
+    public void setOffsetCommitStrategy(String offsetCommitStrategy) {
+        this.offsetCommitStrategy = offsetCommitStrategy;
+    }
+
+    @XmlElement(name = XmlElementNames.COMMIT_INTERVAL)
+    public String getCommitInterval() {
+        return commitInterval;
+    }
+
+    public void setCommitInterval(String commitInterval) {
+        this.commitInterval = commitInterval;
+    }
+
+    @XmlElement(name = XmlElementNames.RECORD_STORE_ENABLED)
+    public boolean getRecordStoreEnabled() {
+        return recordStoreEnabled;
+    }
+
+    public void setRecordStoreEnabled(boolean recordStoreEnabled) {
+        this.recordStoreEnabled = recordStoreEnabled;
+    }
+
+    @XmlElement(name = XmlElementNames.RECORD_STORE_DISK_BUDGET_MB)
+    public String getRecordStoreDiskBudgetMb() {
+        return recordStoreDiskBudgetMb;
+    }
+
+    public void setRecordStoreDiskBudgetMb(String recordStoreDiskBudgetMb) {
+        this.recordStoreDiskBudgetMb = recordStoreDiskBudgetMb;
+    }
+
+    @XmlElement(name = XmlElementNames.LATENCY_PROBE_ENABLED)
+    public boolean getLatencyProbeEnabled() {
+        return latencyProbeEnabled;
+    }
+
+    public void setLatencyProbeEnabled(boolean latencyProbeEnabled) {
+        this.latencyProbeEnabled = latencyProbeEnabled;
+    }
+
+    @XmlElement(name = XmlElementNames.BENCHMARK_MODE_ENABLED)
+    public boolean getBenchmarkModeEnabled() {
+        return benchmarkModeEnabled;
+    }
+
+    public void setBenchmarkModeEnabled(boolean benchmarkModeEnabled) {
+        this.benchmarkModeEnabled = benchmarkModeEnabled;
+    }
+
+    @XmlElement(name = XmlElementNames.BENCHMARK_TIME_LIMIT_SEC)
+    public String getBenchmarkTimeLimitSec() {
+        return benchmarkTimeLimitSec;
+    }
+
+    public void setBenchmarkTimeLimitSec(String benchmarkTimeLimitSec) {
+        this.benchmarkTimeLimitSec = benchmarkTimeLimitSec;
+    }
+
+    @XmlElement(name = XmlElementNames.CONSUMERS_COUNT)
+    public String getConsumersCount() {
+        return consumersCount;
+    }
+
+    public void setConsumersCount(String consumersCount) {
+        this.consumersCount = consumersCount;
+    }
+
+    @XmlElement(name = XmlElementNames.ASSIGN_MODE_ENABLED)
+    public boolean getAssignModeEnabled() {
+        return assignModeEnabled;
+    }
+
+    public void setAssignModeEnabled(boolean assignModeEnabled) {
+        this.assignModeEnabled = assignModeEnabled;
+    }
+
+    @XmlElement(name = XmlElementNames.ASSIGN_PARTITIONS)
+    public String getAssignPartitions() {
+        return assignPartitions;
+    }
+
+    public void setAssignPartitions(String assignPartitions) {
+        this.assignPartitions = assignPartitions;
+    }
+
+    @XmlElement(name = XmlElementNames.START_POSITION)
+    public String getStartPosition() {
+        return startPosition;
+    }
+
+    public void setStartPosition(String startPosition) {
+        this.startPosition = startPosition;
+    }
+
+    @XmlElement(name = XmlElementNames.START_POSITION_VALUE)
+    public String getStartPositionValue() {
+        return startPositionValue;
+    }
+
+    public void setStartPositionValue(String startPositionValue) {
+        this.startPositionValue = startPositionValue;
+    }
+
+    @XmlElement(name = XmlElementNames.CONSUMER_PROFILE)
+    public ConsumerProfilePojo getConsumerProfile() {
+        return consumerProfile;
+    }
+
+    public void setConsumerProfile(ConsumerProfilePojo consumerProfile) {
+        this.consumerProfile = consumerProfile;
+    }
+
+    @XmlElement(name = XmlElementNames.FILTER_ENABLED)
+    public boolean getFilterEnabled() {
+        return filterEnabled;
+    }
+
+    public void setFilterEnabled(boolean filterEnabled) {
+        this.filterEnabled = filterEnabled;
+    }
+
+    @XmlElement(name = XmlElementNames.FILTER_MATCH_TYPE)
+    public String getFilterMatchType() {
+        return filterMatchType;
+    }
+
+    public void setFilterMatchType(String filterMatchType) {
+        this.filterMatchType = filterMatchType;
+    }
+
+    @XmlElement(name = XmlElementNames.FILTER_TARGET)
+    public String getFilterTarget() {
+        return filterTarget;
+    }
+
+    public void setFilterTarget(String filterTarget) {
+        this.filterTarget = filterTarget;
+    }
+
+    @XmlElement(name = XmlElementNames.FILTER_PATTERN)
+    public String getFilterPattern() {
+        return filterPattern;
+    }
+
+    public void setFilterPattern(String filterPattern) {
+        this.filterPattern = filterPattern;
+    }
+
+    @XmlElement(name = XmlElementNames.FILTER_PARTITIONS)
+    public String getFilterPartitions() {
+        return filterPartitions;
+    }
+
+    public void setFilterPartitions(String filterPartitions) {
+        this.filterPartitions = filterPartitions;
+    }
+
+    @XmlElement(name = XmlElementNames.FILTER_MIN_OFFSET)
+    public String getFilterMinOffset() {
+        return filterMinOffset;
+    }
+
+    public void setFilterMinOffset(String filterMinOffset) {
+        this.filterMinOffset = filterMinOffset;
+    }
+
+    @XmlElement(name = XmlElementNames.FILTER_MAX_OFFSET)
+    public String getFilterMaxOffset() {
+        return filterMaxOffset;
+    }
+
+    public void setFilterMaxOffset(String filterMaxOffset) {
+        this.filterMaxOffset = filterMaxOffset;
+    }
+
+    @XmlElement(name = XmlElementNames.FILTER_FROM_TIMESTAMP)
+    public String getFilterFromTimestamp() {
+        return filterFromTimestamp;
+    }
+
+    public void setFilterFromTimestamp(String filterFromTimestamp) {
+        this.filterFromTimestamp = filterFromTimestamp;
+    }
+
+    @XmlElement(name = XmlElementNames.FILTER_TO_TIMESTAMP)
+    public String getFilterToTimestamp() {
+        return filterToTimestamp;
+    }
+
+    public void setFilterToTimestamp(String filterToTimestamp) {
+        this.filterToTimestamp = filterToTimestamp;
+    }
+
+    @XmlElement(name = XmlElementNames.FILTER_GROOVY_PREDICATE)
+    public String getFilterGroovyPredicate() {
+        return filterGroovyPredicate;
+    }
+
+    public void setFilterGroovyPredicate(String filterGroovyPredicate) {
+        this.filterGroovyPredicate = filterGroovyPredicate;
+    }
+
+    @XmlElement(name = XmlElementNames.SAMPLING_MODE)
+    public String getSamplingMode() {
+        return samplingMode;
+    }
+
+    public void setSamplingMode(String samplingMode) {
+        this.samplingMode = samplingMode;
+    }
+
+    @XmlElement(name = XmlElementNames.SAMPLING_VALUE)
+    public String getSamplingValue() {
+        return samplingValue;
+    }
+
+    public void setSamplingValue(String samplingValue) {
+        this.samplingValue = samplingValue;
+    }
+
+    @XmlElement(name = XmlElementNames.SAMPLING_WINDOW_MS)
+    public String getSamplingWindowMs() {
+        return samplingWindowMs;
+    }
+
+    public void setSamplingWindowMs(String samplingWindowMs) {
+        this.samplingWindowMs = samplingWindowMs;
+    }
+
+    @XmlElement(name = XmlElementNames.EXPORT_ENABLED)
+    public boolean getExportEnabled() {
+        return exportEnabled;
+    }
+
+    public void setExportEnabled(boolean exportEnabled) {
+        this.exportEnabled = exportEnabled;
+    }
+
+    @XmlElement(name = XmlElementNames.EXPORT_DIRECTORY)
+    public String getExportDirectory() {
+        return exportDirectory;
+    }
+
+    public void setExportDirectory(String exportDirectory) {
+        this.exportDirectory = exportDirectory;
+    }
+
+    @XmlElement(name = XmlElementNames.EXPORT_FORMAT)
+    public String getExportFormat() {
+        return exportFormat;
+    }
+
+    public void setExportFormat(String exportFormat) {
+        this.exportFormat = exportFormat;
+    }
+
+    @XmlElement(name = XmlElementNames.EXPORT_GZIP_ENABLED)
+    public boolean getExportGzipEnabled() {
+        return exportGzipEnabled;
+    }
+
+    public void setExportGzipEnabled(boolean exportGzipEnabled) {
+        this.exportGzipEnabled = exportGzipEnabled;
+    }
+
+    @XmlElement(name = XmlElementNames.EXPORT_ROLL_SIZE_MB)
+    public String getExportRollSizeMb() {
+        return exportRollSizeMb;
+    }
+
+    public void setExportRollSizeMb(String exportRollSizeMb) {
+        this.exportRollSizeMb = exportRollSizeMb;
+    }
+
+    @XmlElement(name = XmlElementNames.EXPORT_ROLL_INTERVAL_SEC)
+    public String getExportRollIntervalSec() {
+        return exportRollIntervalSec;
+    }
+
+    public void setExportRollIntervalSec(String exportRollIntervalSec) {
+        this.exportRollIntervalSec = exportRollIntervalSec;
+    }
 }
@@ -0,0 +1,97 @@
+package application.model.pojos;
+
+import application.model.XmlElementNames;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+@EqualsAndHashCode
+@ToString
+@XmlRootElement(name = XmlElementNames.PRODUCER_PROFILE)
+public class ProducerProfilePojo implements Copyable<ProducerProfilePojo> {
+    private String batchSize;
+    private String lingerMs;
+    private String compressionType;
+    private String acks;
+    private String bufferMemory;
+    private String maxInFlightRequestsPerConnection;
+    private boolean idempotenceEnabled;
+
+    @XmlElement(name = XmlElementNames.BATCH_SIZE)
+    public String getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(String batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @XmlElement(name = XmlElementNames.LINGER_MS)
+    public String getLingerMs() {
+        return lingerMs;
+    }
+
+    public void setLingerMs(String lingerMs) {
+        this.lingerMs = lingerMs;
+    }
+
+    @XmlElement(name = XmlElementNames.COMPRESSION_TYPE)
+    public String getCompressionType() {
+        return compressionType;
+    }
+
+    public void setCompressionType(String compressionType) {
+        this.compressionType = compressionType;
+    }
+
+    @XmlElement(name = XmlElementNames.ACKS)
+    public String getAcks() {
+        return acks;
+    }
+
+    public void setAcks(String acks) {
+        this.acks = acks;
+    }
+
+    @XmlElement(name = XmlElementNames.BUFFER_MEMORY)
+    public String getBufferMemory() {
+        return bufferMemory;
+    }
+
+    public void setBufferMemory(String bufferMemory) {
+        this.bufferMemory = bufferMemory;
+    }
+
+    @XmlElement(name = XmlElementNames.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION)
+    public String getMaxInFlightRequestsPerConnection() {
+        return maxInFlightRequestsPerConnection;
+    }
+
+    public void setMaxInFlightRequestsPerConnection(String maxInFlightRequestsPerConnection) {
+        this.maxInFlightRequestsPerConnection = maxInFlightRequestsPerConnection;
+    }
+
+    @XmlElement(name = XmlElementNames.IDEMPOTENCE_ENABLED)
+    public boolean getIdempotenceEnabled() {
+        return idempotenceEnabled;
+    }
+
+    public void setIdempotenceEnabled(boolean idempotenceEnabled) {
+        this.idempotenceEnabled = idempotenceEnabled;
+    }
+
+    @Override
+    public ProducerProfilePojo copyOfMine() {
+        final ProducerProfilePojo p = new ProducerProfilePojo();
+        p.setBatchSize(getBatchSize());
+        p.setLingerMs(getLingerMs());
+        p.setCompressionType(getCompressionType());
+        p.setAcks(getAcks());
+        p.setBufferMemory(getBufferMemory());
+        p.setMaxInFlightRequestsPerConnection(getMaxInFlightRequestsPerConnection());
+        p.setIdempotenceEnabled(getIdempotenceEnabled());
+        return p;
+    }
+}
@@ -26,6 +26,25 @@ public class SenderConfigPojo implements Copyable<SenderConfigPojo> {
     private String runBeforeAllMessagesScript;
     private String runBeforeEachMessageScript;
     private boolean sendingSimulationModeEnabled;
+    private boolean pipelinedSendingEnabled;
+    private String maxInFlightMessages;
+    private String scriptEvaluationTimeoutMs;
+    private String generatorThreadsCount;
+    private String messageGenerationOrder;
+    private boolean sendingRateLimitEnabled;
+    private String targetSendingRate;
+    private String sendingRateUnit;
+    private String sendingRateRampUpSec;
+    private String sendingRateBurst;
+    private boolean benchmarkModeEnabled;
+    private boolean latencyProbeEnabled;
+    private boolean importEnabled;
+    private String importFilePath;
+    private String importFormat;
+    private String importCsvKeyColumn;
+    private String importCsvValueColumn;
+    private String importDelimiter;
+    private ProducerProfilePojo producerProfile;
 
     public String getConfigName() {
         return configName;
@@ -122,6 +141,25 @@ public class SenderConfigPojo implements Copyable<SenderConfigPojo> {
         p.setRunBeforeEachMessageScript(getRunBeforeEachMessageScript());
         p.setRepeatCount(getRepeatCount());
         p.setSendingSimulationModeEnabled(getSendingSimulationModeEnabled());
+        p.setPipelinedSendingEnabled(getPipelinedSendingEnabled());
+        p.setMaxInFlightMessages(getMaxInFlightMessages());
+        p.setScriptEvaluationTimeoutMs(getScriptEvaluationTimeoutMs());
+        p.setGeneratorThreadsCount(getGeneratorThreadsCount());
+        p.setMessageGenerationOrder(getMessageGenerationOrder());
+        p.setSendingRateLimitEnabled(getSendingRateLimitEnabled());
+        p.setTargetSendingRate(getTargetSendingRate());
+        p.setSendingRateUnit(getSendingRateUnit());
+        p.setSendingRateRampUpSec(getSendingRateRampUpSec());
+        p.setSendingRateBurst(getSendingRateBurst());
+        p.setBenchmarkModeEnabled(getBenchmarkModeEnabled());
+        p.setLatencyProbeEnabled(getLatencyProbeEnabled());
+        p.setImportEnabled(getImportEnabled());
+        p.setImportFilePath(getImportFilePath());
+        p.setImportFormat(getImportFormat());
+        p.setImportCsvKeyColumn(getImportCsvKeyColumn());
+        p.setImportCsvValueColumn(getImportCsvValueColumn());
+        p.setImportDelimiter(getImportDelimiter());
+        p.setProducerProfile(getProducerProfile() == null ? null : getProducerProfile().copyOfMine());
 
         return p;
     }
@@ -135,4 +173,175 @@ public class SenderConfigPojo implements Copyable<SenderConfigPojo> {
     public void setSendingSimulationModeEnabled(boolean simulationModeEnabled) {
         sendingSimulationModeEnabled = simulationModeEnabled;
     }
+
+    @XmlElement(name = XmlElementNames.PIPELINED_SENDING_ENABLED)
+    public boolean getPipelinedSendingEnabled() {
+        return pipelinedSendingEnabled;
+    }
+
+    public void setPipelinedSendingEnabled(boolean pipelinedSendingEnabled) {
+        this.pipelinedSendingEnabled = pipelinedSendingEnabled;
+    }
+
+    @XmlElement(name = XmlElementNames.MAX_IN_FLIGHT_MESSAGES)
+    public String getMaxInFlightMessages() {
+        return maxInFlightMessages;
+    }
+
+    public void setMaxInFlightMessages(String maxInFlightMessages) {
+        this.maxInFlightMessages = maxInFlightMessages;
+    }
+
+    @XmlElement(name = XmlElementNames.SCRIPT_EVALUATION_TIMEOUT_MS)
+    public String getScriptEvaluationTimeoutMs() {
+        return scriptEvaluationTimeoutMs;
+    }
+
+    public void setScriptEvaluationTimeoutMs(String scriptEvaluationTimeoutMs) {
+        this.scriptEvaluationTimeoutMs = scriptEvaluationTimeoutMs;
+    }
+
+    @XmlElement(name = XmlElementNames.GENERATOR_THREADS_COUNT)
+    public String getGeneratorThreadsCount() {
+        return generatorThreadsCount;
+    }
+
+    public void setGeneratorThreadsCount(String generatorThreadsCount) {
+        this.generatorThreadsCount = generatorThreadsCount;
+    }
+
+    @XmlElement(name = XmlElementNames.MESSAGE_GENERATION_ORDER)
+    public String getMessageGenerationOrder() {
+        return messageGenerationOrder;
+    }
+
+    public void setMessageGenerationOrder(String messageGenerationOrder) {
+        this.messageGenerationOrder = messageGenerationOrder;
+    }
+
+    @XmlElement(name = XmlElementNames.SENDING_RATE_LIMIT_ENABLED)
+    public boolean getSendingRateLimitEnabled() {
+        return sendingRateLimitEnabled;
+    }
+
+    public void setSendingRateLimitEnabled(boolean sendingRateLimitEnabled) {
+        this.sendingRateLimitEnabled = sendingRateLimitEnabled;
+    }
+
+    @XmlElement(name = XmlElementNames.TARGET_SENDING_RATE)
+    public String getTargetSendingRate() {
+        return targetSendingRate;
+    }
+
+    public void setTargetSendingRate(String targetSendingRate) {
+        this.targetSendingRate = targetSendingRate;
+    }
+
+    @XmlElement(name = XmlElementNames.SENDING_RATE_UNIT)
+    public String getSendingRateUnit() {
+        return sendingRateUnit;
+    }
+
+    public void setSendingRateUnit(String sendingRateUnit) {
+        this.sendingRateUnit = sendingRateUnit;
+    }
+
+    @XmlElement(name = XmlElementNames.SENDING_RATE_RAMP_UP_SEC)
+    public String getSendingRateRampUpSec() {
+        return sendingRateRampUpSec;
+    }
+
+    public void setSendingRateRampUpSec(String sendingRateRampUpSec) {
+        this.sendingRateRampUpSec = sendingRateRampUpSec;
+    }
+
+    @XmlElement(name = XmlElementNames.SENDING_RATE_BURST)
+    public String getSendingRateBurst() {
+        return sendingRateBurst;
+    }
+
+    public void setSendingRateBurst(String sendingRateBurst) {
+        this.sendingRateBurst = sendingRateBurst;
+    }
+
+    @XmlElement(name = XmlElementNames.BENCHMARK_MODE_ENABLED)
+    public boolean getBenchmarkModeEnabled() {
+        return benchmarkModeEnabled;
+    }
+
+    public void setBenchmarkModeEnabled(boolean benchmarkModeEnabled) {
+        this.benchmarkModeEnabled = benchmarkModeEnabled;
+    }
+
+    @XmlElement(name = XmlElementNames.LATENCY_PROBE_ENABLED)
+    public boolean getLatencyProbeEnabled() {
+        return latencyProbeEnabled;
+    }
+
+    public void setLatencyProbeEnabled(boolean latencyProbeEnabled) {
+        this.latencyProbeEnabled = latencyProbeEnabled;
+    }
+
+    @XmlElement(name = XmlElementNames.IMPORT_ENABLED)
+    public boolean getImportEnabled() {
+        return importEnabled;
+    }
+
+    public void setImportEnabled(boolean importEnabled) {
+        this.importEnabled = importEnabled;
+    }
+
+    @XmlElement(name = XmlElementNames.IMPORT_FILE_PATH)
+    public String getImportFilePath() {
+        return importFilePath;
+    }
+
+    public void setImportFilePath(String importFilePath) {
+        this.importFilePath = importFilePath;
+    }
+
+    @XmlElement(name = XmlElementNames.IMPORT_FORMAT)
+    public String getImportFormat() {
+        return importFormat;
+    }
+
+    public void setImportFormat(String importFormat) {
+        this.importFormat = importFormat;
+    }
+
+    @XmlElement(name = XmlElementNames.IMPORT_CSV_KEY_COLUMN)
+    public String getImportCsvKeyColumn() {
+        return importCsvKeyColumn;
+    }
+
+    public void setImportCsvKeyColumn(String importCsvKeyColumn) {
+        this.importCsvKeyColumn = importCsvKeyColumn;
+    }
+
+    @XmlElement(name = XmlElementNames.IMPORT_CSV_VALUE_COLUMN)
+    public String getImportCsvValueColumn() {
+        return importCsvValueColumn;
+    }
+
+    public void setImportCsvValueColumn(String importCsvValueColumn) {
+        this.importCsvValueColumn = importCsvValueColumn;
+    }
+
+    @XmlElement(name = XmlElementNames.IMPORT_DELIMITER)
+    public String getImportDelimiter() {
+        return importDelimiter;
+    }
+
+    public void setImportDelimiter(String importDelimiter) {
+        this.importDelimiter = importDelimiter;
+    }
+
+    @XmlElement(name = XmlElementNames.PRODUCER_PROFILE)
+    public ProducerProfilePojo getProducerProfile() {
+        return producerProfile;
+    }
+
+    public void setProducerProfile(ProducerProfilePojo producerProfile) {
+        this.producerProfile = producerProfile;
+    }
 }
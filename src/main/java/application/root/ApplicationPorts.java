@@ -3,8 +3,13 @@ package application.root;
 import application.kafka.sender.KafkaMessageSender;
 import application.kafka.listener.Listeners;
 
+import java.util.function.Supplier;
+
 public interface ApplicationPorts extends Restartable {
-    KafkaMessageSender getSender();
+    /**
+     * @return factory of senders, every sender view needs its own sender (and producer)
+     */
+    Supplier<KafkaMessageSender> getSenderFactory();
     Listeners getListeners();
 
 }
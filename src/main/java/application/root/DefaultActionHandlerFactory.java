@@ -80,7 +80,7 @@ public class DefaultActionHandlerFactory implements ActionHandlerFactory {
                                                  repository,
                                                  rightContentPane,
                                                  topicConfigListView,
-                                                 applicationPorts.getSender());
+                                                 applicationPorts.getSenderFactory());
     }
 
     @Override
@@ -3,18 +3,20 @@ package application.root;
 import application.kafka.sender.KafkaMessageSender;
 import application.kafka.listener.Listeners;
 
+import java.util.function.Supplier;
+
 public class DefaultApplicationPorts implements ApplicationPorts {
-    private final KafkaMessageSender sender;
+    private final Supplier<KafkaMessageSender> senderFactory;
     private Listeners listeners;
 
-    DefaultApplicationPorts(KafkaMessageSender sender, Listeners listeners) {
-        this.sender = sender;
+    DefaultApplicationPorts(Supplier<KafkaMessageSender> senderFactory, Listeners listeners) {
+        this.senderFactory = senderFactory;
         this.listeners = listeners;
     }
 
     @Override
-    public KafkaMessageSender getSender() {
-        return sender;
+    public Supplier<KafkaMessageSender> getSenderFactory() {
+        return senderFactory;
     }
 
     @Override
@@ -26,6 +26,11 @@ public class FxTextAreaWrapper implements TextAreaWrapper {
         fxTextArea.appendText(text);
     }
 
+    @Override
+    public void removeTextFromBeginning(int length) {
+        fxTextArea.deleteText(0, Math.min(length, fxTextArea.getLength()));
+    }
+
     @Override
     public void clear() {
         fxTextArea.clear();
@@ -10,6 +10,7 @@ import application.globals.AppGlobals;
 import application.globals.Timers;
 import application.kafka.cluster.ClusterStatusChecker;
 import application.kafka.cluster.KafkaClusterProxies;
+import application.kafka.listener.ConsumerPollWatchdog;
 import application.kafka.listener.KafkaListeners;
 import application.kafka.sender.DefaultKafkaMessageSender;
 import application.logging.CyclicStringBuffer;
@@ -26,6 +27,8 @@ import application.persistence.DefaultApplicationSettings;
 import application.persistence.GlobalSettings;
 import application.persistence.GuiSettings;
 import application.persistence.XmlFileConfig;
+import application.scripting.ScriptExecutionPool;
+import application.scripting.ScriptTimeoutWatchdog;
 import application.scripting.codearea.SyntaxHighlightingCodeAreaConfigurator;
 import application.utils.ApplicationVersionProvider;
 import application.utils.GuiUtils;
@@ -36,7 +39,6 @@ import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
-import javax.swing.*;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -118,8 +120,12 @@ public class KafkaMessageToolApplication implements ApplicationRoot {
         final DataModel dataModel = new DataModel();
         final GuiSettings guiSettings = new GuiSettings();
         final GlobalSettings globalSettings = new GlobalSettings();
-        applicationPorts = restartables.register(new DefaultApplicationPorts(new DefaultKafkaMessageSender(),
-                                                                             new KafkaListeners()));
+        final ConsumerPollWatchdog pollWatchdog = new ConsumerPollWatchdog();
+        final ScriptTimeoutWatchdog scriptTimeoutWatchdog = restartables.register(new ScriptTimeoutWatchdog());
+        applicationPorts = restartables.register(new DefaultApplicationPorts(DefaultKafkaMessageSender::new,
+                                                                             new KafkaListeners(pollWatchdog,
+                                                                                                scriptTimeoutWatchdog)));
+        restartables.register(pollWatchdog);
 
         final ModelDataProxy modelDataProxy = new DefaultModelDataProxy(dataModel);
         final XmlFileConfig xmlFileConfig = new XmlFileConfig(modelDataProxy,
@@ -142,12 +148,15 @@ public class KafkaMessageToolApplication implements ApplicationRoot {
 
         executorService = Executors.newSingleThreadExecutor();
         final KafkaClusterProxies kafkaClusterProxies = new KafkaClusterProxies();
+        final ScriptExecutionPool scriptExecutionPool = restartables.register(new ScriptExecutionPool());
         final ControllerRepositoryFactory controllerRepositoryFactory =
             new DefaultControllerRepositoryFactory(new ClusterStatusChecker(busySwitcher, interactor, kafkaClusterProxies),
                                                    new SyntaxHighlightingCodeAreaConfigurator(executorService),
                                                    kafkaClusterProxies,
                                                    applicationSettings,
-                                                   restartables);
+                                                   restartables,
+                                                   scriptExecutionPool,
+                                                   scriptTimeoutWatchdog);
 
         final DefaultActionHandlerFactory actionHandlerFactory = new DefaultActionHandlerFactory(interactor,
                                                                                                  modelDataProxy,
@@ -170,8 +179,7 @@ public class KafkaMessageToolApplication implements ApplicationRoot {
     }
 
     private TextAreaWrapper getTextArea() {
-        JTextArea ta = new JTextArea();
-        return new SwingTextAreaWrapper(ta);
+        return new VirtualizedTextAreaWrapper();
     }
 
 }
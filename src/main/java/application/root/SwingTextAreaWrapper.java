@@ -45,6 +45,11 @@ public class SwingTextAreaWrapper implements TextAreaWrapper {
         textArea.append(s);
     }
 
+    @Override
+    public void removeTextFromBeginning(int length) {
+        textArea.replaceRange("", 0, Math.min(length, textArea.getDocument().getLength()));
+    }
+
     @Override
     public void clear() {
         textArea.setText("");
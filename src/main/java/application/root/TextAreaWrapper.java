@@ -7,6 +7,8 @@ public interface TextAreaWrapper {
 
     void appendText(String s);
 
+    void removeTextFromBeginning(int length);
+
     void clear();
 
     Node asNode();
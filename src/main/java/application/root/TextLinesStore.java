@@ -0,0 +1,176 @@
+package application.root;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps lines of text as UTF-8 bytes in fixed size pages, so that a huge number of lines
+ * does not mean a huge number of String objects on the heap. Lines are decoded only when requested.
+ * Last line not terminated with a new line character is kept separately until it is completed.
+ */
+public class TextLinesStore {
+
+    public static final int DEFAULT_PAGE_SIZE = 1024 * 1024;
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+    private final int pageSize;
+    private final List<byte[]> pages = new ArrayList<>();
+    private final StringBuilder unterminatedLine = new StringBuilder();
+    private int firstPageIndex = 0;
+    private int pagePosition = 0;
+    private int[] linePages = new int[INITIAL_INDEX_CAPACITY];
+    private int[] lineOffsets = new int[INITIAL_INDEX_CAPACITY];
+    private int[] lineByteLengths = new int[INITIAL_INDEX_CAPACITY];
+    private int[] lineCharLengths = new int[INITIAL_INDEX_CAPACITY];
+    private int firstLine = 0;
+    private int endLine = 0;
+
+    public TextLinesStore() {
+        this(DEFAULT_PAGE_SIZE);
+    }
+
+    public TextLinesStore(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * @return number of lines added by this call (a continued unterminated line is not counted)
+     */
+    public int append(String text) {
+        final int linesCountBefore = size();
+        int lineStart = 0;
+        int newLine;
+        while ((newLine = text.indexOf('\n', lineStart)) >= 0) {
+            unterminatedLine.append(text, lineStart, newLine);
+            storeLine(unterminatedLine.toString());
+            unterminatedLine.setLength(0);
+            lineStart = newLine + 1;
+        }
+        unterminatedLine.append(text, lineStart, text.length());
+        return size() - linesCountBefore;
+    }
+
+    /**
+     * Removes given number of characters (new line characters included) from the beginning of the text.
+     *
+     * @return number of lines that were removed entirely
+     */
+    public int removeFromBeginning(int length) {
+        int remaining = length;
+        final int linesCountBefore = size();
+        while (remaining > 0 && firstLine < endLine) {
+            final int lineLength = lineCharLengths[firstLine] + 1;
+            if (remaining < lineLength) {
+                cutBeginningOfFirstLine(remaining);
+                remaining = 0;
+                break;
+            }
+            remaining -= lineLength;
+            firstLine++;
+        }
+        if (remaining > 0) {
+            unterminatedLine.delete(0, Math.min(remaining, unterminatedLine.length()));
+        }
+        releaseUnusedPages();
+        return linesCountBefore - size();
+    }
+
+    public String getLine(int index) {
+        final int storedLinesCount = endLine - firstLine;
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+        if (index == storedLinesCount) {
+            return unterminatedLine.toString();
+        }
+        final int line = firstLine + index;
+        return new String(pages.get(linePages[line] - firstPageIndex),
+                          lineOffsets[line],
+                          lineByteLengths[line],
+                          StandardCharsets.UTF_8);
+    }
+
+    public int size() {
+        return endLine - firstLine + (unterminatedLine.length() > 0 ? 1 : 0);
+    }
+
+    public boolean hasUnterminatedLine() {
+        return unterminatedLine.length() > 0;
+    }
+
+    public void clear() {
+        pages.clear();
+        unterminatedLine.setLength(0);
+        firstPageIndex = 0;
+        pagePosition = 0;
+        firstLine = 0;
+        endLine = 0;
+    }
+
+    private void storeLine(String line) {
+        final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        if (pages.isEmpty() || pagePosition + bytes.length > pageSize) {
+            pages.add(new byte[Math.max(pageSize, bytes.length)]);
+            pagePosition = 0;
+        }
+        ensureIndexCapacity();
+        System.arraycopy(bytes, 0, pages.get(pages.size() - 1), pagePosition, bytes.length);
+        linePages[endLine] = firstPageIndex + pages.size() - 1;
+        lineOffsets[endLine] = pagePosition;
+        lineByteLengths[endLine] = bytes.length;
+        lineCharLengths[endLine] = line.length();
+        endLine++;
+        pagePosition += bytes.length;
+    }
+
+    private void cutBeginningOfFirstLine(int length) {
+        final String shortened = getLine(0).substring(length);
+        final byte[] bytes = shortened.getBytes(StandardCharsets.UTF_8);
+        // shortened line always fits in the place of the original one
+        final int offset = lineOffsets[firstLine] + lineByteLengths[firstLine] - bytes.length;
+        System.arraycopy(bytes, 0, pages.get(linePages[firstLine] - firstPageIndex), offset, bytes.length);
+        lineOffsets[firstLine] = offset;
+        lineByteLengths[firstLine] = bytes.length;
+        lineCharLengths[firstLine] = shortened.length();
+    }
+
+    private void releaseUnusedPages() {
+        if (firstLine == endLine) {
+            final boolean keepLastPage = !pages.isEmpty();
+            final byte[] lastPage = keepLastPage ? pages.get(pages.size() - 1) : null;
+            firstPageIndex += Math.max(0, pages.size() - 1);
+            pages.clear();
+            if (keepLastPage) {
+                pages.add(lastPage);
+            }
+            firstLine = 0;
+            endLine = 0;
+            return;
+        }
+        final int pagesToRelease = linePages[firstLine] - firstPageIndex;
+        if (pagesToRelease > 0) {
+            pages.subList(0, pagesToRelease).clear();
+            firstPageIndex += pagesToRelease;
+        }
+    }
+
+    private void ensureIndexCapacity() {
+        if (endLine < linePages.length) {
+            return;
+        }
+        final int linesCount = endLine - firstLine;
+        final int newCapacity = linesCount * 2 > linePages.length ? linePages.length * 2 : linePages.length;
+        linePages = moveToNewArray(linePages, linesCount, newCapacity);
+        lineOffsets = moveToNewArray(lineOffsets, linesCount, newCapacity);
+        lineByteLengths = moveToNewArray(lineByteLengths, linesCount, newCapacity);
+        lineCharLengths = moveToNewArray(lineCharLengths, linesCount, newCapacity);
+        firstLine = 0;
+        endLine = linesCount;
+    }
+
+    private int[] moveToNewArray(int[] array, int linesCount, int newCapacity) {
+        final int[] moved = new int[newCapacity];
+        System.arraycopy(array, firstLine, moved, 0, linesCount);
+        return moved;
+    }
+}
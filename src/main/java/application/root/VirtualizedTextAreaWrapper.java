@@ -0,0 +1,152 @@
+package application.root;
+
+import javafx.collections.ObservableListBase;
+import javafx.scene.Node;
+import javafx.scene.control.CheckMenuItem;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.ListView;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.SelectionMode;
+import javafx.scene.control.SeparatorMenuItem;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
+
+import java.util.Collections;
+
+/**
+ * Read only text area that renders only the visible lines. Lines are kept in {@link TextLinesStore}
+ * and decoded only when a cell for them is displayed, so it stays responsive with millions of lines.
+ * All methods are expected to be called from the FX application thread.
+ */
+public class VirtualizedTextAreaWrapper implements TextAreaWrapper {
+
+    private static final double CELL_HEIGHT = 18.0;
+    private static final String STYLE = "-fx-font-family: monospace; -fx-font-size: 12px;";
+    private final TextLinesStore linesStore;
+    private final TextLines lines = new TextLines();
+    private final ListView<String> listView = new ListView<>(lines);
+    private final MenuItem copyMenuItem = new MenuItem("Copy");
+    private final CheckMenuItem followOutputMenuItem = new CheckMenuItem("Follow output");
+    private final MenuItem saveToFileMenuItem = new MenuItem("Save to file");
+
+    public VirtualizedTextAreaWrapper() {
+        this(new TextLinesStore());
+    }
+
+    public VirtualizedTextAreaWrapper(TextLinesStore linesStore) {
+        this.linesStore = linesStore;
+        listView.setFixedCellSize(CELL_HEIGHT);
+        listView.setStyle(STYLE);
+        listView.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        configureContextMenu();
+    }
+
+    @Override
+    public void setText(String text) {
+        final int sizeBefore = linesStore.size();
+        linesStore.clear();
+        linesStore.append(text);
+        lines.fireReplaced(sizeBefore);
+        scrollToEndIfFollowingOutput();
+    }
+
+    @Override
+    public void appendText(String text) {
+        final int sizeBefore = linesStore.size();
+        final boolean lastLineChanges = linesStore.hasUnterminatedLine();
+        final int addedLinesCount = linesStore.append(text);
+        lines.fireAdded(sizeBefore, addedLinesCount);
+        if (lastLineChanges) {
+            listView.refresh();
+        }
+        scrollToEndIfFollowingOutput();
+    }
+
+    @Override
+    public void removeTextFromBeginning(int length) {
+        final int removedLinesCount = linesStore.removeFromBeginning(length);
+        lines.fireRemovedFromBeginning(removedLinesCount);
+        // first remaining line could have been shortened
+        listView.refresh();
+    }
+
+    @Override
+    public void clear() {
+        final int sizeBefore = linesStore.size();
+        linesStore.clear();
+        lines.fireReplaced(sizeBefore);
+    }
+
+    @Override
+    public Node asNode() {
+        return listView;
+    }
+
+    @Override
+    public void setPopupSaveToAction(Executable saveContentToFile) {
+        saveToFileMenuItem.setOnAction(event -> saveContentToFile.execute());
+    }
+
+    private void configureContextMenu() {
+        followOutputMenuItem.setSelected(true);
+        copyMenuItem.setOnAction(event -> copySelectedLinesToClipboard());
+        listView.setContextMenu(new ContextMenu(copyMenuItem,
+                                                followOutputMenuItem,
+                                                new SeparatorMenuItem(),
+                                                saveToFileMenuItem));
+    }
+
+    private void copySelectedLinesToClipboard() {
+        final ClipboardContent content = new ClipboardContent();
+        content.putString(String.join(System.lineSeparator(), listView.getSelectionModel().getSelectedItems()));
+        Clipboard.getSystemClipboard().setContent(content);
+    }
+
+    private void scrollToEndIfFollowingOutput() {
+        if (followOutputMenuItem.isSelected() && !lines.isEmpty()) {
+            listView.scrollTo(lines.size() - 1);
+        }
+    }
+
+    private class TextLines extends ObservableListBase<String> {
+
+        @Override
+        public String get(int index) {
+            return linesStore.getLine(index);
+        }
+
+        @Override
+        public int size() {
+            return linesStore.size();
+        }
+
+        void fireAdded(int from, int count) {
+            if (count == 0) {
+                return;
+            }
+            beginChange();
+            nextAdd(from, from + count);
+            endChange();
+        }
+
+        void fireRemovedFromBeginning(int count) {
+            if (count == 0) {
+                return;
+            }
+            beginChange();
+            nextRemove(0, Collections.nCopies(count, ""));
+            endChange();
+        }
+
+        void fireReplaced(int sizeBefore) {
+            beginChange();
+            if (sizeBefore > 0) {
+                nextRemove(0, Collections.nCopies(sizeBefore, ""));
+            }
+            if (size() > 0) {
+                nextAdd(0, size());
+            }
+            endChange();
+        }
+    }
+}
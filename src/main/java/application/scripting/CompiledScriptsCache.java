@@ -0,0 +1,129 @@
+package application.scripting;
+
+import groovy.lang.Binding;
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyCodeSource;
+import groovy.lang.Script;
+import org.codehaus.groovy.runtime.InvokerHelper;
+import org.codehaus.groovy.runtime.MethodClosure;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps groovy scripts compiled, keyed by script text, so the same script (e.g. message template
+ * evaluated for every sent message) is parsed and compiled only once.
+ * Least recently used scripts are evicted when the cache is full. Every script is compiled by its own
+ * class loader, so class of an evicted script is unloaded once no instance of the script is in use.
+ */
+public class CompiledScriptsCache {
+
+    public static final int DEFAULT_MAX_SIZE = 128;
+    private static final String SCRIPT_CODE_BASE = "/groovy/script";
+    private final Map<String, CompiledScript> compiledScripts;
+    private int compiledScriptsCount = 0;
+
+    public CompiledScriptsCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public CompiledScriptsCache(int maxSize) {
+        compiledScripts = new LinkedHashMap<String, CompiledScript>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledScript> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                eldest.getValue().release();
+                return true;
+            }
+        };
+    }
+
+    public synchronized CompiledScript get(String scriptText) {
+        CompiledScript compiledScript = compiledScripts.get(scriptText);
+        if (compiledScript == null) {
+            compiledScript = compile(scriptText);
+            compiledScripts.put(scriptText, compiledScript);
+        }
+        return compiledScript;
+    }
+
+    public synchronized int size() {
+        return compiledScripts.size();
+    }
+
+    public synchronized void clear() {
+        compiledScripts.values().forEach(CompiledScript::release);
+        compiledScripts.clear();
+    }
+
+    private CompiledScript compile(String scriptText) {
+        compiledScriptsCount++;
+        final GroovyCodeSource codeSource = new GroovyCodeSource(scriptText,
+                                                                 "KmtScript" + compiledScriptsCount + ".groovy",
+                                                                 SCRIPT_CODE_BASE);
+        // class loader keeps every class it parsed, so a shared loader would keep evicted scripts forever
+        final GroovyClassLoader classLoader = new GroovyClassLoader(CompiledScriptsCache.class.getClassLoader());
+        @SuppressWarnings("unchecked")
+        final Class<? extends Script> scriptClass = classLoader.parseClass(codeSource, false);
+        return new CompiledScript(scriptClass);
+    }
+
+    public static final class CompiledScript {
+        private final Class<? extends Script> scriptClass;
+        private final List<String> declaredMethodNames;
+
+        private CompiledScript(Class<? extends Script> scriptClass) {
+            this.scriptClass = scriptClass;
+            this.declaredMethodNames = getDeclaredMethodNames(scriptClass);
+        }
+
+        /**
+         * Runs new instance of the script against given binding. Methods declared in the script
+         * are put into the binding as closures, so scripts run later against the same binding
+         * can call them (like it works for scripts evaluated by groovy script engine).
+         */
+        public Object run(Binding binding) {
+            return createScript(binding).run();
+        }
+
+        /**
+         * Creates new instance of the script bound to given binding, so it can be run many times
+         * (e.g. for every received record) after binding variables are updated.
+         */
+        public Script createScript(Binding binding) {
+            final Script script = InvokerHelper.createScript(scriptClass, binding);
+            for (String methodName : declaredMethodNames) {
+                binding.setVariable(methodName, new MethodClosure(script, methodName));
+            }
+            return script;
+        }
+
+        // groovy keeps meta class of every used class in a global registry
+        private void release() {
+            InvokerHelper.removeClass(scriptClass);
+        }
+
+        private static List<String> getDeclaredMethodNames(Class<? extends Script> scriptClass) {
+            final List<String> names = new ArrayList<>();
+            for (Method method : scriptClass.getDeclaredMethods()) {
+                final String name = method.getName();
+                if (method.isSynthetic()
+                    || Modifier.isStatic(method.getModifiers())
+                    || name.equals("run")
+                    || name.contains("$")
+                    || names.contains(name)) {
+                    continue;
+                }
+                names.add(name);
+            }
+            return Collections.unmodifiableList(names);
+        }
+    }
+}
@@ -1,51 +1,90 @@
 package application.scripting;
 
+import application.constants.ApplicationConstants;
 import application.exceptions.ExecutionStopRequested;
 import application.exceptions.KafkaToolError;
 import application.logging.Logger;
+import groovy.lang.Binding;
 
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
-import javax.script.SimpleScriptContext;
-import java.util.concurrent.FutureTask;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
-public class GroovyScriptEvaluator {
+/**
+ * Evaluates groovy scripts with a timeout, either on script execution pool or directly on the calling thread.
+ * Evaluator running scripts on the calling thread (e.g. message generator worker) must be used by a single thread,
+ * it is interrupted by timeout watchdog if a script overruns and must be closed when it is not used anymore.
+ */
+public class GroovyScriptEvaluator implements AutoCloseable {
 
-    private static final String ENGINE_NAME = "groovy";
-    private static final int EVALUATE_GROOVY_SCRIPT_TIMEOUT_SEC = 5;
-    private final ScriptEngine engine;
-    private SimpleScriptContext ctx;
+    private final ScriptExecutionPool executionPool;
+    private final ScriptTimeoutWatchdog timeoutWatchdog;
+    private final CompiledScriptsCache compiledScripts;
+    private volatile Binding binding;
+    private volatile long evaluationTimeoutMs = Long.parseLong(ApplicationConstants.DEFAULT_SCRIPT_EVALUATION_TIMEOUT_MS);
+    private ScriptTimeoutWatchdog.Watch watch;
 
-    public GroovyScriptEvaluator() {
-        engine = new ScriptEngineManager().getEngineByName(ENGINE_NAME);
+    public GroovyScriptEvaluator(ScriptExecutionPool executionPool) {
+        this(executionPool, new CompiledScriptsCache());
+    }
+
+    public GroovyScriptEvaluator(ScriptExecutionPool executionPool, CompiledScriptsCache compiledScripts) {
+        this(executionPool, null, compiledScripts);
+    }
+
+    public GroovyScriptEvaluator(ScriptTimeoutWatchdog timeoutWatchdog, CompiledScriptsCache compiledScripts) {
+        this(null, timeoutWatchdog, compiledScripts);
+    }
+
+    private GroovyScriptEvaluator(ScriptExecutionPool executionPool,
+                                  ScriptTimeoutWatchdog timeoutWatchdog,
+                                  CompiledScriptsCache compiledScripts) {
+        this.executionPool = executionPool;
+        this.timeoutWatchdog = timeoutWatchdog;
+        this.compiledScripts = compiledScripts;
         resetScriptContext();
     }
+
+    public void setEvaluationTimeoutMs(long timeoutMs) {
+        evaluationTimeoutMs = timeoutMs;
+    }
+
     public void resetScriptContext(){
-        ctx = new SimpleScriptContext();
-        engine.setContext(ctx);
+        binding = new Binding();
     }
 
     public Object getBinding(String valueName) {
-        return engine.get(valueName);
+        return binding.hasVariable(valueName) ? binding.getVariable(valueName) : null;
+    }
+
+    public void setVariable(String valueName, Object value) {
+        binding.setVariable(valueName, value);
     }
 
     public void runScript(String script) throws Exception {
         Logger.trace(String.format("evaluation script: %s", script));
-        final FutureTask<Object> evaluateScriptTask = new FutureTask<>(() -> engine.eval(script, ctx));
-        // todo : consider thread pool, but remember that thead pool must be shutdown before application exit
-        new Thread(evaluateScriptTask, "KMT-Thread-EvaluateGroovyScriptTask").start();
+        final Binding scriptBinding = binding;
+        final long timeoutMs = evaluationTimeoutMs;
+        if (timeoutWatchdog != null) {
+            runScriptInCurrentThread(script, scriptBinding, timeoutMs);
+            return;
+        }
+        final Future<Object> evaluateScriptTask = submit(() -> compiledScripts.get(script).run(scriptBinding));
 
         try {
-            final Object result = evaluateScriptTask.get(EVALUATE_GROOVY_SCRIPT_TIMEOUT_SEC, TimeUnit.SECONDS);
+            final Object result = evaluateScriptTask.get(timeoutMs, TimeUnit.MILLISECONDS);
             Logger.trace(String.format("Evaluation result: %s", result));
         } catch (TimeoutException e) {
-            throw new KafkaToolError(String.format("EvaluationTimeout. Could not evaluate groovy script within %d seconds.",
-                                                   EVALUATE_GROOVY_SCRIPT_TIMEOUT_SEC));
+            // interrupt the script, pool thread is replaced if the script does not respect interruption
+            executionPool.cancel(evaluateScriptTask);
+            throw new KafkaToolError(String.format("EvaluationTimeout. Could not evaluate groovy script within %d ms.",
+                                                   timeoutMs));
 
         } catch (InterruptedException e) {
             // this exception can happen if user clicks "stop" button
+            executionPool.cancel(evaluateScriptTask);
             Logger.trace(String.format("Evaluation of script '%s' stopped. InterruptedException", script));
             throw new ExecutionStopRequested(e);
 
@@ -53,4 +92,53 @@ public class GroovyScriptEvaluator {
             throw new KafkaToolError(String.format("Could not evaluate groovy script '%s'", script), e);
         }
     }
+
+    @Override
+    public void close() {
+        if (watch != null) {
+            watch.close();
+            watch = null;
+        }
+    }
+
+    private void runScriptInCurrentThread(String script, Binding scriptBinding, long timeoutMs) throws Exception {
+        final CompiledScriptsCache.CompiledScript compiledScript;
+        try {
+            compiledScript = compiledScripts.get(script);
+        } catch (Exception e) {
+            throw new KafkaToolError(String.format("Could not evaluate groovy script '%s'", script), e);
+        }
+        if (watch == null) {
+            watch = timeoutWatchdog.watchCurrentThread();
+        }
+        Object result = null;
+        Exception failure = null;
+        watch.evaluationStarted(timeoutMs);
+        try {
+            result = compiledScript.run(scriptBinding);
+        } catch (Exception e) {
+            failure = e;
+        }
+        if (watch.evaluationFinished()) {
+            throw new KafkaToolError(String.format("EvaluationTimeout. Could not evaluate groovy script within %d ms.",
+                                                   timeoutMs));
+        }
+        if (failure instanceof InterruptedException || Thread.currentThread().isInterrupted()) {
+            // evaluating thread was interrupted by user clicking "stop" button
+            Logger.trace(String.format("Evaluation of script '%s' stopped. InterruptedException", script));
+            throw new ExecutionStopRequested(failure != null ? failure : new InterruptedException());
+        }
+        if (failure != null) {
+            throw new KafkaToolError(String.format("Could not evaluate groovy script '%s'", script), failure);
+        }
+        Logger.trace(String.format("Evaluation result: %s", result));
+    }
+
+    private Future<Object> submit(Callable<Object> task) throws KafkaToolError {
+        try {
+            return executionPool.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new KafkaToolError("Could not evaluate groovy script, script execution pool is stopped or overloaded", e);
+        }
+    }
 }
@@ -3,30 +3,63 @@ package application.scripting;
 import application.constants.GroovyStringEscaper;
 import application.customfxwidgets.senderconfig.StatusBarNotifier;
 import application.exceptions.ExecutionStopRequested;
+import application.exceptions.KafkaToolError;
+import application.kafka.benchmark.LatencyProbeRun;
+import application.kafka.benchmark.ProducerBenchmark;
+import application.kafka.benchmark.ProducerBenchmarkResult;
+import application.kafka.sender.InFlightMessagesWindow;
 import application.kafka.sender.KafkaMessageSender;
+import application.kafka.sender.SentMessagesRecorder;
+import application.kafka.sender.TokenBucketRateLimiter;
 import application.logging.Logger;
 import application.model.MessageOnTopicDto;
+import application.model.SendingRateUnit;
 import application.model.modelobjects.KafkaSenderConfig;
 import application.utils.ThrowableUtils;
+import org.apache.kafka.common.errors.InterruptException;
+
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class MessageTemplateSender {
 
     private static final String MSG_CONTENT_VARIABLE_NAME = "msgContent";
+    private static final String MSG_NUM_VARIABLE_NAME = "msgNum";
+    private static final long THROUGHPUT_REFRESH_INTERVAL_MS = 1000;
+    private static final long MS_IN_SECOND = 1000;
     private final GroovyScriptEvaluator scriptEvaluator;
+    private final Supplier<GroovyScriptEvaluator> workerScriptEvaluatorFactory;
     private final KafkaMessageSender kafkaSender;
 
     public MessageTemplateSender(KafkaMessageSender kafkaSender,
-                                 GroovyScriptEvaluator scriptEvaluator) {
+                                 GroovyScriptEvaluator scriptEvaluator,
+                                 Supplier<GroovyScriptEvaluator> workerScriptEvaluatorFactory) {
         this.kafkaSender = kafkaSender;
         this.scriptEvaluator = scriptEvaluator;
+        this.workerScriptEvaluatorFactory = workerScriptEvaluatorFactory;
     }
 
     public void send(KafkaSenderConfig config,
                      StatusBarNotifier sentMessagesNotifier,
                      String sharedScriptContent,
                      boolean isSimulationModeEnabled) {
+        send(config, sentMessagesNotifier, sharedScriptContent, isSimulationModeEnabled, result -> {
+        });
+    }
+
+    /**
+     * @param benchmarkResultConsumer receives results of the run if benchmark mode is enabled in config,
+     *                                also when sending was stopped or failed
+     */
+    public void send(KafkaSenderConfig config,
+                     StatusBarNotifier sentMessagesNotifier,
+                     String sharedScriptContent,
+                     boolean isSimulationModeEnabled,
+                     Consumer<ProducerBenchmarkResult> benchmarkResultConsumer) {
+        final ProducerBenchmark benchmark = config.getBenchmarkModeEnabled() ? new ProducerBenchmark(config.getName()) : null;
         try {
-            trySend(config, sentMessagesNotifier, sharedScriptContent, isSimulationModeEnabled);
+            trySend(config, sentMessagesNotifier, sharedScriptContent, isSimulationModeEnabled, benchmark);
         } catch (ExecutionStopRequested e) {
             Logger.warn("Sending stopped by user.");
         } catch (Exception e) {
@@ -34,22 +67,40 @@ public class MessageTemplateSender {
             Logger.error(ThrowableUtils.getMessageWithRootCause(e));
         } finally {
             sentMessagesNotifier.clearMsgSentProgress();
+            if (benchmark != null) {
+                reportBenchmarkResult(benchmark.finish(), benchmarkResultConsumer);
+            }
         }
 
     }
 
     public String evaluateMessageContent(String msgContentTemplate) throws Exception {
+        return evaluateMessageContent(scriptEvaluator, msgContentTemplate);
+    }
+
+    static String evaluateMessageContent(GroovyScriptEvaluator evaluator,
+                                         KafkaSenderConfig config,
+                                         int msgNum) throws Exception {
+        evaluator.setVariable(MSG_NUM_VARIABLE_NAME, msgNum);
+        evaluator.runScript(config.getRunBeforeEachMessageScript());
+        return evaluateMessageContent(evaluator, config.getMsgContentTemplate());
+    }
+
+    private static String evaluateMessageContent(GroovyScriptEvaluator evaluator,
+                                                 String msgContentTemplate) throws Exception {
         final String msgContentToResolve = GroovyStringEscaper.escape(MSG_CONTENT_VARIABLE_NAME, msgContentTemplate);
-        scriptEvaluator.runScript(msgContentToResolve);
-        return returnEvaluatedMsgContent(MSG_CONTENT_VARIABLE_NAME);
+        evaluator.runScript(msgContentToResolve);
+        return String.format("%s", evaluator.getBinding(MSG_CONTENT_VARIABLE_NAME));
     }
 
     private void trySend(KafkaSenderConfig config,
                          StatusBarNotifier sentMessagesNotifier,
                          String sharedScriptContent,
-                         boolean isSimulationModeEnabled) throws Exception {
+                         boolean isSimulationModeEnabled,
+                         ProducerBenchmark benchmark) throws Exception {
 
         final Integer totalMessageCount = config.getRepeatCount();
+        final int generatorThreadsCount = Integer.parseInt(config.getGeneratorThreadsCount());
 
         Logger.info(String.format("Sending message [topic '%s', key '%s'], content template '%s', repeat count: %d",
                                   config.getRelatedConfig().getTopicName(),
@@ -58,25 +109,213 @@ public class MessageTemplateSender {
                                   totalMessageCount
         ));
 
-        resetScriptEngine();
-        runScript(sharedScriptContent);
-        runScript(config.getRunBeforeAllMessagesScript());
-        kafkaSender.initiateFreshConnection(config.getRelatedConfig().getRelatedConfig().getHostInfo(),
-                                            isSimulationModeEnabled);
+        sentMessagesNotifier.clearStagesThroughput();
+        sentMessagesNotifier.clearSendingRate();
+        final LatencyProbeRun latencyProbeRun = createLatencyProbeRun(config, isSimulationModeEnabled);
+        final InFlightMessagesWindow window;
+        if (generatorThreadsCount > 1) {
+            Logger.info(String.format("Generating messages on %d threads (%s)",
+                                      generatorThreadsCount,
+                                      config.getMessageGenerationOrder().name().toLowerCase()));
+            initiateFreshConnection(config, isSimulationModeEnabled);
+            window = createInFlightMessagesWindow(config, benchmark);
+            sendMessagesGeneratedInParallel(config,
+                                            sentMessagesNotifier,
+                                            sharedScriptContent,
+                                            isSimulationModeEnabled,
+                                            window,
+                                            createSendingPace(config, sentMessagesNotifier),
+                                            benchmark,
+                                            latencyProbeRun,
+                                            generatorThreadsCount);
+        } else {
+            resetScriptEngine();
+            scriptEvaluator.setEvaluationTimeoutMs(Long.parseLong(config.getScriptEvaluationTimeoutMs()));
+            runScript(sharedScriptContent);
+            runScript(config.getRunBeforeAllMessagesScript());
+            initiateFreshConnection(config, isSimulationModeEnabled);
+            window = createInFlightMessagesWindow(config, benchmark);
+            sendMessagesGeneratedSequentially(config,
+                                              sentMessagesNotifier,
+                                              isSimulationModeEnabled,
+                                              window,
+                                              createSendingPace(config, sentMessagesNotifier),
+                                              benchmark,
+                                              latencyProbeRun);
+        }
+        flushSentMessages(window);
+        throwIfAnyMessageFailed(window);
+    }
+
+    private void sendMessagesGeneratedSequentially(KafkaSenderConfig config,
+                                                   StatusBarNotifier sentMessagesNotifier,
+                                                   boolean isSimulationModeEnabled,
+                                                   InFlightMessagesWindow window,
+                                                   SendingPace pace,
+                                                   SentMessagesRecorder recorder,
+                                                   LatencyProbeRun latencyProbeRun) throws Exception {
+        final Integer totalMessageCount = config.getRepeatCount();
         for (int i = 0; i < totalMessageCount; i++) {
             if (Thread.currentThread().isInterrupted()) {
-                return;
+                logMessagesLeftInFlight(window);
+                throw new ExecutionStopRequested(new InterruptedException());
             }
             sentMessagesNotifier.setMsgSentProgress(i + 1, totalMessageCount);
-            runScript(config.getRunBeforeEachMessageScript());
-            final String evaluatedMessage = evaluateMessageContent(config.getMsgContentTemplate());
+            final String evaluatedMessage = evaluateMessageContent(scriptEvaluator, config, i + 1);
+
+            final MessageOnTopicDto message = MessageOnTopicDto.from(config,
+                                                                     evaluatedMessage,
+                                                                     isSimulationModeEnabled,
+                                                                     i + 1,
+                                                                     totalMessageCount,
+                                                                     latencyProbeRun);
+            sendMessage(message, window, pace, recorder);
+        }
+    }
+
+    private void sendMessagesGeneratedInParallel(KafkaSenderConfig config,
+                                                 StatusBarNotifier sentMessagesNotifier,
+                                                 String sharedScriptContent,
+                                                 boolean isSimulationModeEnabled,
+                                                 InFlightMessagesWindow window,
+                                                 SendingPace pace,
+                                                 SentMessagesRecorder recorder,
+                                                 LatencyProbeRun latencyProbeRun,
+                                                 int generatorThreadsCount) throws Exception {
+        final Integer totalMessageCount = config.getRepeatCount();
+        final ParallelMessageGenerator generator = new ParallelMessageGenerator(workerScriptEvaluatorFactory,
+                                                                                generatorThreadsCount,
+                                                                                config.getMessageGenerationOrder());
+        final StagesThroughputReporter throughputReporter = new StagesThroughputReporter(sentMessagesNotifier,
+                                                                                         generator);
+        generator.start(config, sharedScriptContent, isSimulationModeEnabled, latencyProbeRun);
+        try {
+            for (int i = 0; i < totalMessageCount; i++) {
+                final MessageOnTopicDto message = takeGeneratedMessage(generator, window);
+                sentMessagesNotifier.setMsgSentProgress(i + 1, totalMessageCount);
+                sendMessage(message, window, pace, recorder);
+                throughputReporter.messageSent();
+            }
+        } finally {
+            generator.stop();
+            throughputReporter.report();
+        }
+    }
+
+    private static MessageOnTopicDto takeGeneratedMessage(ParallelMessageGenerator generator,
+                                                          InFlightMessagesWindow window) throws Exception {
+        try {
+            return generator.take();
+        } catch (InterruptedException e) {
+            logMessagesLeftInFlight(window);
+            throw new ExecutionStopRequested(e);
+        }
+    }
+
+    private void sendMessage(MessageOnTopicDto message,
+                             InFlightMessagesWindow window,
+                             SendingPace pace,
+                             SentMessagesRecorder recorder) throws Exception {
+        if (pace != null) {
+            pace.waitForTurn(message, window);
+        }
+        final long sendStartNanos = System.nanoTime();
+        if (window == null) {
+            kafkaSender.sendMessages(message);
+        } else {
+            sendAsync(message, window);
+        }
+        // pipelined messages are recorded by the window when acknowledged, simulated ones are never acknowledged
+        if (recorder != null && (window == null || message.shouldSimulateSending())) {
+            recorder.recordSent(System.nanoTime() - sendStartNanos, message.getSizeInBytes());
+        }
+    }
+
+    private void initiateFreshConnection(KafkaSenderConfig config, boolean isSimulationModeEnabled) {
+        kafkaSender.initiateFreshConnection(config.getRelatedConfig().getRelatedConfig().getHostInfo(),
+                                            config.getProducerProfile(),
+                                            isSimulationModeEnabled);
+    }
+
+    private void flushSentMessages(InFlightMessagesWindow window) throws ExecutionStopRequested {
+        try {
+            kafkaSender.flush();
+        } catch (InterruptException e) {
+            logMessagesLeftInFlight(window);
+            throw new ExecutionStopRequested(e);
+        }
+    }
+
+    private static SendingPace createSendingPace(KafkaSenderConfig config, StatusBarNotifier notifier) {
+        if (!config.getSendingRateLimitEnabled()) {
+            return null;
+        }
+        final SendingRateUnit unit = config.getSendingRateUnit();
+        final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(
+            Double.parseDouble(config.getTargetSendingRate()) * unit.permitsPerUnit(),
+            Double.parseDouble(config.getSendingRateBurst()) * unit.permitsPerUnit(),
+            Long.parseLong(config.getSendingRateRampUpSec()) * MS_IN_SECOND);
+        Logger.info(String.format("Sending rate limited to %s %s", config.getTargetSendingRate(), unit));
+        return new SendingPace(rateLimiter, unit, notifier);
+    }
+
+    private static LatencyProbeRun createLatencyProbeRun(KafkaSenderConfig config, boolean isSimulationModeEnabled) {
+        if (!config.getLatencyProbeEnabled() || isSimulationModeEnabled) {
+            return null;
+        }
+        Logger.info("Messages will be stamped with latency probe headers");
+        return new LatencyProbeRun(config.getName());
+    }
+
+    private InFlightMessagesWindow createInFlightMessagesWindow(KafkaSenderConfig config,
+                                                                SentMessagesRecorder recorder) {
+        if (!config.getPipelinedSendingEnabled()) {
+            return null;
+        }
+        return new InFlightMessagesWindow(Integer.parseInt(config.getMaxInFlightMessages()), recorder);
+    }
+
+    private static void reportBenchmarkResult(ProducerBenchmarkResult result,
+                                              Consumer<ProducerBenchmarkResult> benchmarkResultConsumer) {
+        Logger.info(String.format(Locale.ENGLISH,
+                                  "Benchmark of '%s': %d sent, %d failed in %d ms, %.1f msgs/s, %.3f MB/s, " +
+                                      "latency ms p50 %.3f, p99 %.3f, p99.9 %.3f, max %.3f",
+                                  result.getSenderName(),
+                                  result.getSentCount(),
+                                  result.getFailedCount(),
+                                  result.getDurationMs(),
+                                  result.getMessagesPerSec(),
+                                  result.getMegabytesPerSec(),
+                                  result.getLatencyP50Ms(),
+                                  result.getLatencyP99Ms(),
+                                  result.getLatencyP999Ms(),
+                                  result.getLatencyMaxMs()));
+        benchmarkResultConsumer.accept(result);
+    }
 
-            kafkaSender.sendMessages(MessageOnTopicDto.from(config,
-                                                            evaluatedMessage,
-                                                            isSimulationModeEnabled,
-                                                            i + 1,
-                                                            totalMessageCount));
+    private void sendAsync(MessageOnTopicDto message, InFlightMessagesWindow window) throws Exception {
+        throwIfAnyMessageFailed(window);
+        try {
+            kafkaSender.sendMessagesAsync(message, window);
+        } catch (InterruptedException | InterruptException e) {
+            logMessagesLeftInFlight(window);
+            throw new ExecutionStopRequested(e);
+        }
+    }
 
+    private static void throwIfAnyMessageFailed(InFlightMessagesWindow window) throws KafkaToolError {
+        if (window != null && window.hasFailures()) {
+            throw new KafkaToolError(String.format("Sending failed for %d message(s), %d acknowledged",
+                                                   window.getFailedCount(),
+                                                   window.getAcknowledgedCount()),
+                                     window.getFirstFailure());
+        }
+    }
+
+    private static void logMessagesLeftInFlight(InFlightMessagesWindow window) {
+        if (window != null && window.getInFlightCount() > 0) {
+            Logger.warn(String.format("%d message(s) already handed to producer may still be delivered",
+                                      window.getInFlightCount()));
         }
     }
 
@@ -88,9 +327,77 @@ public class MessageTemplateSender {
         scriptEvaluator.runScript(script);
     }
 
+    private static final class SendingPace {
+        private final TokenBucketRateLimiter rateLimiter;
+        private final SendingRateUnit unit;
+        private final StatusBarNotifier notifier;
+        private long lastReportTimeMs = System.currentTimeMillis();
+        private long permitsSinceLastReport = 0;
+
+        SendingPace(TokenBucketRateLimiter rateLimiter, SendingRateUnit unit, StatusBarNotifier notifier) {
+            this.rateLimiter = rateLimiter;
+            this.unit = unit;
+            this.notifier = notifier;
+        }
+
+        void waitForTurn(MessageOnTopicDto message, InFlightMessagesWindow window) throws ExecutionStopRequested {
+            final long permits = permitsFor(message);
+            try {
+                rateLimiter.acquire(permits);
+            } catch (InterruptedException e) {
+                logMessagesLeftInFlight(window);
+                throw new ExecutionStopRequested(e);
+            }
+            permitsSinceLastReport += permits;
+            final long now = System.currentTimeMillis();
+            if (now - lastReportTimeMs >= THROUGHPUT_REFRESH_INTERVAL_MS) {
+                final double elapsedSec = (now - lastReportTimeMs) / 1000.0;
+                notifier.setSendingRate(permitsSinceLastReport / elapsedSec / unit.permitsPerUnit(),
+                                        rateLimiter.getCurrentRate() / unit.permitsPerUnit(),
+                                        unit);
+                lastReportTimeMs = now;
+                permitsSinceLastReport = 0;
+            }
+        }
 
-    private String returnEvaluatedMsgContent(String var) {
-        final Object evaluatedMsg = scriptEvaluator.getBinding(var);
-        return String.format("%s", evaluatedMsg);
+        private long permitsFor(MessageOnTopicDto message) {
+            if (unit == SendingRateUnit.MESSAGES_PER_SECOND) {
+                return 1;
+            }
+            return message.getSizeInBytes();
+        }
+    }
+
+    private static final class StagesThroughputReporter {
+        private final StatusBarNotifier notifier;
+        private final ParallelMessageGenerator generator;
+        private long lastReportTimeMs = System.currentTimeMillis();
+        private long lastGeneratedCount = 0;
+        private long sentCount = 0;
+        private long lastSentCount = 0;
+
+        StagesThroughputReporter(StatusBarNotifier notifier, ParallelMessageGenerator generator) {
+            this.notifier = notifier;
+            this.generator = generator;
+        }
+
+        void messageSent() {
+            sentCount++;
+            if (System.currentTimeMillis() - lastReportTimeMs >= THROUGHPUT_REFRESH_INTERVAL_MS) {
+                report();
+            }
+        }
+
+        void report() {
+            final long now = System.currentTimeMillis();
+            final double elapsedSec = Math.max(1, now - lastReportTimeMs) / 1000.0;
+            final long generatedCount = generator.getGeneratedCount();
+            notifier.setStagesThroughput((generatedCount - lastGeneratedCount) / elapsedSec,
+                                         (sentCount - lastSentCount) / elapsedSec,
+                                         generator.getQueuedCount());
+            lastReportTimeMs = now;
+            lastGeneratedCount = generatedCount;
+            lastSentCount = sentCount;
+        }
     }
 }
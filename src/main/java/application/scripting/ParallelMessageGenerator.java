@@ -0,0 +1,176 @@
+package application.scripting;
+
+import application.exceptions.ExecutionStopRequested;
+import application.kafka.benchmark.LatencyProbeRun;
+import application.model.MessageGenerationOrder;
+import application.model.MessageOnTopicDto;
+import application.model.modelobjects.KafkaSenderConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Evaluates messages of a sender on several worker threads, each worker having its own script context
+ * (shared and 'before all' scripts are run by every worker). Evaluated messages are put into bounded queues
+ * drained by a single sending thread with {@link #take()}. Workers are dedicated threads, so evaluators
+ * they get from the factory should evaluate scripts on the calling thread, not hand them over to a pool.
+ * <p>
+ * In {@link MessageGenerationOrder#ORDERED} mode worker w evaluates messages w+1, w+1+N, w+1+2N... into its own queue
+ * and queues are drained round robin, so messages are sent in order of their numbers.
+ * In {@link MessageGenerationOrder#UNORDERED} mode workers take next message number from a shared counter
+ * and messages are sent as soon as any worker evaluates them.
+ */
+public class ParallelMessageGenerator {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 4096;
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final String THREAD_NAME_PREFIX = "KMT-Thread-MessageGenerator-";
+    private final Supplier<GroovyScriptEvaluator> evaluatorFactory;
+    private final int workersCount;
+    private final MessageGenerationOrder order;
+    private final List<BlockingQueue<MessageOnTopicDto>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicInteger nextMessageNumber = new AtomicInteger(1);
+    private final AtomicLong generatedCount = new AtomicLong(0);
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+    private int takenCount = 0;
+
+    public ParallelMessageGenerator(Supplier<GroovyScriptEvaluator> evaluatorFactory,
+                                    int workersCount,
+                                    MessageGenerationOrder order) {
+        this(evaluatorFactory, workersCount, order, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public ParallelMessageGenerator(Supplier<GroovyScriptEvaluator> evaluatorFactory,
+                                    int workersCount,
+                                    MessageGenerationOrder order,
+                                    int queueCapacity) {
+        this.evaluatorFactory = evaluatorFactory;
+        this.workersCount = workersCount;
+        this.order = order;
+        final int queuesCount = order == MessageGenerationOrder.ORDERED ? workersCount : 1;
+        for (int i = 0; i < queuesCount; i++) {
+            queues.add(new ArrayBlockingQueue<>(Math.max(1, queueCapacity / queuesCount)));
+        }
+    }
+
+    public void start(KafkaSenderConfig config,
+                      String sharedScriptContent,
+                      boolean isSimulationModeEnabled) {
+        start(config, sharedScriptContent, isSimulationModeEnabled, null);
+    }
+
+    /**
+     * @param latencyProbeRun null if generated messages should not be stamped with latency probe headers
+     */
+    public void start(KafkaSenderConfig config,
+                      String sharedScriptContent,
+                      boolean isSimulationModeEnabled,
+                      LatencyProbeRun latencyProbeRun) {
+        for (int i = 0; i < workersCount; i++) {
+            final int workerIndex = i;
+            final Thread worker = new Thread(() -> runWorker(workerIndex,
+                                                             config,
+                                                             sharedScriptContent,
+                                                             isSimulationModeEnabled,
+                                                             latencyProbeRun),
+                                             THREAD_NAME_PREFIX + (i + 1));
+            worker.setDaemon(true);
+            workers.add(worker);
+        }
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * @return next evaluated message, blocks until it is available
+     * @throws Exception first failure of any worker (e.g. script evaluation error)
+     */
+    public MessageOnTopicDto take() throws Exception {
+        final BlockingQueue<MessageOnTopicDto> queue = queues.get(takenCount % queues.size());
+        while (true) {
+            final MessageOnTopicDto message = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            if (message != null) {
+                takenCount++;
+                return message;
+            }
+            final Exception workerFailure = failure.get();
+            if (workerFailure != null) {
+                throw workerFailure;
+            }
+        }
+    }
+
+    public void stop() {
+        workers.forEach(Thread::interrupt);
+    }
+
+    public long getGeneratedCount() {
+        return generatedCount.get();
+    }
+
+    public int getQueuedCount() {
+        return queues.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    private void runWorker(int workerIndex,
+                           KafkaSenderConfig config,
+                           String sharedScriptContent,
+                           boolean isSimulationModeEnabled,
+                           LatencyProbeRun latencyProbeRun) {
+        final GroovyScriptEvaluator evaluator = evaluatorFactory.get();
+        final int totalMessageCount = config.getRepeatCount();
+        try {
+            evaluator.resetScriptContext();
+            evaluator.setEvaluationTimeoutMs(Long.parseLong(config.getScriptEvaluationTimeoutMs()));
+            evaluator.runScript(sharedScriptContent);
+            evaluator.runScript(config.getRunBeforeAllMessagesScript());
+
+            int messageNumber = firstMessageNumber(workerIndex);
+            while (messageNumber <= totalMessageCount && !Thread.currentThread().isInterrupted()) {
+                final String evaluatedMessage = MessageTemplateSender.evaluateMessageContent(evaluator,
+                                                                                              config,
+                                                                                              messageNumber);
+                final MessageOnTopicDto message = MessageOnTopicDto.from(config,
+                                                                         evaluatedMessage,
+                                                                         isSimulationModeEnabled,
+                                                                         messageNumber,
+                                                                         totalMessageCount,
+                                                                         latencyProbeRun);
+                generatedCount.incrementAndGet();
+                queueFor(workerIndex).put(message);
+                messageNumber = nextMessageNumber(messageNumber);
+            }
+        } catch (InterruptedException | ExecutionStopRequested e) {
+            // worker stopped, sending thread will not take more messages
+        } catch (Exception e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            evaluator.close();
+        }
+    }
+
+    private int firstMessageNumber(int workerIndex) {
+        if (order == MessageGenerationOrder.ORDERED) {
+            return workerIndex + 1;
+        }
+        return nextMessageNumber.getAndIncrement();
+    }
+
+    private int nextMessageNumber(int currentMessageNumber) {
+        if (order == MessageGenerationOrder.ORDERED) {
+            return currentMessageNumber + workersCount;
+        }
+        return nextMessageNumber.getAndIncrement();
+    }
+
+    private BlockingQueue<MessageOnTopicDto> queueFor(int workerIndex) {
+        return queues.get(workerIndex % queues.size());
+    }
+}
@@ -0,0 +1,173 @@
+package application.scripting;
+
+import application.logging.Logger;
+import application.root.Restartable;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of threads evaluating groovy scripts, so a script can be run with a timeout
+ * without starting a new thread for each evaluation. Idle threads are released after a while.
+ * <p>
+ * Script that does not stop when its evaluation is cancelled would occupy its thread forever, so such a thread
+ * is abandoned: pool gets one more thread until the script finishes, others can still be evaluated.
+ */
+public class ScriptExecutionPool implements Restartable {
+
+    public static final int DEFAULT_MAX_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int MAX_QUEUED_SCRIPTS = 1024;
+    private static final long IDLE_THREAD_KEEP_ALIVE_SEC = 30;
+    private static final long CANCELLED_SCRIPT_STOP_GRACE_MS = 100;
+    private static final int TASK_RUNNING = 0;
+    private static final int TASK_ABANDONED = 1;
+    private static final int TASK_FINISHED = 2;
+    private static final String THREAD_NAME_PREFIX = "KMT-Thread-EvaluateGroovyScriptTask-";
+    private final AtomicInteger threadsCount = new AtomicInteger(0);
+    private final int maxThreads;
+    private ThreadPoolExecutor executor;
+    private int abandonedThreadsCount = 0;
+
+    public ScriptExecutionPool() {
+        this(DEFAULT_MAX_THREADS);
+    }
+
+    public ScriptExecutionPool(int maxThreads) {
+        this.maxThreads = maxThreads;
+        executor = createExecutor();
+    }
+
+    /**
+     * @throws java.util.concurrent.RejectedExecutionException if pool is stopped or too many scripts are waiting
+     */
+    public synchronized <T> Future<T> submit(Callable<T> script) {
+        final ScriptTask<T> task = new ScriptTask<>(script, executor);
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Interrupts script of given evaluation, if it does not stop within a short grace period,
+     * its thread is abandoned and replaced by a new one.
+     */
+    public void cancel(Future<?> evaluation) {
+        evaluation.cancel(true);
+        if (!(evaluation instanceof ScriptTask)) {
+            return;
+        }
+        final ScriptTask<?> task = (ScriptTask<?>) evaluation;
+        try {
+            if (task.awaitFinished(CANCELLED_SCRIPT_STOP_GRACE_MS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        abandon(task);
+    }
+
+    public synchronized int getAbandonedThreadsCount() {
+        return abandonedThreadsCount;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor.isShutdown()) {
+            executor = createExecutor();
+            abandonedThreadsCount = 0;
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        executor.shutdownNow();
+    }
+
+    private synchronized void abandon(ScriptTask<?> task) {
+        if (task.executor != executor || !task.markAbandoned()) {
+            return;
+        }
+        abandonedThreadsCount++;
+        resize();
+        Logger.warn(String.format("Groovy script did not stop after its evaluation was cancelled, thread '%s' is " +
+                                      "abandoned and replaced (abandoned threads: %d)",
+                                  task.runner.getName(), abandonedThreadsCount));
+    }
+
+    private synchronized void abandonedTaskFinished(ScriptTask<?> task) {
+        if (task.executor != executor) {
+            return;
+        }
+        abandonedThreadsCount--;
+        resize();
+        Logger.info(String.format("Abandoned groovy script finished, thread '%s' is released (abandoned threads: %d)",
+                                  task.runner.getName(), abandonedThreadsCount));
+    }
+
+    private void resize() {
+        final int size = maxThreads + abandonedThreadsCount;
+        if (size > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(size);
+            executor.setCorePoolSize(size);
+        } else {
+            executor.setCorePoolSize(size);
+            executor.setMaximumPoolSize(size);
+        }
+    }
+
+    private ThreadPoolExecutor createExecutor() {
+        final ThreadPoolExecutor e = new ThreadPoolExecutor(maxThreads,
+                                                            maxThreads,
+                                                            IDLE_THREAD_KEEP_ALIVE_SEC,
+                                                            TimeUnit.SECONDS,
+                                                            new LinkedBlockingQueue<>(MAX_QUEUED_SCRIPTS),
+                                                            runnable -> {
+                                                                final Thread thread = new Thread(runnable,
+                                                                                                 THREAD_NAME_PREFIX + threadsCount.incrementAndGet());
+                                                                thread.setDaemon(true);
+                                                                return thread;
+                                                            });
+        e.allowCoreThreadTimeOut(true);
+        return e;
+    }
+
+    private final class ScriptTask<T> extends FutureTask<T> {
+        private final ThreadPoolExecutor executor;
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private final AtomicInteger state = new AtomicInteger(TASK_RUNNING);
+        private volatile Thread runner;
+
+        ScriptTask(Callable<T> script, ThreadPoolExecutor executor) {
+            super(script);
+            this.executor = executor;
+        }
+
+        @Override
+        public void run() {
+            runner = Thread.currentThread();
+            try {
+                super.run();
+            } finally {
+                finished.countDown();
+                if (!state.compareAndSet(TASK_RUNNING, TASK_FINISHED)) {
+                    abandonedTaskFinished(this);
+                }
+            }
+        }
+
+        boolean awaitFinished(long timeoutMs) throws InterruptedException {
+            // task cancelled before it was started never runs
+            return runner == null || finished.await(timeoutMs, TimeUnit.MILLISECONDS);
+        }
+
+        boolean markAbandoned() {
+            return runner != null && state.compareAndSet(TASK_RUNNING, TASK_ABANDONED);
+        }
+    }
+}
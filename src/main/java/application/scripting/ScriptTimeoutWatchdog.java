@@ -0,0 +1,125 @@
+package application.scripting;
+
+import application.root.Restartable;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces timeout of scripts evaluated directly on the thread that needs their result (consumer thread
+ * evaluating filter predicate, message generator worker), so evaluation costs no thread handoff.
+ * Watched thread marks start and finish of every evaluation, the watchdog periodically checks running
+ * evaluations and interrupts threads that exceeded their deadline. Script that ignores interruption
+ * keeps running, but its result is reported as timed out.
+ */
+public class ScriptTimeoutWatchdog implements Restartable {
+
+    public static final long DEFAULT_CHECK_INTERVAL_MS = 50;
+    private static final String THREAD_NAME = "KMT-Thread-Script-Timeout-Watchdog";
+    private final Set<Watch> watches = ConcurrentHashMap.newKeySet();
+    private final long checkIntervalMs;
+    private ScheduledThreadPoolExecutor executor;
+
+    public ScriptTimeoutWatchdog() {
+        this(DEFAULT_CHECK_INTERVAL_MS);
+    }
+
+    public ScriptTimeoutWatchdog(long checkIntervalMs) {
+        this.checkIntervalMs = checkIntervalMs;
+        executor = createExecutor();
+    }
+
+    /**
+     * @return watch of current thread, it must be closed when the thread does not evaluate scripts anymore
+     */
+    public Watch watchCurrentThread() {
+        final Watch watch = new Watch(Thread.currentThread());
+        watches.add(watch);
+        return watch;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor.isShutdown()) {
+            executor = createExecutor();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        executor.shutdownNow();
+    }
+
+    private void interruptOverdueEvaluations() {
+        final long now = System.nanoTime();
+        watches.forEach(watch -> watch.interruptIfOverdue(now));
+    }
+
+    private ScheduledThreadPoolExecutor createExecutor() {
+        final ScheduledThreadPoolExecutor e = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        e.scheduleWithFixedDelay(this::interruptOverdueEvaluations, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+        return e;
+    }
+
+    public final class Watch implements AutoCloseable {
+        private final Thread thread;
+        private volatile boolean isEvaluating;
+        private volatile long deadlineNanos;
+        private boolean timedOut;
+
+        private Watch(Thread thread) {
+            this.thread = thread;
+        }
+
+        /**
+         * Must be called by the watched thread right before evaluation.
+         */
+        public void evaluationStarted(long timeoutMs) {
+            deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            isEvaluating = true;
+        }
+
+        /**
+         * Must be called by the watched thread right after evaluation, also when it failed.
+         * Clears interrupted status of the thread set by the watchdog.
+         *
+         * @return true if evaluation exceeded its deadline
+         */
+        public boolean evaluationFinished() {
+            final boolean wasTimedOut;
+            // watchdog interrupts only while evaluation runs, so the interrupt cannot reach code after it
+            synchronized (this) {
+                isEvaluating = false;
+                wasTimedOut = timedOut;
+                timedOut = false;
+            }
+            if (wasTimedOut) {
+                Thread.interrupted();
+            }
+            return wasTimedOut;
+        }
+
+        @Override
+        public void close() {
+            watches.remove(this);
+        }
+
+        private void interruptIfOverdue(long now) {
+            if (!isEvaluating || now - deadlineNanos < 0) {
+                return;
+            }
+            synchronized (this) {
+                if (isEvaluating && !timedOut) {
+                    timedOut = true;
+                    thread.interrupt();
+                }
+            }
+        }
+    }
+}
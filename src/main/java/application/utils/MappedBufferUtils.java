@@ -0,0 +1,51 @@
+package application.utils;
+
+import application.logging.Logger;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+
+public class MappedBufferUtils {
+
+    /**
+     * Releases mapping of the buffer right away instead of waiting for garbage collection,
+     * mapped file cannot be deleted on Windows and its disk space is not freed on Linux until then.
+     * Buffer (and all its duplicates) must not be used after unmapping.
+     *
+     * @return false if mapping could not be released on this JVM
+     */
+    public static boolean unmap(MappedByteBuffer buffer) {
+        try {
+            // java 9+
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+            unsafeField.setAccessible(true);
+            final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            invokeCleaner.invoke(unsafeField.get(null), buffer);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return unmapWithCleaner(buffer);
+        } catch (Exception e) {
+            Logger.trace("Could not unmap buffer: " + ThrowableUtils.getMessage(e));
+            return false;
+        }
+    }
+
+    private static boolean unmapWithCleaner(MappedByteBuffer buffer) {
+        try {
+            // java 8
+            final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            final Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+            return true;
+        } catch (Exception e) {
+            Logger.trace("Could not unmap buffer: " + ThrowableUtils.getMessage(e));
+            return false;
+        }
+    }
+}
@@ -5,10 +5,14 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
 
 public class TimestampUtils {
 
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    private static final DateTimeFormatter DATE_TIME_WITHOUT_MILLIS_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     public static String nowFullTimestamp() {
         return DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").format(LocalDateTime.now());
@@ -22,4 +26,36 @@ public class TimestampUtils {
             .format((LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMili),
                                              ZoneId.systemDefault())));
     }
+
+    /**
+     * @param value epoch millis or local date time as 'yyyy-MM-dd HH:mm:ss[.SSS]'
+     */
+    public static Optional<Long> parseEpochMili(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        final String trimmed = value.trim();
+        try {
+            return Optional.of(Long.parseUnsignedLong(trimmed));
+        } catch (NumberFormatException ignored) {
+            // not epoch millis, try date time formats
+        }
+        for (DateTimeFormatter formatter : new DateTimeFormatter[]{DATE_TIME_FORMATTER, DATE_TIME_WITHOUT_MILLIS_FORMATTER}) {
+            try {
+                return Optional.of(LocalDateTime.parse(trimmed, formatter)
+                                       .atZone(ZoneId.systemDefault())
+                                       .toInstant()
+                                       .toEpochMilli());
+            } catch (DateTimeParseException ignored) {
+                // try next format
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static String timeTimestampFromEpochMili(long epochMili) {
+        return TIME_FORMATTER
+            .format((LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMili),
+                                             ZoneId.systemDefault())));
+    }
 }
@@ -1,5 +1,7 @@
 package application.utils;
 
+import application.model.ListenerStartPosition;
+import application.utils.kafka.KafkaPartitionUtils;
 import javafx.beans.property.IntegerProperty;
 import javafx.scene.control.Spinner;
 import javafx.scene.control.SpinnerValueFactory;
@@ -46,6 +48,57 @@ public class ValidatorUtils {
         }
     }
 
+    public static Boolean isValidNonNegativeInteger(String value) {
+        if (!isStringIdentifierValid(value)) {
+            return false;
+        }
+        try {
+            return Integer.parseUnsignedInt(value) >= 0;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    public static Boolean isValidPartitionsList(String value) {
+        try {
+            KafkaPartitionUtils.validatePartitions(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public static Boolean isValidStartPositionValue(ListenerStartPosition position, String value) {
+        switch (position) {
+            case OFFSET:
+            case END_MINUS_N:
+                try {
+                    return Long.parseUnsignedLong(value.trim()) >= 0;
+                } catch (Exception e) {
+                    return false;
+                }
+            case TIMESTAMP:
+                return TimestampUtils.parseEpochMili(value).isPresent();
+            default:
+                return true;
+        }
+    }
+
+    public static Boolean isValidOptionalOffset(String value) {
+        if (StringUtils.isBlank(value)) {
+            return true;
+        }
+        try {
+            return Long.parseUnsignedLong(value.trim()) >= 0;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    public static Boolean isValidOptionalTimestamp(String value) {
+        return StringUtils.isBlank(value) || TimestampUtils.parseEpochMili(value).isPresent();
+    }
+
     public static Boolean isTimeoutInMsValid(String value) {
         if (!isStringIdentifierValid(value)) {
             return false;
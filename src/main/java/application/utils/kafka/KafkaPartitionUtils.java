@@ -2,15 +2,82 @@ package application.utils.kafka;
 
 import org.apache.kafka.common.utils.Utils;
 
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
 
 public class KafkaPartitionUtils {
 
+    // far above partitions count of any real topic, keeps expanded ranges small
+    public static final int MAX_PARTITION = 99_999;
+
     public static int partition(String key, int numPartitions) {
         if (key == null) {
             return -1;
         }
 
-        return Utils.toPositive(Utils.murmur2(key.getBytes(Charset.defaultCharset()))) % numPartitions;
+        // same bytes as produced by StringSerializer, whatever the default charset is
+        return Utils.toPositive(Utils.murmur2(key.getBytes(StandardCharsets.UTF_8))) % numPartitions;
+    }
+
+    /**
+     * @param value comma separated partitions or ranges, e.g. "0,3,5-7"
+     * @return sorted distinct partitions, empty list for blank value (meaning all partitions)
+     * @throws IllegalArgumentException if value can not be parsed
+     */
+    public static List<Integer> parsePartitions(String value) {
+        final TreeSet<Integer> partitions = new TreeSet<>();
+        if (value == null || value.trim().isEmpty()) {
+            return new ArrayList<>(partitions);
+        }
+        for (String part : value.split(",")) {
+            final int[] range = parseRange(part);
+            for (int partition = range[0]; partition <= range[1]; partition++) {
+                partitions.add(partition);
+            }
+        }
+        return new ArrayList<>(partitions);
+    }
+
+    /**
+     * Checks value the same way as {@link #parsePartitions(String)} does, but without expanding ranges.
+     *
+     * @throws IllegalArgumentException if value can not be parsed
+     */
+    public static void validatePartitions(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return;
+        }
+        for (String part : value.split(",")) {
+            parseRange(part);
+        }
+    }
+
+    private static int[] parseRange(String part) {
+        final String[] range = part.trim().split("-", -1);
+        if (range.length > 2) {
+            throw new IllegalArgumentException("Invalid partitions range: " + part);
+        }
+        final int first = parsePartition(range[0], part);
+        final int last = range.length == 2 ? parsePartition(range[1], part) : first;
+        if (last < first) {
+            throw new IllegalArgumentException("Invalid partitions range: " + part);
+        }
+        return new int[]{first, last};
+    }
+
+    private static int parsePartition(String value, String part) {
+        final int partition;
+        try {
+            partition = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid partition: " + part, e);
+        }
+        if (partition < 0 || partition > MAX_PARTITION) {
+            throw new IllegalArgumentException(String.format("Partition must be between 0 and %d: %s",
+                                                             MAX_PARTITION, part));
+        }
+        return partition;
     }
 }
@@ -2,31 +2,40 @@ package application.utils.kafka;
 
 import org.apache.kafka.clients.producer.KafkaProducer;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.HashSet;
 import java.util.Properties;
+import java.util.Set;
 
+/**
+ * Keeps track of created producers, so the ones still open are closed when the application stops.
+ * Every producer is owned by the sender which created it, only the owner closes it before it is replaced.
+ */
 public class KafkaProducers {
 
-    private static final Map<Properties, KafkaProducer<String, String>> PRODUCERS_FOR_PROPERTIES = new HashMap<>();
+    private static final Set<KafkaProducer<String, String>> PRODUCERS = new HashSet<>();
 
 
-    public static KafkaProducer<String, String> getProducerForProperties(Properties props) {
-
-        if (PRODUCERS_FOR_PROPERTIES.containsKey(props)) {
-            final KafkaProducer<String, String> producer = PRODUCERS_FOR_PROPERTIES.get(props);
-            producer.close();
-        }
-        // create new producer each time
+    public static synchronized KafkaProducer<String, String> createProducer(Properties props) {
         final KafkaProducer<String, String> producer = new KafkaProducer<>(props);
-        PRODUCERS_FOR_PROPERTIES.put(props, producer);
+        PRODUCERS.add(producer);
         return producer;
     }
 
-    public static void close(){
-        PRODUCERS_FOR_PROPERTIES.forEach((key, producer)->{
-            producer.close();
-        });
+    public static void close(KafkaProducer<String, String> producer) {
+        synchronized (KafkaProducers.class) {
+            PRODUCERS.remove(producer);
+        }
+        // waits for already sent records, so it is done outside of the lock
+        producer.close();
+    }
+
+    public static void close() {
+        final Set<KafkaProducer<String, String>> producers;
+        synchronized (KafkaProducers.class) {
+            producers = new HashSet<>(PRODUCERS);
+            PRODUCERS.clear();
+        }
+        producers.forEach(KafkaProducer::close);
     }
 
 }
@@ -1,6 +1,9 @@
 import application.kafka.sender.KafkaMessageSender
+import application.scripting.CompiledScriptsCache
 import application.scripting.GroovyScriptEvaluator
 import application.scripting.MessageTemplateSender
+import application.scripting.ScriptExecutionPool
+import application.scripting.ScriptTimeoutWatchdog
 import org.mockito.Mockito
 import org.testng.annotations.Test
 
@@ -10,7 +13,11 @@ class MessageTemplateSenderSpecification {
     void shouldEvaluateStringExpressionAndNotThrowInTheProcess() {
 
         KafkaMessageSender sender = Mockito.mock(KafkaMessageSender.class)
-        def evaluator = new MessageTemplateSender(sender,new GroovyScriptEvaluator());
+        def pool = new ScriptExecutionPool(1)
+        def watchdog = new ScriptTimeoutWatchdog()
+        def evaluator = new MessageTemplateSender(sender,
+                                                  new GroovyScriptEvaluator(pool),
+                                                  { new GroovyScriptEvaluator(watchdog, new CompiledScriptsCache()) });
 
         def inputs = ["",
                       '''"''',
@@ -25,6 +32,8 @@ class MessageTemplateSenderSpecification {
         ]
 
         inputs.each { evaluator.evaluateMessageContent(it) }
+        pool.stop()
+        watchdog.stop()
 
     }
 }
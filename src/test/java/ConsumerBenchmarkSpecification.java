@@ -0,0 +1,88 @@
+import application.kafka.benchmark.ConsumerBenchmark;
+import application.kafka.benchmark.ConsumerBenchmarkResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.record.TimestampType;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConsumerBenchmarkSpecification {
+
+    private static final String TOPIC = "topic";
+
+    @Test
+    public void shouldCountConsumedRecordsAndBytesPerPartition() {
+        // GIVEN
+        ConsumerBenchmark benchmark = new ConsumerBenchmark("listener", 60_000);
+
+        // WHEN
+        benchmark.recordPoll(1_000_000, createRecords(0, 10, 3));
+        benchmark.recordPoll(3_000_000, createRecords(1, 0, 2));
+        benchmark.trackPartition(0, 13, 20);
+        benchmark.trackPartition(1, 2, 2);
+
+        // THEN
+        final ConsumerBenchmarkResult result = benchmark.getResult();
+        assertThat(result.getRecordsCount()).isEqualTo(5);
+        assertThat(result.getBytesCount()).isEqualTo(5 * 10);
+        assertThat(result.getPollsCount()).isEqualTo(2);
+        assertThat(result.getPollLatencyMaxMs()).isEqualTo(3.0);
+        final List<ConsumerBenchmarkResult.PartitionProgress> progress = result.getPartitionsProgress();
+        assertThat(progress).extracting(ConsumerBenchmarkResult.PartitionProgress::getPartition).containsExactly(0, 1);
+        assertThat(progress.get(0).getStartOffset()).isEqualTo(10);
+        assertThat(progress.get(0).getConsumedCount()).isEqualTo(3);
+        assertThat(progress.get(0).getProgressPercent()).isEqualTo(30.0);
+        assertThat(progress.get(1).getProgressPercent()).isEqualTo(100.0);
+    }
+
+    @Test
+    public void shouldReachEndOffsetsOnlyWhenAllAssignedPartitionsAreConsumed() {
+        // GIVEN
+        ConsumerBenchmark benchmark = new ConsumerBenchmark("listener", 60_000);
+        benchmark.trackPartition(0, 0, 5);
+        benchmark.trackPartition(1, 7, 7);
+        final List<Integer> assignedPartitions = Arrays.asList(0, 1);
+
+        // WHEN
+        final boolean reachedBeforeConsuming = benchmark.hasReachedEndOffsets(assignedPartitions);
+        benchmark.updatePosition(0, 5);
+
+        // THEN
+        assertThat(reachedBeforeConsuming).isFalse();
+        assertThat(benchmark.hasReachedEndOffsets(assignedPartitions)).isTrue();
+        assertThat(benchmark.hasReachedEndOffsets(Arrays.asList(0, 1, 2))).isFalse();
+        assertThat(benchmark.hasReachedEndOffsets(Collections.emptyList())).isFalse();
+    }
+
+    @Test
+    public void shouldExceedTimeLimit() throws Exception {
+        // GIVEN
+        ConsumerBenchmark benchmark = new ConsumerBenchmark("listener", 50);
+
+        // WHEN
+        Thread.sleep(100);
+
+        // THEN
+        assertThat(benchmark.isTimeLimitExceeded()).isTrue();
+    }
+
+    private static ConsumerRecords<String, String> createRecords(int partition, long firstOffset, int count) {
+        final List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            records.add(new ConsumerRecord<>(TOPIC, partition, firstOffset + i, 0, TimestampType.CREATE_TIME, 0L, 5, 5,
+                                             "key01", "value"));
+        }
+        final Map<TopicPartition, List<ConsumerRecord<String, String>>> recordsByPartition = new HashMap<>();
+        recordsByPartition.put(new TopicPartition(TOPIC, partition), records);
+        return new ConsumerRecords<>(recordsByPartition);
+    }
+}
@@ -0,0 +1,119 @@
+import application.kafka.listener.AssignedPartitionsInfo;
+import application.kafka.listener.AssignmentChangeReason;
+import application.kafka.listener.ConsumerPartitionsRebalanceListener;
+import application.kafka.listener.ListenerMemberInfo;
+import application.kafka.listener.ListenerMemberThroughput;
+import application.kafka.listener.OffsetCommitter;
+import application.model.KafkaOffsetCommitStrategy;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConsumerPartitionsRebalanceListenerSpecification {
+
+    private static final String TOPIC = "topic";
+
+    @Test
+    public void shouldShowPartitionsOfAllMembers() {
+        // GIVEN
+        final Map<String, List<Integer>> partitionsByMember = new LinkedHashMap<>();
+        final ObjectProperty<AssignedPartitionsInfo> property = new SimpleObjectProperty<>();
+        final ConsumerPartitionsRebalanceListener first =
+            new ConsumerPartitionsRebalanceListener(TOPIC, "listener-1", partitionsByMember, property);
+        final ConsumerPartitionsRebalanceListener second =
+            new ConsumerPartitionsRebalanceListener(TOPIC, "listener-2", partitionsByMember, property);
+
+        // WHEN
+        first.onPartitionsAssigned(Arrays.asList(new TopicPartition(TOPIC, 2), new TopicPartition(TOPIC, 0)));
+        second.onPartitionsAssigned(Arrays.asList(new TopicPartition(TOPIC, 1),
+                                                  new TopicPartition("other-topic", 5)));
+
+        // THEN
+        final AssignedPartitionsInfo info = property.get();
+        assertThat(info.isValid()).isTrue();
+        assertThat(info.getChangeReason()).isEqualTo(AssignmentChangeReason.ASSIGN);
+        assertThat(info.getPartitionsList()).containsExactly(0, 1, 2);
+        assertThat(info.getPartitionsByMember().get("listener-1")).containsExactly(2, 0);
+        assertThat(info.getPartitionsByMember().get("listener-2")).containsExactly(1);
+    }
+
+    @Test
+    public void shouldBecomeInvalidAfterLastMemberIsClosed() {
+        // GIVEN
+        final Map<String, List<Integer>> partitionsByMember = new LinkedHashMap<>();
+        final ObjectProperty<AssignedPartitionsInfo> property = new SimpleObjectProperty<>();
+        final ConsumerPartitionsRebalanceListener first =
+            new ConsumerPartitionsRebalanceListener(TOPIC, "listener-1", partitionsByMember, property);
+        final ConsumerPartitionsRebalanceListener second =
+            new ConsumerPartitionsRebalanceListener(TOPIC, "listener-2", partitionsByMember, property);
+        first.onPartitionsAssigned(Collections.singletonList(new TopicPartition(TOPIC, 0)));
+        second.onPartitionsAssigned(Collections.singletonList(new TopicPartition(TOPIC, 1)));
+
+        // WHEN
+        first.onPartitionsRevoked(Collections.singletonList(new TopicPartition(TOPIC, 0)));
+        first.onConsumerClosed();
+        final List<Integer> partitionsAfterFirstClosed = property.get().getPartitionsList();
+        second.onConsumerClosed();
+
+        // THEN
+        assertThat(partitionsAfterFirstClosed).containsExactly(1);
+        assertThat(property.get().isValid()).isFalse();
+    }
+
+    @Test
+    public void shouldCommitPendingOffsetsOfRevokedPartitionsBeforeHandingThemOver() {
+        // GIVEN
+        final TopicPartition partition0 = new TopicPartition(TOPIC, 0);
+        final TopicPartition partition1 = new TopicPartition(TOPIC, 1);
+        final MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.assign(Arrays.asList(partition0, partition1));
+        final OffsetCommitter committer = new OffsetCommitter(KafkaOffsetCommitStrategy.COUNT_INTERVAL, 100);
+        final ConsumerPartitionsRebalanceListener listener =
+            new ConsumerPartitionsRebalanceListener(TOPIC, "listener-1", new LinkedHashMap<>(),
+                                                    new SimpleObjectProperty<>());
+        listener.bindOffsetCommitter(consumer, committer);
+        listener.onPartitionsAssigned(Arrays.asList(partition0, partition1));
+        committer.recordConsumed(new ConsumerRecord<>(TOPIC, 0, 4, "key", "value"));
+        committer.recordConsumed(new ConsumerRecord<>(TOPIC, 1, 7, "key", "value"));
+
+        // WHEN
+        listener.onPartitionsRevoked(Collections.singletonList(partition0));
+        committer.commitPendingOffsets(consumer);
+
+        // THEN
+        assertThat(consumer.committed(partition0).offset()).isEqualTo(5);
+        assertThat(consumer.committed(partition1).offset()).isEqualTo(8);
+        assertThat(committer.getPendingOffsets()).isEmpty();
+    }
+
+    @Test
+    public void shouldCalculateMemberThroughputSincePreviousSnapshot() {
+        // GIVEN
+        final ListenerMemberThroughput throughput = new ListenerMemberThroughput("listener-1", 0);
+        throughput.recordsReceived(100, 1000);
+        throughput.snapshot(Collections.singletonList(0), TimeUnit.SECONDS.toNanos(1));
+
+        // WHEN
+        throughput.recordsReceived(50, 500);
+        final ListenerMemberInfo info = throughput.snapshot(Collections.singletonList(0), TimeUnit.SECONDS.toNanos(3));
+
+        // THEN
+        assertThat(info.getRecordsCount()).isEqualTo(150);
+        assertThat(info.getBytesCount()).isEqualTo(1500);
+        assertThat(info.getRecordsPerSecond()).isEqualTo(25.0);
+        assertThat(info.getBytesPerSecond()).isEqualTo(250.0);
+    }
+}
@@ -0,0 +1,79 @@
+import application.kafka.listener.ConsumerPollWatchdog;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.errors.WakeupException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConsumerPollWatchdogSpecification {
+
+    private static final long ADDITIONAL_WAIT_MS = 0;
+    private ConsumerPollWatchdog watchdog;
+    private MockConsumer<String, String> consumer;
+
+    @BeforeMethod
+    public void setup() {
+        watchdog = new ConsumerPollWatchdog(ADDITIONAL_WAIT_MS);
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.subscribe(Collections.singletonList("topic"));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        watchdog.stop();
+    }
+
+    @Test(expectedExceptions = WakeupException.class)
+    public void shouldWakeUpConsumerWhenPollDeadlineExpires() throws Exception {
+        // GIVEN
+        watchdog.watch(consumer, 10);
+
+        // WHEN
+        waitUntilWakeupsFired(1);
+
+        // THEN
+        consumer.poll(0);
+    }
+
+    @Test
+    public void shouldNotWakeUpConsumerWhenPollDeadlineWasUnwatched() throws Exception {
+        // GIVEN
+        final ScheduledFuture<?> deadline = watchdog.watch(consumer, 50);
+
+        // WHEN
+        watchdog.unwatch(deadline);
+        Thread.sleep(100);
+
+        // THEN
+        assertThat(watchdog.getFiredWakeupsCount()).isZero();
+        assertThat(watchdog.getWatchedPollsCount()).isZero();
+        consumer.poll(0);
+    }
+
+    @Test
+    public void shouldCountFiredWakeupsForAllWatchedConsumers() throws Exception {
+        // GIVEN
+        final MockConsumer<String, String> otherConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+
+        // WHEN
+        watchdog.watch(consumer, 1);
+        watchdog.watch(otherConsumer, 1);
+        waitUntilWakeupsFired(2);
+
+        // THEN
+        assertThat(watchdog.getFiredWakeupsCount()).isEqualTo(2);
+    }
+
+    private void waitUntilWakeupsFired(long count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (watchdog.getFiredWakeupsCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
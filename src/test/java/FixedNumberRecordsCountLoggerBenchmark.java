@@ -0,0 +1,103 @@
+import application.logging.CyclicStringBuffer;
+import application.logging.FixedNumberRecordsCountLogger;
+import application.root.Executable;
+import application.root.TextAreaWrapper;
+import javafx.scene.Node;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures how many logger ticks per second can be rendered into a JTextArea
+ * with given number of retained lines, when each tick brings a batch of new lines.
+ * Run with: java FixedNumberRecordsCountLoggerBenchmark [linesPerTick] [durationMs]
+ */
+public class FixedNumberRecordsCountLoggerBenchmark {
+
+    private static final int[] RETAINED_LINES = {2_000, 20_000, 200_000};
+    private static final String LINE = "[12:00:00.000] ConsumerRecord: (2018-01-01 12:00:00.000, key=some-key, " +
+        "partition=0, offset=%d)%n";
+
+    public static void main(String[] args) throws Exception {
+        final int linesPerTick = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        final long durationMs = args.length > 1 ? Long.parseLong(args[1]) : 3000;
+
+        System.out.println(String.format("%15s %15s %15s", "retained lines", "ticks/s", "lines/s"));
+        for (int retainedLines : RETAINED_LINES) {
+            final double ticksPerSecond = run(retainedLines, linesPerTick, durationMs);
+            System.out.println(String.format("%15d %15.1f %15.0f",
+                                             retainedLines, ticksPerSecond, ticksPerSecond * linesPerTick));
+        }
+        System.exit(0);
+    }
+
+    private static double run(int retainedLines, int linesPerTick, long durationMs) throws Exception {
+        final JTextArea textArea = new JTextArea();
+        final FixedNumberRecordsCountLogger logger = new FixedNumberRecordsCountLogger(new JTextAreaWrapper(textArea),
+                                                                                       new CyclicStringBuffer(retainedLines),
+                                                                                       SwingUtilities::invokeLater);
+        logger.appendTexts(lines(0, retainedLines));
+        logger.flushPendingTexts();
+        long offset = retainedLines;
+        SwingUtilities.invokeAndWait(() -> { });
+
+        long ticks = 0;
+        final long start = System.nanoTime();
+        final long deadline = start + durationMs * 1_000_000;
+        while (System.nanoTime() < deadline) {
+            logger.appendTexts(lines(offset, linesPerTick));
+            offset += linesPerTick;
+            logger.flushPendingTexts();
+            // wait until text area is updated, so rendering cost is included in tick time
+            SwingUtilities.invokeAndWait(() -> { });
+            ticks++;
+        }
+        return ticks / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static List<String> lines(long firstOffset, int count) {
+        final List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add(String.format(LINE, firstOffset + i));
+        }
+        return lines;
+    }
+
+    private static class JTextAreaWrapper implements TextAreaWrapper {
+        private final JTextArea textArea;
+
+        JTextAreaWrapper(JTextArea textArea) {
+            this.textArea = textArea;
+        }
+
+        @Override
+        public void setText(String localBuffer) {
+            textArea.setText(localBuffer);
+        }
+
+        @Override
+        public void appendText(String s) {
+            textArea.append(s);
+        }
+
+        @Override
+        public void removeTextFromBeginning(int length) {
+            textArea.replaceRange("", 0, Math.min(length, textArea.getDocument().getLength()));
+        }
+
+        @Override
+        public void clear() {
+            textArea.setText("");
+        }
+
+        @Override
+        public Node asNode() {
+            return null;
+        }
+
+        @Override
+        public void setPopupSaveToAction(Executable saveContentToFile) {
+        }
+    }
+}
@@ -0,0 +1,148 @@
+import application.logging.CyclicStringBuffer;
+import application.logging.FixedNumberRecordsCountLogger;
+import application.root.Executable;
+import application.root.TextAreaWrapper;
+import javafx.scene.Node;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FixedNumberRecordsCountLoggerSpecification {
+
+    private StringBuilderTextArea textArea;
+
+    @BeforeMethod
+    public void setup() {
+        textArea = new StringBuilderTextArea();
+    }
+
+    @Test
+    public void shouldAppendOnlyNewEntries() {
+        // GIVEN
+        FixedNumberRecordsCountLogger logger = createLogger(10);
+        logger.appendText("a");
+        logger.flushPendingTexts();
+
+        // WHEN
+        logger.appendTexts(Arrays.asList("b", "c"));
+        logger.flushPendingTexts();
+
+        // THEN
+        assertThat(textArea.getText()).isEqualTo("abc");
+        assertThat(textArea.setTextCalls).isEqualTo(1);
+        assertThat(textArea.appendTextCalls).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotTouchTextAreaWhenNothingWasAppended() {
+        // GIVEN
+        FixedNumberRecordsCountLogger logger = createLogger(10);
+        logger.appendText("a");
+        logger.flushPendingTexts();
+
+        // WHEN
+        logger.flushPendingTexts();
+
+        // THEN
+        assertThat(textArea.setTextCalls).isEqualTo(1);
+        assertThat(textArea.appendTextCalls).isZero();
+    }
+
+    @Test
+    public void shouldTrimHeadWhenCapIsExceeded() {
+        // GIVEN
+        FixedNumberRecordsCountLogger logger = createLogger(3);
+        logger.appendTexts(Arrays.asList("aa", "bbb", "c"));
+        logger.flushPendingTexts();
+
+        // WHEN
+        logger.appendTexts(Arrays.asList("dd", "e"));
+        logger.flushPendingTexts();
+
+        // THEN
+        assertThat(textArea.getText()).isEqualTo("cdde");
+        assertThat(logger.getText()).isEqualTo("cdde");
+    }
+
+    @Test
+    public void shouldReplaceWholeTextWhenAllDisplayedEntriesWereDropped() {
+        // GIVEN
+        FixedNumberRecordsCountLogger logger = createLogger(2);
+        logger.appendTexts(Arrays.asList("a", "b"));
+        logger.flushPendingTexts();
+
+        // WHEN
+        logger.appendTexts(Arrays.asList("c", "dd", "eee"));
+        logger.flushPendingTexts();
+
+        // THEN
+        assertThat(textArea.getText()).isEqualTo("ddeee");
+        assertThat(logger.getText()).isEqualTo("ddeee");
+    }
+
+    @Test
+    public void shouldStartFromEmptyTextAfterClear() {
+        // GIVEN
+        FixedNumberRecordsCountLogger logger = createLogger(2);
+        logger.appendTexts(Arrays.asList("a", "b"));
+        logger.flushPendingTexts();
+
+        // WHEN
+        logger.clear();
+        logger.appendText("c");
+        logger.flushPendingTexts();
+
+        // THEN
+        assertThat(textArea.getText()).isEqualTo("c");
+        assertThat(logger.getText()).isEqualTo("c");
+    }
+
+    private FixedNumberRecordsCountLogger createLogger(int retainedEntries) {
+        return new FixedNumberRecordsCountLogger(textArea, new CyclicStringBuffer(retainedEntries), Runnable::run);
+    }
+
+    private static class StringBuilderTextArea implements TextAreaWrapper {
+        private final StringBuilder text = new StringBuilder();
+        private int setTextCalls;
+        private int appendTextCalls;
+
+        String getText() {
+            return text.toString();
+        }
+
+        @Override
+        public void setText(String localBuffer) {
+            setTextCalls++;
+            text.setLength(0);
+            text.append(localBuffer);
+        }
+
+        @Override
+        public void appendText(String s) {
+            appendTextCalls++;
+            text.append(s);
+        }
+
+        @Override
+        public void removeTextFromBeginning(int length) {
+            text.delete(0, length);
+        }
+
+        @Override
+        public void clear() {
+            text.setLength(0);
+        }
+
+        @Override
+        public Node asNode() {
+            return null;
+        }
+
+        @Override
+        public void setPopupSaveToAction(Executable saveContentToFile) {
+        }
+    }
+}
@@ -0,0 +1,209 @@
+import application.exceptions.ExecutionStopRequested;
+import application.exceptions.KafkaToolError;
+import application.scripting.CompiledScriptsCache;
+import application.scripting.GroovyScriptEvaluator;
+import application.scripting.ScriptExecutionPool;
+import application.scripting.ScriptTimeoutWatchdog;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import groovy.lang.Binding;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class GroovyScriptEvaluatorSpecification {
+
+    private ScriptExecutionPool pool;
+
+    @BeforeMethod
+    public void setup() {
+        pool = new ScriptExecutionPool(1);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        pool.stop();
+    }
+
+    @Test
+    public void shouldCompileSameScriptOnlyOnce() throws Exception {
+        // GIVEN
+        CompiledScriptsCache cache = new CompiledScriptsCache();
+        GroovyScriptEvaluator evaluator = new GroovyScriptEvaluator(pool, cache);
+        evaluator.runScript("counter = 0");
+
+        // WHEN
+        for (int i = 0; i < 10; i++) {
+            evaluator.runScript("counter++");
+        }
+
+        // THEN
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(evaluator.getBinding("counter")).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldCallMethodDeclaredInPreviouslyRunScript() throws Exception {
+        // GIVEN
+        GroovyScriptEvaluator evaluator = new GroovyScriptEvaluator(pool);
+        evaluator.runScript("def twice(x) { x * 2 }");
+
+        // WHEN
+        evaluator.runScript("result = twice(21)");
+
+        // THEN
+        assertThat(evaluator.getBinding("result")).isEqualTo(42);
+    }
+
+    @Test
+    public void shouldForgetVariablesAfterContextReset() throws Exception {
+        // GIVEN
+        GroovyScriptEvaluator evaluator = new GroovyScriptEvaluator(pool);
+        evaluator.runScript("value = 'abc'");
+
+        // WHEN
+        evaluator.resetScriptContext();
+
+        // THEN
+        assertThat(evaluator.getBinding("value")).isNull();
+    }
+
+    @Test
+    public void shouldFailAndInterruptScriptWhenTimeoutExpires() {
+        // GIVEN
+        GroovyScriptEvaluator evaluator = new GroovyScriptEvaluator(pool);
+        evaluator.setEvaluationTimeoutMs(100);
+
+        // WHEN
+        final Throwable thrown = catchThrowable(() -> evaluator.runScript("Thread.sleep(10000)"));
+
+        // THEN
+        assertThat(thrown).isInstanceOf(KafkaToolError.class).hasMessageContaining("100 ms");
+        // single pool thread must have been released by interrupting the script
+        assertThat(catchThrowable(() -> evaluator.runScript("1 + 1"))).isNull();
+    }
+
+    @Test
+    public void shouldReplacePoolThreadOfScriptIgnoringInterruption() throws Exception {
+        // GIVEN
+        GroovyScriptEvaluator evaluator = new GroovyScriptEvaluator(pool);
+        evaluator.setEvaluationTimeoutMs(100);
+
+        // WHEN
+        final Throwable thrown = catchThrowable(
+            () -> evaluator.runScript("def end = System.currentTimeMillis() + 1000; " +
+                                      "while (System.currentTimeMillis() < end) { }"));
+        final int abandonedWhileRunning = pool.getAbandonedThreadsCount();
+        final Throwable next = catchThrowable(() -> evaluator.runScript("1 + 1"));
+        for (int i = 0; i < 100 && pool.getAbandonedThreadsCount() > 0; i++) {
+            Thread.sleep(20);
+        }
+
+        // THEN
+        assertThat(thrown).isInstanceOf(KafkaToolError.class).hasMessageContaining("100 ms");
+        assertThat(abandonedWhileRunning).isEqualTo(1);
+        // single pool thread was still busy with the runaway script
+        assertThat(next).isNull();
+        assertThat(pool.getAbandonedThreadsCount()).isZero();
+    }
+
+    @Test
+    public void shouldEvaluateOnCallingThreadAndInterruptItWhenTimeoutExpires() throws Exception {
+        // GIVEN
+        final ScriptTimeoutWatchdog watchdog = new ScriptTimeoutWatchdog(10);
+        final GroovyScriptEvaluator evaluator = new GroovyScriptEvaluator(watchdog, new CompiledScriptsCache());
+        evaluator.setEvaluationTimeoutMs(100);
+
+        // WHEN
+        evaluator.runScript("thread = Thread.currentThread()");
+        final Throwable thrown = catchThrowable(() -> evaluator.runScript("Thread.sleep(10000)"));
+        final boolean interruptedAfterTimeout = Thread.currentThread().isInterrupted();
+        evaluator.close();
+        watchdog.stop();
+
+        // THEN
+        assertThat(evaluator.getBinding("thread")).isSameAs(Thread.currentThread());
+        assertThat(thrown).isInstanceOf(KafkaToolError.class).hasMessageContaining("100 ms");
+        assertThat(interruptedAfterTimeout).isFalse();
+    }
+
+    @Test
+    public void shouldRequestExecutionStopWhenEvaluatingThreadIsInterrupted() throws Exception {
+        // GIVEN
+        GroovyScriptEvaluator evaluator = new GroovyScriptEvaluator(pool);
+        final AtomicReference<Throwable> thrown = new AtomicReference<>();
+        final CountDownLatch finished = new CountDownLatch(1);
+        final Thread sender = new Thread(() -> {
+            thrown.set(catchThrowable(() -> evaluator.runScript("Thread.sleep(10000)")));
+            finished.countDown();
+        });
+        sender.start();
+
+        // WHEN
+        Thread.sleep(200);
+        sender.interrupt();
+
+        // THEN
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(thrown.get()).isInstanceOf(ExecutionStopRequested.class);
+    }
+
+    @Test
+    public void shouldRejectScriptsWhenPoolIsStopped() {
+        // GIVEN
+        GroovyScriptEvaluator evaluator = new GroovyScriptEvaluator(pool);
+
+        // WHEN
+        pool.stop();
+        final Throwable thrown = catchThrowable(() -> evaluator.runScript("1 + 1"));
+        pool.start();
+
+        // THEN
+        assertThat(thrown).isInstanceOf(KafkaToolError.class);
+        assertThat(catchThrowable(() -> evaluator.runScript("1 + 1"))).isNull();
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedScript() {
+        // GIVEN
+        CompiledScriptsCache cache = new CompiledScriptsCache(2);
+        final CompiledScriptsCache.CompiledScript first = cache.get("1");
+        cache.get("2");
+        cache.get("1");
+
+        // WHEN
+        cache.get("3");
+
+        // THEN
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("1")).isSameAs(first);
+    }
+
+    @Test
+    public void shouldUnloadClassOfEvictedScript() throws InterruptedException {
+        // GIVEN
+        CompiledScriptsCache cache = new CompiledScriptsCache(1);
+        final WeakReference<Class<?>> evictedClass =
+            new WeakReference<>(cache.get("1").createScript(new Binding()).getClass());
+
+        // WHEN
+        for (int i = 2; i <= 50; i++) {
+            cache.get(String.valueOf(i));
+        }
+        for (int i = 0; i < 50 && evictedClass.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        // THEN
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(evictedClass.get()).isNull();
+    }
+}
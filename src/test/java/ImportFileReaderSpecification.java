@@ -0,0 +1,128 @@
+import application.kafka.sender.ImportFileReader;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ImportFileReaderSpecification {
+
+    @Test
+    public void shouldSplitLinesSkippingEmptyOnesAndCarriageReturns() throws IOException {
+        // GIVEN
+        final Path file = createFile("first\r\nsecond\n\n\nthird");
+
+        // WHEN
+        final List<String> records = readAll(file, "\n", false);
+
+        // THEN
+        assertThat(records).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    public void shouldSplitByMultiCharacterDelimiter() throws IOException {
+        // GIVEN
+        final Path file = createFile("a\nb||c||||d||");
+
+        // WHEN
+        final List<String> records = readAll(file, "||", false);
+
+        // THEN
+        assertThat(records).containsExactly("a\nb", "c", "d");
+    }
+
+    @Test
+    public void shouldNotSplitQuotedDelimiterWhenQuoteAware() throws IOException {
+        // GIVEN
+        final Path file = createFile("key,value\nk1,\"multi\nline\"\nk2,\"say \"\"hi\"\"\"\n");
+
+        // WHEN
+        final List<String> records = readAll(file, "\n", true);
+
+        // THEN
+        assertThat(records).containsExactly("key,value", "k1,\"multi\nline\"", "k2,\"say \"\"hi\"\"\"");
+    }
+
+    @Test
+    public void shouldReadRecordsSpanningReadBufferBoundaryAndTrackReadBytes() throws IOException {
+        // GIVEN
+        final char[] longValue = new char[3 * 1024 * 1024];
+        Arrays.fill(longValue, 'x');
+        final String content = "short\n" + new String(longValue) + "\nza\u017c\u00f3\u0142\u0107\n";
+        final Path file = createFile(content);
+        final long fileSize = content.getBytes(StandardCharsets.UTF_8).length;
+
+        // WHEN
+        final List<String> records = new ArrayList<>();
+        final long readBytes;
+        final long reportedFileSize;
+        try (ImportFileReader reader = new ImportFileReader(file, "\n", false)) {
+            String record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+            readBytes = reader.getReadBytes();
+            reportedFileSize = reader.getFileSize();
+        }
+
+        // THEN
+        assertThat(records).hasSize(3);
+        assertThat(records.get(0)).isEqualTo("short");
+        assertThat(records.get(1)).hasSize(longValue.length);
+        assertThat(records.get(2)).isEqualTo("za\u017c\u00f3\u0142\u0107");
+        assertThat(readBytes).isEqualTo(fileSize);
+        assertThat(reportedFileSize).isEqualTo(fileSize);
+    }
+
+    @Test
+    public void shouldFailWithLineNumberWhenRecordExceedsMaxSize() throws IOException {
+        // GIVEN
+        final char[] longValue = new char[200];
+        Arrays.fill(longValue, 'x');
+        final Path file = createFile("key,value\nk1,v1\n\nk2,\"unbalanced\n" + new String(longValue) + "\nk3,v3\n");
+        final List<String> records = new ArrayList<>();
+
+        // WHEN
+        final Throwable thrown;
+        try (ImportFileReader reader = new ImportFileReader(file, "\n", true, 100)) {
+            thrown = catchThrowable(() -> {
+                String record;
+                while ((record = reader.next()) != null) {
+                    records.add(record);
+                }
+            });
+        }
+
+        // THEN
+        assertThat(records).containsExactly("key,value", "k1,v1");
+        assertThat(thrown).isInstanceOf(IOException.class)
+            .hasMessageContaining("line 4")
+            .hasMessageContaining("100 bytes")
+            .hasMessageContaining("unbalanced quote");
+    }
+
+    private static List<String> readAll(Path file, String delimiter, boolean quoteAware) throws IOException {
+        final List<String> records = new ArrayList<>();
+        try (ImportFileReader reader = new ImportFileReader(file, delimiter, quoteAware)) {
+            String record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private static Path createFile(String content) throws IOException {
+        final Path file = Files.createTempFile("kmt-import-test", ".txt");
+        file.toFile().deleteOnExit();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,92 @@
+import application.kafka.sender.ImportedRecordParser;
+import application.kafka.sender.ImportedRecordParser.ImportedRecord;
+import application.model.ImportFormat;
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImportedRecordParserSpecification {
+
+    @Test
+    public void shouldParseExportedJsonLines() {
+        // GIVEN
+        final ImportedRecordParser parser = new ImportedRecordParser(ImportFormat.JSON_LINES, "key", "value", "default");
+
+        // WHEN
+        final ImportedRecord exported = parser.parse("{\"timestamp\":1000,\"topic\":\"t\",\"partition\":0," +
+                                                         "\"offset\":1,\"key\":\"k1\",\"value\":\"{\\\"a\\\":1}\"}");
+        final ImportedRecord withoutKey = parser.parse("{\"key\":null,\"value\":\"v\"}");
+        final ImportedRecord tombstone = parser.parse("{\"key\":\"k2\",\"value\":null}");
+        final ImportedRecord nonStringValue = parser.parse("{\"value\":{\"b\":2}}");
+        final ImportedRecord plainObject = parser.parse("{\"b\":2}");
+        final ImportedRecord plainText = parser.parse("not a json");
+
+        // THEN
+        assertThat(exported.getKey()).isEqualTo("k1");
+        assertThat(exported.getValue()).isEqualTo("{\"a\":1}");
+        assertThat(withoutKey.getKey()).isNull();
+        assertThat(withoutKey.getValue()).isEqualTo("v");
+        assertThat(tombstone.getKey()).isEqualTo("k2");
+        assertThat(tombstone.getValue()).isNull();
+        assertThat(nonStringValue.getKey()).isEqualTo("default");
+        assertThat(nonStringValue.getValue()).isEqualTo("{\"b\":2}");
+        assertThat(plainObject.getKey()).isEqualTo("default");
+        assertThat(plainObject.getValue()).isEqualTo("{\"b\":2}");
+        assertThat(plainText.getKey()).isEqualTo("default");
+        assertThat(plainText.getValue()).isEqualTo("not a json");
+    }
+
+    @Test
+    public void shouldParseCsvUsingHeaderColumns() {
+        // GIVEN
+        final ImportedRecordParser parser = new ImportedRecordParser(ImportFormat.CSV, "key", "value", "default");
+
+        // WHEN
+        final ImportedRecord header = parser.parse("timestamp,topic,partition,offset,key,value");
+        final ImportedRecord quoted = parser.parse("1000,t,0,1,k1,\"a,\"\"b\"\"\nc\"");
+        final ImportedRecord emptyKey = parser.parse("1000,t,0,2,,v");
+
+        // THEN
+        assertThat(header).isNull();
+        assertThat(quoted.getKey()).isEqualTo("k1");
+        assertThat(quoted.getValue()).isEqualTo("a,\"b\"\nc");
+        assertThat(emptyKey.getKey()).isNull();
+        assertThat(emptyKey.getValue()).isEqualTo("v");
+    }
+
+    @Test
+    public void shouldUseDefaultKeyWhenCsvHasNoKeyColumn() {
+        // GIVEN
+        final ImportedRecordParser parser = new ImportedRecordParser(ImportFormat.CSV, "key", "payload", "default");
+
+        // WHEN
+        parser.parse("id,payload");
+        final ImportedRecord record = parser.parse("1,v");
+
+        // THEN
+        assertThat(record.getKey()).isEqualTo("default");
+        assertThat(record.getValue()).isEqualTo("v");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldRejectCsvHeaderWithoutValueColumn() {
+        // GIVEN
+        final ImportedRecordParser parser = new ImportedRecordParser(ImportFormat.CSV, "key", "value", null);
+
+        // WHEN
+        parser.parse("key,payload");
+    }
+
+    @Test
+    public void shouldSendWholeDelimitedRecordAsValue() {
+        // GIVEN
+        final ImportedRecordParser parser = new ImportedRecordParser(ImportFormat.DELIMITED, "key", "value", null);
+
+        // WHEN
+        final ImportedRecord record = parser.parse("{\"key\":\"k\",\"value\":\"v\"}");
+
+        // THEN
+        assertThat(record.getKey()).isNull();
+        assertThat(record.getValue()).isEqualTo("{\"key\":\"k\",\"value\":\"v\"}");
+    }
+}
@@ -0,0 +1,85 @@
+import application.kafka.benchmark.ProducerBenchmark;
+import application.kafka.benchmark.ProducerBenchmarkResult;
+import application.kafka.sender.InFlightMessagesWindow;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InFlightMessagesWindowSpecification {
+
+    @Test
+    public void shouldBlockWhenMaxInFlightMessagesReached() throws Exception {
+        // GIVEN
+        InFlightMessagesWindow window = new InFlightMessagesWindow(2);
+        window.acquire();
+        window.acquire();
+        final CountDownLatch acquired = new CountDownLatch(1);
+        final Thread sender = new Thread(() -> {
+            try {
+                window.acquire();
+                acquired.countDown();
+            } catch (InterruptedException ignored) {
+            }
+        });
+
+        // WHEN
+        sender.start();
+        final boolean acquiredBeforeCompletion = acquired.await(100, TimeUnit.MILLISECONDS);
+        window.complete(null);
+
+        // THEN
+        assertThat(acquiredBeforeCompletion).isFalse();
+        assertThat(acquired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(window.getInFlightCount()).isEqualTo(2);
+        assertThat(window.getAcknowledgedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldReportOnlyFirstFailure() throws Exception {
+        // GIVEN
+        InFlightMessagesWindow window = new InFlightMessagesWindow(10);
+        final Exception first = new Exception("first");
+        for (int i = 0; i < 3; i++) {
+            window.acquire();
+        }
+
+        // WHEN
+        final boolean firstReported = window.complete(first);
+        final boolean secondReported = window.complete(new Exception("second"));
+        window.complete(null);
+
+        // THEN
+        assertThat(firstReported).isTrue();
+        assertThat(secondReported).isFalse();
+        assertThat(window.hasFailures()).isTrue();
+        assertThat(window.getFirstFailure()).isSameAs(first);
+        assertThat(window.getFailedCount()).isEqualTo(2);
+        assertThat(window.getAcknowledgedCount()).isEqualTo(1);
+        assertThat(window.getInFlightCount()).isZero();
+    }
+
+    @Test
+    public void shouldPassAcknowledgedAndFailedMessagesToRecorder() {
+        // GIVEN
+        ProducerBenchmark benchmark = new ProducerBenchmark("sender");
+        InFlightMessagesWindow window = new InFlightMessagesWindow(10, benchmark);
+
+        // WHEN
+        window.complete(null, TimeUnit.MILLISECONDS.toNanos(2), 100);
+        window.complete(null, TimeUnit.MILLISECONDS.toNanos(4), 100);
+        window.complete(new RuntimeException("failed"), TimeUnit.MILLISECONDS.toNanos(8), 0);
+        final ProducerBenchmarkResult result = benchmark.finish();
+
+        // THEN
+        assertThat(result.getSentCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(1);
+        assertThat(result.getLatencyMaxMs()).isEqualTo(4.0);
+        assertThat(result.getLatencyMeanMs()).isEqualTo(3.0);
+        assertThat(result.getThroughputTimeline()).hasSize(1);
+        assertThat(result.getThroughputTimeline().get(0).getBytesCount()).isEqualTo(200);
+        assertThat(result.toCsvLine()).startsWith("\"sender\",");
+    }
+}
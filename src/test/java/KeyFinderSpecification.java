@@ -0,0 +1,112 @@
+import application.kafka.search.KeyFinder;
+import application.kafka.search.KeySearchMode;
+import application.kafka.search.KeySearchResult;
+import application.utils.kafka.KafkaPartitionUtils;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.internals.DefaultPartitioner;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KeyFinderSpecification {
+
+    private static final String TOPIC = "topic";
+    private static final String KEY = "searched-key";
+    private static final int PARTITIONS_COUNT = 8;
+    private static final int OWNING_PARTITION = KafkaPartitionUtils.partition(KEY, PARTITIONS_COUNT);
+    private static final int RECORDS_COUNT = 100;
+
+    @Test
+    public void shouldStopScanningOwningPartitionAfterFirstMatches() {
+        // GIVEN
+        final MockConsumer<String, String> consumer = createConsumer();
+        final List<Long> foundOffsets = new ArrayList<>();
+
+        // WHEN
+        final KeySearchResult result = new KeyFinder(() -> consumer)
+            .find(TOPIC, KEY, null, null, KeySearchMode.FIRST_MATCHES, 3,
+                  record -> foundOffsets.add(record.offset()), () -> false);
+
+        // THEN
+        assertThat(consumer.assignment()).containsExactly(new TopicPartition(TOPIC, OWNING_PARTITION));
+        assertThat(foundOffsets).containsExactly(0L, 10L, 20L);
+        assertThat(result.getPartition()).isEqualTo(OWNING_PARTITION);
+        assertThat(result.getMatches()).isEqualTo(3);
+        assertThat(result.getScannedRecords()).isEqualTo(21L);
+    }
+
+    @Test
+    public void shouldReadChunksBackwardFromEndForLastMatches() {
+        // GIVEN
+        final MockConsumer<String, String> consumer = createConsumer();
+        final List<Long> foundOffsets = new ArrayList<>();
+
+        // WHEN
+        final KeySearchResult result = new KeyFinder(() -> consumer, 25)
+            .find(TOPIC, KEY, null, null, KeySearchMode.LAST_MATCHES, 4,
+                  record -> foundOffsets.add(record.offset()), () -> false);
+
+        // THEN
+        assertThat(foundOffsets).containsExactly(90L, 80L, 70L, 60L);
+        assertThat(result.getScannedRecords()).isEqualTo(50L);
+    }
+
+    @Test
+    public void shouldComputeOwningPartitionOfNonAsciiKeyAsProducer() {
+        // GIVEN
+        final String key = "kl\u00fc\u010d-\u6f22\u5b57";
+        final List<PartitionInfo> partitionInfos = new ArrayList<>();
+        for (int partition = 0; partition < PARTITIONS_COUNT; partition++) {
+            partitionInfos.add(new PartitionInfo(TOPIC, partition, null, null, null));
+        }
+        final Cluster cluster = new Cluster("cluster", Collections.emptyList(), partitionInfos,
+                                            Collections.emptySet(), Collections.emptySet());
+        final byte[] serializedKey = new StringSerializer().serialize(TOPIC, key);
+
+        // WHEN
+        final int partition = KafkaPartitionUtils.partition(key, PARTITIONS_COUNT);
+
+        // THEN
+        assertThat(partition).isEqualTo(new DefaultPartitioner().partition(TOPIC, key, serializedKey,
+                                                                            null, null, cluster));
+    }
+
+    private static MockConsumer<String, String> createConsumer() {
+        final MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        final List<PartitionInfo> partitionInfos = new ArrayList<>();
+        final Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+        final Map<TopicPartition, Long> endOffsets = new HashMap<>();
+        for (int partition = 0; partition < PARTITIONS_COUNT; partition++) {
+            partitionInfos.add(new PartitionInfo(TOPIC, partition, null, null, null));
+            beginningOffsets.put(new TopicPartition(TOPIC, partition), 0L);
+            endOffsets.put(new TopicPartition(TOPIC, partition), (long) RECORDS_COUNT);
+        }
+        consumer.updatePartitions(TOPIC, partitionInfos);
+        consumer.updateBeginningOffsets(beginningOffsets);
+        consumer.updateEndOffsets(endOffsets);
+        // mock consumer forgets records once polled, so they are added again before every poll
+        for (int poll = 0; poll < 20; poll++) {
+            consumer.schedulePollTask(() -> addRecords(consumer));
+        }
+        return consumer;
+    }
+
+    private static void addRecords(MockConsumer<String, String> consumer) {
+        for (int offset = 0; offset < RECORDS_COUNT; offset++) {
+            final String key = offset % 10 == 0 ? KEY : "other-key";
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, OWNING_PARTITION, offset, key, "value-" + offset));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+import application.kafka.benchmark.LatencyHistogram;
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyHistogramSpecification {
+
+    @Test
+    public void shouldReturnExactPercentilesForSmallValues() {
+        // GIVEN
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // WHEN
+        for (int i = 1; i <= 1000; i++) {
+            histogram.recordValue(i);
+        }
+
+        // THEN
+        assertThat(histogram.getTotalCount()).isEqualTo(1000);
+        assertThat(histogram.getValueAtPercentile(50)).isEqualTo(500);
+        assertThat(histogram.getValueAtPercentile(99)).isEqualTo(990);
+        assertThat(histogram.getValueAtPercentile(99.9)).isEqualTo(999);
+        assertThat(histogram.getMaxValue()).isEqualTo(1000);
+        assertThat(histogram.getMean()).isEqualTo(500.5);
+    }
+
+    @Test
+    public void shouldKeepRelativeErrorOfBigValuesLow() {
+        // GIVEN
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // WHEN
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.recordValue(i * 1000L);
+        }
+
+        // THEN
+        assertThat((double) histogram.getValueAtPercentile(50)).isCloseTo(5_000_000, within(5_000.0));
+        assertThat((double) histogram.getValueAtPercentile(99.9)).isCloseTo(9_990_000, within(10_000.0));
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10_000_000);
+    }
+
+    @Test
+    public void shouldReturnZerosWhenNothingRecorded() {
+        // GIVEN
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // WHEN
+        final long p99 = histogram.getValueAtPercentile(99);
+
+        // THEN
+        assertThat(p99).isZero();
+        assertThat(histogram.getMean()).isZero();
+    }
+}
@@ -0,0 +1,103 @@
+import application.kafka.benchmark.LatencyProbeReceiver;
+import application.kafka.benchmark.LatencyProbeReport;
+import application.kafka.benchmark.LatencyProbeRun;
+import application.kafka.listener.ReceivedRecordsChunk;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyProbeReceiverSpecification {
+
+    private static final String TOPIC = "topic";
+
+    @Test
+    public void shouldDetectMissingAndDuplicatedSequenceNumbers() {
+        // GIVEN
+        LatencyProbeReceiver receiver = new LatencyProbeReceiver();
+        LatencyProbeRun run = new LatencyProbeRun("sender");
+        final List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        for (int sequenceNumber : Arrays.asList(1, 2, 2, 3, 6, 7, 8, 10)) {
+            records.add(createRecord(run.createHeaders(sequenceNumber, 10)));
+        }
+
+        // WHEN
+        receiver.onRecordsReceived(ReceivedRecordsChunk.from(records, System.currentTimeMillis()));
+
+        // THEN
+        final List<LatencyProbeReport> reports = receiver.getReports();
+        assertThat(reports).hasSize(1);
+        final LatencyProbeReport report = reports.get(0);
+        assertThat(report.getSenderName()).isEqualTo("sender");
+        assertThat(report.getExpectedCount()).isEqualTo(10);
+        assertThat(report.getReceivedCount()).isEqualTo(8);
+        assertThat(report.getUniqueCount()).isEqualTo(7);
+        assertThat(report.getDuplicatesCount()).isEqualTo(1);
+        assertThat(report.getMissingCount()).isEqualTo(3);
+        assertThat(report.getMissingSequenceNumbers()).isEqualTo("4-5, 9");
+    }
+
+    @Test
+    public void shouldReportEachSendingRunSeparatelyAndIgnoreRecordsWithoutProbeHeaders() {
+        // GIVEN
+        LatencyProbeReceiver receiver = new LatencyProbeReceiver();
+        LatencyProbeRun firstRun = new LatencyProbeRun("first");
+        LatencyProbeRun secondRun = new LatencyProbeRun("second");
+
+        // WHEN
+        receiver.onRecordsReceived(ReceivedRecordsChunk.from(Arrays.asList(createRecord(firstRun.createHeaders(1, 1)),
+                                                                           createRecord(new RecordHeaders()),
+                                                                           createRecord(secondRun.createHeaders(1, 2))),
+                                                             System.currentTimeMillis()));
+
+        // THEN
+        final List<LatencyProbeReport> reports = receiver.getReports();
+        assertThat(reports).extracting(LatencyProbeReport::getSenderName).containsExactly("first", "second");
+        assertThat(reports.get(0).getMissingCount()).isEqualTo(0);
+        assertThat(reports.get(1).getMissingSequenceNumbers()).isEqualTo("2");
+    }
+
+    @Test
+    public void shouldMeasureLatencyFromSendTimeStampedInHeaders() throws Exception {
+        // GIVEN
+        LatencyProbeReceiver receiver = new LatencyProbeReceiver();
+        final Headers headers = new LatencyProbeRun("sender").createHeaders(1, 1);
+
+        // WHEN
+        Thread.sleep(50);
+        receiver.onRecordsReceived(ReceivedRecordsChunk.from(Arrays.asList(createRecord(headers)),
+                                                             System.currentTimeMillis()));
+
+        // THEN
+        final LatencyProbeReport report = receiver.getReports().get(0);
+        assertThat(report.getLatencyMaxMs()).isGreaterThanOrEqualTo(50);
+        // loose upper bound, machine running tests may be slow
+        assertThat(report.getLatencyMaxMs()).isLessThan(5000);
+    }
+
+    @Test
+    public void shouldForgetRunsAfterReset() {
+        // GIVEN
+        LatencyProbeReceiver receiver = new LatencyProbeReceiver();
+        receiver.onRecordsReceived(ReceivedRecordsChunk.from(
+            Arrays.asList(createRecord(new LatencyProbeRun("sender").createHeaders(1, 1))),
+            System.currentTimeMillis()));
+
+        // WHEN
+        receiver.reset();
+
+        // THEN
+        assertThat(receiver.getReports()).isEmpty();
+    }
+
+    private static ConsumerRecord<String, String> createRecord(Headers headers) {
+        return new ConsumerRecord<>(TOPIC, 0, 0, 0, TimestampType.CREATE_TIME, null, 0, 5, null, "value", headers);
+    }
+}
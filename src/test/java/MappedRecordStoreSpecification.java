@@ -0,0 +1,136 @@
+import application.kafka.listener.MappedRecordStore;
+import application.kafka.listener.StoredRecord;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MappedRecordStoreSpecification {
+
+    private static final int RECORD_HEADER_SIZE = 32;
+    private Path directory;
+    private MappedRecordStore store;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("kmt-store-test");
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    public void shouldReadBackAppendedRecords() throws IOException {
+        // GIVEN
+        store = new MappedRecordStore(directory, 1024 * 1024, 1024);
+
+        // WHEN
+        store.append(1, 10L, 100L, bytes("key"), bytes("value"));
+        store.append(2, 20L, 200L, null, bytes(""));
+
+        // THEN
+        assertThat(store.getRecordsCount()).isEqualTo(2);
+        final StoredRecord first = store.read(0);
+        assertThat(first.getPartition()).isEqualTo(1);
+        assertThat(first.getOffset()).isEqualTo(10L);
+        assertThat(first.getTimestamp()).isEqualTo(100L);
+        assertThat(first.getKeyAsString()).isEqualTo("key");
+        assertThat(first.getValueAsString()).isEqualTo("value");
+        final StoredRecord second = store.read(1);
+        assertThat(second.getKey()).isNull();
+        assertThat(second.getValueAsString()).isEmpty();
+        assertThat(store.read(2)).isNull();
+    }
+
+    @Test
+    public void shouldEvictOldestSegmentsWhenDiskBudgetIsExceeded() throws IOException {
+        // GIVEN
+        final int recordSize = RECORD_HEADER_SIZE + 8;
+        final int segmentSize = recordSize * 2;
+        store = new MappedRecordStore(directory, segmentSize * 2, segmentSize);
+
+        // WHEN
+        for (int i = 0; i < 10; i++) {
+            store.append(0, i, i, null, bytes(String.format("%08d", i)));
+        }
+
+        // THEN
+        assertThat(store.getStoredBytesCount()).isLessThanOrEqualTo(segmentSize * 2);
+        assertThat(store.getFirstSequenceNumber()).isEqualTo(6);
+        assertThat(store.getRecordsCount()).isEqualTo(4);
+        assertThat(store.read(5)).isNull();
+        assertThat(store.read(9).getOffset()).isEqualTo(9L);
+        assertThat(directory.toFile().listFiles()).hasSize(2);
+        assertThat(sizeOfFiles(directory)).isEqualTo(store.getStoredBytesCount());
+    }
+
+    @Test
+    public void shouldIterateOverAllStoredRecordsInOrder() throws IOException {
+        // GIVEN
+        store = new MappedRecordStore(directory, 1024 * 1024, 64);
+        for (int i = 0; i < 5; i++) {
+            store.append(0, i, i, null, bytes("value" + i));
+        }
+        final List<Long> offsets = new ArrayList<>();
+
+        // WHEN
+        store.forEach(record -> offsets.add(record.getOffset()));
+
+        // THEN
+        assertThat(offsets).containsExactly(0L, 1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    public void shouldStoreRecordBiggerThanSegmentSize() throws IOException {
+        // GIVEN
+        store = new MappedRecordStore(directory, 1024 * 1024, 64);
+        final String bigValue = new String(new char[1000]).replace('\0', 'x');
+
+        // WHEN
+        store.append(0, 0, 0, null, bytes(bigValue));
+
+        // THEN
+        assertThat(store.read(0).getValueAsString()).isEqualTo(bigValue);
+    }
+
+    @Test
+    public void shouldRemoveSegmentFilesWhenCleared() throws IOException {
+        // GIVEN
+        store = new MappedRecordStore(directory, 1024 * 1024, 64);
+        store.append(0, 0, 0, null, bytes("value"));
+
+        // WHEN
+        store.clear();
+
+        // THEN
+        assertThat(store.getRecordsCount()).isZero();
+        assertThat(store.getStoredBytesCount()).isZero();
+        final File[] files = directory.toFile().listFiles();
+        assertThat(files).isEmpty();
+    }
+
+    private static long sizeOfFiles(Path directory) {
+        long size = 0;
+        for (File file : directory.toFile().listFiles()) {
+            size += file.length();
+        }
+        return size;
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
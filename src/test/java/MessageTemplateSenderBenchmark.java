@@ -0,0 +1,74 @@
+import application.customfxwidgets.senderconfig.StatusBarNotifier;
+import application.kafka.sender.KafkaMessageSender;
+import application.model.modelobjects.KafkaBrokerConfig;
+import application.model.modelobjects.KafkaSenderConfig;
+import application.model.modelobjects.KafkaTopicConfig;
+import application.scripting.CompiledScriptsCache;
+import application.scripting.GroovyScriptEvaluator;
+import application.scripting.MessageTemplateSender;
+import application.scripting.ScriptExecutionPool;
+import application.scripting.ScriptTimeoutWatchdog;
+
+import java.lang.management.ManagementFactory;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures how many messages per second can be generated from a scripted template in simulation mode,
+ * so only script evaluation is measured, not Kafka.
+ * Run with: java MessageTemplateSenderBenchmark [messagesCount] [generatorThreadsCount]
+ */
+public class MessageTemplateSenderBenchmark {
+
+    private static final String BEFORE_ALL_SCRIPT = "counter = 0";
+    private static final String BEFORE_EACH_SCRIPT = "counter++";
+    private static final String TEMPLATE = "{\"id\": ${counter}, \"name\": \"user-${counter % 100}\", " +
+        "\"ts\": ${System.currentTimeMillis()}}";
+
+    public static void main(String[] args) throws Exception {
+        final int messagesCount = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        final String generatorThreadsCount = args.length > 1 ? args[1] : "1";
+
+        final ScriptExecutionPool pool = new ScriptExecutionPool();
+        final ScriptTimeoutWatchdog watchdog = new ScriptTimeoutWatchdog();
+        final CompiledScriptsCache compiledScripts = new CompiledScriptsCache();
+        final MessageTemplateSender sender = new MessageTemplateSender(mock(KafkaMessageSender.class),
+                                                                       new GroovyScriptEvaluator(pool, compiledScripts),
+                                                                       () -> new GroovyScriptEvaluator(watchdog, compiledScripts));
+        final KafkaSenderConfig config = createSenderConfig(messagesCount);
+        config.setGeneratorThreadsCount(generatorThreadsCount);
+        final StatusBarNotifier notifier = mock(StatusBarNotifier.class);
+
+        // warm up
+        final KafkaSenderConfig warmUpConfig = createSenderConfig(2_000);
+        warmUpConfig.setGeneratorThreadsCount(generatorThreadsCount);
+        sender.send(warmUpConfig, notifier, "", true);
+
+        final long cpuStart = processCpuTimeNanos();
+        final long start = System.nanoTime();
+        sender.send(config, notifier, "", true);
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        final double cpuMicrosPerMessage = (processCpuTimeNanos() - cpuStart) / 1e3 / messagesCount;
+        System.out.println(String.format("%d messages in %.2f s, %.0f msgs/s, cpu time per message: %.1f us",
+                                         messagesCount, seconds, messagesCount / seconds, cpuMicrosPerMessage));
+        System.exit(0);
+    }
+
+    private static long processCpuTimeNanos() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean()).getProcessCpuTime();
+    }
+
+    private static KafkaSenderConfig createSenderConfig(int messagesCount) {
+        final KafkaBrokerConfig brokerConfig = new KafkaBrokerConfig("broker");
+        final KafkaTopicConfig topicConfig = new KafkaTopicConfig("topic");
+        topicConfig.setTopicName("benchmark");
+        topicConfig.setRelatedConfig(brokerConfig);
+        final KafkaSenderConfig config = new KafkaSenderConfig("sender");
+        config.setRelatedConfig(topicConfig);
+        config.setRepeatCount(messagesCount);
+        config.setRunBeforeAllMessagesScript(BEFORE_ALL_SCRIPT);
+        config.setRunBeforeEachMessageScript(BEFORE_EACH_SCRIPT);
+        config.setMsgContentTemplate(TEMPLATE);
+        return config;
+    }
+}
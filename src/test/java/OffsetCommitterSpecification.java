@@ -0,0 +1,153 @@
+import application.kafka.listener.OffsetCommitter;
+import application.model.KafkaOffsetCommitStrategy;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffsetCommitterSpecification {
+
+    private static final String TOPIC = "topic";
+    private final TopicPartition partition0 = new TopicPartition(TOPIC, 0);
+    private final TopicPartition partition1 = new TopicPartition(TOPIC, 1);
+    private MockConsumer<String, String> consumer;
+    private long nowMs;
+
+    @BeforeMethod
+    public void setup() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.assign(Arrays.asList(partition0, partition1));
+        final Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+        beginningOffsets.put(partition0, 0L);
+        beginningOffsets.put(partition1, 0L);
+        consumer.updateBeginningOffsets(beginningOffsets);
+        nowMs = 0;
+    }
+
+    @Test
+    public void shouldCommitHighestOffsetPerPartitionOncePerPoll() {
+        // GIVEN
+        OffsetCommitter committer = committer(KafkaOffsetCommitStrategy.ASYNC_PER_POLL, 1);
+
+        // WHEN
+        committer.recordConsumed(record(0, 5));
+        committer.recordConsumed(record(0, 6));
+        committer.recordConsumed(record(1, 2));
+        committer.commitIfNeeded(consumer);
+
+        // THEN
+        assertThat(committedOffset(partition0)).isEqualTo(7);
+        assertThat(committedOffset(partition1)).isEqualTo(3);
+        assertThat(committer.getPendingOffsets()).isEmpty();
+    }
+
+    @Test
+    public void shouldNotCommitAnythingInPeekMode() {
+        // GIVEN
+        OffsetCommitter committer = committer(KafkaOffsetCommitStrategy.NONE, 1);
+
+        // WHEN
+        committer.recordConsumed(record(0, 5));
+        committer.commitIfNeeded(consumer);
+        committer.commitPendingOffsets(consumer);
+
+        // THEN
+        assertThat(consumer.committed(partition0)).isNull();
+    }
+
+    @Test
+    public void shouldCommitOnlyAfterCountIntervalIsReached() {
+        // GIVEN
+        OffsetCommitter committer = committer(KafkaOffsetCommitStrategy.COUNT_INTERVAL, 3);
+
+        // WHEN
+        committer.recordConsumed(record(0, 0));
+        committer.recordConsumed(record(0, 1));
+        committer.commitIfNeeded(consumer);
+
+        // THEN
+        assertThat(consumer.committed(partition0)).isNull();
+
+        // WHEN
+        committer.recordConsumed(record(0, 2));
+        committer.commitIfNeeded(consumer);
+
+        // THEN
+        assertThat(committedOffset(partition0)).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldCommitOnlyAfterTimeIntervalElapsed() {
+        // GIVEN
+        OffsetCommitter committer = committer(KafkaOffsetCommitStrategy.TIME_INTERVAL, 1000);
+
+        // WHEN
+        committer.recordConsumed(record(1, 10));
+        nowMs = 999;
+        committer.commitIfNeeded(consumer);
+
+        // THEN
+        assertThat(consumer.committed(partition1)).isNull();
+
+        // WHEN
+        nowMs = 1000;
+        committer.commitIfNeeded(consumer);
+
+        // THEN
+        assertThat(committedOffset(partition1)).isEqualTo(11);
+    }
+
+    @Test
+    public void shouldCommitPendingOffsetsSynchronouslyOnDemand() {
+        // GIVEN
+        OffsetCommitter committer = committer(KafkaOffsetCommitStrategy.COUNT_INTERVAL, 100);
+        committer.recordConsumed(record(0, 41));
+
+        // WHEN
+        committer.commitPendingOffsets(consumer);
+
+        // THEN
+        assertThat(committedOffset(partition0)).isEqualTo(42);
+        assertThat(committer.getPendingOffsets()).isEqualTo(Collections.emptyMap());
+    }
+
+    @Test
+    public void shouldCommitAndForgetPendingOffsetsOfRevokedPartitionsOnly() {
+        // GIVEN
+        OffsetCommitter committer = committer(KafkaOffsetCommitStrategy.COUNT_INTERVAL, 100);
+        committer.recordConsumed(record(0, 9));
+        committer.recordConsumed(record(1, 19));
+
+        // WHEN
+        committer.commitPendingOffsets(consumer, Collections.singletonList(partition0));
+
+        // THEN
+        assertThat(committedOffset(partition0)).isEqualTo(10);
+        assertThat(consumer.committed(partition1)).isNull();
+        assertThat(committer.getPendingOffsets()).containsOnlyKeys(partition1);
+    }
+
+    private OffsetCommitter committer(KafkaOffsetCommitStrategy strategy, long interval) {
+        return new OffsetCommitter(strategy, interval, () -> nowMs);
+    }
+
+    private long committedOffset(TopicPartition partition) {
+        final OffsetAndMetadata committed = consumer.committed(partition);
+        assertThat(committed).isNotNull();
+        return committed.offset();
+    }
+
+    private ConsumerRecord<String, String> record(int partition, long offset) {
+        return new ConsumerRecord<>(TOPIC, partition, offset, "key", "value");
+    }
+}
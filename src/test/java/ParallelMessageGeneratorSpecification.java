@@ -0,0 +1,134 @@
+import application.exceptions.KafkaToolError;
+import application.model.MessageGenerationOrder;
+import application.model.modelobjects.KafkaBrokerConfig;
+import application.model.modelobjects.KafkaSenderConfig;
+import application.model.modelobjects.KafkaTopicConfig;
+import application.scripting.CompiledScriptsCache;
+import application.scripting.GroovyScriptEvaluator;
+import application.scripting.ParallelMessageGenerator;
+import application.scripting.ScriptTimeoutWatchdog;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ParallelMessageGeneratorSpecification {
+
+    private static final int MESSAGES_COUNT = 200;
+    private final ScriptTimeoutWatchdog watchdog = new ScriptTimeoutWatchdog(10);
+
+    @Test
+    public void shouldGenerateMessagesInOrderOfTheirNumbers() throws Exception {
+        // GIVEN
+        final KafkaSenderConfig config = createSenderConfig("${msgNum}");
+        final ParallelMessageGenerator generator = new ParallelMessageGenerator(() -> new GroovyScriptEvaluator(watchdog, new CompiledScriptsCache()),
+                                                                                4,
+                                                                                MessageGenerationOrder.ORDERED,
+                                                                                16);
+        // WHEN
+        generator.start(config, "", true);
+        final List<String> messages = takeAll(generator);
+        generator.stop();
+
+        // THEN
+        for (int i = 0; i < MESSAGES_COUNT; i++) {
+            assertThat(messages.get(i)).isEqualTo(String.valueOf(i + 1));
+        }
+    }
+
+    @Test
+    public void shouldGenerateEachMessageExactlyOnceWhenOrderIsNotRequired() throws Exception {
+        // GIVEN
+        final KafkaSenderConfig config = createSenderConfig("${msgNum}");
+        final ParallelMessageGenerator generator = new ParallelMessageGenerator(() -> new GroovyScriptEvaluator(watchdog, new CompiledScriptsCache()),
+                                                                                4,
+                                                                                MessageGenerationOrder.UNORDERED,
+                                                                                16);
+        // WHEN
+        generator.start(config, "", true);
+        final List<String> messages = takeAll(generator);
+        generator.stop();
+
+        // THEN
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < MESSAGES_COUNT; i++) {
+            expected.add(String.valueOf(i + 1));
+        }
+        assertThat(messages).containsExactlyInAnyOrder(expected.toArray(new String[0]));
+        assertThat(generator.getGeneratedCount()).isEqualTo(MESSAGES_COUNT);
+    }
+
+    @Test
+    public void shouldRunBeforeAllScriptInContextOfEachWorker() throws Exception {
+        // GIVEN
+        final KafkaSenderConfig config = createSenderConfig("${prefix}-${msgNum}");
+        config.setRunBeforeAllMessagesScript("prefix = 'msg'");
+        final ParallelMessageGenerator generator = new ParallelMessageGenerator(() -> new GroovyScriptEvaluator(watchdog, new CompiledScriptsCache()),
+                                                                                2,
+                                                                                MessageGenerationOrder.ORDERED);
+        // WHEN
+        generator.start(config, "", true);
+        final List<String> messages = takeAll(generator);
+        generator.stop();
+
+        // THEN
+        assertThat(messages.get(0)).isEqualTo("msg-1");
+        assertThat(messages.get(1)).isEqualTo("msg-2");
+    }
+
+    @Test
+    public void shouldPropagateFailureOfWorker() {
+        // GIVEN
+        final KafkaSenderConfig config = createSenderConfig("${msgNum}");
+        config.setRunBeforeEachMessageScript("if (msgNum == 5) throw new IllegalStateException('broken')");
+        final ParallelMessageGenerator generator = new ParallelMessageGenerator(() -> new GroovyScriptEvaluator(watchdog, new CompiledScriptsCache()),
+                                                                                2,
+                                                                                MessageGenerationOrder.ORDERED);
+        // WHEN
+        generator.start(config, "", true);
+        final Throwable thrown = catchThrowable(() -> takeAll(generator));
+        generator.stop();
+
+        // THEN
+        assertThat(thrown).isInstanceOf(KafkaToolError.class);
+    }
+
+    @Test
+    public void shouldFailWorkerWhenScriptEvaluationTimesOut() {
+        // GIVEN
+        final KafkaSenderConfig config = createSenderConfig("${msgNum}");
+        config.setScriptEvaluationTimeoutMs("100");
+        config.setRunBeforeEachMessageScript("if (msgNum == 5) Thread.sleep(10000)");
+        final ParallelMessageGenerator generator = new ParallelMessageGenerator(() -> new GroovyScriptEvaluator(watchdog, new CompiledScriptsCache()),
+                                                                                2,
+                                                                                MessageGenerationOrder.ORDERED);
+        // WHEN
+        generator.start(config, "", true);
+        final Throwable thrown = catchThrowable(() -> takeAll(generator));
+        generator.stop();
+
+        // THEN
+        assertThat(thrown).isInstanceOf(KafkaToolError.class).hasMessageContaining("100 ms");
+    }
+
+    private static List<String> takeAll(ParallelMessageGenerator generator) throws Exception {
+        final List<String> messages = new ArrayList<>();
+        for (int i = 0; i < MESSAGES_COUNT; i++) {
+            messages.add(generator.take().getMessage());
+        }
+        return messages;
+    }
+
+    private static KafkaSenderConfig createSenderConfig(String template) {
+        final KafkaTopicConfig topicConfig = new KafkaTopicConfig("topic");
+        topicConfig.setRelatedConfig(new KafkaBrokerConfig("broker"));
+        final KafkaSenderConfig config = new KafkaSenderConfig("sender");
+        config.setRelatedConfig(topicConfig);
+        config.setRepeatCount(MESSAGES_COUNT);
+        config.setMsgContentTemplate(template);
+        return config;
+    }
+}
@@ -0,0 +1,75 @@
+import application.kafka.listener.ReceivedRecordsChunk;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.record.TimestampType;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReceivedRecordsChunkSpecification {
+
+    @Test
+    public void shouldComputePerPollStatistics() {
+        // GIVEN
+        final List<ConsumerRecord<String, String>> records = Arrays.asList(record(2, 3, 10),
+                                                                           record(0, -1, 5),
+                                                                           record(2, 1, 1));
+
+        // WHEN
+        ReceivedRecordsChunk chunk = ReceivedRecordsChunk.from(records, 123L);
+
+        // THEN
+        assertThat(chunk.getRecordsCount()).isEqualTo(3);
+        assertThat(chunk.getBytesCount()).isEqualTo(3 + 10 + 5 + 1 + 1);
+        assertThat(chunk.getPartitions()).containsExactly(0, 2);
+        assertThat(chunk.getReceivedTimestampMs()).isEqualTo(123L);
+        assertThat(chunk.getConsumedCount()).isEqualTo(3);
+        assertThat(chunk.getConsumedBytesCount()).isEqualTo(chunk.getBytesCount());
+    }
+
+    @Test
+    public void shouldKeepConsumedStatisticsOfRecordsThatAreNotPublished() {
+        // GIVEN
+        final List<ConsumerRecord<String, String>> sampledRecords = Arrays.asList(record(1, 2, 3));
+
+        // WHEN
+        ReceivedRecordsChunk chunk = ReceivedRecordsChunk.from(sampledRecords, 100, 5000L, 40, 0L);
+
+        // THEN
+        assertThat(chunk.getRecordsCount()).isEqualTo(1);
+        assertThat(chunk.getBytesCount()).isEqualTo(5);
+        assertThat(chunk.getConsumedCount()).isEqualTo(100);
+        assertThat(chunk.getConsumedBytesCount()).isEqualTo(5000L);
+        assertThat(chunk.getFilteredOutCount()).isEqualTo(40);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void shouldNotAllowToModifyRecords() {
+        // GIVEN
+        ReceivedRecordsChunk chunk = ReceivedRecordsChunk.from(Arrays.asList(record(0, 1, 1)), 0L);
+
+        // WHEN/THEN
+        chunk.getRecords().clear();
+    }
+
+    @Test
+    public void shouldNotBeAffectedByChangesOfSourceList() {
+        // GIVEN
+        final List<ConsumerRecord<String, String>> records = new ArrayList<>(Arrays.asList(record(0, 1, 1)));
+        ReceivedRecordsChunk chunk = ReceivedRecordsChunk.from(records, 0L);
+
+        // WHEN
+        records.clear();
+
+        // THEN
+        assertThat(chunk.getRecordsCount()).isEqualTo(1);
+    }
+
+    private ConsumerRecord<String, String> record(int partition, int keySize, int valueSize) {
+        return new ConsumerRecord<>("topic", partition, 0L, 0L, TimestampType.CREATE_TIME, 0L,
+                                    keySize, valueSize, "key", "value");
+    }
+}
@@ -0,0 +1,135 @@
+import application.kafka.listener.RecordFilter;
+import application.model.ScanMatchType;
+import application.model.ScanTarget;
+import application.model.modelobjects.KafkaListenerConfig;
+import application.scripting.CompiledScriptsCache;
+import application.scripting.ScriptTimeoutWatchdog;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.record.TimestampType;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class RecordFilterSpecification {
+
+    private ScriptTimeoutWatchdog watchdog;
+
+    @BeforeMethod
+    public void setUp() {
+        watchdog = new ScriptTimeoutWatchdog(10);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        watchdog.stop();
+    }
+
+    @Test
+    public void shouldAcceptAllRecordsWhenFilterIsDisabled() {
+        // GIVEN
+        final KafkaListenerConfig config = new KafkaListenerConfig("listener");
+        config.setFilterPattern("never present");
+
+        // WHEN
+        final RecordFilter filter = RecordFilter.from(config, new CompiledScriptsCache(), watchdog);
+
+        // THEN
+        assertThat(filter.isAcceptingAll()).isTrue();
+        assertThat(filter.accepts(record(0, 0, 0, "key", "value"))).isTrue();
+    }
+
+    @Test
+    public void shouldAcceptOnlyRecordsMeetingAllConditions() {
+        // GIVEN
+        final KafkaListenerConfig config = new KafkaListenerConfig("listener");
+        config.setFilterEnabled(true);
+        config.setFilterMatchType(ScanMatchType.REGEX);
+        config.setFilterTarget(ScanTarget.KEY);
+        config.setFilterPattern("^order-");
+        config.setFilterPartitions("1-2");
+        config.setFilterMinOffset("10");
+        config.setFilterMaxOffset("20");
+        config.setFilterFromTimestamp("1000");
+        config.setFilterToTimestamp("2000");
+
+        // WHEN
+        final RecordFilter filter = RecordFilter.from(config, new CompiledScriptsCache(), watchdog);
+
+        // THEN
+        assertThat(filter.accepts(record(1, 10, 1000, "order-1", "v"))).isTrue();
+        assertThat(filter.accepts(record(2, 20, 2000, "order-2", "v"))).isTrue();
+        assertThat(filter.accepts(record(1, 10, 1000, "invoice-1", "v"))).isFalse();
+        assertThat(filter.accepts(record(0, 10, 1000, "order-1", "v"))).isFalse();
+        assertThat(filter.accepts(record(1, 21, 1000, "order-1", "v"))).isFalse();
+        assertThat(filter.accepts(record(1, 10, 999, "order-1", "v"))).isFalse();
+    }
+
+    @Test
+    public void shouldEvaluateGroovyPredicateAndRejectRecordsItFailsFor() {
+        // GIVEN
+        final KafkaListenerConfig config = new KafkaListenerConfig("listener");
+        config.setFilterEnabled(true);
+        config.setFilterGroovyPredicate("value.length() > 3 && offset % 2 == 0");
+
+        // WHEN
+        final RecordFilter filter = RecordFilter.from(config, new CompiledScriptsCache(), watchdog);
+
+        // THEN
+        assertThat(filter.accepts(record(0, 4, 0, "k", "long value"))).isTrue();
+        assertThat(filter.accepts(record(0, 5, 0, "k", "long value"))).isFalse();
+        assertThat(filter.accepts(record(0, 6, 0, "k", "abc"))).isFalse();
+        assertThat(filter.accepts(record(0, 8, 0, "k", null))).isFalse();
+    }
+
+    @Test
+    public void shouldRejectRecordsForWhichGroovyPredicateTimesOut() {
+        // GIVEN
+        final KafkaListenerConfig config = new KafkaListenerConfig("listener");
+        config.setFilterEnabled(true);
+        config.setFilterGroovyPredicate("if (offset == 0) { while (true) { Thread.sleep(10) } }; true");
+        final RecordFilter filter = RecordFilter.from(config, new CompiledScriptsCache(), watchdog, 200);
+
+        // WHEN
+        final long startNanos = System.nanoTime();
+        final boolean timedOutAccepted = filter.accepts(record(0, 0, 0, "k", "v"));
+        final long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        final boolean nextAccepted = filter.accepts(record(0, 1, 0, "k", "v"));
+        final boolean interruptedAfterTimeout = Thread.currentThread().isInterrupted();
+        filter.close();
+
+        // THEN
+        assertThat(timedOutAccepted).isFalse();
+        assertThat(elapsedMs).isLessThan(2000);
+        assertThat(nextAccepted).isTrue();
+        assertThat(interruptedAfterTimeout).isFalse();
+    }
+
+    @Test
+    public void shouldRejectInvalidConditions() {
+        // GIVEN
+        final KafkaListenerConfig invalidRegex = new KafkaListenerConfig("listener");
+        invalidRegex.setFilterEnabled(true);
+        invalidRegex.setFilterMatchType(ScanMatchType.REGEX);
+        invalidRegex.setFilterPattern("[a-");
+        final KafkaListenerConfig invalidPredicate = new KafkaListenerConfig("listener");
+        invalidPredicate.setFilterEnabled(true);
+        invalidPredicate.setFilterGroovyPredicate("value ==");
+
+        // THEN
+        assertThat(catchThrowable(() -> RecordFilter.from(invalidRegex, new CompiledScriptsCache(), watchdog)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> RecordFilter.from(invalidPredicate, new CompiledScriptsCache(), watchdog)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ConsumerRecord<String, String> record(int partition, long offset, long timestamp,
+                                                         String key, String value) {
+        return new ConsumerRecord<>("topic", partition, offset, timestamp, TimestampType.CREATE_TIME, 0L,
+                                    key == null ? -1 : key.length(),
+                                    value == null ? -1 : value.length(),
+                                    key, value);
+    }
+}
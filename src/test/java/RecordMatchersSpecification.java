@@ -0,0 +1,61 @@
+import application.kafka.search.RecordMatchers;
+import application.model.ScanMatchType;
+import application.model.ScanTarget;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.testng.annotations.Test;
+
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class RecordMatchersSpecification {
+
+    private static final String ORDER = "{\"order\": {\"id\": 42, \"items\": [{\"sku\": \"A-1\"}, {\"sku\": \"B-2\"}]}}";
+
+    @Test
+    public void shouldMatchRegexOnlyOnSelectedPartOfRecord() {
+        // GIVEN
+        final Predicate<ConsumerRecord<String, String>> matcher = RecordMatchers.create(ScanMatchType.REGEX,
+                                                                                         ScanTarget.KEY,
+                                                                                         "^user-[0-9]+$");
+
+        // THEN
+        assertThat(matcher.test(record("user-17", "value"))).isTrue();
+        assertThat(matcher.test(record("value", "user-17"))).isFalse();
+        assertThat(matcher.test(record(null, "user-17"))).isFalse();
+    }
+
+    @Test
+    public void shouldMatchJsonPathWithAndWithoutExpectedValue() {
+        // GIVEN
+        final Predicate<ConsumerRecord<String, String>> skuExists =
+            RecordMatchers.create(ScanMatchType.JSON_PATH, ScanTarget.VALUE, "$.order.items[1].sku");
+        final Predicate<ConsumerRecord<String, String>> orderIdIs42 =
+            RecordMatchers.create(ScanMatchType.JSON_PATH, ScanTarget.VALUE, "$.order.id = 42");
+        final Predicate<ConsumerRecord<String, String>> thirdItemExists =
+            RecordMatchers.create(ScanMatchType.JSON_PATH, ScanTarget.VALUE, "$.order.items[2]");
+
+        // THEN
+        assertThat(skuExists.test(record("key", ORDER))).isTrue();
+        assertThat(orderIdIs42.test(record("key", ORDER))).isTrue();
+        assertThat(orderIdIs42.test(record("key", ORDER.replace("42", "43")))).isFalse();
+        assertThat(thirdItemExists.test(record("key", ORDER))).isFalse();
+        assertThat(skuExists.test(record("key", "not a json"))).isFalse();
+    }
+
+    @Test
+    public void shouldRejectInvalidPatterns() {
+        // THEN
+        assertThat(catchThrowable(() -> RecordMatchers.create(ScanMatchType.REGEX, ScanTarget.VALUE, "[a-")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> RecordMatchers.create(ScanMatchType.JSON_PATH, ScanTarget.VALUE, "order.id")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> RecordMatchers.create(ScanMatchType.JSON_PATH, ScanTarget.VALUE, "$.items[x]")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ConsumerRecord<String, String> record(String key, String value) {
+        return new ConsumerRecord<>("topic", 0, 0, key, value);
+    }
+}
@@ -0,0 +1,105 @@
+import application.kafka.listener.RecordSampler;
+import application.model.ListenerSamplingMode;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RecordSamplerSpecification {
+
+    @Test
+    public void shouldSampleEveryNthRecordAcrossPolls() {
+        // GIVEN
+        final RecordSampler sampler = new RecordSampler(ListenerSamplingMode.EVERY_NTH, 3, 1000);
+
+        // WHEN
+        final List<ConsumerRecord<String, String>> first = sampler.sample(records(0, 5));
+        final List<ConsumerRecord<String, String>> second = sampler.sample(records(5, 5));
+
+        // THEN
+        assertThat(offsetsOf(first)).containsExactly(0L, 3L);
+        assertThat(offsetsOf(second)).containsExactly(6L, 9L);
+    }
+
+    @Test
+    public void shouldSampleFixedNumberOfRecordsPerSecond() {
+        // GIVEN
+        final AtomicLong now = new AtomicLong(0);
+        final RecordSampler sampler = new RecordSampler(ListenerSamplingMode.PER_SECOND, 2, 1000, now::get, new Random());
+
+        // WHEN
+        final List<ConsumerRecord<String, String>> first = sampler.sample(records(0, 5));
+        now.set(500);
+        final List<ConsumerRecord<String, String>> sameSecond = sampler.sample(records(5, 5));
+        now.set(1000);
+        final List<ConsumerRecord<String, String>> nextSecond = sampler.sample(records(10, 5));
+
+        // THEN
+        assertThat(offsetsOf(first)).containsExactly(0L, 1L);
+        assertThat(sameSecond).isEmpty();
+        assertThat(offsetsOf(nextSecond)).containsExactly(10L, 11L);
+    }
+
+    @Test
+    public void shouldPublishReservoirOfRecordsWhenWindowCloses() {
+        // GIVEN
+        final AtomicLong now = new AtomicLong(0);
+        final RecordSampler sampler = new RecordSampler(ListenerSamplingMode.RESERVOIR, 10, 1000, now::get, new Random(7));
+
+        // WHEN
+        final List<ConsumerRecord<String, String>> duringWindow = sampler.sample(records(0, 500));
+        now.set(999);
+        final List<ConsumerRecord<String, String>> stillDuringWindow = sampler.sample(records(500, 500));
+        now.set(1000);
+        final List<ConsumerRecord<String, String>> afterWindow = sampler.sample(records(1000, 3));
+        now.set(2000);
+        final List<ConsumerRecord<String, String>> afterNextWindow = sampler.sample(new ArrayList<>());
+
+        // THEN
+        assertThat(duringWindow).isEmpty();
+        assertThat(stillDuringWindow).isEmpty();
+        assertThat(offsetsOf(afterWindow)).hasSize(10).doesNotHaveDuplicates().isSorted()
+            .allMatch(offset -> offset < 1000);
+        // records of first window are spread over the window, not only its beginning
+        assertThat(offsetsOf(afterWindow).stream().anyMatch(offset -> offset >= 500)).isTrue();
+        assertThat(offsetsOf(afterNextWindow)).containsExactly(1000L, 1001L, 1002L);
+    }
+
+    @Test
+    public void shouldFlushRecordsOfUnfinishedReservoirWindow() {
+        // GIVEN
+        final AtomicLong now = new AtomicLong(0);
+        final RecordSampler sampler = new RecordSampler(ListenerSamplingMode.RESERVOIR, 10, 1000, now::get, new Random(7));
+        final RecordSampler everyNthSampler = new RecordSampler(ListenerSamplingMode.EVERY_NTH, 2, 1000);
+        sampler.sample(records(0, 3));
+        everyNthSampler.sample(records(0, 3));
+
+        // WHEN
+        now.set(500);
+        final List<ConsumerRecord<String, String>> flushed = sampler.flush();
+        final List<ConsumerRecord<String, String>> flushedAgain = sampler.flush();
+
+        // THEN
+        assertThat(offsetsOf(flushed)).containsExactly(0L, 1L, 2L);
+        assertThat(flushedAgain).isEmpty();
+        assertThat(everyNthSampler.flush()).isEmpty();
+    }
+
+    private static List<ConsumerRecord<String, String>> records(long firstOffset, int count) {
+        final List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        for (long offset = firstOffset; offset < firstOffset + count; offset++) {
+            records.add(new ConsumerRecord<>("topic", 0, offset, "key", "value"));
+        }
+        return records;
+    }
+
+    private static List<Long> offsetsOf(List<ConsumerRecord<String, String>> records) {
+        return records.stream().map(ConsumerRecord::offset).collect(Collectors.toList());
+    }
+}
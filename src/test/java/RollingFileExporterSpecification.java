@@ -0,0 +1,160 @@
+import application.kafka.listener.ReceivedRecordsChunk;
+import application.kafka.listener.RollingFileExporter;
+import application.model.ExportFormat;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.record.TimestampType;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RollingFileExporterSpecification {
+
+    private final List<RollingFileExporter> exporters = new ArrayList<>();
+    private Path directory;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("kmt-export-test");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        exporters.forEach(RollingFileExporter::close);
+        exporters.clear();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            // files first, then directories containing them
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void shouldExportRecordsAsJsonLines() throws IOException {
+        // GIVEN
+        final RollingFileExporter exporter = register(new RollingFileExporter(directory, "my listener", ExportFormat.JSON_LINES,
+                                                                              false, 0, 0));
+        exporter.start();
+
+        // WHEN
+        exporter.onRecordsReceived(chunk(record(1, 10, "key", "{\"a\":\"b\"}"),
+                                         record(2, 20, null, "line1\nline2")));
+        exporter.close();
+
+        // THEN
+        assertThat(exporter.getExportedRecordsCount()).isEqualTo(2);
+        assertThat(exporter.getFiles()).hasSize(1);
+        assertThat(exporter.getFiles().get(0).getFileName().toString()).startsWith("my_listener-").endsWith(".jsonl");
+        assertThat(read(exporter.getFiles().get(0))).isEqualTo(
+            "{\"timestamp\":1000,\"topic\":\"topic\",\"partition\":1,\"offset\":10,\"key\":\"key\"," +
+                "\"value\":\"{\\\"a\\\":\\\"b\\\"}\"}\n" +
+                "{\"timestamp\":1000,\"topic\":\"topic\",\"partition\":2,\"offset\":20,\"key\":null," +
+                "\"value\":\"line1\\nline2\"}\n");
+    }
+
+    @Test
+    public void shouldExportGzippedCsvWithQuotedFields() throws IOException {
+        // GIVEN
+        final RollingFileExporter exporter = register(new RollingFileExporter(directory, "listener", ExportFormat.CSV,
+                                                                              true, 0, 0));
+        exporter.start();
+
+        // WHEN
+        exporter.onRecordsReceived(chunk(record(0, 1, "plain", "a,b"),
+                                         record(0, 2, null, "say \"hi\"")));
+        exporter.close();
+
+        // THEN
+        assertThat(exporter.getFiles().get(0).getFileName().toString()).endsWith(".csv.gz");
+        assertThat(readGzipped(exporter.getFiles().get(0))).isEqualTo(
+            "timestamp,topic,partition,offset,key,value\n" +
+                "1000,topic,0,1,plain,\"a,b\"\n" +
+                "1000,topic,0,2,,\"say \"\"hi\"\"\"\n");
+    }
+
+    @Test
+    public void shouldRollFilesBySizeAndInterval() throws IOException {
+        // GIVEN
+        final AtomicLong now = new AtomicLong(0);
+        final RollingFileExporter exporter = register(new RollingFileExporter(directory, "listener", ExportFormat.RAW_VALUE,
+                                                                              false, 10, 60_000, 16, now::get));
+        exporter.start();
+
+        // WHEN
+        exporter.onRecordsReceived(chunk(record(0, 0, null, "12345")));
+        exporter.onRecordsReceived(chunk(record(0, 1, null, "1234567890")));
+        exporter.onRecordsReceived(chunk(record(0, 2, null, "a")));
+        exporter.close();
+        final RollingFileExporter timedExporter = register(new RollingFileExporter(directory, "timed", ExportFormat.RAW_VALUE,
+                                                                                   false, 0, 60_000, 16, now::get));
+        timedExporter.start();
+        timedExporter.onRecordsReceived(chunk(record(0, 0, null, "a")));
+        waitUntilExported(timedExporter, 1);
+        now.set(60_000);
+        timedExporter.onRecordsReceived(chunk(record(0, 1, null, "b")));
+        timedExporter.close();
+
+        // THEN
+        assertThat(exporter.getFiles()).hasSize(2);
+        assertThat(read(exporter.getFiles().get(0))).isEqualTo("12345\n1234567890\n");
+        assertThat(read(exporter.getFiles().get(1))).isEqualTo("a\n");
+        assertThat(timedExporter.getFiles()).hasSize(2);
+        assertThat(read(timedExporter.getFiles().get(1))).isEqualTo("b\n");
+    }
+
+    private static void waitUntilExported(RollingFileExporter exporter, long count) {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (exporter.getExportedRecordsCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.yield();
+        }
+    }
+
+    @SafeVarargs
+    private static ReceivedRecordsChunk chunk(ConsumerRecord<String, String>... records) {
+        return ReceivedRecordsChunk.from(new ArrayList<>(Arrays.asList(records)), 0);
+    }
+
+    private static ConsumerRecord<String, String> record(int partition, long offset, String key, String value) {
+        return new ConsumerRecord<>("topic", partition, offset, 1000L, TimestampType.CREATE_TIME, 0L,
+                                    key == null ? -1 : key.length(),
+                                    value == null ? -1 : value.length(),
+                                    key, value);
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private static String readGzipped(Path file) throws IOException {
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(file))) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = input.read(buffer)) > 0) {
+                output.write(buffer, 0, read);
+            }
+            return new String(output.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private RollingFileExporter register(RollingFileExporter exporter) {
+        exporters.add(exporter);
+        return exporter;
+    }
+}
@@ -0,0 +1,147 @@
+import application.kafka.listener.StartOffsetsResolver;
+import application.model.ListenerStartPosition;
+import application.utils.TimestampUtils;
+import application.utils.ValidatorUtils;
+import application.utils.kafka.KafkaPartitionUtils;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.testng.annotations.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class StartOffsetsResolverSpecification {
+
+    private static final TopicPartition PARTITION_0 = new TopicPartition("topic", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("topic", 1);
+    private static final List<TopicPartition> PARTITIONS = Arrays.asList(PARTITION_0, PARTITION_1);
+
+    @Test
+    public void shouldStartFromLastRecordsWithoutGoingBeforeBeginning() {
+        // GIVEN
+        final MockConsumer<String, String> consumer = createConsumer();
+
+        // WHEN
+        final Map<TopicPartition, Long> offsets = StartOffsetsResolver.resolve(consumer,
+                                                                               PARTITIONS,
+                                                                               ListenerStartPosition.END_MINUS_N,
+                                                                               "30");
+
+        // THEN
+        assertThat(offsets.get(PARTITION_0)).isEqualTo(70L);
+        assertThat(offsets.get(PARTITION_1)).isEqualTo(10L);
+    }
+
+    @Test
+    public void shouldClampAbsoluteOffsetToPartitionRange() {
+        // GIVEN
+        final MockConsumer<String, String> consumer = createConsumer();
+
+        // WHEN
+        final Map<TopicPartition, Long> offsets = StartOffsetsResolver.resolve(consumer,
+                                                                               PARTITIONS,
+                                                                               ListenerStartPosition.OFFSET,
+                                                                               "50");
+
+        // THEN
+        assertThat(offsets.get(PARTITION_0)).isEqualTo(50L);
+        assertThat(offsets.get(PARTITION_1)).isEqualTo(20L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldStartFromEndWhenNoRecordHasRequestedTimestamp() {
+        // GIVEN
+        final Consumer<String, String> consumer = mock(Consumer.class);
+        final Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+        beginningOffsets.put(PARTITION_0, 0L);
+        beginningOffsets.put(PARTITION_1, 0L);
+        final Map<TopicPartition, Long> endOffsets = new HashMap<>();
+        endOffsets.put(PARTITION_0, 100L);
+        endOffsets.put(PARTITION_1, 200L);
+        final Map<TopicPartition, OffsetAndTimestamp> offsetsForTimes = new HashMap<>();
+        offsetsForTimes.put(PARTITION_0, new OffsetAndTimestamp(42L, 1000L));
+        offsetsForTimes.put(PARTITION_1, null);
+        when(consumer.beginningOffsets(anyCollection())).thenReturn(beginningOffsets);
+        when(consumer.endOffsets(anyCollection())).thenReturn(endOffsets);
+        when(consumer.offsetsForTimes(anyMap())).thenReturn(offsetsForTimes);
+
+        // WHEN
+        final Map<TopicPartition, Long> offsets = StartOffsetsResolver.resolve(consumer,
+                                                                               PARTITIONS,
+                                                                               ListenerStartPosition.TIMESTAMP,
+                                                                               "1000");
+
+        // THEN
+        assertThat(offsets.get(PARTITION_0)).isEqualTo(42L);
+        assertThat(offsets.get(PARTITION_1)).isEqualTo(200L);
+    }
+
+    @Test
+    public void shouldParsePartitionsListWithRanges() {
+        // WHEN
+        final List<Integer> partitions = KafkaPartitionUtils.parsePartitions(" 5-7, 0,3 ,6");
+
+        // THEN
+        assertThat(partitions).containsExactly(0, 3, 5, 6, 7);
+        assertThat(KafkaPartitionUtils.parsePartitions("")).isEmpty();
+        assertThat(catchThrowable(() -> KafkaPartitionUtils.parsePartitions("3-1"))).isInstanceOf(IllegalArgumentException.class);
+        assertThat(catchThrowable(() -> KafkaPartitionUtils.parsePartitions("a"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldRejectPartitionsOutOfRangeWithoutExpandingThem() {
+        // WHEN
+        final boolean hugeRangeValid = ValidatorUtils.isValidPartitionsList("0-99999999");
+        final boolean overflowingRangeValid = ValidatorUtils.isValidPartitionsList("0-2147483647");
+
+        // THEN
+        assertThat(hugeRangeValid).isFalse();
+        assertThat(overflowingRangeValid).isFalse();
+        assertThat(ValidatorUtils.isValidPartitionsList("3000000000")).isFalse();
+        assertThat(ValidatorUtils.isValidPartitionsList("0-" + KafkaPartitionUtils.MAX_PARTITION)).isTrue();
+        assertThat(KafkaPartitionUtils.parsePartitions("0-" + KafkaPartitionUtils.MAX_PARTITION))
+            .hasSize(KafkaPartitionUtils.MAX_PARTITION + 1);
+    }
+
+    @Test
+    public void shouldParseTimestampAsEpochMillisOrLocalDateTime() {
+        // GIVEN
+        final long expected = LocalDateTime.of(2018, 5, 1, 12, 30, 15)
+            .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        // THEN
+        assertThat(TimestampUtils.parseEpochMili("1525170615000")).contains(1525170615000L);
+        assertThat(TimestampUtils.parseEpochMili("2018-05-01 12:30:15")).contains(expected);
+        assertThat(TimestampUtils.parseEpochMili("2018-05-01 12:30:15.250")).contains(expected + 250);
+        assertThat(TimestampUtils.parseEpochMili("yesterday")).isEmpty();
+    }
+
+    private static MockConsumer<String, String> createConsumer() {
+        final MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.assign(PARTITIONS);
+        final Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+        beginningOffsets.put(PARTITION_0, 0L);
+        beginningOffsets.put(PARTITION_1, 10L);
+        consumer.updateBeginningOffsets(beginningOffsets);
+        final Map<TopicPartition, Long> endOffsets = new HashMap<>();
+        endOffsets.put(PARTITION_0, 100L);
+        endOffsets.put(PARTITION_1, 20L);
+        consumer.updateEndOffsets(endOffsets);
+        return consumer;
+    }
+}
@@ -0,0 +1,104 @@
+import application.root.TextLinesStore;
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TextLinesStoreSpecification {
+
+    @Test
+    public void shouldSplitAppendedTextIntoLines() {
+        // GIVEN
+        TextLinesStore store = new TextLinesStore(16);
+
+        // WHEN
+        final int added = store.append("first\nsecond\nthi");
+
+        // THEN
+        assertThat(added).isEqualTo(3);
+        assertThat(store.getLine(0)).isEqualTo("first");
+        assertThat(store.getLine(1)).isEqualTo("second");
+        assertThat(store.getLine(2)).isEqualTo("thi");
+    }
+
+    @Test
+    public void shouldContinueUnterminatedLine() {
+        // GIVEN
+        TextLinesStore store = new TextLinesStore(16);
+        store.append("thi");
+
+        // WHEN
+        final int added = store.append("rd\nfourth\n");
+
+        // THEN
+        assertThat(added).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.getLine(0)).isEqualTo("third");
+        assertThat(store.getLine(1)).isEqualTo("fourth");
+    }
+
+    @Test
+    public void shouldRemoveWholeLinesFromBeginning() {
+        // GIVEN
+        TextLinesStore store = new TextLinesStore(8);
+        store.append("aaa\nbbbbbbb\nccc\n");
+
+        // WHEN
+        final int removed = store.removeFromBeginning("aaa\nbbbbbbb\n".length());
+
+        // THEN
+        assertThat(removed).isEqualTo(2);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.getLine(0)).isEqualTo("ccc");
+    }
+
+    @Test
+    public void shouldCutFirstLineWhenRemovedLengthEndsInsideOfIt() {
+        // GIVEN
+        TextLinesStore store = new TextLinesStore(64);
+        store.append("aaa\n\u017c\u00f3\u0142w\n");
+
+        // WHEN
+        final int removed = store.removeFromBeginning(5);
+
+        // THEN
+        assertThat(removed).isEqualTo(1);
+        assertThat(store.getLine(0)).isEqualTo("\u00f3\u0142w");
+    }
+
+    @Test
+    public void shouldKeepWorkingAfterAllLinesWereRemoved() {
+        // GIVEN
+        TextLinesStore store = new TextLinesStore(8);
+        store.append("aaaaaa\nbbbbbb\n");
+        store.removeFromBeginning(14);
+
+        // WHEN
+        store.append("cccccc\ndddddd\n");
+
+        // THEN
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.getLine(0)).isEqualTo("cccccc");
+        assertThat(store.getLine(1)).isEqualTo("dddddd");
+    }
+
+    @Test
+    public void shouldHandleMillionLinesWithRollingHead() {
+        // GIVEN
+        TextLinesStore store = new TextLinesStore();
+        final String line = "[12:00:00.000] ConsumerRecord: (key=some-key, partition=0, offset=%07d)\n";
+
+        // WHEN
+        for (int i = 0; i < 1_000_000; i++) {
+            store.append(String.format(line, i));
+        }
+        for (int i = 0; i < 1000; i++) {
+            store.removeFromBeginning(String.format(line, i).length());
+        }
+
+        // THEN
+        assertThat(store.size()).isEqualTo(999_000);
+        assertThat(store.getLine(0)).endsWith("offset=0001000)");
+        assertThat(store.getLine(500_000)).endsWith("offset=0501000)");
+        assertThat(store.getLine(998_999)).endsWith("offset=0999999)");
+    }
+}
@@ -0,0 +1,106 @@
+import application.kafka.search.PartitionWindow;
+import application.kafka.search.TimestampWindow;
+import application.kafka.search.TimestampWindowReader;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.record.TimestampType;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TimestampWindowReaderSpecification {
+
+    private static final String TOPIC = "topic";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+    private static final int RECORDS_PER_PARTITION = 10;
+
+    @Test
+    public void shouldPlaceWindowAtPartitionEndWhenTimestampIsNotFound() {
+        // WHEN
+        final PartitionWindow found = PartitionWindow.around(0, 10, 100, 12L, 5, 5);
+        final PartitionWindow notFound = PartitionWindow.around(1, 0, 100, null, 5, 5);
+
+        // THEN
+        assertThat(found.getStartOffset()).isEqualTo(10L);
+        assertThat(found.getEndOffset()).isEqualTo(17L);
+        assertThat(notFound.isTimestampFound()).isFalse();
+        assertThat(notFound.getStartOffset()).isEqualTo(95L);
+        assertThat(notFound.getEndOffset()).isEqualTo(100L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReadWindowsOfAllPartitionsAndMergeThemByTimestamp() throws Exception {
+        // GIVEN
+        final Consumer<String, String> offsetsConsumer = mock(Consumer.class);
+        when(offsetsConsumer.partitionsFor(TOPIC)).thenReturn(Arrays.asList(
+            new PartitionInfo(TOPIC, 1, null, null, null),
+            new PartitionInfo(TOPIC, 0, null, null, null)));
+        when(offsetsConsumer.beginningOffsets(anyCollection())).thenReturn(offsets(0L, 0L));
+        when(offsetsConsumer.endOffsets(anyCollection())).thenReturn(offsets(10L, 10L));
+        final Map<TopicPartition, OffsetAndTimestamp> offsetsForTimes = new HashMap<>();
+        offsetsForTimes.put(PARTITION_0, new OffsetAndTimestamp(5L, 1050L));
+        offsetsForTimes.put(PARTITION_1, null);
+        when(offsetsConsumer.offsetsForTimes(anyMap())).thenReturn(offsetsForTimes);
+
+        final Deque<Consumer<String, String>> consumers = new ConcurrentLinkedDeque<>();
+        consumers.add(offsetsConsumer);
+        consumers.add(createRecordsConsumer());
+        consumers.add(createRecordsConsumer());
+        final TimestampWindowReader reader = new TimestampWindowReader(consumers::poll, 2, 5000);
+
+        // WHEN
+        final TimestampWindow window = reader.read(TOPIC, 1050L, 1, 2);
+
+        // THEN
+        verify(offsetsConsumer, times(1)).offsetsForTimes(anyMap());
+        assertThat(window.isComplete()).isTrue();
+        assertThat(window.getPartitionWindows()).extracting(PartitionWindow::toString)
+            .containsExactly("0:[4-7)", "1:[9-10) (end)");
+        final List<String> records = window.getRecords().stream()
+            .map(record -> record.partition() + "/" + record.offset())
+            .collect(Collectors.toList());
+        assertThat(records).containsExactly("0/4", "0/5", "0/6", "1/9");
+    }
+
+    private static Map<TopicPartition, Long> offsets(long partition0Offset, long partition1Offset) {
+        final Map<TopicPartition, Long> offsets = new HashMap<>();
+        offsets.put(PARTITION_0, partition0Offset);
+        offsets.put(PARTITION_1, partition1Offset);
+        return offsets;
+    }
+
+    private static MockConsumer<String, String> createRecordsConsumer() {
+        final MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.schedulePollTask(() -> {
+            for (TopicPartition partition : consumer.assignment()) {
+                for (int offset = 0; offset < RECORDS_PER_PARTITION; offset++) {
+                    final long timestamp = 1000 + offset * 10 + partition.partition() * 5;
+                    consumer.addRecord(new ConsumerRecord<>(TOPIC, partition.partition(), offset, timestamp,
+                                                            TimestampType.CREATE_TIME, 0L, 0, 0, "key", "value"));
+                }
+            }
+        });
+        return consumer;
+    }
+}
@@ -0,0 +1,106 @@
+import application.kafka.sender.TokenBucketRateLimiter;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class TokenBucketRateLimiterSpecification {
+
+    private long nowNanos;
+    private List<Long> waitsNanos;
+
+    @BeforeMethod
+    public void setup() {
+        nowNanos = 0;
+        waitsNanos = new ArrayList<>();
+    }
+
+    @Test
+    public void shouldPaceAcquiringToTargetRate() throws Exception {
+        // GIVEN
+        TokenBucketRateLimiter limiter = limiter(1000, 0, 0);
+
+        // WHEN
+        for (int i = 0; i < 300; i++) {
+            limiter.acquire(1);
+        }
+
+        // THEN
+        assertThat(waitsNanos).hasSize(300).allMatch(wait -> Math.abs(wait - TimeUnit.MILLISECONDS.toNanos(1)) <= 1);
+        assertThat((double) nowNanos).isCloseTo(TimeUnit.MILLISECONDS.toNanos(300), within(300.0));
+    }
+
+    @Test
+    public void shouldAllowBurstOfAccumulatedPermitsWithoutWaiting() throws Exception {
+        // GIVEN
+        TokenBucketRateLimiter limiter = limiter(1000, 100, 0);
+        nowNanos = TimeUnit.MILLISECONDS.toNanos(200);
+
+        // WHEN
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire(1);
+        }
+        limiter.acquire(1);
+
+        // THEN
+        // only permit exceeding the burst has to wait
+        assertThat(waitsNanos).containsExactly(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Test
+    public void shouldLowerRateDuringRampUp() {
+        // GIVEN
+        TokenBucketRateLimiter limiter = limiter(1000, 0, 10_000);
+
+        // WHEN
+        final double rateAtStart = limiter.getCurrentRate();
+        nowNanos = TimeUnit.SECONDS.toNanos(5);
+        final double rateInTheMiddle = limiter.getCurrentRate();
+        nowNanos = TimeUnit.SECONDS.toNanos(10);
+        final double rateAfterRampUp = limiter.getCurrentRate();
+
+        // THEN
+        assertThat(rateAtStart).isEqualTo(10.0);
+        assertThat(rateInTheMiddle).isEqualTo(500.0);
+        assertThat(rateAfterRampUp).isEqualTo(1000.0);
+    }
+
+    @Test
+    public void shouldStopWaitingWhenThreadIsInterrupted() throws Exception {
+        // GIVEN
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 0, 0);
+        final AtomicReference<Throwable> thrown = new AtomicReference<>();
+        final CountDownLatch finished = new CountDownLatch(1);
+        final Thread sender = new Thread(() -> {
+            try {
+                limiter.acquire(60);
+            } catch (Throwable e) {
+                thrown.set(e);
+            }
+            finished.countDown();
+        });
+        sender.start();
+
+        // WHEN
+        Thread.sleep(100);
+        sender.interrupt();
+
+        // THEN
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(thrown.get()).isInstanceOf(InterruptedException.class);
+    }
+
+    private TokenBucketRateLimiter limiter(double targetRatePerSec, double burstSize, long rampUpMs) {
+        return new TokenBucketRateLimiter(targetRatePerSec, burstSize, rampUpMs, () -> nowNanos, deadlineNanos -> {
+            waitsNanos.add(deadlineNanos - nowNanos);
+            nowNanos = deadlineNanos;
+        });
+    }
+}
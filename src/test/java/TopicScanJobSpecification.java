@@ -0,0 +1,108 @@
+import application.kafka.search.PartitionScanProgress;
+import application.kafka.search.RecordMatchers;
+import application.kafka.search.TopicScanJob;
+import application.model.ListenerStartPosition;
+import application.model.ScanMatchType;
+import application.model.ScanTarget;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TopicScanJobSpecification {
+
+    private static final String TOPIC = "topic";
+    private static final int PARTITIONS_COUNT = 3;
+    private static final int RECORDS_PER_PARTITION = 10;
+
+    @Test
+    public void shouldScanAllPartitionsWithSeveralScannersAndReportProgress() throws Exception {
+        // GIVEN
+        final List<ConsumerRecord<String, String>> hits = Collections.synchronizedList(new ArrayList<>());
+        final TopicScanJob job = new TopicScanJob(createConsumers(2),
+                                                  TOPIC,
+                                                  RecordMatchers.create(ScanMatchType.SUBSTRING, ScanTarget.VALUE, "needle"),
+                                                  2,
+                                                  TopicScanJob.DEFAULT_MAX_HITS,
+                                                  hits::add);
+
+        // WHEN
+        job.run(ListenerStartPosition.BEGINNING, "0");
+
+        // THEN
+        assertThat(hits).hasSize(PARTITIONS_COUNT * 2);
+        assertThat(job.getHitsCount()).isEqualTo(PARTITIONS_COUNT * 2);
+        final List<PartitionScanProgress> progress = job.getProgress();
+        assertThat(progress).extracting(PartitionScanProgress::getPartition).containsExactly(0, 1, 2);
+        assertThat(progress).allMatch(PartitionScanProgress::isFinished);
+        assertThat(progress).extracting(PartitionScanProgress::getHits).containsOnly(2L);
+        assertThat(progress).extracting(PartitionScanProgress::getScannedRecords).containsOnly((long) RECORDS_PER_PARTITION);
+    }
+
+    @Test
+    public void shouldStopScanningWhenMaxHitsIsReached() throws Exception {
+        // GIVEN
+        final List<ConsumerRecord<String, String>> hits = Collections.synchronizedList(new ArrayList<>());
+        final TopicScanJob job = new TopicScanJob(createConsumers(1),
+                                                  TOPIC,
+                                                  RecordMatchers.create(ScanMatchType.REGEX, ScanTarget.KEY_OR_VALUE, "val.*-[0-9]"),
+                                                  1,
+                                                  3,
+                                                  hits::add);
+
+        // WHEN
+        job.run(ListenerStartPosition.BEGINNING, "0");
+
+        // THEN
+        assertThat(hits).hasSize(3);
+        assertThat(job.isMaxHitsReached()).isTrue();
+    }
+
+    private static Supplier<Consumer<String, String>> createConsumers(int scannersCount) {
+        final Deque<Consumer<String, String>> consumers = new ConcurrentLinkedDeque<>();
+        final MockConsumer<String, String> offsetsConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        final List<PartitionInfo> partitionInfos = new ArrayList<>();
+        final Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+        final Map<TopicPartition, Long> endOffsets = new HashMap<>();
+        for (int partition = 0; partition < PARTITIONS_COUNT; partition++) {
+            partitionInfos.add(new PartitionInfo(TOPIC, partition, null, null, null));
+            beginningOffsets.put(new TopicPartition(TOPIC, partition), 0L);
+            endOffsets.put(new TopicPartition(TOPIC, partition), (long) RECORDS_PER_PARTITION);
+        }
+        offsetsConsumer.updatePartitions(TOPIC, partitionInfos);
+        offsetsConsumer.updateBeginningOffsets(beginningOffsets);
+        offsetsConsumer.updateEndOffsets(endOffsets);
+        consumers.add(offsetsConsumer);
+        for (int i = 0; i < scannersCount; i++) {
+            consumers.add(createScannerConsumer());
+        }
+        return consumers::poll;
+    }
+
+    private static MockConsumer<String, String> createScannerConsumer() {
+        final MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.schedulePollTask(() -> {
+            for (TopicPartition partition : consumer.assignment()) {
+                for (int offset = 0; offset < RECORDS_PER_PARTITION; offset++) {
+                    final String value = offset % 5 == 0 ? "value-needle-" + offset : "value-" + offset;
+                    consumer.addRecord(new ConsumerRecord<>(TOPIC, partition.partition(), offset, "key", value));
+                }
+            }
+        });
+        return consumer;
+    }
+}
@@ -0,0 +1,59 @@
+package configs;
+
+import application.model.ConsumerProfilePreset;
+import application.model.modelobjects.KafkaConsumerProfile;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.testng.annotations.Test;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConsumerProfileSpecification {
+
+    @Test
+    public void shouldUseKafkaClientDefaultsByDefault() {
+        // GIVEN
+        final KafkaConsumerProfile profile = new KafkaConsumerProfile();
+
+        // WHEN
+        final Properties properties = profile.toConsumerProperties();
+
+        // THEN
+        assertThat(properties.get(ConsumerConfig.MAX_POLL_RECORDS_CONFIG)).isEqualTo("500");
+        assertThat(properties.get(ConsumerConfig.FETCH_MIN_BYTES_CONFIG)).isEqualTo("1");
+        assertThat(properties.get(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG)).isEqualTo("500");
+        assertThat(properties.get(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG)).isEqualTo("1048576");
+        assertThat(properties.get(ConsumerConfig.RECEIVE_BUFFER_CONFIG)).isEqualTo("65536");
+    }
+
+    @Test
+    public void shouldApplyLargeMessagesPreset() {
+        // GIVEN
+        final KafkaConsumerProfile profile = new KafkaConsumerProfile();
+
+        // WHEN
+        ConsumerProfilePreset.LARGE_MESSAGES.applyTo(profile);
+        final Properties properties = profile.toConsumerProperties();
+
+        // THEN
+        assertThat(properties.get(ConsumerConfig.MAX_POLL_RECORDS_CONFIG)).isEqualTo("100");
+        assertThat(properties.get(ConsumerConfig.FETCH_MIN_BYTES_CONFIG)).isEqualTo("1048576");
+        assertThat(properties.get(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG)).isEqualTo("52428800");
+        assertThat(properties.get(ConsumerConfig.RECEIVE_BUFFER_CONFIG)).isEqualTo("4194304");
+    }
+
+    @Test
+    public void shouldCopyProfileOfOtherListener() {
+        // GIVEN
+        final KafkaConsumerProfile source = new KafkaConsumerProfile();
+        ConsumerProfilePreset.MAX_THROUGHPUT.applyTo(source);
+        final KafkaConsumerProfile target = new KafkaConsumerProfile();
+
+        // WHEN
+        target.copyFrom(source);
+
+        // THEN
+        assertThat(target.toConsumerProperties()).isEqualTo(source.toConsumerProperties());
+    }
+}
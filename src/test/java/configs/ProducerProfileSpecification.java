@@ -0,0 +1,76 @@
+package configs;
+
+import application.model.ProducerProfilePreset;
+import application.model.modelobjects.KafkaProducerProfile;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.testng.annotations.Test;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProducerProfileSpecification {
+
+    @Test
+    public void shouldKeepAcksAllByDefault() {
+        // GIVEN
+        final KafkaProducerProfile profile = new KafkaProducerProfile();
+
+        // WHEN
+        final Properties properties = profile.toProducerProperties();
+
+        // THEN
+        assertThat(properties.get(ProducerConfig.ACKS_CONFIG)).isEqualTo("all");
+        assertThat(properties.get(ProducerConfig.COMPRESSION_TYPE_CONFIG)).isEqualTo("none");
+        assertThat(properties.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG)).isEqualTo("false");
+    }
+
+    @Test
+    public void shouldApplyMaxThroughputPreset() {
+        // GIVEN
+        final KafkaProducerProfile profile = new KafkaProducerProfile();
+
+        // WHEN
+        ProducerProfilePreset.MAX_THROUGHPUT.applyTo(profile);
+        final Properties properties = profile.toProducerProperties();
+
+        // THEN
+        assertThat(properties.get(ProducerConfig.BATCH_SIZE_CONFIG)).isEqualTo("524288");
+        assertThat(properties.get(ProducerConfig.LINGER_MS_CONFIG)).isEqualTo("50");
+        assertThat(properties.get(ProducerConfig.COMPRESSION_TYPE_CONFIG)).isEqualTo("lz4");
+        assertThat(properties.get(ProducerConfig.ACKS_CONFIG)).isEqualTo("1");
+        assertThat(properties.get(ProducerConfig.BUFFER_MEMORY_CONFIG)).isEqualTo("134217728");
+    }
+
+    @Test
+    public void shouldCopyProfileOfOtherSender() {
+        // GIVEN
+        final KafkaProducerProfile source = new KafkaProducerProfile();
+        ProducerProfilePreset.IDEMPOTENT.applyTo(source);
+        final KafkaProducerProfile target = new KafkaProducerProfile();
+
+        // WHEN
+        target.copyFrom(source);
+
+        // THEN
+        assertThat(target.toProducerProperties()).isEqualTo(source.toProducerProperties());
+        assertThat(target.getIdempotenceEnabled()).isTrue();
+    }
+
+    @Test
+    public void shouldEnforceSettingsRequiredByIdempotence() {
+        // GIVEN
+        final KafkaProducerProfile profile = new KafkaProducerProfile();
+        ProducerProfilePreset.MAX_THROUGHPUT.applyTo(profile);
+        profile.setMaxInFlightRequestsPerConnection("10");
+        profile.setIdempotenceEnabled(true);
+
+        // WHEN
+        final Properties properties = profile.toProducerProperties();
+
+        // THEN
+        assertThat(properties.get(ProducerConfig.ACKS_CONFIG)).isEqualTo("all");
+        assertThat(properties.get(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION)).isEqualTo("5");
+        assertThat(properties.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG)).isEqualTo("true");
+    }
+}
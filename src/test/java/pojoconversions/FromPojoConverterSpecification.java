@@ -1,14 +1,27 @@
 package pojoconversions;
 
 import application.model.FromPojoConverter;
+import application.model.KafkaOffsetCommitStrategy;
 import application.model.KafkaOffsetResetType;
+import application.model.ExportFormat;
+import application.model.ImportFormat;
+import application.model.ListenerSamplingMode;
+import application.model.ListenerStartPosition;
 import application.model.ModelDataProxy;
+import application.model.MessageGenerationOrder;
+import application.model.ProducerAcksType;
+import application.model.ProducerCompressionType;
+import application.model.ScanMatchType;
+import application.model.ScanTarget;
+import application.model.SendingRateUnit;
 import application.model.modelobjects.KafkaBrokerConfig;
 import application.model.modelobjects.KafkaListenerConfig;
 import application.model.modelobjects.KafkaSenderConfig;
 import application.model.modelobjects.KafkaTopicConfig;
 import application.model.pojos.BrokerConfigPojo;
+import application.model.pojos.ConsumerProfilePojo;
 import application.model.pojos.ListenerConfigPojo;
+import application.model.pojos.ProducerProfilePojo;
 import application.model.pojos.SenderConfigPojo;
 import application.model.pojos.TopicConfigPojo;
 import org.mockito.Mock;
@@ -100,6 +113,31 @@ public class FromPojoConverterSpecification {
         assertThat(config.getRunBeforeAllMessagesScript()).isEqualTo("");
         assertThat(config.getRunBeforeEachMessageScript()).isEqualTo("");
         assertThat(config.getSendingSimulationModeEnabled()).isFalse();
+        assertThat(config.getPipelinedSendingEnabled()).isFalse();
+        assertThat(config.getMaxInFlightMessages()).isEqualTo("1000");
+        assertThat(config.getScriptEvaluationTimeoutMs()).isEqualTo("5000");
+        assertThat(config.getGeneratorThreadsCount()).isEqualTo("1");
+        assertThat(config.getSendingRateLimitEnabled()).isFalse();
+        assertThat(config.getTargetSendingRate()).isEqualTo("1000");
+        assertThat(config.getSendingRateUnit()).isEqualTo(SendingRateUnit.MESSAGES_PER_SECOND);
+        assertThat(config.getSendingRateRampUpSec()).isEqualTo("0");
+        assertThat(config.getSendingRateBurst()).isEqualTo("0");
+        assertThat(config.getBenchmarkModeEnabled()).isFalse();
+        assertThat(config.getLatencyProbeEnabled()).isFalse();
+        assertThat(config.getImportEnabled()).isFalse();
+        assertThat(config.getImportFilePath()).isEqualTo("");
+        assertThat(config.getImportFormat()).isEqualTo(ImportFormat.JSON_LINES);
+        assertThat(config.getImportCsvKeyColumn()).isEqualTo("key");
+        assertThat(config.getImportCsvValueColumn()).isEqualTo("value");
+        assertThat(config.getImportDelimiter()).isEqualTo("\\n");
+        assertThat(config.getMessageGenerationOrder()).isEqualTo(MessageGenerationOrder.ORDERED);
+        assertThat(config.getProducerProfile().getAcks()).isEqualTo(ProducerAcksType.ALL);
+        assertThat(config.getProducerProfile().getCompressionType()).isEqualTo(ProducerCompressionType.NONE);
+        assertThat(config.getProducerProfile().getBatchSize()).isEqualTo("16384");
+        assertThat(config.getProducerProfile().getLingerMs()).isEqualTo("0");
+        assertThat(config.getProducerProfile().getBufferMemory()).isEqualTo("33554432");
+        assertThat(config.getProducerProfile().getMaxInFlightRequestsPerConnection()).isEqualTo("5");
+        assertThat(config.getProducerProfile().getIdempotenceEnabled()).isFalse();
     }
 
     @Test
@@ -149,6 +187,33 @@ public class FromPojoConverterSpecification {
         pojo.setRunBeforeEachMessageScript("DDD");
         pojo.setTopicConfigUuid(relatedUuid);
         pojo.setSendingSimulationModeEnabled(true);
+        pojo.setPipelinedSendingEnabled(true);
+        pojo.setMaxInFlightMessages("50");
+        pojo.setScriptEvaluationTimeoutMs("300");
+        pojo.setGeneratorThreadsCount("8");
+        pojo.setMessageGenerationOrder("unordered");
+        pojo.setSendingRateLimitEnabled(true);
+        pojo.setTargetSendingRate("250");
+        pojo.setSendingRateUnit("megabytes_per_second");
+        pojo.setSendingRateRampUpSec("10");
+        pojo.setSendingRateBurst("2");
+        pojo.setBenchmarkModeEnabled(true);
+        pojo.setLatencyProbeEnabled(true);
+        pojo.setImportEnabled(true);
+        pojo.setImportFilePath(" /tmp/records.csv ");
+        pojo.setImportFormat("csv");
+        pojo.setImportCsvKeyColumn("id");
+        pojo.setImportCsvValueColumn("payload");
+        pojo.setImportDelimiter(";");
+        final ProducerProfilePojo profilePojo = new ProducerProfilePojo();
+        profilePojo.setBatchSize("100");
+        profilePojo.setLingerMs("10");
+        profilePojo.setCompressionType("snappy");
+        profilePojo.setAcks("leader");
+        profilePojo.setBufferMemory("4096");
+        profilePojo.setMaxInFlightRequestsPerConnection("2");
+        profilePojo.setIdempotenceEnabled(true);
+        pojo.setProducerProfile(profilePojo);
         KafkaTopicConfig relatedConfig = mock(KafkaTopicConfig.class);
 
         when(proxy.getTopicConfigByUuid(relatedUuid)).thenReturn(Optional.of(relatedConfig));
@@ -167,6 +232,31 @@ public class FromPojoConverterSpecification {
         assertThat(config.getRunBeforeAllMessagesScript()).isEqualTo("zzz");
         assertThat(config.getRunBeforeEachMessageScript()).isEqualTo("DDD");
         assertThat(config.getSendingSimulationModeEnabled()).isTrue();
+        assertThat(config.getPipelinedSendingEnabled()).isTrue();
+        assertThat(config.getMaxInFlightMessages()).isEqualTo("50");
+        assertThat(config.getScriptEvaluationTimeoutMs()).isEqualTo("300");
+        assertThat(config.getGeneratorThreadsCount()).isEqualTo("8");
+        assertThat(config.getMessageGenerationOrder()).isEqualTo(MessageGenerationOrder.UNORDERED);
+        assertThat(config.getSendingRateLimitEnabled()).isTrue();
+        assertThat(config.getTargetSendingRate()).isEqualTo("250");
+        assertThat(config.getSendingRateUnit()).isEqualTo(SendingRateUnit.MEGABYTES_PER_SECOND);
+        assertThat(config.getSendingRateRampUpSec()).isEqualTo("10");
+        assertThat(config.getSendingRateBurst()).isEqualTo("2");
+        assertThat(config.getBenchmarkModeEnabled()).isTrue();
+        assertThat(config.getLatencyProbeEnabled()).isTrue();
+        assertThat(config.getImportEnabled()).isTrue();
+        assertThat(config.getImportFilePath()).isEqualTo("/tmp/records.csv");
+        assertThat(config.getImportFormat()).isEqualTo(ImportFormat.CSV);
+        assertThat(config.getImportCsvKeyColumn()).isEqualTo("id");
+        assertThat(config.getImportCsvValueColumn()).isEqualTo("payload");
+        assertThat(config.getImportDelimiter()).isEqualTo(";");
+        assertThat(config.getProducerProfile().getBatchSize()).isEqualTo("100");
+        assertThat(config.getProducerProfile().getLingerMs()).isEqualTo("10");
+        assertThat(config.getProducerProfile().getCompressionType()).isEqualTo(ProducerCompressionType.SNAPPY);
+        assertThat(config.getProducerProfile().getAcks()).isEqualTo(ProducerAcksType.LEADER);
+        assertThat(config.getProducerProfile().getBufferMemory()).isEqualTo("4096");
+        assertThat(config.getProducerProfile().getMaxInFlightRequestsPerConnection()).isEqualTo("2");
+        assertThat(config.getProducerProfile().getIdempotenceEnabled()).isTrue();
     }
 
     @Test
@@ -187,6 +277,42 @@ public class FromPojoConverterSpecification {
         assertThat(config.getUuid()).isNotBlank();
         assertThat(config.getReceivedMsgLimitCount()).isEqualTo("1");
         assertThat(config.getReceivedMsgLimitEnabled()).isFalse();
+        assertThat(config.getOffsetCommitStrategy()).isEqualTo(KafkaOffsetCommitStrategy.ASYNC_PER_POLL);
+        assertThat(config.getCommitInterval()).isEqualTo("1000");
+        assertThat(config.getRecordStoreEnabled()).isFalse();
+        assertThat(config.getRecordStoreDiskBudgetMb()).isEqualTo("512");
+        assertThat(config.getLatencyProbeEnabled()).isFalse();
+        assertThat(config.getBenchmarkModeEnabled()).isFalse();
+        assertThat(config.getBenchmarkTimeLimitSec()).isEqualTo("60");
+        assertThat(config.getConsumersCount()).isEqualTo("1");
+        assertThat(config.getAssignModeEnabled()).isFalse();
+        assertThat(config.getAssignPartitions()).isEqualTo("");
+        assertThat(config.getStartPosition()).isEqualTo(ListenerStartPosition.BEGINNING);
+        assertThat(config.getStartPositionValue()).isEqualTo("0");
+        assertThat(config.getFilterEnabled()).isFalse();
+        assertThat(config.getFilterMatchType()).isEqualTo(ScanMatchType.SUBSTRING);
+        assertThat(config.getFilterTarget()).isEqualTo(ScanTarget.VALUE);
+        assertThat(config.getFilterPattern()).isEqualTo("");
+        assertThat(config.getFilterPartitions()).isEqualTo("");
+        assertThat(config.getFilterMinOffset()).isEqualTo("");
+        assertThat(config.getFilterMaxOffset()).isEqualTo("");
+        assertThat(config.getFilterFromTimestamp()).isEqualTo("");
+        assertThat(config.getFilterToTimestamp()).isEqualTo("");
+        assertThat(config.getFilterGroovyPredicate()).isEqualTo("");
+        assertThat(config.getSamplingMode()).isEqualTo(ListenerSamplingMode.NONE);
+        assertThat(config.getSamplingValue()).isEqualTo("100");
+        assertThat(config.getSamplingWindowMs()).isEqualTo("1000");
+        assertThat(config.getExportEnabled()).isFalse();
+        assertThat(config.getExportDirectory()).isEqualTo("");
+        assertThat(config.getExportFormat()).isEqualTo(ExportFormat.JSON_LINES);
+        assertThat(config.getExportGzipEnabled()).isFalse();
+        assertThat(config.getExportRollSizeMb()).isEqualTo("100");
+        assertThat(config.getExportRollIntervalSec()).isEqualTo("0");
+        assertThat(config.getConsumerProfile().getMaxPollRecords()).isEqualTo("500");
+        assertThat(config.getConsumerProfile().getMaxPartitionFetchBytes()).isEqualTo("1048576");
+        assertThat(config.getConsumerProfile().getFetchMinBytes()).isEqualTo("1");
+        assertThat(config.getConsumerProfile().getFetchMaxWaitMs()).isEqualTo("500");
+        assertThat(config.getConsumerProfile().getReceiveBufferBytes()).isEqualTo("65536");
     }
 
     @Test
@@ -207,6 +333,44 @@ public class FromPojoConverterSpecification {
         pojo.setUuid("some_uuid");
         pojo.setReceivedMsgLimitEnabled(true);
         pojo.setReceivedMsgLimitCount("34");
+        pojo.setOffsetCommitStrategy("count_interval");
+        pojo.setCommitInterval("500");
+        pojo.setRecordStoreEnabled(true);
+        pojo.setRecordStoreDiskBudgetMb("32");
+        pojo.setLatencyProbeEnabled(true);
+        pojo.setBenchmarkModeEnabled(true);
+        pojo.setBenchmarkTimeLimitSec("120");
+        pojo.setConsumersCount("4");
+        pojo.setAssignModeEnabled(true);
+        pojo.setAssignPartitions("0,2-3");
+        pojo.setStartPosition("end_minus_n");
+        pojo.setStartPositionValue("100");
+        pojo.setFilterEnabled(true);
+        pojo.setFilterMatchType("regex");
+        pojo.setFilterTarget("key_or_value");
+        pojo.setFilterPattern("order-\\d+");
+        pojo.setFilterPartitions("1-2");
+        pojo.setFilterMinOffset("10");
+        pojo.setFilterMaxOffset("20");
+        pojo.setFilterFromTimestamp("2018-05-01 12:00:00");
+        pojo.setFilterToTimestamp("1525176000000");
+        pojo.setFilterGroovyPredicate("value.size() > 10");
+        pojo.setSamplingMode("reservoir");
+        pojo.setSamplingValue("50");
+        pojo.setSamplingWindowMs("5000");
+        pojo.setExportEnabled(true);
+        pojo.setExportDirectory("/var/kmt/export");
+        pojo.setExportFormat("csv");
+        pojo.setExportGzipEnabled(true);
+        pojo.setExportRollSizeMb("0");
+        pojo.setExportRollIntervalSec("3600");
+        final ConsumerProfilePojo profilePojo = new ConsumerProfilePojo();
+        profilePojo.setMaxPollRecords("2000");
+        profilePojo.setMaxPartitionFetchBytes("4194304");
+        profilePojo.setFetchMinBytes("65536");
+        profilePojo.setFetchMaxWaitMs("0");
+        profilePojo.setReceiveBufferBytes("1048576");
+        pojo.setConsumerProfile(profilePojo);
         // WHEN
         KafkaListenerConfig config = c.fromPojo(pojo);
 
@@ -220,6 +384,42 @@ public class FromPojoConverterSpecification {
         assertThat(config.getUuid()).isNotBlank();
         assertThat(config.getReceivedMsgLimitEnabled()).isTrue();
         assertThat(config.getReceivedMsgLimitCount()).isEqualTo("34");
+        assertThat(config.getOffsetCommitStrategy()).isEqualTo(KafkaOffsetCommitStrategy.COUNT_INTERVAL);
+        assertThat(config.getCommitInterval()).isEqualTo("500");
+        assertThat(config.getRecordStoreEnabled()).isTrue();
+        assertThat(config.getRecordStoreDiskBudgetMb()).isEqualTo("32");
+        assertThat(config.getLatencyProbeEnabled()).isTrue();
+        assertThat(config.getBenchmarkModeEnabled()).isTrue();
+        assertThat(config.getBenchmarkTimeLimitSec()).isEqualTo("120");
+        assertThat(config.getConsumersCount()).isEqualTo("4");
+        assertThat(config.getAssignModeEnabled()).isTrue();
+        assertThat(config.getAssignPartitions()).isEqualTo("0,2-3");
+        assertThat(config.getStartPosition()).isEqualTo(ListenerStartPosition.END_MINUS_N);
+        assertThat(config.getStartPositionValue()).isEqualTo("100");
+        assertThat(config.getFilterEnabled()).isTrue();
+        assertThat(config.getFilterMatchType()).isEqualTo(ScanMatchType.REGEX);
+        assertThat(config.getFilterTarget()).isEqualTo(ScanTarget.KEY_OR_VALUE);
+        assertThat(config.getFilterPattern()).isEqualTo("order-\\d+");
+        assertThat(config.getFilterPartitions()).isEqualTo("1-2");
+        assertThat(config.getFilterMinOffset()).isEqualTo("10");
+        assertThat(config.getFilterMaxOffset()).isEqualTo("20");
+        assertThat(config.getFilterFromTimestamp()).isEqualTo("2018-05-01 12:00:00");
+        assertThat(config.getFilterToTimestamp()).isEqualTo("1525176000000");
+        assertThat(config.getFilterGroovyPredicate()).isEqualTo("value.size() > 10");
+        assertThat(config.getSamplingMode()).isEqualTo(ListenerSamplingMode.RESERVOIR);
+        assertThat(config.getSamplingValue()).isEqualTo("50");
+        assertThat(config.getSamplingWindowMs()).isEqualTo("5000");
+        assertThat(config.getExportEnabled()).isTrue();
+        assertThat(config.getExportDirectory()).isEqualTo("/var/kmt/export");
+        assertThat(config.getExportFormat()).isEqualTo(ExportFormat.CSV);
+        assertThat(config.getExportGzipEnabled()).isTrue();
+        assertThat(config.getExportRollSizeMb()).isEqualTo("0");
+        assertThat(config.getExportRollIntervalSec()).isEqualTo("3600");
+        assertThat(config.getConsumerProfile().getMaxPollRecords()).isEqualTo("2000");
+        assertThat(config.getConsumerProfile().getMaxPartitionFetchBytes()).isEqualTo("4194304");
+        assertThat(config.getConsumerProfile().getFetchMinBytes()).isEqualTo("65536");
+        assertThat(config.getConsumerProfile().getFetchMaxWaitMs()).isEqualTo("0");
+        assertThat(config.getConsumerProfile().getReceiveBufferBytes()).isEqualTo("1048576");
     }
 
     @Test
@@ -229,6 +429,34 @@ public class FromPojoConverterSpecification {
         FromPojoConverter c = getConverter();
         pojo.setPollTimeout("invalid_value");
         pojo.setOffsetResetConfig("invalid_value");
+        pojo.setOffsetCommitStrategy("invalid_value");
+        pojo.setCommitInterval("0");
+        pojo.setRecordStoreDiskBudgetMb("invalid_value");
+        pojo.setBenchmarkTimeLimitSec("0");
+        pojo.setConsumersCount("0");
+        pojo.setAssignPartitions("x-y");
+        pojo.setStartPosition("offset");
+        pojo.setStartPositionValue("-5");
+        pojo.setFilterMatchType("invalid_value");
+        pojo.setFilterTarget("invalid_value");
+        pojo.setFilterPartitions("x-y");
+        pojo.setFilterMinOffset("-1");
+        pojo.setFilterMaxOffset("invalid_value");
+        pojo.setFilterFromTimestamp("invalid_value");
+        pojo.setFilterToTimestamp("2018-13-45");
+        pojo.setSamplingMode("invalid_value");
+        pojo.setSamplingValue("0");
+        pojo.setSamplingWindowMs("invalid_value");
+        pojo.setExportFormat("invalid_value");
+        pojo.setExportRollSizeMb("-1");
+        pojo.setExportRollIntervalSec("invalid_value");
+        final ConsumerProfilePojo profilePojo = new ConsumerProfilePojo();
+        profilePojo.setMaxPollRecords("invalid_value");
+        profilePojo.setMaxPartitionFetchBytes("-1");
+        profilePojo.setFetchMinBytes("0");
+        profilePojo.setFetchMaxWaitMs("invalid_value");
+        profilePojo.setReceiveBufferBytes("-1");
+        pojo.setConsumerProfile(profilePojo);
 
         // WHEN
         KafkaListenerConfig config = c.fromPojo(pojo);
@@ -236,6 +464,36 @@ public class FromPojoConverterSpecification {
         // THEN
         assertThat(config.getPollTimeout()).isEqualTo("2000");
         assertThat(config.getOffsetResetConfig()).isEqualTo(KafkaOffsetResetType.EARLIEST);
+        assertThat(config.getOffsetCommitStrategy()).isEqualTo(KafkaOffsetCommitStrategy.ASYNC_PER_POLL);
+        assertThat(config.getCommitInterval()).isEqualTo("1000");
+        assertThat(config.getRecordStoreDiskBudgetMb()).isEqualTo("512");
+        assertThat(config.getBenchmarkTimeLimitSec()).isEqualTo("60");
+        assertThat(config.getConsumersCount()).isEqualTo("1");
+        assertThat(config.getAssignModeEnabled()).isFalse();
+        assertThat(config.getAssignPartitions()).isEqualTo("");
+        assertThat(config.getStartPosition()).isEqualTo(ListenerStartPosition.OFFSET);
+        assertThat(config.getStartPositionValue()).isEqualTo("0");
+        assertThat(config.getFilterMatchType()).isEqualTo(ScanMatchType.SUBSTRING);
+        assertThat(config.getFilterTarget()).isEqualTo(ScanTarget.VALUE);
+        assertThat(config.getFilterPartitions()).isEqualTo("");
+        assertThat(config.getFilterMinOffset()).isEqualTo("");
+        assertThat(config.getFilterMaxOffset()).isEqualTo("");
+        assertThat(config.getFilterFromTimestamp()).isEqualTo("");
+        assertThat(config.getFilterToTimestamp()).isEqualTo("");
+        assertThat(config.getSamplingMode()).isEqualTo(ListenerSamplingMode.NONE);
+        assertThat(config.getSamplingValue()).isEqualTo("100");
+        assertThat(config.getSamplingWindowMs()).isEqualTo("1000");
+        assertThat(config.getExportEnabled()).isFalse();
+        assertThat(config.getExportDirectory()).isEqualTo("");
+        assertThat(config.getExportFormat()).isEqualTo(ExportFormat.JSON_LINES);
+        assertThat(config.getExportGzipEnabled()).isFalse();
+        assertThat(config.getExportRollSizeMb()).isEqualTo("100");
+        assertThat(config.getExportRollIntervalSec()).isEqualTo("0");
+        assertThat(config.getConsumerProfile().getMaxPollRecords()).isEqualTo("500");
+        assertThat(config.getConsumerProfile().getMaxPartitionFetchBytes()).isEqualTo("1048576");
+        assertThat(config.getConsumerProfile().getFetchMinBytes()).isEqualTo("1");
+        assertThat(config.getConsumerProfile().getFetchMaxWaitMs()).isEqualTo("500");
+        assertThat(config.getConsumerProfile().getReceiveBufferBytes()).isEqualTo("65536");
     }
 
     @Test
@@ -244,6 +502,21 @@ public class FromPojoConverterSpecification {
         SenderConfigPojo pojo = new SenderConfigPojo();
         FromPojoConverter c = getConverter();
         pojo.setRepeatCount("invalid_value");
+        pojo.setMaxInFlightMessages("invalid_value");
+        pojo.setScriptEvaluationTimeoutMs("0");
+        pojo.setGeneratorThreadsCount("invalid_value");
+        pojo.setMessageGenerationOrder("invalid_value");
+        pojo.setTargetSendingRate("0");
+        pojo.setSendingRateUnit("invalid_value");
+        pojo.setSendingRateRampUpSec("invalid_value");
+        pojo.setImportFormat("invalid_value");
+        pojo.setImportCsvValueColumn(" ");
+        pojo.setImportDelimiter("");
+        final ProducerProfilePojo profilePojo = new ProducerProfilePojo();
+        profilePojo.setBatchSize("invalid_value");
+        profilePojo.setCompressionType("invalid_value");
+        profilePojo.setAcks("invalid_value");
+        pojo.setProducerProfile(profilePojo);
 
         // WHEN
         KafkaSenderConfig config = c.fromPojo(pojo);
@@ -251,6 +524,19 @@ public class FromPojoConverterSpecification {
         // THEN
         final int expectedDefaultValue = 1;
         assertThat(config.getRepeatCount()).isEqualTo(expectedDefaultValue);
+        assertThat(config.getMaxInFlightMessages()).isEqualTo("1000");
+        assertThat(config.getScriptEvaluationTimeoutMs()).isEqualTo("5000");
+        assertThat(config.getGeneratorThreadsCount()).isEqualTo("1");
+        assertThat(config.getTargetSendingRate()).isEqualTo("1000");
+        assertThat(config.getSendingRateUnit()).isEqualTo(SendingRateUnit.MESSAGES_PER_SECOND);
+        assertThat(config.getSendingRateRampUpSec()).isEqualTo("0");
+        assertThat(config.getMessageGenerationOrder()).isEqualTo(MessageGenerationOrder.ORDERED);
+        assertThat(config.getImportFormat()).isEqualTo(ImportFormat.JSON_LINES);
+        assertThat(config.getImportCsvValueColumn()).isEqualTo("value");
+        assertThat(config.getImportDelimiter()).isEqualTo("\\n");
+        assertThat(config.getProducerProfile().getBatchSize()).isEqualTo("16384");
+        assertThat(config.getProducerProfile().getCompressionType()).isEqualTo(ProducerCompressionType.NONE);
+        assertThat(config.getProducerProfile().getAcks()).isEqualTo(ProducerAcksType.ALL);
     }
 
 
@@ -93,6 +93,33 @@ public class PojoSerializationSpecification {
                 "<RunBeforeEachMessageScript>def</RunBeforeEachMessageScript>" +
                 "<MessageKey>abba</MessageKey>" +
                 "<SendingSimulationModeEnabled>true</SendingSimulationModeEnabled>" +
+                "<PipelinedSendingEnabled>true</PipelinedSendingEnabled>" +
+                "<MaxInFlightMessages>64</MaxInFlightMessages>" +
+                "<ScriptEvaluationTimeoutMs>750</ScriptEvaluationTimeoutMs>" +
+                "<GeneratorThreadsCount>3</GeneratorThreadsCount>" +
+                "<MessageGenerationOrder>unordered</MessageGenerationOrder>" +
+                "<SendingRateLimitEnabled>true</SendingRateLimitEnabled>" +
+                "<TargetSendingRate>500</TargetSendingRate>" +
+                "<SendingRateUnit>messages_per_second</SendingRateUnit>" +
+                "<SendingRateRampUpSec>15</SendingRateRampUpSec>" +
+                "<SendingRateBurst>50</SendingRateBurst>" +
+                "<BenchmarkModeEnabled>true</BenchmarkModeEnabled>" +
+                "<LatencyProbeEnabled>true</LatencyProbeEnabled>" +
+                "<ImportEnabled>true</ImportEnabled>" +
+                "<ImportFilePath>/data/records.jsonl</ImportFilePath>" +
+                "<ImportFormat>json_lines</ImportFormat>" +
+                "<ImportCsvKeyColumn>id</ImportCsvKeyColumn>" +
+                "<ImportCsvValueColumn>payload</ImportCsvValueColumn>" +
+                "<ImportDelimiter>|</ImportDelimiter>" +
+                "<ProducerProfile>" +
+                "<BatchSize>65536</BatchSize>" +
+                "<LingerMs>20</LingerMs>" +
+                "<CompressionType>lz4</CompressionType>" +
+                "<Acks>leader</Acks>" +
+                "<BufferMemory>1048576</BufferMemory>" +
+                "<MaxInFlightRequestsPerConnection>3</MaxInFlightRequestsPerConnection>" +
+                "<IdempotenceEnabled>true</IdempotenceEnabled>" +
+                "</ProducerProfile>" +
                 "</SenderConfig>";
 
         // WHEN (unmarshalling)
@@ -110,6 +137,31 @@ public class PojoSerializationSpecification {
         assertThat(pojo.getRunBeforeEachMessageScript()).isEqualTo("def");
         assertThat(pojo.getMessageKey()).isEqualTo("abba");
         assertThat(pojo.getSendingSimulationModeEnabled()).isTrue();
+        assertThat(pojo.getPipelinedSendingEnabled()).isTrue();
+        assertThat(pojo.getMaxInFlightMessages()).isEqualTo("64");
+        assertThat(pojo.getScriptEvaluationTimeoutMs()).isEqualTo("750");
+        assertThat(pojo.getGeneratorThreadsCount()).isEqualTo("3");
+        assertThat(pojo.getMessageGenerationOrder()).isEqualTo("unordered");
+        assertThat(pojo.getSendingRateLimitEnabled()).isTrue();
+        assertThat(pojo.getTargetSendingRate()).isEqualTo("500");
+        assertThat(pojo.getSendingRateUnit()).isEqualTo("messages_per_second");
+        assertThat(pojo.getSendingRateRampUpSec()).isEqualTo("15");
+        assertThat(pojo.getSendingRateBurst()).isEqualTo("50");
+        assertThat(pojo.getBenchmarkModeEnabled()).isTrue();
+        assertThat(pojo.getLatencyProbeEnabled()).isTrue();
+        assertThat(pojo.getImportEnabled()).isTrue();
+        assertThat(pojo.getImportFilePath()).isEqualTo("/data/records.jsonl");
+        assertThat(pojo.getImportFormat()).isEqualTo("json_lines");
+        assertThat(pojo.getImportCsvKeyColumn()).isEqualTo("id");
+        assertThat(pojo.getImportCsvValueColumn()).isEqualTo("payload");
+        assertThat(pojo.getImportDelimiter()).isEqualTo("|");
+        assertThat(pojo.getProducerProfile().getBatchSize()).isEqualTo("65536");
+        assertThat(pojo.getProducerProfile().getLingerMs()).isEqualTo("20");
+        assertThat(pojo.getProducerProfile().getCompressionType()).isEqualTo("lz4");
+        assertThat(pojo.getProducerProfile().getAcks()).isEqualTo("leader");
+        assertThat(pojo.getProducerProfile().getBufferMemory()).isEqualTo("1048576");
+        assertThat(pojo.getProducerProfile().getMaxInFlightRequestsPerConnection()).isEqualTo("3");
+        assertThat(pojo.getProducerProfile().getIdempotenceEnabled()).isTrue();
 
         // WHEN (marshalling)
         final String toXml = marshall(pojo, pojoClass);
@@ -133,6 +185,44 @@ public class PojoSerializationSpecification {
                 "<OffsetConfigProperty>none</OffsetConfigProperty>" +
                 "<ReceivedMsgLimitEnabled>true</ReceivedMsgLimitEnabled>" +
                 "<ReceivedMsgLimitCount>45</ReceivedMsgLimitCount>" +
+                "<OffsetCommitStrategy>none</OffsetCommitStrategy>" +
+                "<CommitInterval>100</CommitInterval>" +
+                "<RecordStoreEnabled>true</RecordStoreEnabled>" +
+                "<RecordStoreDiskBudgetMb>128</RecordStoreDiskBudgetMb>" +
+                "<LatencyProbeEnabled>true</LatencyProbeEnabled>" +
+                "<BenchmarkModeEnabled>true</BenchmarkModeEnabled>" +
+                "<BenchmarkTimeLimitSec>30</BenchmarkTimeLimitSec>" +
+                "<ConsumersCount>3</ConsumersCount>" +
+                "<AssignModeEnabled>true</AssignModeEnabled>" +
+                "<AssignPartitions>1,4</AssignPartitions>" +
+                "<StartPosition>timestamp</StartPosition>" +
+                "<StartPositionValue>2018-05-01 12:00:00</StartPositionValue>" +
+                "<FilterEnabled>true</FilterEnabled>" +
+                "<FilterMatchType>substring</FilterMatchType>" +
+                "<FilterTarget>key</FilterTarget>" +
+                "<FilterPattern>abc</FilterPattern>" +
+                "<FilterPartitions>2</FilterPartitions>" +
+                "<FilterMinOffset>1</FilterMinOffset>" +
+                "<FilterMaxOffset>9</FilterMaxOffset>" +
+                "<FilterFromTimestamp>1000</FilterFromTimestamp>" +
+                "<FilterToTimestamp>2000</FilterToTimestamp>" +
+                "<FilterGroovyPredicate>offset % 2 == 0</FilterGroovyPredicate>" +
+                "<SamplingMode>per_second</SamplingMode>" +
+                "<SamplingValue>20</SamplingValue>" +
+                "<SamplingWindowMs>3000</SamplingWindowMs>" +
+                "<ExportEnabled>true</ExportEnabled>" +
+                "<ExportDirectory>/home/user/export</ExportDirectory>" +
+                "<ExportFormat>json_lines</ExportFormat>" +
+                "<ExportGzipEnabled>true</ExportGzipEnabled>" +
+                "<ExportRollSizeMb>50</ExportRollSizeMb>" +
+                "<ExportRollIntervalSec>600</ExportRollIntervalSec>" +
+                "<ConsumerProfile>" +
+                "<MaxPollRecords>1000</MaxPollRecords>" +
+                "<FetchMinBytes>1024</FetchMinBytes>" +
+                "<FetchMaxWaitMs>100</FetchMaxWaitMs>" +
+                "<MaxPartitionFetchBytes>2097152</MaxPartitionFetchBytes>" +
+                "<ReceiveBufferBytes>262144</ReceiveBufferBytes>" +
+                "</ConsumerProfile>" +
                 "</ListenerConfig>";
 
         // WHEN (unmarshalling)
@@ -148,6 +238,42 @@ public class PojoSerializationSpecification {
         assertThat(pojo.getOffsetResetConfig()).isEqualTo("none");
         assertThat(pojo.getReceivedMsgLimitEnabled()).isTrue();
         assertThat(pojo.getReceivedMsgLimitCount()).isEqualTo("45");
+        assertThat(pojo.getOffsetCommitStrategy()).isEqualTo("none");
+        assertThat(pojo.getCommitInterval()).isEqualTo("100");
+        assertThat(pojo.getRecordStoreEnabled()).isTrue();
+        assertThat(pojo.getRecordStoreDiskBudgetMb()).isEqualTo("128");
+        assertThat(pojo.getLatencyProbeEnabled()).isTrue();
+        assertThat(pojo.getBenchmarkModeEnabled()).isTrue();
+        assertThat(pojo.getBenchmarkTimeLimitSec()).isEqualTo("30");
+        assertThat(pojo.getConsumersCount()).isEqualTo("3");
+        assertThat(pojo.getAssignModeEnabled()).isTrue();
+        assertThat(pojo.getAssignPartitions()).isEqualTo("1,4");
+        assertThat(pojo.getStartPosition()).isEqualTo("timestamp");
+        assertThat(pojo.getStartPositionValue()).isEqualTo("2018-05-01 12:00:00");
+        assertThat(pojo.getFilterEnabled()).isTrue();
+        assertThat(pojo.getFilterMatchType()).isEqualTo("substring");
+        assertThat(pojo.getFilterTarget()).isEqualTo("key");
+        assertThat(pojo.getFilterPattern()).isEqualTo("abc");
+        assertThat(pojo.getFilterPartitions()).isEqualTo("2");
+        assertThat(pojo.getFilterMinOffset()).isEqualTo("1");
+        assertThat(pojo.getFilterMaxOffset()).isEqualTo("9");
+        assertThat(pojo.getFilterFromTimestamp()).isEqualTo("1000");
+        assertThat(pojo.getFilterToTimestamp()).isEqualTo("2000");
+        assertThat(pojo.getFilterGroovyPredicate()).isEqualTo("offset % 2 == 0");
+        assertThat(pojo.getSamplingMode()).isEqualTo("per_second");
+        assertThat(pojo.getSamplingValue()).isEqualTo("20");
+        assertThat(pojo.getSamplingWindowMs()).isEqualTo("3000");
+        assertThat(pojo.getExportEnabled()).isTrue();
+        assertThat(pojo.getExportDirectory()).isEqualTo("/home/user/export");
+        assertThat(pojo.getExportFormat()).isEqualTo("json_lines");
+        assertThat(pojo.getExportGzipEnabled()).isTrue();
+        assertThat(pojo.getExportRollSizeMb()).isEqualTo("50");
+        assertThat(pojo.getExportRollIntervalSec()).isEqualTo("600");
+        assertThat(pojo.getConsumerProfile().getMaxPollRecords()).isEqualTo("1000");
+        assertThat(pojo.getConsumerProfile().getMaxPartitionFetchBytes()).isEqualTo("2097152");
+        assertThat(pojo.getConsumerProfile().getFetchMinBytes()).isEqualTo("1024");
+        assertThat(pojo.getConsumerProfile().getFetchMaxWaitMs()).isEqualTo("100");
+        assertThat(pojo.getConsumerProfile().getReceiveBufferBytes()).isEqualTo("262144");
 
 
 
@@ -1,6 +1,17 @@
 package pojoconversions;
 
+import application.model.KafkaOffsetCommitStrategy;
 import application.model.KafkaOffsetResetType;
+import application.model.ExportFormat;
+import application.model.ImportFormat;
+import application.model.ListenerSamplingMode;
+import application.model.ListenerStartPosition;
+import application.model.MessageGenerationOrder;
+import application.model.ProducerAcksType;
+import application.model.ProducerCompressionType;
+import application.model.ScanMatchType;
+import application.model.ScanTarget;
+import application.model.SendingRateUnit;
 import application.model.ToPojoConverter;
 import application.model.modelobjects.KafkaBrokerConfig;
 import application.model.modelobjects.KafkaListenerConfig;
@@ -75,6 +86,31 @@ public class ToPojoConverterSpecification {
         config.setRunBeforeAllMessagesScript("abc");
         config.setRunBeforeEachMessageScript("bcd");
         config.setSendingSimulationModeEnabled(true);
+        config.setPipelinedSendingEnabled(true);
+        config.setMaxInFlightMessages("250");
+        config.setScriptEvaluationTimeoutMs("2500");
+        config.setGeneratorThreadsCount("4");
+        config.setMessageGenerationOrder(MessageGenerationOrder.UNORDERED);
+        config.setSendingRateLimitEnabled(true);
+        config.setTargetSendingRate("20");
+        config.setSendingRateUnit(SendingRateUnit.MEGABYTES_PER_SECOND);
+        config.setSendingRateRampUpSec("30");
+        config.setSendingRateBurst("5");
+        config.setBenchmarkModeEnabled(true);
+        config.setLatencyProbeEnabled(true);
+        config.setImportEnabled(true);
+        config.setImportFilePath("/data/records.txt");
+        config.setImportFormat(ImportFormat.DELIMITED);
+        config.setImportCsvKeyColumn("id");
+        config.setImportCsvValueColumn("payload");
+        config.setImportDelimiter("\\t");
+        config.getProducerProfile().setBatchSize("1024");
+        config.getProducerProfile().setLingerMs("15");
+        config.getProducerProfile().setCompressionType(ProducerCompressionType.GZIP);
+        config.getProducerProfile().setAcks(ProducerAcksType.NONE);
+        config.getProducerProfile().setBufferMemory("2048");
+        config.getProducerProfile().setMaxInFlightRequestsPerConnection("1");
+        config.getProducerProfile().setIdempotenceEnabled(true);
         relatedConfig.setUuid("related_uuid");
         config.setRelatedConfig(relatedConfig);
 
@@ -93,6 +129,31 @@ public class ToPojoConverterSpecification {
         assertThat(pojo.getRunBeforeEachMessageScript()).isEqualTo("bcd");
         assertThat(pojo.getTopicConfigUuid()).isEqualTo("related_uuid");
         assertThat(pojo.getSendingSimulationModeEnabled()).isTrue();
+        assertThat(pojo.getPipelinedSendingEnabled()).isTrue();
+        assertThat(pojo.getMaxInFlightMessages()).isEqualTo("250");
+        assertThat(pojo.getScriptEvaluationTimeoutMs()).isEqualTo("2500");
+        assertThat(pojo.getGeneratorThreadsCount()).isEqualTo("4");
+        assertThat(pojo.getMessageGenerationOrder()).isEqualTo("unordered");
+        assertThat(pojo.getSendingRateLimitEnabled()).isTrue();
+        assertThat(pojo.getTargetSendingRate()).isEqualTo("20");
+        assertThat(pojo.getSendingRateUnit()).isEqualTo("megabytes_per_second");
+        assertThat(pojo.getSendingRateRampUpSec()).isEqualTo("30");
+        assertThat(pojo.getSendingRateBurst()).isEqualTo("5");
+        assertThat(pojo.getBenchmarkModeEnabled()).isTrue();
+        assertThat(pojo.getLatencyProbeEnabled()).isTrue();
+        assertThat(pojo.getImportEnabled()).isTrue();
+        assertThat(pojo.getImportFilePath()).isEqualTo("/data/records.txt");
+        assertThat(pojo.getImportFormat()).isEqualTo("delimited");
+        assertThat(pojo.getImportCsvKeyColumn()).isEqualTo("id");
+        assertThat(pojo.getImportCsvValueColumn()).isEqualTo("payload");
+        assertThat(pojo.getImportDelimiter()).isEqualTo("\\t");
+        assertThat(pojo.getProducerProfile().getBatchSize()).isEqualTo("1024");
+        assertThat(pojo.getProducerProfile().getLingerMs()).isEqualTo("15");
+        assertThat(pojo.getProducerProfile().getCompressionType()).isEqualTo("gzip");
+        assertThat(pojo.getProducerProfile().getAcks()).isEqualTo("none");
+        assertThat(pojo.getProducerProfile().getBufferMemory()).isEqualTo("2048");
+        assertThat(pojo.getProducerProfile().getMaxInFlightRequestsPerConnection()).isEqualTo("1");
+        assertThat(pojo.getProducerProfile().getIdempotenceEnabled()).isTrue();
     }
 
     @Test
@@ -108,6 +169,42 @@ public class ToPojoConverterSpecification {
         config.setConsumerGroup("ConsumerGroup");
         config.setReceivedMsgLimitCount("678");
         config.setReceivedMsgLimitEnabled(true);
+        config.setOffsetCommitStrategy(KafkaOffsetCommitStrategy.TIME_INTERVAL);
+        config.setCommitInterval("2500");
+        config.setRecordStoreEnabled(true);
+        config.setRecordStoreDiskBudgetMb("64");
+        config.setLatencyProbeEnabled(true);
+        config.setBenchmarkModeEnabled(true);
+        config.setBenchmarkTimeLimitSec("15");
+        config.setConsumersCount("2");
+        config.setAssignModeEnabled(true);
+        config.setAssignPartitions("3");
+        config.setStartPosition(ListenerStartPosition.OFFSET);
+        config.setStartPositionValue("1234");
+        config.setFilterEnabled(true);
+        config.setFilterMatchType(ScanMatchType.JSON_PATH);
+        config.setFilterTarget(ScanTarget.VALUE);
+        config.setFilterPattern("$.id=7");
+        config.setFilterPartitions("0");
+        config.setFilterMinOffset("5");
+        config.setFilterMaxOffset("50");
+        config.setFilterFromTimestamp("100");
+        config.setFilterToTimestamp("200");
+        config.setFilterGroovyPredicate("key != null");
+        config.setSamplingMode(ListenerSamplingMode.EVERY_NTH);
+        config.setSamplingValue("10");
+        config.setSamplingWindowMs("2000");
+        config.setExportEnabled(true);
+        config.setExportDirectory("/tmp/export");
+        config.setExportFormat(ExportFormat.RAW_VALUE);
+        config.setExportGzipEnabled(true);
+        config.setExportRollSizeMb("10");
+        config.setExportRollIntervalSec("60");
+        config.getConsumerProfile().setMaxPollRecords("100");
+        config.getConsumerProfile().setMaxPartitionFetchBytes("65536");
+        config.getConsumerProfile().setFetchMinBytes("4096");
+        config.getConsumerProfile().setFetchMaxWaitMs("250");
+        config.getConsumerProfile().setReceiveBufferBytes("131072");
 
         relatedConfig.setUuid("related_uuid");
         config.setRelatedConfig(relatedConfig);
@@ -125,6 +222,42 @@ public class ToPojoConverterSpecification {
         assertThat(pojo.getOffsetResetConfig()).isEqualTo("none");
         assertThat(pojo.getReceivedMsgLimitCount()).isEqualTo("678");
         assertThat(pojo.getReceivedMsgLimitEnabled()).isTrue();
+        assertThat(pojo.getOffsetCommitStrategy()).isEqualTo("time_interval");
+        assertThat(pojo.getCommitInterval()).isEqualTo("2500");
+        assertThat(pojo.getRecordStoreEnabled()).isTrue();
+        assertThat(pojo.getRecordStoreDiskBudgetMb()).isEqualTo("64");
+        assertThat(pojo.getLatencyProbeEnabled()).isTrue();
+        assertThat(pojo.getBenchmarkModeEnabled()).isTrue();
+        assertThat(pojo.getBenchmarkTimeLimitSec()).isEqualTo("15");
+        assertThat(pojo.getConsumersCount()).isEqualTo("2");
+        assertThat(pojo.getAssignModeEnabled()).isTrue();
+        assertThat(pojo.getAssignPartitions()).isEqualTo("3");
+        assertThat(pojo.getStartPosition()).isEqualTo("offset");
+        assertThat(pojo.getStartPositionValue()).isEqualTo("1234");
+        assertThat(pojo.getFilterEnabled()).isTrue();
+        assertThat(pojo.getFilterMatchType()).isEqualTo("json_path");
+        assertThat(pojo.getFilterTarget()).isEqualTo("value");
+        assertThat(pojo.getFilterPattern()).isEqualTo("$.id=7");
+        assertThat(pojo.getFilterPartitions()).isEqualTo("0");
+        assertThat(pojo.getFilterMinOffset()).isEqualTo("5");
+        assertThat(pojo.getFilterMaxOffset()).isEqualTo("50");
+        assertThat(pojo.getFilterFromTimestamp()).isEqualTo("100");
+        assertThat(pojo.getFilterToTimestamp()).isEqualTo("200");
+        assertThat(pojo.getFilterGroovyPredicate()).isEqualTo("key != null");
+        assertThat(pojo.getSamplingMode()).isEqualTo("every_nth");
+        assertThat(pojo.getSamplingValue()).isEqualTo("10");
+        assertThat(pojo.getSamplingWindowMs()).isEqualTo("2000");
+        assertThat(pojo.getExportEnabled()).isTrue();
+        assertThat(pojo.getExportDirectory()).isEqualTo("/tmp/export");
+        assertThat(pojo.getExportFormat()).isEqualTo("raw_value");
+        assertThat(pojo.getExportGzipEnabled()).isTrue();
+        assertThat(pojo.getExportRollSizeMb()).isEqualTo("10");
+        assertThat(pojo.getExportRollIntervalSec()).isEqualTo("60");
+        assertThat(pojo.getConsumerProfile().getMaxPollRecords()).isEqualTo("100");
+        assertThat(pojo.getConsumerProfile().getMaxPartitionFetchBytes()).isEqualTo("65536");
+        assertThat(pojo.getConsumerProfile().getFetchMinBytes()).isEqualTo("4096");
+        assertThat(pojo.getConsumerProfile().getFetchMaxWaitMs()).isEqualTo("250");
+        assertThat(pojo.getConsumerProfile().getReceiveBufferBytes()).isEqualTo("131072");
 
 
     }